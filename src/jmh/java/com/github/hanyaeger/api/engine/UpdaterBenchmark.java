@@ -0,0 +1,48 @@
+package com.github.hanyaeger.api.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the fan-out of {@link Updater#update(long)} to a varying number of instances of {@link Updatable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdaterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int updatableCount;
+
+    private Updater updater;
+    private long timestamp;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        updater = new Updater();
+
+        for (var i = 0; i < updatableCount; i++) {
+            updater.addUpdatable(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        updater.update(timestamp++);
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.UpdateDelegator;
+import com.github.hanyaeger.api.engine.Updater;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the work the {@link AnnotationProcessor} performs for each Entity that is spawned, which consists of
+ * invoking the activators, configuring the update delegators and invoking the post activators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationProcessorBenchmark {
+
+    private AnnotationProcessor annotationProcessor;
+
+    @Setup
+    public void setup() {
+        annotationProcessor = new AnnotationProcessor();
+    }
+
+    @Benchmark
+    public Object spawn() {
+        var spawned = new Spawned();
+
+        annotationProcessor.invokeActivators(spawned);
+        annotationProcessor.configureUpdateDelegators(spawned);
+        annotationProcessor.invokePostActivators(spawned);
+
+        return spawned;
+    }
+
+    public static class Spawned implements UpdateDelegator {
+
+        private final Updater updater = new Updater();
+        private int activations;
+
+        @OnActivation
+        public void activate() {
+            activations++;
+        }
+
+        @OnPostActivation
+        public void postActivate() {
+            activations++;
+        }
+
+        @UpdatableProvider
+        public Updatable provideUpdatable() {
+            return timestamp -> activations++;
+        }
+
+        @Override
+        public Updater getUpdater() {
+            return updater;
+        }
+
+        @Override
+        public void update(final long timestamp) {
+            updater.update(timestamp);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.ParallelUpdatable;
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.UpdateExposer;
+import com.github.hanyaeger.api.engine.YaegerConfig;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collided;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.DynamicRectangleEntity;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.RectangleEntity;
+import com.google.inject.Guice;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a complete Game World Update through {@link EntityCollection#update(long)}, for a varying number of
+ * moving instances of {@link Collided} and static instances of {@link Collider}, with and without parallel updates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityCollectionBenchmark {
+
+    private static final double WORLD_SIZE = 2000;
+
+    @Param({"100", "1000", "5000"})
+    private int entityCount;
+
+    @Param({"false", "true"})
+    private boolean parallelUpdate;
+
+    private EntityCollection entityCollection;
+    private long timestamp;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        var injector = Guice.createInjector();
+
+        entityCollection = new EntityCollection(new Pane(), new YaegerConfig());
+        injector.injectMembers(entityCollection);
+        entityCollection.init(injector);
+        entityCollection.setParallelUpdate(parallelUpdate);
+
+        var supplier = new EntitySupplier();
+        for (var i = 0; i < entityCount; i++) {
+            supplier.add(new Ball(randomLocation(random), random.nextDouble() * 360));
+            supplier.add(new Block(randomLocation(random)));
+        }
+        entityCollection.registerSupplier(supplier);
+        entityCollection.initialUpdate();
+    }
+
+    @Benchmark
+    public void update() {
+        entityCollection.update(timestamp++);
+    }
+
+    private static Coordinate2D randomLocation(final Random random) {
+        return new Coordinate2D(random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE);
+    }
+
+    private static class Ball extends DynamicRectangleEntity implements Collided, UpdateExposer, ParallelUpdatable {
+
+        Ball(final Coordinate2D location, final double direction) {
+            super(location, new Size(16, 16));
+            setMotion(2, direction);
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            changeDirection(180);
+        }
+
+        @Override
+        public void explicitUpdate(final long timestamp) {
+            var location = getAnchorLocation();
+
+            if (location.getX() < 0 || location.getX() > WORLD_SIZE || location.getY() < 0 || location.getY() > WORLD_SIZE) {
+                changeDirection(180);
+            }
+        }
+    }
+
+    private static class Block extends RectangleEntity implements Collider {
+
+        Block(final Coordinate2D location) {
+            super(location, new Size(32, 32));
+        }
+    }
+}
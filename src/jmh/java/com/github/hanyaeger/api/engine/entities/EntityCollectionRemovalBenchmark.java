@@ -0,0 +1,79 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.YaegerConfig;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.DynamicRectangleEntity;
+import com.google.inject.Guice;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Game World Update of an {@link EntityCollection} in which all Entities are removed at once, such
+ * as when all bullets are cleared from the screen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class EntityCollectionRemovalBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int entityCount;
+
+    private EntityCollection entityCollection;
+    private List<Bullet> bullets;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        var injector = Guice.createInjector();
+
+        entityCollection = new EntityCollection(new Pane(), new YaegerConfig());
+        injector.injectMembers(entityCollection);
+        entityCollection.init(injector);
+
+        bullets = new ArrayList<>(entityCount);
+        var supplier = new EntitySupplier();
+        for (var i = 0; i < entityCount; i++) {
+            var bullet = new Bullet(new Coordinate2D(i, i));
+            bullets.add(bullet);
+            supplier.add(bullet);
+        }
+        entityCollection.registerSupplier(supplier);
+        entityCollection.initialUpdate();
+
+        bullets.forEach(Bullet::remove);
+    }
+
+    @Benchmark
+    public EntityCollection removeAll() {
+        entityCollection.update(0);
+        return entityCollection;
+    }
+
+    private static class Bullet extends DynamicRectangleEntity implements Collider {
+
+        Bullet(final Coordinate2D location) {
+            super(location, new Size(4, 4));
+            setMotion(4, 90);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link CollisionDelegate#checkCollisions()} for each {@link CollisionStrategy} and a varying number of
+ * Entities. Half of the instances of {@link Collider} are static, the other half moves a little on each invocation,
+ * as do all instances of {@link Collided}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionDelegateBenchmark {
+
+    private static final double WORLD_SIZE = 4000;
+    private static final double ENTITY_SIZE = 32;
+
+    @Param({"100", "1000", "5000"})
+    private int entityCount;
+
+    @Param({"BRUTE_FORCE", "UNIFORM_GRID", "AABB_TREE"})
+    private CollisionStrategy collisionStrategy;
+
+    private CollisionDelegate collisionDelegate;
+    private final List<MovingBounds> moving = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+
+        collisionDelegate = new CollisionDelegate(ENTITY_SIZE * 4);
+        collisionDelegate.setCollisionStrategy(collisionStrategy);
+
+        for (var i = 0; i < entityCount; i++) {
+            var collided = new BenchmarkCollided(random);
+            moving.add(collided);
+            collisionDelegate.register(collided);
+
+            var collider = new BenchmarkCollider(random);
+            var isStatic = i % 2 == 0;
+            if (!isStatic) {
+                moving.add(collider);
+            }
+            collisionDelegate.register(collider, isStatic);
+        }
+    }
+
+    @Benchmark
+    public void checkCollisions() {
+        moving.forEach(MovingBounds::move);
+        collisionDelegate.checkCollisions();
+    }
+
+    private abstract static class MovingBounds {
+
+        private double dx;
+        private double dy;
+        private double x;
+        private double y;
+        private Bounds bounds;
+
+        MovingBounds(final Random random) {
+            x = random.nextDouble() * WORLD_SIZE;
+            y = random.nextDouble() * WORLD_SIZE;
+            dx = random.nextDouble() * 4 - 2;
+            dy = random.nextDouble() * 4 - 2;
+            bounds = new BoundingBox(x, y, ENTITY_SIZE, ENTITY_SIZE);
+        }
+
+        void move() {
+            x += dx;
+            y += dy;
+
+            if (x < 0 || x > WORLD_SIZE) {
+                dx = -dx;
+            }
+            if (y < 0 || y > WORLD_SIZE) {
+                dy = -dy;
+            }
+
+            bounds = new BoundingBox(x, y, ENTITY_SIZE, ENTITY_SIZE);
+        }
+
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class BenchmarkCollider extends MovingBounds implements Collider {
+
+        BenchmarkCollider(final Random random) {
+            super(random);
+        }
+    }
+
+    private static class BenchmarkCollided extends MovingBounds implements Collided {
+
+        private int collisions;
+
+        BenchmarkCollided(final Random random) {
+            super(random);
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            collisions++;
+        }
+    }
+}
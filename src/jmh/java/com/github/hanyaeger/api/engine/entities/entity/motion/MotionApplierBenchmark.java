@@ -0,0 +1,80 @@
+package com.github.hanyaeger.api.engine.entities.entity.motion;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the work a {@link MotionApplier} performs for a single Entity during a single Game World Update. Run
+ * with {@code -prof gc} to verify that changing and applying the motion does not allocate: the value of
+ * {@code gc.alloc.rate.norm} should be {@code 0} for all benchmarks, except {@link #updateLocation()}, which only
+ * allocates the new location itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MotionApplierBenchmark {
+
+    private MotionApplier motionApplier;
+    private Coordinate2D location;
+
+    @Setup
+    public void setup() {
+        motionApplier = new MotionApplier();
+        motionApplier.setMotion(3, 45);
+        location = new Coordinate2D(100, 100);
+    }
+
+    /**
+     * The work performed by {@link Newtonian#addSimplePhysics()} on each Game World Update.
+     */
+    @Benchmark
+    public double applySimplePhysics() {
+        motionApplier.addToMotion(MotionApplier.DEFAULT_GRAVITATIONAL_CONSTANT, MotionApplier.DEFAULT_GRAVITATIONAL_DIRECTION);
+        motionApplier.incrementSpeed(-MotionApplier.DEFAULT_FRICTION_CONSTANT * motionApplier.getSpeed());
+        return motionApplier.getDirection();
+    }
+
+    /**
+     * Changing the speed and direction, as is commonly done from a
+     * {@link com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener}.
+     */
+    @Benchmark
+    public double changeMotion() {
+        motionApplier.setSpeed(3);
+        motionApplier.changeDirection(1);
+        motionApplier.multiplySpeed(1.01);
+        return motionApplier.getDirection();
+    }
+
+    /**
+     * Stopping and restarting, which requires the direction to be retained.
+     */
+    @Benchmark
+    public double stopAndStart() {
+        motionApplier.setSpeed(0);
+        motionApplier.setSpeed(3);
+        return motionApplier.getDirection();
+    }
+
+    /**
+     * The work performed by {@link Moveable#updateLocation()} on each Game World Update.
+     */
+    @Benchmark
+    public Coordinate2D updateLocation() {
+        return motionApplier.updateLocation(location);
+    }
+}
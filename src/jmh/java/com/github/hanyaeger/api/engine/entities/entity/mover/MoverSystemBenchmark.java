@@ -0,0 +1,86 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single Game World Update of a large number of movers that are affected by gravity, friction and
+ * rotation. {@link #moverStore()} applies the default systems of a {@link MoverEntity}, while
+ * {@link #motionAppliers()} performs the same work through a {@link MotionApplier} per mover, as a
+ * {@link com.github.hanyaeger.api.engine.entities.entity.motion.Newtonian} Entity would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoverSystemBenchmark {
+
+    @Param({"1000", "20000"})
+    private int moverCount;
+
+    private MoverStore movers;
+    private MoverSystem[] systems;
+
+    private MotionApplier[] motionAppliers;
+    private Coordinate2D[] locations;
+    private double[] rotations;
+
+    @Setup
+    public void setup() {
+        movers = new MoverStore(moverCount);
+        systems = new MoverSystem[]{new MotionSystem(), new NewtonianSystem(), new RotationSystem()};
+
+        motionAppliers = new MotionApplier[moverCount];
+        locations = new Coordinate2D[moverCount];
+        rotations = new double[moverCount];
+
+        for (var i = 0; i < moverCount; i++) {
+            var direction = i % 360;
+
+            var index = movers.add(i, i, 3, direction);
+            movers.setGravityConstant(index, MotionApplier.DEFAULT_GRAVITATIONAL_CONSTANT);
+            movers.setFrictionConstant(index, MotionApplier.DEFAULT_FRICTION_CONSTANT);
+            movers.setRotationSpeed(index, 1);
+
+            motionAppliers[i] = new MotionApplier();
+            motionAppliers[i].setMotion(3, direction);
+            locations[i] = new Coordinate2D(i, i);
+        }
+    }
+
+    @Benchmark
+    public MoverStore moverStore() {
+        for (var system : systems) {
+            system.apply(movers);
+        }
+        return movers;
+    }
+
+    @Benchmark
+    public Coordinate2D[] motionAppliers() {
+        for (var i = 0; i < moverCount; i++) {
+            var motionApplier = motionAppliers[i];
+
+            locations[i] = motionApplier.updateLocation(locations[i]);
+            motionApplier.addToMotion(MotionApplier.DEFAULT_GRAVITATIONAL_CONSTANT, MotionApplier.DEFAULT_GRAVITATIONAL_DIRECTION);
+            motionApplier.incrementSpeed(-MotionApplier.DEFAULT_FRICTION_CONSTANT * motionApplier.getSpeed());
+            rotations[i] += 1;
+        }
+        return locations;
+    }
+}
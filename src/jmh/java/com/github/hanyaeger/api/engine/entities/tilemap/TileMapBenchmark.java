@@ -0,0 +1,103 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.RectangleEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link TileMap#activate()} for square maps of a varying number of rows and columns, of which every
+ * cell contains a tile. Each tile is either an Entity of its own, or a static tile that is part of a single
+ * {@link TileLayer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileMapBenchmark {
+
+    @Param({"16", "64", "256"})
+    private int mapSize;
+
+    private TileMap tileMap;
+    private TileMap staticTileMap;
+
+    @Setup
+    public void setup() {
+        var map = new int[mapSize][mapSize];
+        for (var row = 0; row < mapSize; row++) {
+            for (var column = 0; column < mapSize; column++) {
+                map[row][column] = 1 + (row + column) % 2;
+            }
+        }
+
+        tileMap = new BenchmarkTileMap(map, false);
+        tileMap.setTileFactory(new TileFactory());
+
+        staticTileMap = new BenchmarkTileMap(map, true);
+        staticTileMap.setTileFactory(new TileFactory());
+    }
+
+    @Benchmark
+    public int activate() {
+        tileMap.clear();
+        tileMap.activate();
+        return tileMap.size();
+    }
+
+    @Benchmark
+    public int activateWithStaticTiles() {
+        staticTileMap.clear();
+        staticTileMap.activate();
+        return staticTileMap.size();
+    }
+
+    private static class BenchmarkTileMap extends TileMap {
+
+        private final int[][] map;
+        private final boolean staticTiles;
+
+        BenchmarkTileMap(final int[][] map, final boolean staticTiles) {
+            super(new Coordinate2D(0, 0), new Size(4096, 4096));
+            this.map = map;
+            this.staticTiles = staticTiles;
+        }
+
+        @Override
+        public void setupEntities() {
+            if (staticTiles) {
+                addStaticTile(1, "waterworld/images/bubble.png");
+                addStaticTile(2, "waterworld/images/poison.png");
+            } else {
+                addEntity(1, Tile.class);
+                addEntity(2, Tile.class);
+            }
+        }
+
+        @Override
+        public int[][] defineMap() {
+            return map;
+        }
+    }
+
+    public static class Tile extends RectangleEntity {
+
+        public Tile(final Coordinate2D location, final Size size) {
+            super(location, size);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import com.github.hanyaeger.api.javafx.image.ImageFactory;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookup of an {@link Image} in the {@link ImageRepository}, both for images that are already
+ * available and for images that still have to be created. The {@link ImageFactory} is replaced by one that does
+ * not load any images, so only the overhead of the {@link ImageRepository} itself is measured.
+ * <p>
+ * The benchmark {@link #tileMapHits(Blackhole)} performs the lookups done while creating the tiles of a
+ * {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap} of 100 by 100 tiles, which all hit the cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageRepositoryBenchmark {
+
+    private static final String URL = "yaegerimages/logo-yaeger.png";
+    private static final double WIDTH = 64;
+    private static final double HEIGHT = 32;
+    private static final int TILES = 10_000;
+    private static final String[] TILE_URLS = {
+            "waterworld/images/bubble.png",
+            "waterworld/images/poison.png",
+            "waterworld/images/sprite-with-two-frames.png",
+            "yaegerimages/logo-yaeger.png"
+    };
+    private static final double TILE_SIZE = 40;
+
+    private ImageRepository imageRepository;
+
+    @Setup
+    public void setup() {
+        imageRepository = new ImageRepository();
+        imageRepository.setFactory(new NonLoadingImageFactory());
+
+        imageRepository.get(URL);
+        imageRepository.get(URL, WIDTH, HEIGHT, true);
+
+        for (var tileUrl : TILE_URLS) {
+            imageRepository.get(tileUrl, TILE_SIZE, TILE_SIZE, false);
+        }
+    }
+
+    @Benchmark
+    public Image hit() {
+        return imageRepository.get(URL);
+    }
+
+    @Benchmark
+    public Image hitWithDimensions() {
+        return imageRepository.get(URL, WIDTH, HEIGHT, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TILES)
+    public void tileMapHits(final Blackhole blackhole) {
+        for (var i = 0; i < TILES; i++) {
+            blackhole.consume(imageRepository.getRegion(TILE_URLS[i % TILE_URLS.length], TILE_SIZE, TILE_SIZE, false));
+        }
+    }
+
+    @Benchmark
+    public Image miss() {
+        imageRepository.destroy();
+        return imageRepository.get(URL);
+    }
+
+    @Benchmark
+    public Image missWithDimensions() {
+        imageRepository.destroy();
+        return imageRepository.get(URL, WIDTH, HEIGHT, true);
+    }
+
+    private static class NonLoadingImageFactory extends ImageFactory {
+
+        @Override
+        public Image create(final String url) {
+            return null;
+        }
+
+        @Override
+        public Image create(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+            return null;
+        }
+    }
+}
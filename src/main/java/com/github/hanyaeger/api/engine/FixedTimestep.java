@@ -0,0 +1,100 @@
+package com.github.hanyaeger.api.engine;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link FixedTimestep} decouples the rate at which the Game World Update is performed from the rate at which
+ * frames are rendered. On each frame, the elapsed time is added to an accumulator, after which the Game World Update
+ * is performed once for every full step that fits in that accumulator. This way, a game runs at the same speed on
+ * a 60 Hz and a 144 Hz display, and when frames are dropped.
+ * <p>
+ * The time that remains in the accumulator is passed to an interpolator as a value between {@code 0} and {@code 1},
+ * so the rendered positions can be interpolated between the last two states of the Game World.
+ * <p>
+ * To prevent a spiral of death, where each frame takes longer because the previous frame needed more steps, the
+ * number of steps per frame is capped. The time that could not be simulated within that cap is dropped, which causes
+ * the game to slow down instead of freezing.
+ */
+public class FixedTimestep {
+
+    /**
+     * The default maximum number of steps that will be performed during a single frame.
+     */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+
+    private final long stepDuration;
+    private final int maxStepsPerFrame;
+    private final Updatable step;
+    private final DoubleConsumer interpolator;
+
+    private long previousTimestamp = -1;
+    private long simulatedTimestamp;
+    private long accumulator;
+
+    /**
+     * Create a new {@link FixedTimestep}.
+     *
+     * @param stepsPerSecond   the number of steps that should be performed per second
+     * @param maxStepsPerFrame the maximum number of steps that will be performed during a single frame
+     * @param step             the {@link Updatable} that performs a single step
+     * @param interpolator     the {@link DoubleConsumer} that receives the fraction of a step that remains in the
+     *                         accumulator after all steps of a frame have been performed
+     */
+    public FixedTimestep(final int stepsPerSecond, final int maxStepsPerFrame, final Updatable step, final DoubleConsumer interpolator) {
+        if (stepsPerSecond <= 0) {
+            throw new IllegalArgumentException("The number of steps per second should be larger than 0.");
+        }
+        if (maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("The maximum number of steps per frame should be larger than 0.");
+        }
+
+        this.stepDuration = NANOSECONDS_PER_SECOND / stepsPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.step = step;
+        this.interpolator = interpolator;
+    }
+
+    /**
+     * Advance the accumulator to the given timestamp and perform all steps that fit in it. The first call always
+     * performs a single step, so the Game World is updated as soon as the first frame is rendered.
+     *
+     * @param timestamp the timestamp of the current frame in nanoseconds
+     */
+    public void update(final long timestamp) {
+        if (previousTimestamp < 0) {
+            previousTimestamp = timestamp;
+            simulatedTimestamp = timestamp;
+            step.update(simulatedTimestamp);
+            interpolator.accept(1);
+            return;
+        }
+
+        accumulator += Math.max(0, timestamp - previousTimestamp);
+        previousTimestamp = timestamp;
+
+        var steps = 0;
+        while (accumulator >= stepDuration && steps < maxStepsPerFrame) {
+            simulatedTimestamp += stepDuration;
+            step.update(simulatedTimestamp);
+            accumulator -= stepDuration;
+            steps++;
+        }
+
+        if (accumulator >= stepDuration) {
+            accumulator %= stepDuration;
+        }
+
+        interpolator.accept((double) accumulator / stepDuration);
+    }
+
+    /**
+     * Return the duration of a single step.
+     *
+     * @return the duration of a single step in nanoseconds
+     */
+    public long getStepDuration() {
+        return stepDuration;
+    }
+}
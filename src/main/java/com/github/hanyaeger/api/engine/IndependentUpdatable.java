@@ -0,0 +1,13 @@
+package com.github.hanyaeger.api.engine;
+
+/**
+ * An {@link IndependentUpdatable} is an {@link Updatable} that only changes the state of the
+ * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity} that provided it. It does not read or change
+ * the JavaFX scene graph or any other {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity}, and
+ * can therefore be performed in parallel for all Entities that implement {@link ParallelUpdatable}.
+ *
+ * <b>Note that this interface is for internal use only and should not be implemented when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+ */
+@FunctionalInterface
+public interface IndependentUpdatable extends Updatable {
+}
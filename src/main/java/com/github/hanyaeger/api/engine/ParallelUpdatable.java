@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.engine;
+
+/**
+ * Implement this interface to mark a Dynamic Entity as thread-safe, so its movement can be computed in parallel with
+ * that of other Entities. This only has effect when parallel updates have been enabled through
+ * {@link com.github.hanyaeger.api.engine.scenes.DynamicScene#setParallelUpdate(boolean)}.
+ * <p>
+ * During the parallel phase of the Game World Update, only the movement and physics of the Entity are updated, as
+ * far as they come first in its {@link Updater}. Physics that were added after other behaviour, are therefore
+ * performed in their original order, after the parallel phase. The new location is applied to its JavaFX Node afterwards, on the JavaFX Application Thread. All other behaviour,
+ * such as collision detection, scene border watching and {@link UpdateExposer#explicitUpdate(long)}, is performed
+ * after that, just like it is for all other Entities.
+ * <p>
+ * An Entity should only implement this interface if its {@link com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier}
+ * is not shared with, or changed by, another Entity during the Game World Update.
+ */
+public interface ParallelUpdatable extends UpdateDelegator {
+}
@@ -13,6 +13,7 @@ public class Updater implements Updatable, Clearable {
 
     private List<Updatable> updatables = new ArrayList<>();
     private boolean clearUpdatables = false;
+    private int independentUpdatablesUpdated = 0;
 
     /**
      * Add an {@link Updatable} to this {@link Updater}. The {@link Updatable} will
@@ -42,11 +43,38 @@ public class Updater implements Updatable, Clearable {
 
     @Override
     public void update(final long timestamp) {
-        if (!clearUpdatables) {
-            updatables.forEach(updatable -> updatable.update(timestamp));
-        } else {
+        if (clearUpdatables) {
             updatables.clear();
+        } else if (independentUpdatablesUpdated > 0) {
+            for (var i = independentUpdatablesUpdated; i < updatables.size(); i++) {
+                updatables.get(i).update(timestamp);
+            }
+            independentUpdatablesUpdated = 0;
+        } else {
+            updatables.forEach(updatable -> updatable.update(timestamp));
+        }
+    }
+
+    /**
+     * Only update the instances of {@link IndependentUpdatable} with which the {@link List} of this {@link Updater}
+     * starts. An {@link IndependentUpdatable} that was added after any other {@link Updatable}, is not updated, so
+     * the order in which all instances of {@link Updatable} are updated is preserved. The next call to
+     * {@link #update(long)} will then only update the remaining instances of {@link Updatable}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param timestamp the timestamp of the current Game World Update
+     */
+    public void updateIndependentUpdatables(final long timestamp) {
+        if (clearUpdatables) {
+            return;
+        }
+
+        var updated = 0;
+        while (updated < updatables.size() && updatables.get(updated) instanceof IndependentUpdatable) {
+            updatables.get(updated++).update(timestamp);
         }
+        independentUpdatablesUpdated = updated;
     }
 
     @Override
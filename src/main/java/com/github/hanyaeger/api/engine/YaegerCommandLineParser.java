@@ -1,6 +1,8 @@
 package com.github.hanyaeger.api.engine;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The commandline parser will parse the {@code String[]} provided as command line
@@ -13,10 +15,22 @@ class YaegerCommandLineParser {
     private static final String NO_SPLASH_EXPLANATION = "Skip the Splash screen during start up";
     private static final String SHOW_BB = "--showBB";
     private static final String SHOW_BB_EXPLANATION = "Show the BoundingBox of all Colliders and Collided Entities";
+    private static final String HEADLESS = "--headless";
+    private static final String HEADLESS_EXPLANATION = "Run the Game World Update as fast as possible, without showing the Game";
+    private static final String METRICS = "--metrics=";
+    private static final String METRICS_EXPLANATION = "Export the Metrics to the given file, as CSV if it ends with .csv, otherwise as JSON lines";
+    private static final String COLLISION_CELL_SIZE = "--collisionCellSize=";
+    private static final String COLLISION_CELL_SIZE_EXPLANATION = "Use the given cell size for the broad phase of the collision detection, 0 to disable it";
+    private static final String IMAGE_CACHE_SIZE = "--imageCacheSize=";
+    private static final String IMAGE_CACHE_SIZE_EXPLANATION = "Retain at most the given number of bytes of decoded images, 0 to retain all";
+    private static final String AUDIO_CACHE_SIZE = "--audioCacheSize=";
+    private static final String AUDIO_CACHE_SIZE_EXPLANATION = "Retain at most the given number of audio clips, 0 to retain all";
+    private static final String JMX = "--jmx";
+    private static final String JMX_EXPLANATION = "Expose the Metrics as a JMX MBean";
     private static final String HELP = "--help";
     private static final String HELP_SORT_EXPLANATION = "Show this help screen with all commandline options";
 
-    private static final String TABLE_FORMAT = "%-14s%-50s";
+    private static final String TABLE_FORMAT = "%-28s%-50s";
 
     /**
      * Parse the given command line Arguments and create a {@link YaegerConfig} that can be used to
@@ -35,10 +49,23 @@ class YaegerCommandLineParser {
         
         yaegerConfig.setShowSplash(!args.contains(NO_SPLASH));
         yaegerConfig.setShowBoundingBox(args.contains(SHOW_BB));
+        yaegerConfig.setHeadless(args.contains(HEADLESS));
+        yaegerConfig.setMetricsJmx(args.contains(JMX));
+        findValue(args, METRICS).ifPresent(value -> yaegerConfig.setMetricsFile(Path.of(value)));
+        findValue(args, COLLISION_CELL_SIZE).ifPresent(value -> yaegerConfig.setCollisionCellSize(Double.parseDouble(value)));
+        findValue(args, IMAGE_CACHE_SIZE).ifPresent(value -> yaegerConfig.setImageCacheSize(Long.parseLong(value)));
+        findValue(args, AUDIO_CACHE_SIZE).ifPresent(value -> yaegerConfig.setAudioCacheSize(Integer.parseInt(value)));
 
         return yaegerConfig;
     }
 
+    private Optional<String> findValue(final List<String> args, final String option) {
+        return args.stream()
+                .filter(arg -> arg.startsWith(option) && arg.length() > option.length())
+                .findFirst()
+                .map(arg -> arg.substring(option.length()));
+    }
+
     private void printHelpScreen() {
         System.out.println("Yaeger can be run with the following command line options:");
         System.out.format(TABLE_FORMAT, " " + HELP, HELP_SORT_EXPLANATION);
@@ -46,5 +73,17 @@ class YaegerCommandLineParser {
         System.out.format(TABLE_FORMAT, " " + NO_SPLASH, NO_SPLASH_EXPLANATION);
         System.out.print(System.lineSeparator());
         System.out.format(TABLE_FORMAT, " " + SHOW_BB, SHOW_BB_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + HEADLESS, HEADLESS_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + METRICS + "<file>", METRICS_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + JMX, JMX_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + COLLISION_CELL_SIZE + "<size>", COLLISION_CELL_SIZE_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + IMAGE_CACHE_SIZE + "<bytes>", IMAGE_CACHE_SIZE_EXPLANATION);
+        System.out.print(System.lineSeparator());
+        System.out.format(TABLE_FORMAT, " " + AUDIO_CACHE_SIZE + "<clips>", AUDIO_CACHE_SIZE_EXPLANATION);
     }
 }
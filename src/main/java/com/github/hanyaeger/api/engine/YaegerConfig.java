@@ -1,6 +1,8 @@
 package com.github.hanyaeger.api.engine;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * An encapsulation of the various configuration settings that can be applied to a Yaeger game
@@ -8,8 +10,31 @@ import java.util.Objects;
  */
 public class YaegerConfig {
 
+    /**
+     * The default size (width and height) of the cells used by the broad phase of the collision detection.
+     */
+    public static final double DEFAULT_COLLISION_CELL_SIZE = 128;
+
+    /**
+     * The default maximum number of bytes occupied by the decoded images that are cached by the
+     * {@link com.github.hanyaeger.api.engine.media.repositories.ImageRepository}.
+     */
+    public static final long DEFAULT_IMAGE_CACHE_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * The default maximum number of audio clips that are cached by the
+     * {@link com.github.hanyaeger.api.engine.media.repositories.AudioRepository}.
+     */
+    public static final int DEFAULT_AUDIO_CACHE_SIZE = 64;
+
     private boolean showSplash = true;
     private boolean showBoundingBox = false;
+    private boolean headless = false;
+    private double collisionCellSize = DEFAULT_COLLISION_CELL_SIZE;
+    private long imageCacheSize = DEFAULT_IMAGE_CACHE_SIZE;
+    private int audioCacheSize = DEFAULT_AUDIO_CACHE_SIZE;
+    private Path metricsFile = null;
+    private boolean metricsJmx = false;
 
     /**
      * Whether the splash screen should be shown during start up.
@@ -49,17 +74,157 @@ public class YaegerConfig {
         this.showBoundingBox = showBoundingBox;
     }
 
+    /**
+     * Whether the Game should run headless. In that case the {@link javafx.stage.Stage} is not shown and the
+     * Game World Update of a {@link com.github.hanyaeger.api.engine.scenes.DynamicScene} is not driven by the
+     * JavaFX pulse, but by a synthetic clock that runs as fast as possible.
+     *
+     * @return a {@code boolean}, false by default
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Set whether the Game should run headless.
+     *
+     * @param headless A {@code boolean} value
+     */
+    void setHeadless(final boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * Return the size (width and height) of the cells of the uniform grid that is used by the broad phase of the
+     * collision detection. Only a {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collided} and a
+     * {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collider} that share at least one cell
+     * will be checked for an actual collision.
+     *
+     * @return the cell size as a {@code double}, {@link #DEFAULT_COLLISION_CELL_SIZE} by default
+     */
+    public double getCollisionCellSize() {
+        return collisionCellSize;
+    }
+
+    /**
+     * Set the size (width and height) of the cells of the uniform grid that is used by the broad phase of the
+     * collision detection. A value of {@code 0} or less disables the broad phase, meaning every
+     * {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collided} will be checked against every
+     * {@link com.github.hanyaeger.api.engine.entities.entity.collisions.Collider}.
+     * <p>
+     * The cell size can be set through the command line option {@code --collisionCellSize=<size>}.
+     *
+     * @param collisionCellSize the cell size as a {@code double}
+     */
+    void setCollisionCellSize(final double collisionCellSize) {
+        this.collisionCellSize = collisionCellSize;
+    }
+
+    /**
+     * Return the maximum number of bytes occupied by the decoded images that are cached by the
+     * {@link com.github.hanyaeger.api.engine.media.repositories.ImageRepository}. When this size is exceeded, the
+     * least recently used images are evicted.
+     *
+     * @return the maximum size in bytes, {@link #DEFAULT_IMAGE_CACHE_SIZE} by default
+     */
+    public long getImageCacheSize() {
+        return imageCacheSize;
+    }
+
+    /**
+     * Set the maximum number of bytes occupied by the decoded images that are cached by the
+     * {@link com.github.hanyaeger.api.engine.media.repositories.ImageRepository}. A decoded image occupies four
+     * bytes per pixel. A value of {@code 0} or less means images are never evicted.
+     * <p>
+     * The maximum size can be set through the command line option {@code --imageCacheSize=<bytes>}.
+     *
+     * @param imageCacheSize the maximum size in bytes
+     */
+    void setImageCacheSize(final long imageCacheSize) {
+        this.imageCacheSize = imageCacheSize;
+    }
+
+    /**
+     * Return the maximum number of audio clips that are cached by the
+     * {@link com.github.hanyaeger.api.engine.media.repositories.AudioRepository}. When this number is exceeded, the
+     * least recently used audio clips are evicted.
+     *
+     * @return the maximum number of audio clips, {@link #DEFAULT_AUDIO_CACHE_SIZE} by default
+     */
+    public int getAudioCacheSize() {
+        return audioCacheSize;
+    }
+
+    /**
+     * Set the maximum number of audio clips that are cached by the
+     * {@link com.github.hanyaeger.api.engine.media.repositories.AudioRepository}. A value of {@code 0} or less
+     * means audio clips are never evicted.
+     * <p>
+     * The maximum number can be set through the command line option {@code --audioCacheSize=<clips>}.
+     *
+     * @param audioCacheSize the maximum number of audio clips
+     */
+    void setAudioCacheSize(final int audioCacheSize) {
+        this.audioCacheSize = audioCacheSize;
+    }
+
+    /**
+     * Return the file to which the {@link com.github.hanyaeger.api.engine.debug.Metrics} are periodically exported.
+     * If the name of the file ends with {@code .csv}, they are written as comma separated values, otherwise as one
+     * JSON object per line.
+     *
+     * @return an {@link Optional} containing the {@link Path} of the file, empty by default
+     */
+    public Optional<Path> getMetricsFile() {
+        return Optional.ofNullable(metricsFile);
+    }
+
+    /**
+     * Set the file to which the {@link com.github.hanyaeger.api.engine.debug.Metrics} are periodically exported.
+     *
+     * @param metricsFile the {@link Path} of the file, or {@code null} if the metrics should not be exported
+     */
+    void setMetricsFile(final Path metricsFile) {
+        this.metricsFile = metricsFile;
+    }
+
+    /**
+     * Whether the {@link com.github.hanyaeger.api.engine.debug.Metrics} should be exposed as a JMX MBean.
+     *
+     * @return a {@code boolean}, false by default
+     */
+    public boolean isMetricsJmx() {
+        return metricsJmx;
+    }
+
+    /**
+     * Set whether the {@link com.github.hanyaeger.api.engine.debug.Metrics} should be exposed as a JMX MBean.
+     *
+     * @param metricsJmx A {@code boolean} value
+     */
+    void setMetricsJmx(final boolean metricsJmx) {
+        this.metricsJmx = metricsJmx;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         YaegerConfig that = (YaegerConfig) o;
-        return showSplash == that.showSplash && showBoundingBox == that.showBoundingBox;
+        return showSplash == that.showSplash
+                && showBoundingBox == that.showBoundingBox
+                && headless == that.headless
+                && Double.compare(collisionCellSize, that.collisionCellSize) == 0
+                && imageCacheSize == that.imageCacheSize
+                && audioCacheSize == that.audioCacheSize
+                && Objects.equals(metricsFile, that.metricsFile)
+                && metricsJmx == that.metricsJmx;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(showSplash, showBoundingBox);
+        return Objects.hash(showSplash, showBoundingBox, headless, collisionCellSize, imageCacheSize, audioCacheSize, metricsFile,
+                metricsJmx);
     }
 
 
@@ -1,5 +1,10 @@
 package com.github.hanyaeger.api.engine;
 
+import com.github.hanyaeger.api.engine.debug.FileMetricsExporter;
+import com.github.hanyaeger.api.engine.debug.Metrics;
+import com.github.hanyaeger.api.engine.debug.MetricsMBean;
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.scenes.SceneCollection;
 import com.github.hanyaeger.api.guice.factories.SceneCollectionFactory;
 import com.google.inject.Inject;
@@ -21,6 +26,9 @@ public class YaegerStage implements Initializable {
     private final YaegerConfig yaegerConfig;
     private SceneCollectionFactory sceneCollectionFactory;
     private SceneCollection sceneCollection;
+    private ImageRepository imageRepository;
+    private AudioRepository audioRepository;
+    private Metrics metrics;
 
     YaegerStage(final YaegerGame yaegerGame, final Stage stage, final YaegerConfig yaegerConfig) {
         this.yaegerGame = yaegerGame;
@@ -40,6 +48,10 @@ public class YaegerStage implements Initializable {
     @Override
     public void init(final Injector injector) {
         stage.setResizable(false);
+        imageRepository.setMaximumSize(yaegerConfig.getImageCacheSize());
+        audioRepository.setMaximumSize(yaegerConfig.getAudioCacheSize());
+        initMetrics();
+
         sceneCollection = sceneCollectionFactory.create(stage, yaegerConfig);
         injector.injectMembers(sceneCollection);
         sceneCollection.init(injector);
@@ -52,16 +64,35 @@ public class YaegerStage implements Initializable {
         yaegerGame.setupScenes();
         sceneCollection.postSetupScenes();
 
-        stage.show();
+        if (!yaegerConfig.isHeadless()) {
+            stage.show();
+        }
     }
 
     /**
      * Stop and close the Game.
      */
     protected void quit() {
+        metrics.close();
         stage.close();
     }
 
+    private void initMetrics() {
+        metrics.gauge("cache.images.hits", () -> imageRepository.getCacheStatistics().getHits());
+        metrics.gauge("cache.images.misses", () -> imageRepository.getCacheStatistics().getMisses());
+        metrics.gauge("cache.images.evictions", () -> imageRepository.getCacheStatistics().getEvictions());
+        metrics.gauge("cache.images.bytes", () -> imageRepository.getCacheStatistics().getWeight());
+        metrics.gauge("cache.audio.hits", () -> audioRepository.getCacheStatistics().getHits());
+        metrics.gauge("cache.audio.misses", () -> audioRepository.getCacheStatistics().getMisses());
+        metrics.gauge("cache.audio.evictions", () -> audioRepository.getCacheStatistics().getEvictions());
+
+        yaegerConfig.getMetricsFile().ifPresent(file -> metrics.addExporter(new FileMetricsExporter(file)));
+
+        if (yaegerConfig.isMetricsJmx()) {
+            new MetricsMBean(metrics).register();
+        }
+    }
+
     /**
      * Set the title of the Game.
      *
@@ -95,4 +126,19 @@ public class YaegerStage implements Initializable {
     public void setSceneCollectionFactory(final SceneCollectionFactory sceneCollectionFactory) {
         this.sceneCollectionFactory = sceneCollectionFactory;
     }
+
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
+    @Inject
+    public void setAudioRepository(final AudioRepository audioRepository) {
+        this.audioRepository = audioRepository;
+    }
+
+    @Inject
+    public void setMetrics(final Metrics metrics) {
+        this.metrics = metrics;
+    }
 }
@@ -0,0 +1,212 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.UpdateDelegator;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+
+/**
+ * The {@link AnnotatedMethods} of a class are all its public methods that are annotated with one of the annotations
+ * supported by the {@link AnnotationProcessor}. Scanning a class for these methods is expensive, so this is done only
+ * once per class. The result is stored in a {@link ClassValue}, which does not prevent the class from being unloaded.
+ * <p>
+ * If an {@link AnnotationWiring} was generated for the class at compile time, that {@link AnnotationWiring} is used
+ * and the class is not scanned at all.
+ */
+final class AnnotatedMethods {
+
+    private static final ClassValue<AnnotatedMethods> REGISTRY = new ClassValue<>() {
+        @Override
+        protected AnnotatedMethods computeValue(final Class<?> type) {
+            return new AnnotatedMethods(type);
+        }
+    };
+
+    private final MethodInvoker[] activators;
+    private final MethodInvoker[] postActivators;
+    private final ProviderInvoker[] updatableProviders;
+    private final AnnotationWiring wiring;
+
+    private AnnotatedMethods(final Class<?> type) {
+        this.wiring = loadWiring(type);
+
+        if (wiring != null) {
+            this.activators = new MethodInvoker[0];
+            this.postActivators = new MethodInvoker[0];
+            this.updatableProviders = new ProviderInvoker[0];
+            return;
+        }
+
+        var activatorList = new ArrayList<MethodInvoker>();
+        var postActivatorList = new ArrayList<MethodInvoker>();
+        var updatableProviderList = new ArrayList<ProviderInvoker>();
+
+        for (var method : type.getMethods()) {
+            if (method.isAnnotationPresent(OnActivation.class)) {
+                activatorList.add(new MethodInvoker(method));
+            }
+            if (method.isAnnotationPresent(OnPostActivation.class)) {
+                postActivatorList.add(new MethodInvoker(method));
+            }
+            if (method.isAnnotationPresent(UpdatableProvider.class)) {
+                var asFirst = method.getAnnotation(UpdatableProvider.class).asFirst();
+                updatableProviderList.add(new ProviderInvoker(new MethodInvoker(method), asFirst));
+            }
+        }
+
+        this.activators = activatorList.toArray(new MethodInvoker[0]);
+        this.postActivators = postActivatorList.toArray(new MethodInvoker[0]);
+        this.updatableProviders = updatableProviderList.toArray(new ProviderInvoker[0]);
+    }
+
+    /**
+     * Return the {@link AnnotatedMethods} of the given class. The class is only scanned the first time this method
+     * is called for that class.
+     *
+     * @param type the class of which the {@link AnnotatedMethods} should be returned
+     * @return the {@link AnnotatedMethods} of the given class
+     */
+    static AnnotatedMethods of(final Class<?> type) {
+        return REGISTRY.get(type);
+    }
+
+    /**
+     * Invoke all methods annotated with {@link OnActivation} on the given {@link Object}.
+     *
+     * @param gameObject the {@link Object} on which the methods should be invoked
+     */
+    void invokeActivators(final Object gameObject) {
+        if (wiring != null) {
+            try {
+                wiring.invokeActivators(gameObject);
+            } catch (Throwable t) {
+                throw new YaegerEngineException(new InvocationTargetException(t));
+            }
+            return;
+        }
+
+        for (var invoker : activators) {
+            invoker.invoke(gameObject);
+        }
+    }
+
+    /**
+     * Invoke all methods annotated with {@link OnPostActivation} on the given {@link Object}.
+     *
+     * @param gameObject the {@link Object} on which the methods should be invoked
+     */
+    void invokePostActivators(final Object gameObject) {
+        if (wiring != null) {
+            try {
+                wiring.invokePostActivators(gameObject);
+            } catch (Throwable t) {
+                throw new YaegerEngineException(new InvocationTargetException(t));
+            }
+            return;
+        }
+
+        for (var invoker : postActivators) {
+            invoker.invoke(gameObject);
+        }
+    }
+
+    /**
+     * Add the {@link Updatable} returned by each method annotated with {@link UpdatableProvider} to the
+     * {@link com.github.hanyaeger.api.engine.Updater} of the given {@link UpdateDelegator}.
+     *
+     * @param updateDelegator the {@link UpdateDelegator} on which the methods should be invoked
+     */
+    void configureUpdateDelegators(final UpdateDelegator updateDelegator) {
+        if (wiring != null) {
+            try {
+                wiring.configureUpdateDelegators(updateDelegator);
+            } catch (Throwable t) {
+                throw new YaegerEngineException(new InvocationTargetException(t));
+            }
+            return;
+        }
+
+        for (var provider : updatableProviders) {
+            var providedUpdatable = provider.getInvoker().invoke(updateDelegator);
+            if (providedUpdatable instanceof Updatable) {
+                var delegatedUpdatable = (Updatable) providedUpdatable;
+                updateDelegator.getUpdater().addUpdatable(delegatedUpdatable, provider.isAsFirst());
+            }
+        }
+    }
+
+    /**
+     * Return whether the annotated methods are invoked through an {@link AnnotationWiring} that was generated at
+     * compile time.
+     *
+     * @return {@code true} if an {@link AnnotationWiring} is used, {@code false} if reflection is used
+     */
+    boolean isWired() {
+        return wiring != null;
+    }
+
+    /**
+     * Return the methods annotated with {@link OnActivation}.
+     *
+     * @return an array of {@link MethodInvoker}, which is empty if there are no such methods
+     */
+    MethodInvoker[] getActivators() {
+        return activators;
+    }
+
+    /**
+     * Return the methods annotated with {@link OnPostActivation}.
+     *
+     * @return an array of {@link MethodInvoker}, which is empty if there are no such methods
+     */
+    MethodInvoker[] getPostActivators() {
+        return postActivators;
+    }
+
+    /**
+     * Return the methods annotated with {@link UpdatableProvider}.
+     *
+     * @return an array of {@link ProviderInvoker}, which is empty if there are no such methods
+     */
+    ProviderInvoker[] getUpdatableProviders() {
+        return updatableProviders;
+    }
+
+    private static AnnotationWiring loadWiring(final Class<?> type) {
+        try {
+            var wiringClass = Class.forName(type.getName() + AnnotationWiring.SUFFIX, true, type.getClassLoader());
+            if (AnnotationWiring.class.isAssignableFrom(wiringClass)) {
+                return (AnnotationWiring) wiringClass.getConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            // No usable AnnotationWiring was generated, so reflection will be used
+        }
+
+        return null;
+    }
+
+    /**
+     * A {@link ProviderInvoker} combines the {@link MethodInvoker} of a method annotated with
+     * {@link UpdatableProvider} with the value of {@link UpdatableProvider#asFirst()}.
+     */
+    static final class ProviderInvoker {
+
+        private final MethodInvoker invoker;
+        private final boolean asFirst;
+
+        ProviderInvoker(final MethodInvoker invoker, final boolean asFirst) {
+            this.invoker = invoker;
+            this.asFirst = asFirst;
+        }
+
+        MethodInvoker getInvoker() {
+            return invoker;
+        }
+
+        boolean isAsFirst() {
+            return asFirst;
+        }
+    }
+}
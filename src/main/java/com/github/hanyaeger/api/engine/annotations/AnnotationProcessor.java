@@ -1,10 +1,6 @@
 package com.github.hanyaeger.api.engine.annotations;
 
-import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.UpdateDelegator;
-import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
-
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * The {@link AnnotationProcessor} is responsible for processing Yaeger specific annotations. Currently
@@ -15,6 +11,10 @@ import java.lang.reflect.InvocationTargetException;
  *     <li>{@link OnPostActivation}</li>
  *     <li>{@link UpdatableProvider}</li>
  * </ul>
+ * <p>
+ * Each class is scanned for these annotations only once, after which the annotated methods are invoked
+ * through a cached {@link java.lang.invoke.MethodHandle}. A class for which an {@link AnnotationWiring} was generated
+ * at compile time is not scanned at all.
  */
 public class AnnotationProcessor {
 
@@ -24,7 +24,7 @@ public class AnnotationProcessor {
      * @param gameObject The {@link Object} that should be scanned for the {@link OnActivation} annotation.
      */
     public void invokeActivators(final Object gameObject) {
-        invoke(gameObject, OnActivation.class);
+        AnnotatedMethods.of(gameObject.getClass()).invokeActivators(gameObject);
     }
 
     /**
@@ -33,19 +33,7 @@ public class AnnotationProcessor {
      * @param gameObject The {@link Object} that should be scanned for the {@link OnPostActivation} annotation.
      */
     public void invokePostActivators(final Object gameObject) {
-        invoke(gameObject, OnPostActivation.class);
-    }
-
-    private void invoke(final Object gameObject, final Class annotation) {
-        for (var method : gameObject.getClass().getMethods()) {
-            if (method.isAnnotationPresent(annotation)) {
-                try {
-                    method.invoke(gameObject);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new YaegerEngineException(e);
-                }
-            }
-        }
+        AnnotatedMethods.of(gameObject.getClass()).invokePostActivators(gameObject);
     }
 
     /**
@@ -56,21 +44,7 @@ public class AnnotationProcessor {
      */
     public void configureUpdateDelegators(final Object gameObject) {
         if (gameObject instanceof UpdateDelegator) {
-            var updateDelegator = (UpdateDelegator) gameObject;
-            for (var method : gameObject.getClass().getMethods()) {
-                if (method.isAnnotationPresent(UpdatableProvider.class)) {
-                    UpdatableProvider annotation = method.getAnnotation(UpdatableProvider.class);
-                    try {
-                        var providedUpdatable = method.invoke(updateDelegator);
-                        if (providedUpdatable instanceof Updatable) {
-                            var delegatedUpdatable = (Updatable) providedUpdatable;
-                            updateDelegator.getUpdater().addUpdatable(delegatedUpdatable, annotation.asFirst());
-                        }
-                    } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
-                        throw new YaegerEngineException(e);
-                    }
-                }
-            }
+            AnnotatedMethods.of(gameObject.getClass()).configureUpdateDelegators((UpdateDelegator) gameObject);
         }
     }
 }
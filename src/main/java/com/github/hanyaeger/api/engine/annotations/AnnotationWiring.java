@@ -0,0 +1,43 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+/**
+ * An {@link AnnotationWiring} invokes the annotated methods of exactly one class, without using reflection.
+ * Implementations are generated at compile time by the
+ * {@link com.github.hanyaeger.api.engine.annotations.processor.WiringProcessor} and are named after the class
+ * they wire, followed by {@link #SUFFIX}. When the {@link AnnotationProcessor} encounters a class for which such an
+ * implementation exists, it is used instead of reflection.
+ *
+ * <b>Note that this interface is for internal use only and should not be implemented when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+ */
+public interface AnnotationWiring {
+
+    /**
+     * The suffix that is appended to the binary name of a class to obtain the name of its {@link AnnotationWiring}.
+     */
+    String SUFFIX = "_YaegerWiring";
+
+    /**
+     * Invoke all methods annotated with {@link OnActivation} on the given {@link Object}.
+     *
+     * @param gameObject the {@link Object} on which the methods should be invoked
+     * @throws Exception when one of the invoked methods throws an {@link Exception}
+     */
+    void invokeActivators(Object gameObject) throws Exception;
+
+    /**
+     * Invoke all methods annotated with {@link OnPostActivation} on the given {@link Object}.
+     *
+     * @param gameObject the {@link Object} on which the methods should be invoked
+     * @throws Exception when one of the invoked methods throws an {@link Exception}
+     */
+    void invokePostActivators(Object gameObject) throws Exception;
+
+    /**
+     * Add the {@link com.github.hanyaeger.api.engine.Updatable} returned by each method annotated with
+     * {@link UpdatableProvider} to the {@link com.github.hanyaeger.api.engine.Updater} of the given {@link Object}.
+     *
+     * @param gameObject the {@link Object} on which the methods should be invoked
+     * @throws Exception when one of the invoked methods throws an {@link Exception}
+     */
+    void configureUpdateDelegators(Object gameObject) throws Exception;
+}
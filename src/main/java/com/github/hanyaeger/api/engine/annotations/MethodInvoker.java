@@ -0,0 +1,70 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A {@link MethodInvoker} invokes a single annotated method without parameters. Where possible, the method is
+ * invoked through a {@link MethodHandle} that is created only once, so no access checks are performed on each
+ * invocation. If no {@link MethodHandle} can be created, the {@link Method} is invoked through reflection, which
+ * behaves the same, but is slower.
+ */
+final class MethodInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    /**
+     * Create a new {@link MethodInvoker} for the given {@link Method}.
+     *
+     * @param method the {@link Method} that should be invoked
+     */
+    MethodInvoker(final Method method) {
+        this.method = method;
+        this.handle = createHandle(method);
+    }
+
+    /**
+     * Invoke the method on the given {@link Object}.
+     *
+     * @param target the {@link Object} on which the method should be invoked
+     * @return the value returned by the method, or {@code null} if the method is {@code void}
+     * @throws YaegerEngineException if the method could not be invoked, or threw an exception itself
+     */
+    Object invoke(final Object target) {
+        if (handle == null) {
+            try {
+                return method.invoke(target);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new YaegerEngineException(e);
+            }
+        }
+
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable t) {
+            throw new YaegerEngineException(new InvocationTargetException(t));
+        }
+    }
+
+    private static MethodHandle createHandle(final Method method) {
+        var module = MethodInvoker.class.getModule();
+        var declaringClass = method.getDeclaringClass();
+
+        try {
+            if (!module.canRead(declaringClass.getModule())) {
+                module.addReads(declaringClass.getModule());
+            }
+            return MethodHandles.lookup().unreflect(method).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.hanyaeger.api.engine.annotations.processor;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.UpdateDelegator;
+import com.github.hanyaeger.api.engine.annotations.AnnotationWiring;
+import com.github.hanyaeger.api.engine.annotations.OnActivation;
+import com.github.hanyaeger.api.engine.annotations.OnPostActivation;
+import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link WiringProcessor} is a javac annotation processor that generates an {@link AnnotationWiring} for every
+ * concrete class that contains public methods annotated with {@link OnActivation}, {@link OnPostActivation} or
+ * {@link UpdatableProvider}, including those it inherits. The generated {@link AnnotationWiring} invokes these
+ * methods directly, so the {@link com.github.hanyaeger.api.engine.annotations.AnnotationProcessor} does not need
+ * reflection for that class.
+ * <p>
+ * The {@link WiringProcessor} can be enabled by adding the Yaeger artifact to the annotation processor path and
+ * passing {@code -processor com.github.hanyaeger.api.engine.annotations.processor.WiringProcessor} to javac.
+ * Classes for which no {@link AnnotationWiring} is generated, such as private nested classes, keep working through
+ * reflection.
+ */
+public class WiringProcessor extends AbstractProcessor {
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // All classes should be inspected, since annotated methods can be inherited
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type);
+        }
+
+        // Never claim the annotations, since other processors might be interested in them as well
+        return false;
+    }
+
+    private void processType(final TypeElement type) {
+        for (final TypeElement memberType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(memberType);
+        }
+
+        if (!isWireable(type)) {
+            return;
+        }
+
+        var activators = new ArrayList<ExecutableElement>();
+        var postActivators = new ArrayList<ExecutableElement>();
+        var updatableProviders = new ArrayList<ExecutableElement>();
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            var isActivator = method.getAnnotation(OnActivation.class) != null;
+            var isPostActivator = method.getAnnotation(OnPostActivation.class) != null;
+            var isUpdatableProvider = method.getAnnotation(UpdatableProvider.class) != null;
+
+            if (!isActivator && !isPostActivator && !isUpdatableProvider) {
+                continue;
+            }
+
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                // Just like the AnnotationProcessor, only public methods are taken into account
+                continue;
+            }
+
+            if (!method.getParameters().isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "Annotated methods should not have parameters, no wiring is generated for " + type.getQualifiedName(), method);
+                return;
+            }
+
+            if (isActivator) {
+                activators.add(method);
+            }
+            if (isPostActivator) {
+                postActivators.add(method);
+            }
+            if (isUpdatableProvider) {
+                updatableProviders.add(method);
+            }
+        }
+
+        if (activators.isEmpty() && postActivators.isEmpty() && updatableProviders.isEmpty()) {
+            return;
+        }
+
+        var isUpdateDelegator = processingEnv.getTypeUtils().isAssignable(type.asType(),
+                processingEnv.getElementUtils().getTypeElement(UpdateDelegator.class.getCanonicalName()).asType());
+
+        writeWiring(type, activators, postActivators, isUpdateDelegator ? updatableProviders : List.of());
+    }
+
+    /**
+     * Only concrete classes can be the class of a game object, and the generated {@link AnnotationWiring} can only
+     * access them if neither the class, nor one of its enclosing classes, is private.
+     */
+    private boolean isWireable(final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private void writeWiring(final TypeElement type, final List<ExecutableElement> activators,
+                             final List<ExecutableElement> postActivators, final List<ExecutableElement> updatableProviders) {
+        var binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        var wiringName = binaryName + AnnotationWiring.SUFFIX;
+
+        if (!generated.add(wiringName)) {
+            return;
+        }
+
+        var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        var simpleName = packageName.isEmpty() ? wiringName : wiringName.substring(packageName.length() + 1);
+        var typeName = type.getQualifiedName().toString();
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(WiringProcessor.class.getName()).append(" for {@link ").append(typeName).append("}.\n */\n");
+        source.append("@SuppressWarnings({\"rawtypes\", \"static-access\"})\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(AnnotationWiring.class.getCanonicalName()).append(" {\n");
+
+        appendInvokingMethod(source, "invokeActivators", typeName, activators);
+        appendInvokingMethod(source, "invokePostActivators", typeName, postActivators);
+
+        source.append("\n    @Override\n");
+        source.append("    public void configureUpdateDelegators(final Object gameObject) throws Exception {\n");
+        if (!updatableProviders.isEmpty()) {
+            source.append("        final ").append(typeName).append(" target = (").append(typeName).append(") gameObject;\n");
+            source.append("        Object provided;\n");
+            for (final ExecutableElement method : updatableProviders) {
+                var asFirst = method.getAnnotation(UpdatableProvider.class).asFirst();
+                if (method.getReturnType().getKind() == TypeKind.VOID) {
+                    source.append("        target.").append(method.getSimpleName()).append("();\n");
+                    continue;
+                }
+                source.append("        provided = target.").append(method.getSimpleName()).append("();\n");
+                source.append("        if (provided instanceof ").append(Updatable.class.getCanonicalName()).append(") {\n");
+                source.append("            target.getUpdater().addUpdatable((").append(Updatable.class.getCanonicalName())
+                        .append(") provided, ").append(asFirst).append(");\n");
+                source.append("        }\n");
+            }
+        }
+        source.append("    }\n");
+        source.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(wiringName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to generate wiring for " + typeName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private void appendInvokingMethod(final StringBuilder source, final String name, final String typeName,
+                                      final List<ExecutableElement> methods) {
+        source.append("\n    @Override\n");
+        source.append("    public void ").append(name).append("(final Object gameObject) throws Exception {\n");
+        if (!methods.isEmpty()) {
+            source.append("        final ").append(typeName).append(" target = (").append(typeName).append(") gameObject;\n");
+            for (final ExecutableElement method : methods) {
+                source.append("        target.").append(method.getSimpleName()).append("();\n");
+            }
+        }
+        source.append("    }\n");
+    }
+}
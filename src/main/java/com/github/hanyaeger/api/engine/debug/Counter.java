@@ -0,0 +1,38 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Counter} is a metric of which the value only increases, such as the number of Entities that have been
+ * spawned. The rate at which it increases can be derived by comparing two exported values. A {@link Counter} can
+ * safely be increased from any thread.
+ */
+public class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Increase the value of this {@link Counter} by one.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Increase the value of this {@link Counter}.
+     *
+     * @param amount the amount by which the value should be increased
+     */
+    public void add(final long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Return the current value of this {@link Counter}.
+     *
+     * @return the value
+     */
+    public long get() {
+        return count.sum();
+    }
+}
@@ -11,6 +11,9 @@ import com.github.hanyaeger.api.javafx.debug.DebugGridPaneFactory;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import javafx.scene.layout.Pane;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * The {@code Debugger} is used to gather and show in game debug information.
  */
@@ -27,6 +30,14 @@ public class Debugger implements StatisticsObserver {
     private static final String KEYLISTENERS = "Keylistening Entities:";
     private static final String AUDIO_FILES = "Audio files";
     private static final String IMAGE_FILES = "Image files";
+    private static final String AUDIO_CACHE = "Audio cache (hit/miss/evict)";
+    private static final String IMAGE_CACHE = "Image cache (hit/miss/evict)";
+    private static final String IMAGE_MEMORY = "Image memory";
+    private static final String FRAMES_PER_SECOND = "Frames per second:";
+    private static final String ALLOCATED_PER_FRAME = "Allocated per frame:";
+    private static final String PHASE_SUFFIX = " (p50 / p99 ms):";
+    private static final String FRAME_HISTOGRAM = "Frame histogram:";
+    private static final String PERCENTILES_FORMAT = "%.2f / %.2f";
 
     private AudioRepository audioRepository;
     private ImageRepository imageRepository;
@@ -45,6 +56,14 @@ public class Debugger implements StatisticsObserver {
 
     private Label audioFiles;
     private Label imageFiles;
+    private Label audioCache;
+    private Label imageCache;
+    private Label imageMemory;
+
+    private Label framesPerSecond;
+    private Label allocatedPerFrame;
+    private Label frameHistogram;
+    private final Map<FrameProfiler.Phase, Label> phases = new EnumMap<>(FrameProfiler.Phase.class);
 
     public void setup(Pane pane) {
         createGridPane(pane);
@@ -65,7 +84,20 @@ public class Debugger implements StatisticsObserver {
     }
 
     /**
-     * Update the content of the {@link Debugger}.
+     * The {@link Debugger} is only observing while it is visible, so a hidden {@link Debugger} does not cause any
+     * statistics to be gathered.
+     *
+     * @return whether the {@link Debugger} is visible
+     */
+    @Override
+    public boolean isObserving() {
+        return gridpane != null && gridpane.isVisible();
+    }
+
+    /**
+     * Update the content of the {@link Debugger}. Since this is done at most once every
+     * {@link EntityCollection#STATISTICS_SAMPLING_INTERVAL}, the {@link Debugger} barely affects the statistics it
+     * shows.
      *
      * @param entityCollectionStatistics An {@link EntityCollectionStatistics} that contains all
      *                                   statistics related to the current state of the
@@ -73,7 +105,7 @@ public class Debugger implements StatisticsObserver {
      */
     @Override
     public void update(EntityCollectionStatistics entityCollectionStatistics) {
-        if (!gridpane.isVisible()) {
+        if (!isObserving()) {
             return;
         }
 
@@ -88,6 +120,42 @@ public class Debugger implements StatisticsObserver {
 
         audioFiles.setText(String.valueOf(audioRepository.size()));
         imageFiles.setText(String.valueOf(imageRepository.size()));
+
+        var imageCacheStatistics = imageRepository.getCacheStatistics();
+        audioCache.setText(String.valueOf(audioRepository.getCacheStatistics()));
+        imageCache.setText(String.valueOf(imageCacheStatistics));
+        imageMemory.setText(String.valueOf(imageCacheStatistics.getWeight()));
+
+        updateProfilerStatistics(entityCollectionStatistics.getFrameProfiler());
+    }
+
+    private void updateProfilerStatistics(final FrameProfiler profiler) {
+        framesPerSecond.setText(String.format("%.1f", profiler.getFramesPerSecond()));
+        allocatedPerFrame.setText(String.valueOf(profiler.getAllocatedBytesPerFrame()));
+
+        phases.forEach((phase, label) -> label.setText(String.format(PERCENTILES_FORMAT,
+                profiler.getPercentile(phase, 50), profiler.getPercentile(phase, 99))));
+
+        frameHistogram.setText(formatHistogram(profiler.getHistogram()));
+    }
+
+    private String formatHistogram(final int[] histogram) {
+        var builder = new StringBuilder();
+
+        for (var i = 0; i < histogram.length; i++) {
+            if (i > 0) {
+                builder.append("  ");
+            }
+
+            if (i < FrameProfiler.HISTOGRAM_BOUNDS.length) {
+                builder.append("<").append(FrameProfiler.HISTOGRAM_BOUNDS[i]);
+            } else {
+                builder.append(">").append(FrameProfiler.HISTOGRAM_BOUNDS[i - 1]);
+            }
+            builder.append(": ").append(histogram[i]);
+        }
+
+        return builder.toString();
     }
 
     private void createGridPane(Pane pane) {
@@ -97,6 +165,7 @@ public class Debugger implements StatisticsObserver {
         addSystemStatistics();
         addEntityStatistics();
         addResourcesStatistics();
+        addProfilerStatistics();
 
         pane.getChildren().add(gridpane);
     }
@@ -123,6 +192,20 @@ public class Debugger implements StatisticsObserver {
     private void addResourcesStatistics() {
         audioFiles = addDebugLine(AUDIO_FILES);
         imageFiles = addDebugLine(IMAGE_FILES);
+        audioCache = addDebugLine(AUDIO_CACHE);
+        imageCache = addDebugLine(IMAGE_CACHE);
+        imageMemory = addDebugLine(IMAGE_MEMORY);
+    }
+
+    private void addProfilerStatistics() {
+        framesPerSecond = addDebugLine(FRAMES_PER_SECOND);
+        allocatedPerFrame = addDebugLine(ALLOCATED_PER_FRAME);
+
+        for (var phase : FrameProfiler.Phase.values()) {
+            phases.put(phase, addDebugLine(phase.getLabel() + PHASE_SUFFIX));
+        }
+
+        frameHistogram = addDebugLine(FRAME_HISTOGRAM);
     }
 
     private Label addDebugLine(String label) {
@@ -0,0 +1,176 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link FileMetricsExporter} appends each export of the {@link Metrics} as a single line to a file, either as
+ * comma separated values or as a JSON object. When the file grows beyond its maximum size, it is renamed by appending
+ * {@code .1} to its name, replacing any earlier file with that name, after which a new file is started. This way at
+ * most twice the maximum size is used.
+ * <p>
+ * A CSV file starts with a header that contains the names of the metrics. Metrics that are registered after the
+ * header has been written, only appear in the next file.
+ */
+public class FileMetricsExporter implements MetricsExporter {
+
+    /**
+     * The default maximum size, in bytes, of a file written by a {@link FileMetricsExporter}.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10L * 1024 * 1024;
+
+    private static final String TIMESTAMP = "timestamp";
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String ROLLED_EXTENSION = ".1";
+
+    /**
+     * The formats in which a {@link FileMetricsExporter} can write the {@link Metrics}.
+     */
+    public enum Format {
+        /**
+         * Comma separated values, with a header.
+         */
+        CSV,
+        /**
+         * One JSON object per line.
+         */
+        JSON_LINES
+    }
+
+    private final Path file;
+    private final Format format;
+    private final long maximumSize;
+
+    private BufferedWriter writer;
+    private List<String> columns;
+    private long size;
+
+    /**
+     * Create a new {@link FileMetricsExporter} with the {@link #DEFAULT_MAXIMUM_SIZE}. The {@link Format} is
+     * {@link Format#CSV} if the name of the file ends with {@code .csv}, and {@link Format#JSON_LINES} otherwise.
+     *
+     * @param file the {@link Path} of the file to which the {@link Metrics} should be written
+     */
+    public FileMetricsExporter(final Path file) {
+        this(file, file.toString().toLowerCase().endsWith(CSV_EXTENSION) ? Format.CSV : Format.JSON_LINES, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a new {@link FileMetricsExporter}.
+     *
+     * @param file        the {@link Path} of the file to which the {@link Metrics} should be written
+     * @param format      the {@link Format} in which the {@link Metrics} should be written
+     * @param maximumSize the size in bytes beyond which a new file is started
+     */
+    public FileMetricsExporter(final Path file, final Format format, final long maximumSize) {
+        this.file = file;
+        this.format = format;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Return the {@link Format} in which this {@link FileMetricsExporter} writes the {@link Metrics}.
+     *
+     * @return the {@link Format}
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    @Override
+    public void export(final long timestamp, final Map<String, Number> values) {
+        try {
+            if (writer != null && size >= maximumSize) {
+                roll();
+            }
+            if (writer == null) {
+                open();
+            }
+
+            if (format == Format.CSV) {
+                writeCsv(timestamp, values);
+            } else {
+                writeJson(timestamp, values);
+            }
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new YaegerEngineException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+            writer = null;
+        } catch (IOException e) {
+            throw new YaegerEngineException(e);
+        }
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        columns = null;
+        size = 0;
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        writer = null;
+        Files.move(file, file.resolveSibling(file.getFileName() + ROLLED_EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeCsv(final long timestamp, final Map<String, Number> values) throws IOException {
+        if (columns == null) {
+            columns = new ArrayList<>(values.keySet());
+            writeLine(TIMESTAMP + "," + String.join(",", columns));
+        }
+
+        var line = new StringBuilder().append(timestamp);
+        for (var column : columns) {
+            line.append(',');
+
+            var value = values.get(column);
+            if (value != null) {
+                line.append(value);
+            }
+        }
+
+        writeLine(line.toString());
+    }
+
+    private void writeJson(final long timestamp, final Map<String, Number> values) throws IOException {
+        var line = new StringBuilder("{\"").append(TIMESTAMP).append("\":").append(timestamp);
+
+        values.forEach((name, value) -> {
+            line.append(",\"").append(name.replace("\\", "\\\\").replace("\"", "\\\"")).append("\":");
+            if (value instanceof Double && !Double.isFinite(value.doubleValue())) {
+                line.append("null");
+            } else {
+                line.append(value);
+            }
+        });
+
+        writeLine(line.append('}').toString());
+    }
+
+    private void writeLine(final String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+        size += line.length() + System.lineSeparator().length();
+    }
+}
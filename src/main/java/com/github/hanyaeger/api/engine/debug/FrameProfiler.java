@@ -0,0 +1,315 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * A {@link FrameProfiler} measures how long each phase of a frame takes, such as updating all instances of
+ * {@link com.github.hanyaeger.api.engine.Updatable} or checking for collisions. It retains the measurements of the
+ * most recent frames, from which it calculates the median (p50) and 99th percentile (p99) duration of each phase,
+ * the number of frames per second, a histogram of the frame durations and the number of bytes allocated per frame.
+ * <p>
+ * All methods should be called from the JavaFX Application Thread. Memory that is allocated on other threads, such
+ * as during a parallel update, is not included in the allocation rate. The allocation rate is only measured when
+ * the optional module {@code jdk.management} is available.
+ * <p>
+ * Measuring costs time itself, so a {@link FrameProfiler} can be disabled while nobody is looking at its results.
+ * A disabled {@link FrameProfiler} does not read the clock or the allocation counter, and its results are discarded
+ * once it is enabled again.
+ */
+public class FrameProfiler {
+
+    /**
+     * The default number of frames of which the measurements are retained.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 120;
+
+    /**
+     * The upper bounds, in milliseconds, of the buckets of the histogram of frame durations. The last bucket
+     * contains all frames that took longer than the last bound.
+     */
+    public static final double[] HISTOGRAM_BOUNDS = {4, 8, 16.7, 33.3, 50};
+
+    /**
+     * The phases of a frame that are measured by a {@link FrameProfiler}.
+     */
+    public enum Phase {
+        GARBAGE("Garbage"),
+        UPDATABLES("Updatables"),
+        COLLISIONS("Collisions"),
+        SUPPLIERS("Suppliers"),
+        STATISTICS("Statistics"),
+        RENDER("Render"),
+        FRAME("Frame");
+
+        private final String label;
+
+        Phase(final String label) {
+            this.label = label;
+        }
+
+        /**
+         * Return the label of this {@link Phase}, as shown by the {@link Debugger}.
+         *
+         * @return the label
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1_000_000d;
+
+    private final int windowSize;
+    private final long[][] durations;
+    private final long[] timestamps;
+    private final long[] allocations;
+    private final long[] sortBuffer;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private boolean enabled = true;
+    private int index;
+    private int frames;
+    private long frameStart;
+    private long allocationStart;
+
+    /**
+     * Create a new {@link FrameProfiler} with the {@link #DEFAULT_WINDOW_SIZE}.
+     */
+    public FrameProfiler() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Create a new {@link FrameProfiler}.
+     *
+     * @param windowSize the number of frames of which the measurements are retained
+     */
+    public FrameProfiler(final int windowSize) {
+        if (windowSize <= 1) {
+            throw new IllegalArgumentException("The window size of a FrameProfiler should be larger than 1.");
+        }
+
+        this.windowSize = windowSize;
+        this.durations = new long[Phase.values().length][windowSize];
+        this.timestamps = new long[windowSize];
+        this.allocations = new long[windowSize];
+        this.sortBuffer = new long[windowSize];
+        this.threadMXBean = createThreadMXBean();
+    }
+
+    /**
+     * Enable or disable this {@link FrameProfiler}. When it is enabled again, the measurements taken before it was
+     * disabled are discarded, since they no longer describe the recent frames.
+     *
+     * @param enabled {@code true} to take measurements, {@code false} to skip them
+     */
+    public void setEnabled(final boolean enabled) {
+        if (enabled && !this.enabled) {
+            index = 0;
+            frames = 0;
+            for (var phaseDurations : durations) {
+                Arrays.fill(phaseDurations, 0);
+            }
+        }
+
+        this.enabled = enabled;
+    }
+
+    /**
+     * Return whether this {@link FrameProfiler} takes measurements.
+     *
+     * @return {@code true} if this {@link FrameProfiler} is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Return the start of a phase, to be passed to {@link #record(Phase, long)}.
+     *
+     * @return the current value of {@link System#nanoTime()}, or {@code 0} if this {@link FrameProfiler} is disabled
+     */
+    public long startPhase() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Start a new frame. This method should be called at the start of each frame, before any of its phases are
+     * recorded.
+     *
+     * @param timestamp the timestamp of the frame, in nanoseconds, as passed to the game loop
+     */
+    public void startFrame(final long timestamp) {
+        if (!enabled) {
+            return;
+        }
+
+        timestamps[index] = timestamp;
+        frameStart = System.nanoTime();
+        allocationStart = getAllocatedBytes();
+    }
+
+    /**
+     * Record the duration of a phase of the current frame. When a phase is recorded more than once during a single
+     * frame, the durations are added up.
+     *
+     * @param phase the {@link Phase} that was performed
+     * @param start the value of {@link System#nanoTime()} at the start of the phase
+     * @return the current value of {@link System#nanoTime()}, which can be used as the start of the next phase
+     */
+    public long record(final Phase phase, final long start) {
+        if (!enabled) {
+            return start;
+        }
+
+        var now = System.nanoTime();
+        durations[phase.ordinal()][index] += now - start;
+        return now;
+    }
+
+    /**
+     * End the current frame, after which its measurements become part of the results.
+     *
+     * @return the duration of the frame in nanoseconds, or {@code 0} if this {@link FrameProfiler} is disabled
+     */
+    public long endFrame() {
+        if (!enabled) {
+            return 0;
+        }
+
+        var duration = System.nanoTime() - frameStart;
+        durations[Phase.FRAME.ordinal()][index] = duration;
+        allocations[index] = Math.max(0, getAllocatedBytes() - allocationStart);
+
+        index = (index + 1) % windowSize;
+        frames = Math.min(frames + 1, windowSize);
+
+        for (var phaseDurations : durations) {
+            phaseDurations[index] = 0;
+        }
+
+        return duration;
+    }
+
+    /**
+     * Return the number of frames of which the measurements are currently retained.
+     *
+     * @return the number of frames
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Return the given percentile of the durations of a {@link Phase} over the retained frames.
+     *
+     * @param phase      the {@link Phase}
+     * @param percentile the percentile, between {@code 0} and {@code 100}, such as {@code 50} for the median
+     * @return the duration in milliseconds, or {@code 0} if no frames have been measured yet
+     */
+    public double getPercentile(final Phase phase, final double percentile) {
+        if (frames == 0) {
+            return 0;
+        }
+
+        var phaseDurations = durations[phase.ordinal()];
+        var first = (index - frames + windowSize) % windowSize;
+        for (var i = 0; i < frames; i++) {
+            sortBuffer[i] = phaseDurations[(first + i) % windowSize];
+        }
+        Arrays.sort(sortBuffer, 0, frames);
+
+        var rank = (int) Math.ceil(percentile / 100 * frames) - 1;
+        return sortBuffer[Math.max(0, Math.min(frames - 1, rank))] / NANOSECONDS_PER_MILLISECOND;
+    }
+
+    /**
+     * Return the number of frames per second, based on the timestamps of the retained frames.
+     *
+     * @return the number of frames per second, or {@code 0} if fewer than two frames have been measured
+     */
+    public double getFramesPerSecond() {
+        if (frames < 2) {
+            return 0;
+        }
+
+        var newest = timestamps[(index - 1 + windowSize) % windowSize];
+        var oldest = timestamps[(index - frames + windowSize) % windowSize];
+
+        if (newest <= oldest) {
+            return 0;
+        }
+
+        return (frames - 1) * (double) NANOSECONDS_PER_SECOND / (newest - oldest);
+    }
+
+    /**
+     * Return the average number of bytes allocated per frame over the retained frames.
+     *
+     * @return the number of bytes, or {@code 0} if the allocation rate can not be measured on this JVM
+     */
+    public long getAllocatedBytesPerFrame() {
+        if (frames == 0) {
+            return 0;
+        }
+
+        var total = 0L;
+        for (var i = 0; i < frames; i++) {
+            total += allocations[(index - 1 - i + windowSize) % windowSize];
+        }
+
+        return total / frames;
+    }
+
+    /**
+     * Return a histogram of the durations of the retained frames. The buckets are bounded by
+     * {@link #HISTOGRAM_BOUNDS}.
+     *
+     * @return an array containing the number of frames per bucket, of which the length is one more than the length
+     * of {@link #HISTOGRAM_BOUNDS}
+     */
+    public int[] getHistogram() {
+        var histogram = new int[HISTOGRAM_BOUNDS.length + 1];
+        var frameDurations = durations[Phase.FRAME.ordinal()];
+
+        for (var i = 0; i < frames; i++) {
+            var milliseconds = frameDurations[(index - 1 - i + windowSize) % windowSize] / NANOSECONDS_PER_MILLISECOND;
+
+            var bucket = 0;
+            while (bucket < HISTOGRAM_BOUNDS.length && milliseconds > HISTOGRAM_BOUNDS[bucket]) {
+                bucket++;
+            }
+            histogram[bucket]++;
+        }
+
+        return histogram;
+    }
+
+    private long getAllocatedBytes() {
+        if (threadMXBean == null) {
+            return 0;
+        }
+
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean createThreadMXBean() {
+        try {
+            var bean = ManagementFactory.getThreadMXBean();
+
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                var sunBean = (com.sun.management.ThreadMXBean) bean;
+
+                if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunBean;
+                }
+            }
+        } catch (LinkageError e) {
+            // The module jdk.management is optional and has not been resolved
+        }
+
+        return null;
+    }
+}
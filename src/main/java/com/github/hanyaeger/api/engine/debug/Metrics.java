@@ -0,0 +1,186 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import com.google.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link Metrics} is the registry of all metrics of a Yaeger game, such as the duration of a frame, the number of
+ * Entities, the number of collisions and the hits of the image cache. Unlike the {@link Debugger}, which shows the
+ * current values on screen, {@link Metrics} can be exported periodically through a {@link MetricsExporter}, or be
+ * read through JMX using a {@link MetricsMBean}, which makes them suitable for collecting trend data during long
+ * running tests.
+ * <p>
+ * Three types of metrics are supported:
+ * <ul>
+ *     <li>A {@link Counter}, of which the value only increases.</li>
+ *     <li>A gauge, which is a {@link Supplier} that returns the current value of something, such as a number of
+ *     Entities.</li>
+ *     <li>A {@link Timing}, which records durations.</li>
+ * </ul>
+ * Each metric is identified by its name. Registering a gauge with a name that is already used replaces the
+ * existing gauge.
+ * <p>
+ * Most metrics are updated on the JavaFX Application Thread, and a gauge often reads state that is not thread-safe.
+ * The values are therefore only read on that thread, on each report. Other threads, such as the one serving JMX,
+ * should use the immutable result of the most recent report, through {@link #getLastReport()}.
+ */
+@Singleton
+public class Metrics {
+
+    /**
+     * The default interval in milliseconds between two exports.
+     */
+    public static final long DEFAULT_REPORT_INTERVAL = 1000;
+
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentSkipListMap<>();
+    private final Map<String, Timing> timings = new ConcurrentSkipListMap<>();
+    private final List<MetricsExporter> exporters = new ArrayList<>();
+
+    private long reportInterval = DEFAULT_REPORT_INTERVAL;
+    private long nextReport = Long.MIN_VALUE;
+    private boolean exposed;
+    private volatile Map<String, Number> lastReport = Map.of();
+
+    /**
+     * Return the {@link Counter} with the given name, which is created if it does not exist yet.
+     *
+     * @param name the name of the {@link Counter}
+     * @return the {@link Counter}
+     */
+    public Counter counter(final String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Return the {@link Timing} with the given name, which is created if it does not exist yet.
+     *
+     * @param name the name of the {@link Timing}
+     * @return the {@link Timing}
+     */
+    public Timing timing(final String name) {
+        return timings.computeIfAbsent(name, key -> new Timing());
+    }
+
+    /**
+     * Register a gauge, replacing any gauge with the same name.
+     *
+     * @param name  the name of the gauge
+     * @param gauge the {@link Supplier} that returns the current value of the gauge
+     */
+    public void gauge(final String name, final Supplier<? extends Number> gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Remove a gauge, but only if it is still the gauge that is registered with the given name. This way a gauge
+     * that has replaced it, is kept.
+     *
+     * @param name  the name of the gauge
+     * @param gauge the {@link Supplier} that was registered as the gauge
+     */
+    public void removeGauge(final String name, final Supplier<? extends Number> gauge) {
+        gauges.remove(name, gauge);
+    }
+
+    /**
+     * Return the current values of all metrics. A {@link Timing} is represented by three values, of which the names
+     * end in {@code .count}, {@code .mean} and {@code .max}. Since the gauges are evaluated, this method should only
+     * be called on the JavaFX Application Thread.
+     *
+     * @return a {@link Map} of the name of each metric to its value, sorted by name
+     */
+    public Map<String, Number> snapshot() {
+        var values = new ConcurrentSkipListMap<String, Number>();
+
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        gauges.forEach((name, gauge) -> values.put(name, gauge.get()));
+        timings.forEach((name, timing) -> {
+            values.put(name + ".count", timing.getCount());
+            values.put(name + ".mean", timing.getMean());
+            values.put(name + ".max", timing.getMax());
+        });
+
+        return new LinkedHashMap<>(values);
+    }
+
+    /**
+     * Return the values of all metrics, as they were taken by the most recent report. Unlike {@link #snapshot()},
+     * this method can safely be called from any thread.
+     *
+     * @return an unmodifiable {@link Map} of the name of each metric to its value, sorted by name, which is empty
+     * if no report has been made yet
+     */
+    public Map<String, Number> getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Return whether these {@link Metrics} are read by anyone, either through a {@link MetricsExporter} or through
+     * a {@link MetricsMBean}. Measurements that only serve the {@link Metrics} can be skipped if not.
+     *
+     * @return {@code true} if the {@link Metrics} are exported or exposed through JMX
+     */
+    public boolean isObserved() {
+        return exposed || !exporters.isEmpty();
+    }
+
+    /**
+     * Mark these {@link Metrics} as exposed through a {@link MetricsMBean}.
+     */
+    void setExposed() {
+        exposed = true;
+    }
+
+    /**
+     * Add a {@link MetricsExporter} to which all metrics are exported on each report.
+     *
+     * @param exporter the {@link MetricsExporter}
+     */
+    public void addExporter(final MetricsExporter exporter) {
+        exporters.add(exporter);
+    }
+
+    /**
+     * Set the minimal interval between two reports.
+     *
+     * @param reportInterval the interval in milliseconds
+     */
+    public void setReportInterval(final long reportInterval) {
+        this.reportInterval = reportInterval;
+    }
+
+    /**
+     * Take the values of all metrics and export them to each {@link MetricsExporter}, if the report interval has
+     * elapsed since the previous report. This method is called on the JavaFX Application Thread, at the end of
+     * each frame. Nothing is done as long as these {@link Metrics} are not observed.
+     *
+     * @param timestamp the current time in milliseconds since the epoch
+     */
+    public void report(final long timestamp) {
+        if (!isObserved() || timestamp < nextReport) {
+            return;
+        }
+
+        nextReport = timestamp + reportInterval;
+
+        var values = Collections.unmodifiableMap(snapshot());
+        lastReport = values;
+        exporters.forEach(exporter -> exporter.export(timestamp, values));
+    }
+
+    /**
+     * Close all instances of {@link MetricsExporter}, after which they are removed.
+     */
+    public void close() {
+        exporters.forEach(MetricsExporter::close);
+        exporters.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import java.util.Map;
+
+/**
+ * A {@link MetricsExporter} writes the values of all {@link Metrics} to an external destination, such as a file.
+ */
+public interface MetricsExporter {
+
+    /**
+     * Export the given values.
+     *
+     * @param timestamp the time at which the values were taken, in milliseconds since the epoch
+     * @param values    a {@link Map} of the name of each metric to its value, sorted by name
+     */
+    void export(long timestamp, Map<String, Number> values);
+
+    /**
+     * Release all resources held by this {@link MetricsExporter}. After this method has been called, no more values
+     * will be exported.
+     */
+    default void close() {
+    }
+}
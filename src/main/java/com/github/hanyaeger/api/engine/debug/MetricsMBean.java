@@ -0,0 +1,121 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * A {@link MetricsMBean} exposes the {@link Metrics} as read-only attributes of a JMX MBean, so they can be
+ * inspected with tools such as JConsole or Java Mission Control while the game is running. Each metric is an
+ * attribute, of which the name is the name of the metric.
+ * <p>
+ * Since JMX is served by its own threads, the attributes are the values of the most recent report of the
+ * {@link Metrics}, which is made on the JavaFX Application Thread once per report interval.
+ */
+public class MetricsMBean implements DynamicMBean {
+
+    /**
+     * The name under which a {@link MetricsMBean} is registered.
+     */
+    public static final String OBJECT_NAME = "com.github.hanyaeger:type=Metrics";
+
+    private final Metrics metrics;
+
+    /**
+     * Create a new {@link MetricsMBean}.
+     *
+     * @param metrics the {@link Metrics} that should be exposed
+     */
+    public MetricsMBean(final Metrics metrics) {
+        this.metrics = metrics;
+        metrics.setExposed();
+    }
+
+    /**
+     * Register this {@link MetricsMBean} with the given {@link MBeanServer}, replacing any {@link MetricsMBean}
+     * registered earlier.
+     *
+     * @param server the {@link MBeanServer}
+     */
+    public void register(final MBeanServer server) {
+        try {
+            var name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            throw new YaegerEngineException(e);
+        }
+    }
+
+    /**
+     * Register this {@link MetricsMBean} with the platform {@link MBeanServer}.
+     */
+    public void register() {
+        register(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    @Override
+    public Object getAttribute(final String attribute) throws AttributeNotFoundException {
+        var value = metrics.getLastReport().get(attribute);
+
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void setAttribute(final Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("The attributes of a MetricsMBean are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(final String[] attributes) {
+        var values = metrics.getLastReport();
+        var list = new AttributeList();
+
+        for (var attribute : attributes) {
+            var value = values.get(attribute);
+            if (value != null) {
+                list.add(new Attribute(attribute, value));
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(final AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(final String actionName, final Object[] params, final String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName), "A MetricsMBean has no operations.");
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        var attributes = metrics.getLastReport().entrySet().stream()
+                .map(entry -> new MBeanAttributeInfo(entry.getKey(), entry.getValue().getClass().getName(),
+                        entry.getKey(), true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+
+        return new MBeanInfo(getClass().getName(), "Metrics of a Yaeger game", attributes, null,
+                new MBeanOperationInfo[0], null);
+    }
+}
@@ -6,6 +6,10 @@ import com.github.hanyaeger.api.engine.entities.EntityCollection;
 /**
  * A {@link StatisticsObserver} will function as the {@code Observer} from the Observable-pattern, for changes in
  * the {@link EntityCollectionStatistics}.
+ * <p>
+ * The observed {@link EntityCollection} does not notify its observers on each Game World Update, but samples its
+ * statistics at most once every {@link EntityCollection#STATISTICS_SAMPLING_INTERVAL}. As long as none of its
+ * observers is observing, no statistics are gathered at all.
  */
 @FunctionalInterface
 public interface StatisticsObserver {
@@ -17,4 +21,14 @@ public interface StatisticsObserver {
      *                   information regarding the observed {@link EntityCollection}.
      */
     void update(EntityCollectionStatistics statistics);
+
+    /**
+     * Whether this {@link StatisticsObserver} is currently interested in updates, for instance because it is
+     * visible. If not, {@link #update(EntityCollectionStatistics)} is not called.
+     *
+     * @return {@code true} by default
+     */
+    default boolean isObserving() {
+        return true;
+    }
 }
@@ -0,0 +1,56 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Timing} is a metric that records durations, such as the duration of a frame. It reports the number of
+ * recorded durations, their mean and their maximum. A duration can safely be recorded from any thread.
+ */
+public class Timing {
+
+    private static final double NANOSECONDS_PER_MILLISECOND = 1_000_000d;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a duration.
+     *
+     * @param nanoseconds the duration in nanoseconds
+     */
+    public void record(final long nanoseconds) {
+        count.increment();
+        total.add(nanoseconds);
+        max.accumulateAndGet(nanoseconds, Math::max);
+    }
+
+    /**
+     * Return the number of recorded durations.
+     *
+     * @return the number of durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Return the mean of all recorded durations.
+     *
+     * @return the mean in milliseconds, or {@code 0} if no durations were recorded
+     */
+    public double getMean() {
+        var recorded = count.sum();
+        return recorded == 0 ? 0 : total.sum() / NANOSECONDS_PER_MILLISECOND / recorded;
+    }
+
+    /**
+     * Return the longest recorded duration.
+     *
+     * @return the maximum in milliseconds
+     */
+    public double getMax() {
+        return max.get() / NANOSECONDS_PER_MILLISECOND;
+    }
+}
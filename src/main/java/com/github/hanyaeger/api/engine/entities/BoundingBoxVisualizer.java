@@ -37,7 +37,8 @@ class BoundingBoxVisualizer extends DynamicRectangleEntity implements UpdateExpo
 
     @Override
     public void explicitUpdate(long timestamp) {
-        setAnchorLocation(new Coordinate2D(yaegerEntity.getBoundingBox().getMinX(), yaegerEntity.getBoundingBox().getMinY()));
+        var boundingBox = yaegerEntity.getBoundingBox();
+        setAnchorLocation(new Coordinate2D(boundingBox.getMinX(), boundingBox.getMinY()));
         setWidth(yaegerEntity.getWidth());
         setHeight(yaegerEntity.getHeight());
     }
@@ -1,27 +1,44 @@
 package com.github.hanyaeger.api.engine.entities;
 
+import com.github.hanyaeger.api.engine.IndependentUpdatable;
 import com.github.hanyaeger.api.engine.Initializable;
+import com.github.hanyaeger.api.engine.ParallelUpdatable;
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
+import com.github.hanyaeger.api.engine.debug.Counter;
+import com.github.hanyaeger.api.engine.debug.FrameProfiler;
+import com.github.hanyaeger.api.engine.debug.Metrics;
 import com.github.hanyaeger.api.engine.debug.StatisticsObserver;
+import com.github.hanyaeger.api.engine.debug.Timing;
 import com.github.hanyaeger.api.engine.entities.entity.Removeable;
+import com.github.hanyaeger.api.engine.entities.entity.UpdateCounter;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.Collided;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
 import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionDelegate;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionStrategy;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
 import com.github.hanyaeger.api.engine.scenes.YaegerScene;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import com.github.hanyaeger.api.engine.entities.entity.events.EventTypes;
 import javafx.scene.layout.Pane;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * An {@link EntityCollection} encapsulates all behaviour related to all instances of {@link YaegerEntity} that are part of
@@ -29,7 +46,19 @@ import java.util.Set;
  */
 public class EntityCollection implements Initializable {
 
+    /**
+     * The minimal number of instances of {@link ParallelUpdatable} for which their Game World Update is performed in
+     * parallel. For fewer Entities, the overhead of distributing the work outweighs the gain.
+     */
+    public static final int PARALLEL_UPDATE_THRESHOLD = 64;
+
+    /**
+     * The minimal interval, in nanoseconds, between two notifications of the instances of {@link StatisticsObserver}.
+     */
+    public static final long STATISTICS_SAMPLING_INTERVAL = 250_000_000L;
+
     private final EntityCollectionStatistics statistics;
+    private final FrameProfiler profiler;
     private Injector injector;
     private final Pane pane;
     private final EntitySupplier boundingBoxes = new EntitySupplier();
@@ -38,12 +67,25 @@ public class EntityCollection implements Initializable {
     private final List<Updatable> updatables = new ArrayList<>();
     private final List<KeyListener> keyListeners = new ArrayList<>();
     private final List<Removeable> garbage = new ArrayList<>();
+    private final Set<YaegerEntity> recycled = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final SceneGraphBatch sceneGraphBatch = new SceneGraphBatch();
+    private final UpdateCounter updateCounter = new UpdateCounter();
+    private final List<YaegerEntity> parallelUpdatables = new ArrayList<>();
+    private boolean parallelUpdate = false;
+    private Optional<SpriteCanvas> spriteCanvas = Optional.empty();
 
     private final List<StatisticsObserver> statisticsObservers = new ArrayList<>();
 
     private final CollisionDelegate collisionDelegate;
     private AnnotationProcessor annotationProcessor;
     private YaegerConfig config;
+    private Metrics metrics;
+    private final Map<String, Supplier<? extends Number>> gauges = new LinkedHashMap<>();
+    private Counter suppliedEntities = new Counter();
+    private Counter candidatePairs = new Counter();
+    private Counter detectedCollisions = new Counter();
+    private Timing frames = new Timing();
+    private long nextStatisticsSample = Long.MIN_VALUE;
 
     /**
      * Instantiate an {@link EntityCollection} for a given {@link Group} and a {@link Set} of {@link YaegerEntity} instances.
@@ -54,8 +96,10 @@ public class EntityCollection implements Initializable {
     public EntityCollection(final Pane pane, final YaegerConfig config) {
         this.pane = pane;
         this.config = config;
-        this.collisionDelegate = new CollisionDelegate();
+        this.collisionDelegate = new CollisionDelegate(config.getCollisionCellSize());
         this.statistics = new EntityCollectionStatistics();
+        this.profiler = statistics.getFrameProfiler();
+        createGauges();
 
         if (config.isShowBoundingBox()) {
             registerSupplier(boundingBoxes);
@@ -109,11 +153,13 @@ public class EntityCollection implements Initializable {
     }
 
     /**
-     * Return the statistics related to this {@link EntityCollection}.
+     * Return the statistics related to this {@link EntityCollection}. The statistics are brought up to date before
+     * they are returned.
      *
      * @return An instance of {@link EntityCollectionStatistics}.
      */
     public EntityCollectionStatistics getStatistics() {
+        updateStatistics();
         return statistics;
     }
 
@@ -146,32 +192,191 @@ public class EntityCollection implements Initializable {
      * <b>Notify Statistics Observer</b> Notify all registered {@link StatisticsObserver}.
      * </li>
      * </ul>
+     * <p>
+     * The duration of each of these operations is recorded by the {@link FrameProfiler} of the
+     * {@link EntityCollectionStatistics}.
      *
      * @param timestamp the timestamp of the update
      */
     public void update(final long timestamp) {
+        updateCounter.increment();
+
+        var time = profiler.startPhase();
         collectGarbage();
+        time = profiler.record(FrameProfiler.Phase.GARBAGE, time);
 
+        if (parallelUpdate) {
+            updateInParallel(timestamp);
+        }
         updatables.forEach(updatable -> updatable.update(timestamp));
+        time = profiler.record(FrameProfiler.Phase.UPDATABLES, time);
+
         collisionDelegate.checkCollisions();
+        candidatePairs.add(collisionDelegate.getCandidatePairs());
+        detectedCollisions.add(collisionDelegate.getDetectedCollisions());
+        time = profiler.record(FrameProfiler.Phase.COLLISIONS, time);
 
         addSuppliedEntities();
-        updateStatistics();
-        notifyStatisticsObservers();
+        sceneGraphBatch.apply(pane.getChildren());
+        time = profiler.record(FrameProfiler.Phase.SUPPLIERS, time);
+
+        if (timestamp >= nextStatisticsSample && isObserved()) {
+            nextStatisticsSample = timestamp + STATISTICS_SAMPLING_INTERVAL;
+            notifyStatisticsObservers();
+        }
+        profiler.record(FrameProfiler.Phase.STATISTICS, time);
+    }
+
+    /**
+     * Start measuring a new frame with the {@link FrameProfiler} of this {@link EntityCollection}. This method should
+     * be called at the start of each frame, before the Game World Update. The {@link FrameProfiler} is only enabled
+     * while an observing {@link StatisticsObserver}, such as the visible
+     * {@link com.github.hanyaeger.api.engine.debug.Debugger}, or observed {@link Metrics} use its results.
+     *
+     * @param timestamp the timestamp of the frame
+     */
+    public void startFrame(final long timestamp) {
+        profiler.setEnabled(isObserved() || (metrics != null && metrics.isObserved()));
+        profiler.startFrame(timestamp);
+    }
+
+    /**
+     * Stop measuring the current frame with the {@link FrameProfiler} of this {@link EntityCollection}. This method
+     * should be called at the end of each frame, after {@link #render()}. The duration of the frame is also recorded
+     * by the {@link Metrics}, after which they are given the opportunity to report.
+     */
+    public void endFrame() {
+        if (profiler.isEnabled()) {
+            frames.record(profiler.endFrame());
+        }
+        if (metrics != null) {
+            metrics.report(System.currentTimeMillis());
+        }
     }
 
     public void initialUpdate() {
         addSuppliedEntities();
+        sceneGraphBatch.apply(pane.getChildren());
+        render();
+    }
+
+    /**
+     * Draw all instances of {@link SpriteEntity} that are rendered onto a {@link Canvas}. This method should be
+     * called once per frame, after the Game World Update and the interpolation have been performed, and has no
+     * effect if {@link #enableCanvasRendering()} has not been called.
+     */
+    public void render() {
+        var time = profiler.startPhase();
+        spriteCanvas.ifPresent(SpriteCanvas::render);
+        profiler.record(FrameProfiler.Phase.RENDER, time);
+    }
+
+    /**
+     * Render all instances of {@link SpriteEntity} that are added from now on, onto a single {@link Canvas} instead
+     * of adding their {@link ImageView} to the scene graph. The {@link Canvas} covers the entire {@link Pane} and is
+     * placed below all Entities that are added afterwards.
+     */
+    public void enableCanvasRendering() {
+        if (spriteCanvas.isPresent()) {
+            return;
+        }
+
+        var canvas = new Canvas();
+        canvas.setManaged(false);
+        canvas.setMouseTransparent(true);
+        canvas.widthProperty().bind(pane.widthProperty());
+        canvas.heightProperty().bind(pane.heightProperty());
+
+        spriteCanvas = Optional.of(new SpriteCanvas(canvas));
+        sceneGraphBatch.add(canvas);
+    }
+
+    /**
+     * Perform the Game World Update of all instances of {@link ParallelUpdatable} in parallel, using the common
+     * {@link java.util.concurrent.ForkJoinPool}. Only the instances of {@link IndependentUpdatable} with which their
+     * {@link com.github.hanyaeger.api.engine.Updater} starts are updated, while the changes to their Nodes are
+     * deferred. Those changes are then applied on the current thread, after which the remainder of their Game World
+     * Update is performed sequentially.
+     * <p>
+     * Below the {@link #PARALLEL_UPDATE_THRESHOLD} the same steps are performed on the current thread, so the order
+     * in which the instances of {@link Updatable} are updated does not depend on the number of Entities.
+     */
+    private void updateInParallel(final long timestamp) {
+        for (final Updatable updatable : updatables) {
+            if (updatable instanceof ParallelUpdatable && updatable instanceof YaegerEntity) {
+                parallelUpdatables.add((YaegerEntity) updatable);
+            }
+        }
+
+        var entities = parallelUpdatables.size() < PARALLEL_UPDATE_THRESHOLD
+                ? parallelUpdatables.stream()
+                : parallelUpdatables.parallelStream();
+
+        try {
+            entities.forEach(yaegerEntity -> {
+                yaegerEntity.deferNodeChanges();
+                ((ParallelUpdatable) yaegerEntity).getUpdater().updateIndependentUpdatables(timestamp);
+            });
+        } finally {
+            parallelUpdatables.forEach(YaegerEntity::commitNodeChanges);
+            parallelUpdatables.clear();
+        }
     }
 
     /**
-     * Clear this {@link EntityCollection}.
+     * Enable or disable parallel Game World Updates for all instances of {@link ParallelUpdatable}.
+     *
+     * @param parallelUpdate {@code true} to enable parallel Game World Updates
+     */
+    public void setParallelUpdate(final boolean parallelUpdate) {
+        this.parallelUpdate = parallelUpdate;
+    }
+
+    /**
+     * Store the current anchor location of all dynamic Entities, so their rendered location can be interpolated
+     * between this location and the location after the next Game World Update. Since the Entities are first placed
+     * back on their actual anchor location, the Game World Update is never influenced by the interpolation.
+     */
+    public void storePreviousLocations() {
+        for (final Updatable updatable : updatables) {
+            if (updatable instanceof YaegerEntity) {
+                var yaegerEntity = (YaegerEntity) updatable;
+                yaegerEntity.resetInterpolation();
+                yaegerEntity.storePreviousAnchorLocation();
+            }
+        }
+    }
+
+    /**
+     * Render all dynamic Entities on a location between their previously stored anchor location and their current
+     * anchor location.
+     *
+     * @param alpha a value between {@code 0} and {@code 1}, where {@code 0} renders the Entities on their previous
+     *              anchor location and {@code 1} on their current anchor location
+     */
+    public void interpolate(final double alpha) {
+        for (final Updatable updatable : updatables) {
+            if (updatable instanceof YaegerEntity) {
+                ((YaegerEntity) updatable).interpolateAnchorLocation(alpha);
+            }
+        }
+    }
+
+    /**
+     * Clear this {@link EntityCollection}. Its gauges are removed from the {@link Metrics}, since they would
+     * otherwise keep reporting on a {@link YaegerScene} that is no longer active.
      */
     public void clear() {
+        if (metrics != null) {
+            gauges.forEach(metrics::removeGauge);
+        }
         clearSuppliers();
         statics.clear();
         updatables.clear();
         garbage.clear();
+        recycled.clear();
+        sceneGraphBatch.clear();
+        spriteCanvas.ifPresent(SpriteCanvas::clear);
         keyListeners.clear();
     }
 
@@ -180,8 +385,25 @@ public class EntityCollection implements Initializable {
         suppliers.clear();
     }
 
+    private boolean isObserved() {
+        for (var i = 0; i < statisticsObservers.size(); i++) {
+            if (statisticsObservers.get(i).isObserving()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private void notifyStatisticsObservers() {
-        statisticsObservers.forEach(statisticsObserver -> statisticsObserver.update(statistics));
+        updateStatistics();
+
+        for (var i = 0; i < statisticsObservers.size(); i++) {
+            var statisticsObserver = statisticsObservers.get(i);
+            if (statisticsObserver.isObserving()) {
+                statisticsObserver.update(statistics);
+            }
+        }
     }
 
     private void collectGarbage() {
@@ -189,15 +411,29 @@ public class EntityCollection implements Initializable {
             return;
         }
 
-        garbage.forEach(this::removeGameObject);
-        statics.removeAll(garbage);
-        updatables.removeAll(garbage);
+        // Identity based lookups ensure each collection is traversed only once, regardless of the amount of garbage
+        Set<Removeable> removed = Collections.newSetFromMap(new IdentityHashMap<>(garbage.size() * 2));
+        removed.addAll(garbage);
         garbage.clear();
+
+        removed.forEach(this::removeFromParentNode);
+        statics.removeIf(removed::contains);
+        updatables.removeIf(removed::contains);
+        collisionDelegate.removeAll(removed);
+        removed.forEach(this::recycle);
     }
 
-    private void removeGameObject(final Removeable entity) {
-        this.pane.getChildren().remove(entity.getNode());
-        this.collisionDelegate.remove(entity);
+    private void recycle(final Removeable entity) {
+        if (entity instanceof YaegerEntity) {
+            var yaegerEntity = (YaegerEntity) entity;
+            yaegerEntity.getPool().ifPresent(pool -> {
+                if (pool.release(yaegerEntity)) {
+                    recycled.add(yaegerEntity);
+                } else {
+                    recycled.remove(yaegerEntity);
+                }
+            });
+        }
     }
 
     private void addSuppliedEntities() {
@@ -206,10 +442,30 @@ public class EntityCollection implements Initializable {
         }
     }
 
+    private void createGauges() {
+        gauges.put("entities.updatables", updatables::size);
+        gauges.put("entities.statics", statics::size);
+        gauges.put("entities.garbage", garbage::size);
+        gauges.put("entities.keylisteners", keyListeners::size);
+        gauges.put("entities.suppliers", suppliers::size);
+        gauges.put("frame.fps", profiler::getFramesPerSecond);
+        gauges.put("frame.p50", () -> profiler.getPercentile(FrameProfiler.Phase.FRAME, 50));
+        gauges.put("frame.p99", () -> profiler.getPercentile(FrameProfiler.Phase.FRAME, 99));
+        gauges.put("frame.allocated", profiler::getAllocatedBytesPerFrame);
+    }
+
     private void initialize(final YaegerEntity entity) {
+        suppliedEntities.increment();
+
+        if (recycled.remove(entity)) {
+            reactivate(entity);
+            return;
+        }
+
         entity.beforeInitialize();
 
         entity.applyEntityProcessor(yaegerEntity -> injector.injectMembers(yaegerEntity));
+        entity.applyEntityProcessor(yaegerEntity -> yaegerEntity.setUpdateCounter(updateCounter));
         entity.init(injector);
         entity.applyEntityProcessor(yaegerEntity -> annotationProcessor.invokeActivators(yaegerEntity));
 
@@ -219,18 +475,63 @@ public class EntityCollection implements Initializable {
         entity.applyTranslationsForAnchorPoint();
 
         entity.applyEntityProcessor(this::registerKeylistener);
-        entity.applyEntityProcessor(this::registerCollider);
+        var isStatic = !(entity instanceof Updatable);
+        entity.applyEntityProcessor(yaegerEntity -> registerCollider(yaegerEntity, isStatic && !(yaegerEntity instanceof Updatable)));
         entity.addToParent(this::addToParentNode);
     }
 
-    private void registerCollider(final YaegerEntity yaegerEntity) {
-        var collider = collisionDelegate.register(yaegerEntity);
+    /**
+     * A {@link YaegerEntity} that was recycled by an {@link EntityPool} has already been injected, initialized and
+     * activated by this {@link EntityCollection}. Only what was undone by the garbage collection is redone. Since the
+     * garbage collection also removed the children of a {@link com.github.hanyaeger.api.engine.entities.entity.CompositeEntity},
+     * they are reactivated as well. Only the {@link Node} of the recycled {@link YaegerEntity} itself is made visible
+     * again, since {@link YaegerEntity#remove()} only hides that {@link Node}, so children that were hidden by the game
+     * remain hidden.
+     */
+    private void reactivate(final YaegerEntity entity) {
+        entity.applyEntityProcessor(yaegerEntity -> {
+            if (yaegerEntity instanceof Updatable) {
+                updatables.add((Updatable) yaegerEntity);
+            } else {
+                statics.add(yaegerEntity);
+            }
+        });
+        entity.setVisible(true);
+
+        entity.transferCoordinatesToNode();
+        entity.applyTranslationsForAnchorPoint();
+        entity.resetInterpolation();
+        entity.storePreviousAnchorLocation();
+
+        var isStatic = !(entity instanceof Updatable);
+        entity.applyEntityProcessor(yaegerEntity -> registerCollider(yaegerEntity, isStatic && !(yaegerEntity instanceof Updatable)));
+
+        // The Nodes of any children are still part of the Node of the recycled YaegerEntity
+        addToParentNode(entity);
+    }
+
+    private void registerCollider(final YaegerEntity yaegerEntity, final boolean isStatic) {
+        var collider = collisionDelegate.register(yaegerEntity, isStatic);
 
         if (collider && config.isShowBoundingBox()) {
             boundingBoxes.add(new BoundingBoxVisualizer(yaegerEntity));
         }
     }
 
+    /**
+     * Set the {@link CollisionStrategy} that should be used for detecting collisions between the Entities
+     * of this {@link EntityCollection}.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public void setCollisionStrategy(final CollisionStrategy collisionStrategy) {
+        collisionDelegate.setCollisionStrategy(collisionStrategy);
+    }
+
+    CollisionDelegate getCollisionDelegate() {
+        return collisionDelegate;
+    }
+
     /**
      * Add a Dynamic Entity to this {@link EntityCollection}. By definition, a Dynamic Entity
      * will implement the {@link Updatable} interface.
@@ -259,7 +560,24 @@ public class EntityCollection implements Initializable {
     }
 
     private void addToParentNode(final YaegerEntity entity) {
-        this.pane.getChildren().add(entity.getNode().get());
+        var node = entity.getNode().get();
+
+        if (spriteCanvas.isPresent() && entity instanceof SpriteEntity) {
+            ((SpriteEntity) entity).setCanvas(spriteCanvas.get().getCanvas());
+            spriteCanvas.get().add((ImageView) node);
+        } else {
+            sceneGraphBatch.add(node);
+        }
+    }
+
+    private void removeFromParentNode(final Removeable removeable) {
+        removeable.getNode().ifPresent(node -> {
+            if (spriteCanvas.isPresent() && removeable instanceof SpriteEntity) {
+                spriteCanvas.get().remove((ImageView) node);
+            } else {
+                sceneGraphBatch.remove(node);
+            }
+        });
     }
 
     private void updateStatistics() {
@@ -275,6 +593,25 @@ public class EntityCollection implements Initializable {
         this.injector = injector;
     }
 
+    /**
+     * Set the {@link Metrics} to which this {@link EntityCollection} reports the number of Entities, the number of
+     * collisions and the duration of each frame. Its gauges replace those of any {@link EntityCollection} that
+     * was registered before, so the {@link Metrics} always report on the active {@link YaegerScene}.
+     *
+     * @param metrics the {@link Metrics} that should be used
+     */
+    @Inject
+    public void setMetrics(final Metrics metrics) {
+        this.metrics = metrics;
+
+        suppliedEntities = metrics.counter("entities.supplied");
+        candidatePairs = metrics.counter("collisions.candidates");
+        detectedCollisions = metrics.counter("collisions.detected");
+        frames = metrics.timing("frame");
+
+        gauges.forEach(metrics::gauge);
+    }
+
     @Inject
     public void setAnnotationProcessor(final AnnotationProcessor annotationProcessor) {
         this.annotationProcessor = annotationProcessor;
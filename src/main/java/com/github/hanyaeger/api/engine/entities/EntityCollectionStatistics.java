@@ -1,5 +1,7 @@
 package com.github.hanyaeger.api.engine.entities;
 
+import com.github.hanyaeger.api.engine.debug.FrameProfiler;
+
 /**
  * An {@code EntityCollectionStatistics} is a DTO (Data Transfer Object) that contains
  * all current values from an {@link EntityCollection}.
@@ -11,6 +13,7 @@ public class EntityCollectionStatistics {
     private int keyListeners;
     private int garbage;
     private int statics;
+    private final FrameProfiler frameProfiler = new FrameProfiler();
 
     public void setSuppliers(final int spawners) {
         this.spawners = spawners;
@@ -51,4 +54,14 @@ public class EntityCollectionStatistics {
     public int getGarbage() {
         return garbage;
     }
+
+    /**
+     * Return the {@link FrameProfiler} that measures the duration of the phases of each frame of the
+     * {@link EntityCollection}.
+     *
+     * @return the {@link FrameProfiler}
+     */
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
 }
@@ -0,0 +1,136 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An {@link EntityPool} recycles instances of {@link YaegerEntity} that are spawned and removed often, such as
+ * bullets. Instead of creating a new {@link YaegerEntity} for each spawn, use {@link #obtain()} and spawn the
+ * returned {@link YaegerEntity} as usual. When that {@link YaegerEntity} is removed, it is returned to this
+ * {@link EntityPool} instead of being discarded, so its JavaFX Node, injected members and annotated methods are
+ * reused on the next spawn.
+ * <p>
+ * A recycled {@link YaegerEntity} keeps its state, such as its speed and direction. Use the reset hook, passed
+ * through the constructor, to reset that state when the {@link YaegerEntity} is returned to this {@link EntityPool},
+ * and set the new location and motion after calling {@link #obtain()}.
+ * <p>
+ * An {@link EntityPool} should only be used to spawn Entities into a single
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+ *
+ * @param <T> the type of {@link YaegerEntity} contained by this {@link EntityPool}
+ */
+public class EntityPool<T extends YaegerEntity> {
+
+    /**
+     * The default maximum number of instances of {@link YaegerEntity} that are retained by an {@link EntityPool}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final Supplier<T> factory;
+    private final Consumer<T> resetter;
+    private final int maximumSize;
+
+    private final Deque<T> available = new ArrayDeque<>();
+    private final Set<T> availableSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Create a new {@link EntityPool} without a reset hook and with the {@link #DEFAULT_MAXIMUM_SIZE}.
+     *
+     * @param factory the {@link Supplier} that creates a new {@link YaegerEntity} when this {@link EntityPool}
+     *                is empty
+     */
+    public EntityPool(final Supplier<T> factory) {
+        this(factory, entity -> {
+        });
+    }
+
+    /**
+     * Create a new {@link EntityPool} with the {@link #DEFAULT_MAXIMUM_SIZE}.
+     *
+     * @param factory  the {@link Supplier} that creates a new {@link YaegerEntity} when this {@link EntityPool}
+     *                 is empty
+     * @param resetter the reset hook that is called for each {@link YaegerEntity} that is returned to this
+     *                 {@link EntityPool}
+     */
+    public EntityPool(final Supplier<T> factory, final Consumer<T> resetter) {
+        this(factory, resetter, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a new {@link EntityPool}.
+     *
+     * @param factory     the {@link Supplier} that creates a new {@link YaegerEntity} when this {@link EntityPool}
+     *                    is empty
+     * @param resetter    the reset hook that is called for each {@link YaegerEntity} that is returned to this
+     *                    {@link EntityPool}
+     * @param maximumSize the maximum number of instances of {@link YaegerEntity} retained by this {@link EntityPool}.
+     *                    Entities that are returned while this {@link EntityPool} is full, are discarded.
+     */
+    public EntityPool(final Supplier<T> factory, final Consumer<T> resetter, final int maximumSize) {
+        this.factory = factory;
+        this.resetter = resetter;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Return a recycled {@link YaegerEntity}, or a new one if none is available. The returned {@link YaegerEntity}
+     * should be spawned as usual.
+     *
+     * @return a {@link YaegerEntity} of type {@code T}
+     */
+    public T obtain() {
+        var entity = available.pollLast();
+
+        if (entity == null) {
+            entity = factory.get();
+            entity.setPool(this);
+        } else {
+            availableSet.remove(entity);
+        }
+
+        return entity;
+    }
+
+    /**
+     * Return the number of instances of {@link YaegerEntity} that are available for recycling.
+     *
+     * @return the number of available Entities
+     */
+    public int size() {
+        return available.size();
+    }
+
+    /**
+     * Return a removed {@link YaegerEntity} to this {@link EntityPool}. This method is called by the
+     * {@link EntityCollection} after the {@link YaegerEntity} has been removed from the
+     * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     *
+     * @param yaegerEntity the {@link YaegerEntity} that was removed
+     * @return {@code true} if the {@link YaegerEntity} is retained for recycling, {@code false} if it was discarded
+     */
+    @SuppressWarnings("unchecked")
+    boolean release(final YaegerEntity yaegerEntity) {
+        var entity = (T) yaegerEntity;
+
+        if (availableSet.contains(entity)) {
+            return true;
+        }
+
+        resetter.accept(entity);
+
+        if (available.size() >= maximumSize) {
+            return false;
+        }
+
+        available.addLast(entity);
+        availableSet.add(entity);
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link SceneGraphBatch} collects the instances of {@link Node} that should be added to, or removed from, the
+ * children of a parent {@link Node} during a single Game World Update. Each change to the children of a parent fires
+ * its own list change events and marks the parent as dirty, so all collected changes are applied at once through
+ * {@link #apply(ObservableList)}.
+ */
+class SceneGraphBatch {
+
+    private final List<Node> additions = new ArrayList<>();
+    private final Set<Node> removals = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Add a {@link Node} to the children of the parent on the next call to {@link #apply(ObservableList)}.
+     *
+     * @param node the {@link Node} to be added
+     */
+    void add(final Node node) {
+        additions.add(node);
+    }
+
+    /**
+     * Remove a {@link Node} from the children of the parent on the next call to {@link #apply(ObservableList)}.
+     *
+     * @param node the {@link Node} to be removed
+     */
+    void remove(final Node node) {
+        removals.add(node);
+    }
+
+    /**
+     * Apply all collected changes to the given children. Removals are applied before additions, so a {@link Node}
+     * that was removed and added again during the same Game World Update, ends up on top of the others.
+     * <p>
+     * The collections that hold the changes are reused for the next Game World Update, so applying the changes does
+     * not allocate any new collections.
+     *
+     * @param children the children of the parent {@link Node}
+     */
+    void apply(final ObservableList<Node> children) {
+        if (!removals.isEmpty()) {
+            if (containsAll(children)) {
+                // Clearing the children is far cheaper than removing one large range from them
+                children.clear();
+            } else {
+                children.removeAll(removals);
+            }
+            removals.clear();
+        }
+
+        if (!additions.isEmpty()) {
+            children.addAll(additions);
+            additions.clear();
+        }
+    }
+
+    /**
+     * Discard all collected changes.
+     */
+    void clear() {
+        additions.clear();
+        removals.clear();
+    }
+
+    private boolean containsAll(final ObservableList<Node> children) {
+        if (children.size() > removals.size()) {
+            return false;
+        }
+
+        for (var i = 0; i < children.size(); i++) {
+            if (!removals.contains(children.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
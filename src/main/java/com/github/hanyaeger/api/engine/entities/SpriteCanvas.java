@@ -0,0 +1,143 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link SpriteCanvas} draws the instances of {@link ImageView} of many sprites onto a single {@link Canvas},
+ * instead of adding each of them to the scene graph. The {@link ImageView} is still used to store the image,
+ * viewport, location, rotation, opacity and visibility of the sprite, so a sprite behaves the same regardless of how
+ * it is rendered, but it is never added to a parent.
+ * <p>
+ * Sprites are drawn in the order in which they were added. Since the
+ * {@link com.github.hanyaeger.api.engine.media.repositories.ImageRepository} returns the same image for sprites with
+ * the same resource and size, all those sprites are drawn from a single texture.
+ */
+class SpriteCanvas {
+
+    private final Canvas canvas;
+    private final List<ImageView> sprites = new ArrayList<>();
+    private Set<ImageView> removals = createRemovals();
+
+    /**
+     * Create a new {@link SpriteCanvas}.
+     *
+     * @param canvas the {@link Canvas} onto which the sprites should be drawn
+     */
+    SpriteCanvas(final Canvas canvas) {
+        this.canvas = canvas;
+    }
+
+    /**
+     * Return the {@link Canvas} onto which the sprites are drawn.
+     *
+     * @return the {@link Canvas}
+     */
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Draw the given {@link ImageView} on each call to {@link #render()}.
+     *
+     * @param imageView the {@link ImageView} to be drawn
+     */
+    void add(final ImageView imageView) {
+        sprites.add(imageView);
+    }
+
+    /**
+     * Stop drawing the given {@link ImageView}. The removal is applied on the next call to {@link #render()}, so all
+     * sprites that are removed during a single Game World Update are removed at once.
+     *
+     * @param imageView the {@link ImageView} to be removed
+     */
+    void remove(final ImageView imageView) {
+        removals.add(imageView);
+    }
+
+    /**
+     * Return the number of sprites that are drawn by this {@link SpriteCanvas}.
+     *
+     * @return the number of sprites
+     */
+    int size() {
+        return sprites.size();
+    }
+
+    /**
+     * Clear the {@link Canvas} and draw all sprites.
+     */
+    void render() {
+        if (!removals.isEmpty()) {
+            sprites.removeIf(removals::contains);
+            removals = createRemovals();
+        }
+
+        var gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        for (final ImageView sprite : sprites) {
+            draw(gc, sprite);
+        }
+    }
+
+    /**
+     * Discard all sprites.
+     */
+    void clear() {
+        sprites.clear();
+        removals.clear();
+    }
+
+    private void draw(final GraphicsContext gc, final ImageView sprite) {
+        var image = sprite.getImage();
+        if (image == null || !sprite.isVisible() || sprite.getOpacity() <= 0) {
+            return;
+        }
+
+        double sourceX = 0;
+        double sourceY = 0;
+        double width = image.getWidth();
+        double height = image.getHeight();
+
+        Rectangle2D viewport = sprite.getViewport();
+        if (viewport != null) {
+            sourceX = viewport.getMinX();
+            sourceY = viewport.getMinY();
+            width = viewport.getWidth();
+            height = viewport.getHeight();
+        }
+
+        var x = sprite.getX() + sprite.getLayoutX() + sprite.getTranslateX();
+        var y = sprite.getY() + sprite.getLayoutY() + sprite.getTranslateY();
+        var opacity = sprite.getOpacity();
+        var rotation = sprite.getRotate();
+
+        if (rotation == 0 && opacity == 1) {
+            gc.drawImage(image, sourceX, sourceY, width, height, x, y, width, height);
+            return;
+        }
+
+        // Only rotated or translucent sprites require the state of the GraphicsContext to be changed. Just like a
+        // Node, a sprite is rotated around its center.
+        gc.save();
+        gc.setGlobalAlpha(opacity);
+        gc.translate(x + width / 2, y + height / 2);
+        gc.rotate(rotation);
+        gc.drawImage(image, sourceX, sourceY, width, height, -width / 2, -height / 2, width, height);
+        gc.restore();
+    }
+
+    private static Set<ImageView> createRemovals() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
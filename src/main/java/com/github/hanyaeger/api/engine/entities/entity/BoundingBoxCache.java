@@ -0,0 +1,113 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+import javafx.geometry.Bounds;
+
+/**
+ * A {@link BoundingBoxCache} retains the BoundingBox of a {@link YaegerEntity}, so it only has to be calculated
+ * once per Game World Update. The cached BoundingBox becomes invalid when the {@link YaegerEntity} is moved, rotated
+ * or resized, or when its {@link UpdateCounter} marks the start of a new Game World Update. The same holds for the
+ * {@link com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry} of the {@link YaegerEntity},
+ * of which only the validity is tracked.
+ * <p>
+ * Since the BoundingBox of a {@link CompositeEntity} encloses those of its children, invalidating the
+ * {@link BoundingBoxCache} of a child also invalidates that of its parent.
+ */
+public final class BoundingBoxCache {
+
+    private static final UpdateCounter DETACHED = new UpdateCounter();
+
+    private UpdateCounter updates = DETACHED;
+    private BoundingBoxCache parent;
+
+    private Bounds boundingBox;
+    private long update;
+    private boolean geometryValid;
+    private long geometryUpdate;
+
+    /**
+     * Create a new and empty {@link BoundingBoxCache}.
+     */
+    BoundingBoxCache() {
+        // Only used by YaegerEntity
+    }
+
+    /**
+     * Set the {@link UpdateCounter} of the {@link com.github.hanyaeger.api.engine.entities.EntityCollection} to which
+     * the {@link YaegerEntity} belongs.
+     *
+     * @param updates the {@link UpdateCounter}
+     */
+    void setUpdateCounter(final UpdateCounter updates) {
+        this.updates = updates;
+        invalidate();
+    }
+
+    /**
+     * Set the {@link BoundingBoxCache} of the {@link CompositeEntity} of which the {@link YaegerEntity} is a child.
+     *
+     * @param parent the {@link BoundingBoxCache} of the parent
+     */
+    void setParent(final BoundingBoxCache parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Return whether this {@link BoundingBoxCache} contains a BoundingBox that is still valid.
+     *
+     * @return {@code true} if the cached BoundingBox can be used, {@code false} otherwise
+     */
+    boolean isValid() {
+        return boundingBox != null && update == updates.get();
+    }
+
+    /**
+     * Return the cached BoundingBox.
+     *
+     * @return the cached BoundingBox as {@link Bounds}, or {@code null} if none has been set
+     */
+    Bounds get() {
+        return boundingBox;
+    }
+
+    /**
+     * Set the BoundingBox that should be cached for the current Game World Update.
+     *
+     * @param boundingBox the BoundingBox as {@link Bounds}
+     */
+    void set(final Bounds boundingBox) {
+        this.boundingBox = boundingBox;
+        this.update = updates.get();
+    }
+
+    /**
+     * Return whether the {@link com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry} of the
+     * {@link YaegerEntity} is still valid.
+     *
+     * @return {@code true} if the geometry can be used, {@code false} if it should be recalculated
+     */
+    boolean isGeometryValid() {
+        return geometryValid && geometryUpdate == updates.get();
+    }
+
+    /**
+     * Mark the {@link com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry} of the
+     * {@link YaegerEntity} as valid for the current Game World Update.
+     */
+    void setGeometryValid() {
+        geometryValid = true;
+        geometryUpdate = updates.get();
+    }
+
+    /**
+     * Invalidate the cached BoundingBox and geometry, so they will be recalculated when they are needed, together
+     * with those of the parent.
+     */
+    void invalidate() {
+        boundingBox = null;
+        geometryValid = false;
+
+        if (parent != null) {
+            parent.invalidate();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+/**
+ * A {@link BoundsChangeListener} is notified whenever the BoundingBox of a {@link YaegerEntity} might have
+ * changed. This is the case when it is moved, rotated, resized or when its {@link AnchorPoint} is changed.
+ */
+@FunctionalInterface
+public interface BoundsChangeListener {
+
+    /**
+     * Called when the BoundingBox of the given {@link YaegerEntity} might have changed. Note that this method
+     * can be called before the change has been applied to the {@link javafx.scene.Node} of the {@link YaegerEntity},
+     * so the BoundingBox itself should only be read at a later moment.
+     *
+     * @param entity the {@link YaegerEntity} of which the BoundingBox might have changed
+     */
+    void onBoundsChange(final YaegerEntity entity);
+}
@@ -46,6 +46,7 @@ public abstract class CompositeEntity extends YaegerEntity {
 
     List<YaegerEntity> entities = new ArrayList<>();
     List<Removeable> garbage = new ArrayList<>();
+    List<YaegerEntity> hiddenByRemove = new ArrayList<>();
     Optional<Group> group = Optional.empty();
 
     public CompositeEntity(final Coordinate2D initialLocation) {
@@ -62,6 +63,7 @@ public abstract class CompositeEntity extends YaegerEntity {
      * @param yaegerEntity The {@link YaegerEntity} to be added.
      */
     protected void addEntity(final YaegerEntity yaegerEntity) {
+        yaegerEntity.setParent(this);
         entities.add(yaegerEntity);
     }
 
@@ -109,8 +111,12 @@ public abstract class CompositeEntity extends YaegerEntity {
      */
     @Override
     public void addToParent(final EntityProcessor processor) {
-        // First delegate the toParent call to all child Entities
-        entities.forEach(yaegerEntity -> yaegerEntity.addToParent(entity -> addToParentNode(entity)));
+        // First delegate the toParent call to all child Entities, and add their Nodes to the Group at once
+        var childNodes = new ArrayList<Node>(entities.size());
+        entities.forEach(yaegerEntity -> yaegerEntity.addToParent(entity -> entity.getNode().ifPresent(childNodes::add)));
+        if (!childNodes.isEmpty()) {
+            group.ifPresent(group -> group.getChildren().addAll(childNodes));
+        }
 
         // After all child Entities have been added themself to this parent, add this to its own parent
         super.addToParent(processor);
@@ -123,12 +129,48 @@ public abstract class CompositeEntity extends YaegerEntity {
     public void setAnchorLocation(final Coordinate2D anchorLocation) {
         super.setAnchorLocation(anchorLocation);
 
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
         group.ifPresent(group -> {
             group.setLayoutX(anchorLocation.getX());
             group.setLayoutY(anchorLocation.getY());
         });
     }
 
+    /**
+     * Since the location of all child Entities within the {@link javafx.scene.Scene} depends on the location of this
+     * {@link CompositeEntity}, they are notified as well.
+     */
+    @Override
+    protected void notifyBoundsChange() {
+        super.notifyBoundsChange();
+
+        entities.forEach(YaegerEntity::notifyBoundsChange);
+    }
+
+    @Override
+    void invalidateBoundingBox() {
+        super.invalidateBoundingBox();
+
+        entities.forEach(YaegerEntity::invalidateBoundingBox);
+    }
+
+    /**
+     * The {@link Group} of a {@link CompositeEntity} is placed through its layout, so the offset is added to the
+     * anchor location.
+     */
+    @Override
+    protected void applyInterpolationOffset(final double x, final double y) {
+        invalidateBoundingBox();
+
+        group.ifPresent(group -> {
+            group.setLayoutX(getAnchorLocation().getX() + x);
+            group.setLayoutY(getAnchorLocation().getY() + y);
+        });
+    }
+
     @Override
     public Optional<Node> getNode() {
         if (group.isPresent()) {
@@ -167,11 +209,37 @@ public abstract class CompositeEntity extends YaegerEntity {
 
     @Override
     public void remove() {
-        entities.forEach(yaegerEntity -> yaegerEntity.remove());
+        entities.forEach(yaegerEntity -> {
+            if (yaegerEntity.isVisible()) {
+                hiddenByRemove.add(yaegerEntity);
+            }
+            yaegerEntity.remove();
+        });
+
+        // The children are removed along with this CompositeEntity, but remain its children if it is recycled
+        garbage.clear();
 
         super.remove();
     }
 
+    /**
+     * Change the visibility of this {@link CompositeEntity}. When it is made visible again after it has been
+     * removed, for instance because it is recycled by an {@link com.github.hanyaeger.api.engine.entities.EntityPool},
+     * the children that were hidden by {@link #remove()} are made visible as well. Children that were already hidden
+     * before, remain hidden.
+     *
+     * @param visible a {@code boolean} repesenting the visibility if the {@link CompositeEntity}
+     */
+    @Override
+    public void setVisible(final boolean visible) {
+        super.setVisible(visible);
+
+        if (visible) {
+            hiddenByRemove.forEach(yaegerEntity -> yaegerEntity.setVisible(true));
+            hiddenByRemove.clear();
+        }
+    }
+
     private void handleEvent(final EventHandler eventHandler, final Event event, final YaegerEntity yaegerEntity) {
         eventHandler.handle(event);
 
@@ -179,8 +247,4 @@ public abstract class CompositeEntity extends YaegerEntity {
             garbage.add(yaegerEntity);
         }
     }
-
-    private void addToParentNode(final YaegerEntity entity) {
-        group.ifPresent(group -> entity.getNode().ifPresent(node -> group.getChildren().add(node)));
-    }
 }
@@ -6,8 +6,12 @@ import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.entity.motion.*;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import javafx.scene.Node;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * When a group of Entities are combined to create a single Entity, they are
@@ -69,12 +73,16 @@ public abstract class DynamicCompositeEntity extends CompositeEntity implements
             return;
         }
 
-        group.ifPresent(groupNode -> garbage.forEach(yaegerEntity ->
-                groupNode.getChildren().remove(yaegerEntity.getNode())
-        ));
-
-        entities.removeAll(garbage);
+        Set<Removeable> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(garbage);
         garbage.clear();
+
+        Set<Node> removedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.forEach(removeable -> removeable.getNode().ifPresent(removedNodes::add));
+
+        // A single change to the children of the Group, instead of one for each removed child Entity
+        group.ifPresent(groupNode -> groupNode.getChildren().removeAll(removedNodes));
+        entities.removeIf(removed::contains);
     }
 
     @Override
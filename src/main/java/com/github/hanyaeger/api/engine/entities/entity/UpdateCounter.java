@@ -0,0 +1,31 @@
+package com.github.hanyaeger.api.engine.entities.entity;
+
+/**
+ * An {@link UpdateCounter} counts the Game World Updates of a single
+ * {@link com.github.hanyaeger.api.engine.entities.EntityCollection}. The {@link BoundingBoxCache} of each
+ * {@link YaegerEntity} in that {@link com.github.hanyaeger.api.engine.entities.EntityCollection} uses it to decide
+ * whether its content still belongs to the current Game World Update.
+ * <p>
+ * <b>Note that this class is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+ */
+public final class UpdateCounter {
+
+    private long count;
+
+    /**
+     * Mark the start of a new Game World Update, which invalidates each {@link BoundingBoxCache} that uses this
+     * {@link UpdateCounter}.
+     */
+    public void increment() {
+        count++;
+    }
+
+    /**
+     * Return the number of Game World Updates that have been started.
+     *
+     * @return the number of Game World Updates
+     */
+    long get() {
+        return count;
+    }
+}
@@ -4,12 +4,16 @@ import com.github.hanyaeger.api.engine.Initializable;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.TimerListProvider;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.github.hanyaeger.api.engine.entities.EntityPool;
 import com.github.hanyaeger.api.engine.entities.EntityProcessor;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.github.hanyaeger.api.engine.entities.entity.motion.Rotatable;
 import com.github.hanyaeger.api.engine.entities.entity.motion.RotationBuffer;
 import com.google.inject.Injector;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Cursor;
 import javafx.scene.Group;
@@ -29,15 +33,22 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
     static final double DEFAULT_OPACITY = 1;
 
     private Coordinate2D anchorLocation;
+    private Coordinate2D previousAnchorLocation;
     private AnchorPoint anchorPoint;
 
     private boolean visible = DEFAULT_VISIBILITY;
     private double opacity = DEFAULT_OPACITY;
 
     private Optional<Cursor> cursor = Optional.empty();
+    private Optional<BoundsChangeListener> boundsChangeListener = Optional.empty();
+    private Optional<EntityPool<?>> pool = Optional.empty();
+    private boolean nodeChangesDeferred;
+    private boolean anchorLocationChanged;
     private final List<Timer> timers = new ArrayList<>();
 
     private final RotationBuffer rotationBuffer;
+    private final BoundingBoxCache boundingBoxCache = new BoundingBoxCache();
+    private CollisionGeometry collisionGeometry;
 
     /**
      * Create a new {@link YaegerEntity} on the given {@link Coordinate2D}.
@@ -233,6 +244,7 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
      * will remain te same.
      */
     public void applyTranslationsForAnchorPoint() {
+        boundingBoxCache.invalidate();
         getNode().ifPresent(node -> {
             var localBounds = getNode().get().getBoundsInLocal();
             switch (anchorPoint) {
@@ -286,6 +298,7 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
     public void setAnchorPoint(final AnchorPoint anchorPoint) {
         this.anchorPoint = anchorPoint;
         applyTranslationsForAnchorPoint();
+        notifyBoundsChange();
     }
 
     @Override
@@ -296,6 +309,13 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
     @Override
     public void setAnchorLocation(final Coordinate2D anchorLocation) {
         this.anchorLocation = anchorLocation;
+
+        if (nodeChangesDeferred) {
+            anchorLocationChanged = true;
+            return;
+        }
+
+        notifyBoundsChange();
     }
 
     @Override
@@ -360,8 +380,253 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
         processor.process(this);
     }
 
+    @Override
+    public void setRotate(final double degrees) {
+        Rotatable.super.setRotate(degrees);
+        notifyBoundsChange();
+    }
+
     @Override
     public RotationBuffer getRotationBuffer() {
         return rotationBuffer;
     }
+
+    /**
+     * Set the {@link BoundsChangeListener} that should be notified whenever the BoundingBox of this
+     * {@link YaegerEntity} might have changed.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param boundsChangeListener the {@link BoundsChangeListener} to be notified
+     */
+    public void setBoundsChangeListener(final BoundsChangeListener boundsChangeListener) {
+        this.boundsChangeListener = Optional.ofNullable(boundsChangeListener);
+    }
+
+    /**
+     * Set the {@link EntityPool} that created this {@link YaegerEntity} and to which it should be returned when
+     * it is removed.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param pool the {@link EntityPool} that created this {@link YaegerEntity}
+     */
+    public void setPool(final EntityPool<?> pool) {
+        this.pool = Optional.ofNullable(pool);
+    }
+
+    /**
+     * Return the {@link EntityPool} that created this {@link YaegerEntity}.
+     *
+     * @return an {@link Optional} containing the {@link EntityPool}, or an empty {@link Optional} if this
+     * {@link YaegerEntity} was not created by an {@link EntityPool}
+     */
+    public Optional<EntityPool<?>> getPool() {
+        return pool;
+    }
+
+    /**
+     * Defer all changes of the anchor location to the {@link Node} of this {@link YaegerEntity}, until
+     * {@link #commitNodeChanges()} is called. While deferred, the anchor location can be changed from any thread,
+     * since neither the {@link Node}, nor the collision detection is notified.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     */
+    public void deferNodeChanges() {
+        this.nodeChangesDeferred = true;
+    }
+
+    /**
+     * Apply the anchor location to the {@link Node} of this {@link YaegerEntity}, if it was changed after
+     * {@link #deferNodeChanges()} was called. This method should be called from the JavaFX Application Thread.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     */
+    public void commitNodeChanges() {
+        nodeChangesDeferred = false;
+
+        if (anchorLocationChanged) {
+            anchorLocationChanged = false;
+            setAnchorLocation(anchorLocation);
+        }
+    }
+
+    /**
+     * Return whether changes to the {@link Node} of this {@link YaegerEntity} are currently deferred. Subclasses
+     * should not change their {@link Node} when they are.
+     *
+     * @return {@code true} if changes to the {@link Node} are deferred
+     */
+    protected boolean isNodeChangesDeferred() {
+        return nodeChangesDeferred;
+    }
+
+    /**
+     * Store the current anchor location, so the rendered location of this {@link YaegerEntity} can be interpolated
+     * between this location and the location after the next Game World Update.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     */
+    public void storePreviousAnchorLocation() {
+        this.previousAnchorLocation = anchorLocation;
+    }
+
+    /**
+     * Render this {@link YaegerEntity} on a location between the previously stored anchor location and the current
+     * anchor location. Only the {@link Node} is moved, the anchor location itself does not change.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param alpha a value between {@code 0} and {@code 1}, where {@code 0} renders this {@link YaegerEntity} on the
+     *              previous anchor location and {@code 1} on the current anchor location
+     */
+    public void interpolateAnchorLocation(final double alpha) {
+        if (previousAnchorLocation == null || anchorLocation == null) {
+            return;
+        }
+
+        var factor = 1 - alpha;
+        applyInterpolationOffset((previousAnchorLocation.getX() - anchorLocation.getX()) * factor,
+                (previousAnchorLocation.getY() - anchorLocation.getY()) * factor);
+    }
+
+    /**
+     * Render this {@link YaegerEntity} on its current anchor location again, after it has been interpolated by
+     * {@link #interpolateAnchorLocation(double)}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     */
+    public void resetInterpolation() {
+        if (previousAnchorLocation != null) {
+            applyInterpolationOffset(0, 0);
+        }
+    }
+
+    /**
+     * Move the {@link Node} of this {@link YaegerEntity} by the given offset, relative to its anchor location. Since
+     * the anchor location is applied through the coordinates of the {@link Node} itself, the offset is applied
+     * through its layout.
+     *
+     * @param x the horizontal offset
+     * @param y the vertical offset
+     */
+    protected void applyInterpolationOffset(final double x, final double y) {
+        invalidateBoundingBox();
+
+        getNode().ifPresent(node -> {
+            node.setLayoutX(x);
+            node.setLayoutY(y);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The BoundingBox is calculated at most once per Game World Update and reused until this {@link YaegerEntity}
+     * is moved, rotated or resized.
+     */
+    @Override
+    public Bounds getBoundingBox() {
+        if (boundingBoxCache.isValid()) {
+            return boundingBoxCache.get();
+        }
+
+        if (getNode().isEmpty()) {
+            return new BoundingBox(0, 0, 0, 0);
+        }
+
+        var node = getNode().get();
+        var boundingBox = node.localToScene(node.getBoundsInLocal(), true);
+        boundingBoxCache.set(boundingBox);
+        return boundingBox;
+    }
+
+    /**
+     * Return the {@link CollisionGeometry} of this {@link YaegerEntity}, which describes its actual shape within the
+     * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}. It is used to rule out collisions of which only the
+     * BoundingBoxes intersect. Like the BoundingBox, it is calculated at most once per Game World Update.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @return the {@link CollisionGeometry}
+     */
+    public CollisionGeometry getCollisionGeometry() {
+        if (collisionGeometry == null) {
+            collisionGeometry = new CollisionGeometry();
+        }
+
+        if (!boundingBoxCache.isGeometryValid()) {
+            if (getNode().isPresent() && getNode().get().getLocalToSceneTransform() != null) {
+                updateCollisionGeometry(collisionGeometry, getNode().get());
+            } else {
+                collisionGeometry.setBoundingBox();
+            }
+            boundingBoxCache.setGeometryValid();
+        }
+
+        return collisionGeometry;
+    }
+
+    /**
+     * Update the {@link CollisionGeometry} of this {@link YaegerEntity}. By default, a rotated {@link YaegerEntity}
+     * is described by its rotated bounds, while the BoundingBox suffices for a {@link YaegerEntity} that is not
+     * rotated. Entities with a different shape, such as a circle, override this method.
+     *
+     * @param geometry the {@link CollisionGeometry} that should be updated
+     * @param node     the {@link Node} of this {@link YaegerEntity}
+     */
+    protected void updateCollisionGeometry(final CollisionGeometry geometry, final Node node) {
+        var transform = node.getLocalToSceneTransform();
+
+        if (transform.getMxy() == 0 && transform.getMyx() == 0) {
+            geometry.setBoundingBox();
+        } else {
+            var bounds = node.getBoundsInLocal();
+            geometry.setRectangle(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), transform);
+        }
+    }
+
+    /**
+     * Set the {@link UpdateCounter} of the {@link com.github.hanyaeger.api.engine.entities.EntityCollection} to which
+     * this {@link YaegerEntity} belongs. The cached BoundingBox of this {@link YaegerEntity} is only valid during
+     * the Game World Update in which it was calculated.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param updateCounter the {@link UpdateCounter} of the {@link com.github.hanyaeger.api.engine.entities.EntityCollection}
+     */
+    public void setUpdateCounter(final UpdateCounter updateCounter) {
+        boundingBoxCache.setUpdateCounter(updateCounter);
+    }
+
+    /**
+     * Mark this {@link YaegerEntity} as a child of the given {@link CompositeEntity}, so the cached BoundingBox of
+     * the {@link CompositeEntity} is invalidated whenever that of this {@link YaegerEntity} is.
+     *
+     * @param parent the {@link CompositeEntity}
+     */
+    void setParent(final YaegerEntity parent) {
+        boundingBoxCache.setParent(parent.boundingBoxCache);
+    }
+
+    /**
+     * Invalidate the cached BoundingBox of this {@link YaegerEntity}, without notifying the
+     * {@link BoundsChangeListener}.
+     */
+    void invalidateBoundingBox() {
+        boundingBoxCache.invalidate();
+    }
+
+    /**
+     * Notify the {@link BoundsChangeListener}, if set, that the BoundingBox of this {@link YaegerEntity}
+     * might have changed. This method should be called by every method that changes the location, rotation or
+     * dimensions of this {@link YaegerEntity}.
+     */
+    protected void notifyBoundsChange() {
+        boundingBoxCache.invalidate();
+
+        if (boundsChangeListener.isPresent()) {
+            boundsChangeListener.get().onBoundsChange(this);
+        }
+    }
 }
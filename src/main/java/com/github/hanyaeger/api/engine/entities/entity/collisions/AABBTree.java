@@ -0,0 +1,529 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link AABBTree} is a {@link BroadPhase} that places all instances of {@link Collider} in a dynamic
+ * bounding volume hierarchy of axis aligned bounding boxes.
+ * <p>
+ * Static instances of {@link Collider} are placed in their own tree, using their exact BoundingBox. Once placed,
+ * they are never refitted. Should a static {@link Collider} be moved anyway, it is transferred to the other tree.
+ * All other instances of {@link Collider} are placed in a second tree, using a BoundingBox
+ * that is enlarged by a margin. Only when such a {@link Collider} has been marked as moved, it is checked whether
+ * it is still contained within its enlarged BoundingBox. If not, it is removed from the tree and inserted again.
+ * Instances of {@link Collider} that can not be tracked, are checked at every Game World Update.
+ * <p>
+ * A {@link Collider} that is moved while the collisions are being checked, is refitted immediately, so the
+ * remaining queries of that Game World Update find it at its new location.
+ */
+class AABBTree implements BroadPhase {
+
+    /**
+     * The margin by which the BoundingBox of a moving {@link Collider} is enlarged on each side.
+     */
+    static final double MARGIN = 8;
+
+    private static final Comparator<Node> REGISTRATION_ORDER = Comparator.comparingLong(node -> node.order);
+
+    private final Tree staticTree = new Tree();
+    private final Tree dynamicTree = new Tree();
+    private final Map<Collider, Node> leaves = new IdentityHashMap<>();
+    private final List<Node> pending = new ArrayList<>();
+    private final List<Node> moved = new ArrayList<>();
+    private final List<Node> untracked = new ArrayList<>();
+
+    private long registrations;
+    private Node[] hits = new Node[16];
+    private int hitCount;
+
+    @Override
+    public void add(final Collider collider, final boolean isStatic, final boolean tracked) {
+        var leaf = new Node();
+        leaf.collider = collider;
+        leaf.order = registrations++;
+        leaf.isStatic = isStatic;
+        leaf.tracked = tracked;
+
+        leaves.put(collider, leaf);
+        pending.add(leaf);
+        if (!isStatic && !tracked) {
+            untracked.add(leaf);
+        }
+    }
+
+    @Override
+    public void remove(final Collider collider) {
+        var leaf = leaves.remove(collider);
+
+        if (leaf == null) {
+            return;
+        }
+
+        leaf.removed = true;
+        if (leaf.inserted) {
+            treeOf(leaf).removeLeaf(leaf);
+        }
+    }
+
+    @Override
+    public void markMoved(final Collider collider) {
+        var leaf = leaves.get(collider);
+
+        if (leaf == null || leaf.moved) {
+            return;
+        }
+
+        if (leaf.isStatic) {
+            promote(leaf);
+        }
+
+        leaf.moved = true;
+        moved.add(leaf);
+    }
+
+    @Override
+    public void prepare(final List<Collider> colliders) {
+        for (final Node leaf : moved) {
+            leaf.moved = false;
+            refit(leaf);
+        }
+        moved.clear();
+
+        untracked.removeIf(leaf -> leaf.removed);
+        untracked.forEach(this::refit);
+
+        pending.removeIf(this::insert);
+    }
+
+    @Override
+    public void refresh(final Collider collider) {
+        var leaf = leaves.get(collider);
+
+        if (leaf == null) {
+            return;
+        }
+
+        if (leaf.isStatic) {
+            promote(leaf);
+        }
+
+        if (leaf.inserted) {
+            refit(leaf);
+        } else {
+            insert(leaf);
+        }
+    }
+
+    @Override
+    public List<Collider> query(final Collided collided, final List<Collider> result) {
+        result.clear();
+
+        var bounds = collided.getBoundingBox();
+        if (!BroadPhase.isPlaceable(bounds)) {
+            return result;
+        }
+
+        hitCount = 0;
+        staticTree.query(bounds, this);
+        dynamicTree.query(bounds, this);
+
+        Arrays.sort(hits, 0, hitCount, REGISTRATION_ORDER);
+        for (var i = 0; i < hitCount; i++) {
+            result.add(hits[i].collider);
+            hits[i] = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the number of instances of {@link Collider} that are currently placed in one of the trees.
+     *
+     * @return the number of placed instances of {@link Collider}
+     */
+    int size() {
+        return staticTree.leafCount + dynamicTree.leafCount;
+    }
+
+    /**
+     * Return the height of the tree that contains the moving instances of {@link Collider}.
+     *
+     * @return the height as an {@code int}, or {@code -1} if the tree is empty
+     */
+    int dynamicHeight() {
+        return dynamicTree.root == null ? -1 : dynamicTree.root.height;
+    }
+
+    private void addHit(final Node leaf) {
+        if (hitCount == hits.length) {
+            hits = Arrays.copyOf(hits, hitCount * 2);
+        }
+        hits[hitCount++] = leaf;
+    }
+
+    /**
+     * A static {@link Collider} that has been moved anyway, is transferred to the tree of moving instances
+     * of {@link Collider}, so the tree of static instances of {@link Collider} never has to be refitted.
+     */
+    private void promote(final Node leaf) {
+        if (leaf.inserted) {
+            staticTree.removeLeaf(leaf);
+            pending.add(leaf);
+        }
+        leaf.isStatic = false;
+    }
+
+    private void refit(final Node leaf) {
+        if (leaf.removed) {
+            return;
+        }
+        if (!leaf.inserted) {
+            // Still pending; it will be inserted with its current BoundingBox
+            return;
+        }
+
+        var bounds = leaf.collider.getBoundingBox();
+
+        if (!BroadPhase.isPlaceable(bounds)) {
+            dynamicTree.removeLeaf(leaf);
+            pending.add(leaf);
+        } else if (!leaf.contains(bounds)) {
+            dynamicTree.removeLeaf(leaf);
+            leaf.setBox(bounds, MARGIN);
+            dynamicTree.insertLeaf(leaf);
+        }
+    }
+
+    private boolean insert(final Node leaf) {
+        if (leaf.removed) {
+            return true;
+        }
+        if (leaf.inserted) {
+            return true;
+        }
+
+        var bounds = leaf.collider.getBoundingBox();
+
+        if (!BroadPhase.isPlaceable(bounds)) {
+            return false;
+        }
+
+        leaf.setBox(bounds, leaf.isStatic ? 0 : MARGIN);
+        treeOf(leaf).insertLeaf(leaf);
+        return true;
+    }
+
+    private Tree treeOf(final Node leaf) {
+        return leaf.isStatic ? staticTree : dynamicTree;
+    }
+
+    /**
+     * A {@link Node} of a {@link Tree}. A {@link Node} that encapsulates a {@link Collider} is a leaf.
+     */
+    private static class Node {
+
+        private double minX;
+        private double minY;
+        private double maxX;
+        private double maxY;
+
+        private Node parent;
+        private Node left;
+        private Node right;
+        private int height;
+
+        private Collider collider;
+        private long order;
+        private boolean isStatic;
+        private boolean tracked;
+        private boolean inserted;
+        private boolean moved;
+        private boolean removed;
+
+        boolean isLeaf() {
+            return left == null;
+        }
+
+        void setBox(final Bounds bounds, final double margin) {
+            minX = bounds.getMinX() - margin;
+            minY = bounds.getMinY() - margin;
+            maxX = bounds.getMaxX() + margin;
+            maxY = bounds.getMaxY() + margin;
+        }
+
+        void setUnion(final Node a, final Node b) {
+            minX = Math.min(a.minX, b.minX);
+            minY = Math.min(a.minY, b.minY);
+            maxX = Math.max(a.maxX, b.maxX);
+            maxY = Math.max(a.maxY, b.maxY);
+        }
+
+        boolean contains(final Bounds bounds) {
+            return minX <= bounds.getMinX() && minY <= bounds.getMinY()
+                    && maxX >= bounds.getMaxX() && maxY >= bounds.getMaxY();
+        }
+
+        boolean intersects(final Bounds bounds) {
+            return minX <= bounds.getMaxX() && maxX >= bounds.getMinX()
+                    && minY <= bounds.getMaxY() && maxY >= bounds.getMinY();
+        }
+
+        double perimeter() {
+            return 2 * ((maxX - minX) + (maxY - minY));
+        }
+
+        static double unionPerimeter(final Node a, final Node b) {
+            var width = Math.max(a.maxX, b.maxX) - Math.min(a.minX, b.minX);
+            var height = Math.max(a.maxY, b.maxY) - Math.min(a.minY, b.minY);
+            return 2 * (width + height);
+        }
+    }
+
+    /**
+     * A self balancing binary tree of instances of {@link Node}, of which the leaves are inserted using the
+     * surface area heuristic.
+     */
+    private static class Tree {
+
+        private final Deque<Node> freeNodes = new ArrayDeque<>();
+        private Node[] stack = new Node[64];
+        private Node root;
+        private int leafCount;
+
+        void insertLeaf(final Node leaf) {
+            leaf.inserted = true;
+            leaf.height = 0;
+            leafCount++;
+
+            if (root == null) {
+                root = leaf;
+                leaf.parent = null;
+                return;
+            }
+
+            var sibling = findBestSibling(leaf);
+            var oldParent = sibling.parent;
+            var newParent = allocateNode();
+            newParent.parent = oldParent;
+            newParent.setUnion(leaf, sibling);
+            newParent.height = sibling.height + 1;
+
+            if (oldParent == null) {
+                root = newParent;
+            } else if (oldParent.left == sibling) {
+                oldParent.left = newParent;
+            } else {
+                oldParent.right = newParent;
+            }
+
+            newParent.left = sibling;
+            newParent.right = leaf;
+            sibling.parent = newParent;
+            leaf.parent = newParent;
+
+            refitAncestors(newParent);
+        }
+
+        void removeLeaf(final Node leaf) {
+            leaf.inserted = false;
+            leafCount--;
+
+            if (leaf == root) {
+                root = null;
+                return;
+            }
+
+            var parent = leaf.parent;
+            var grandParent = parent.parent;
+            var sibling = parent.left == leaf ? parent.right : parent.left;
+
+            if (grandParent == null) {
+                root = sibling;
+                sibling.parent = null;
+            } else {
+                if (grandParent.left == parent) {
+                    grandParent.left = sibling;
+                } else {
+                    grandParent.right = sibling;
+                }
+                sibling.parent = grandParent;
+                refitAncestors(grandParent);
+            }
+
+            leaf.parent = null;
+            releaseNode(parent);
+        }
+
+        void query(final Bounds bounds, final AABBTree owner) {
+            if (root == null) {
+                return;
+            }
+
+            var top = 0;
+            stack[top++] = root;
+
+            while (top > 0) {
+                var node = stack[--top];
+
+                if (!node.intersects(bounds)) {
+                    continue;
+                }
+
+                if (node.isLeaf()) {
+                    owner.addHit(node);
+                } else {
+                    if (top + 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = node.left;
+                    stack[top++] = node.right;
+                }
+            }
+        }
+
+        private Node findBestSibling(final Node leaf) {
+            var node = root;
+
+            while (!node.isLeaf()) {
+                var combinedPerimeter = Node.unionPerimeter(node, leaf);
+                var cost = 2 * combinedPerimeter;
+                var inheritanceCost = 2 * (combinedPerimeter - node.perimeter());
+
+                var costLeft = descendCost(node.left, leaf) + inheritanceCost;
+                var costRight = descendCost(node.right, leaf) + inheritanceCost;
+
+                if (cost < costLeft && cost < costRight) {
+                    break;
+                }
+
+                node = costLeft < costRight ? node.left : node.right;
+            }
+
+            return node;
+        }
+
+        private static double descendCost(final Node child, final Node leaf) {
+            if (child.isLeaf()) {
+                return Node.unionPerimeter(child, leaf);
+            }
+            return Node.unionPerimeter(child, leaf) - child.perimeter();
+        }
+
+        private void refitAncestors(Node node) {
+            while (node != null) {
+                node = balance(node);
+                node.height = 1 + Math.max(node.left.height, node.right.height);
+                node.setUnion(node.left, node.right);
+                node = node.parent;
+            }
+        }
+
+        /**
+         * Perform a left or right rotation if the given {@link Node} is imbalanced.
+         *
+         * @param a the {@link Node} that should be balanced
+         * @return the {@link Node} that has taken the place of the given {@link Node}
+         */
+        private Node balance(final Node a) {
+            if (a.isLeaf() || a.height < 2) {
+                return a;
+            }
+
+            var b = a.left;
+            var c = a.right;
+            var balance = c.height - b.height;
+
+            if (balance > 1) {
+                var f = c.left;
+                var g = c.right;
+
+                replaceChild(a, c);
+                c.left = a;
+                a.parent = c;
+
+                if (f.height > g.height) {
+                    c.right = f;
+                    a.right = g;
+                    g.parent = a;
+                    updateNode(a);
+                    updateNode(c);
+                } else {
+                    c.right = g;
+                    a.right = f;
+                    f.parent = a;
+                    updateNode(a);
+                    updateNode(c);
+                }
+
+                return c;
+            }
+
+            if (balance < -1) {
+                var d = b.left;
+                var e = b.right;
+
+                replaceChild(a, b);
+                b.left = a;
+                a.parent = b;
+
+                if (d.height > e.height) {
+                    b.right = d;
+                    a.left = e;
+                    e.parent = a;
+                    updateNode(a);
+                    updateNode(b);
+                } else {
+                    b.right = e;
+                    a.left = d;
+                    d.parent = a;
+                    updateNode(a);
+                    updateNode(b);
+                }
+
+                return b;
+            }
+
+            return a;
+        }
+
+        private void replaceChild(final Node oldChild, final Node newChild) {
+            var parent = oldChild.parent;
+            newChild.parent = parent;
+
+            if (parent == null) {
+                root = newChild;
+            } else if (parent.left == oldChild) {
+                parent.left = newChild;
+            } else {
+                parent.right = newChild;
+            }
+        }
+
+        private static void updateNode(final Node node) {
+            node.setUnion(node.left, node.right);
+            node.height = 1 + Math.max(node.left.height, node.right.height);
+        }
+
+        private Node allocateNode() {
+            var node = freeNodes.poll();
+            return node == null ? new Node() : node;
+        }
+
+        private void releaseNode(final Node node) {
+            node.parent = null;
+            node.left = null;
+            node.right = null;
+            node.height = 0;
+            freeNodes.push(node);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.List;
+
+/**
+ * A {@link BroadPhase} is used by the {@link CollisionDelegate} to select the instances of {@link Collider} that
+ * are near enough to a {@link Collided} to possibly collide. Only these candidates are checked for an actual
+ * collision.
+ */
+interface BroadPhase {
+
+    /**
+     * Add a {@link Collider} to this {@link BroadPhase}.
+     *
+     * @param collider the {@link Collider} to be added
+     * @param isStatic whether the {@link Collider} is static and will thus never move
+     * @param tracked  whether {@link #markMoved(Collider)} will be called whenever the {@link Collider} moves
+     */
+    default void add(final Collider collider, final boolean isStatic, final boolean tracked) {
+        // Not required by default
+    }
+
+    /**
+     * Remove a {@link Collider} from this {@link BroadPhase}.
+     *
+     * @param collider the {@link Collider} to be removed
+     */
+    default void remove(final Collider collider) {
+        // Not required by default
+    }
+
+    /**
+     * Mark a {@link Collider} as moved, meaning its BoundingBox might have changed.
+     *
+     * @param collider the {@link Collider} that has moved
+     */
+    default void markMoved(final Collider collider) {
+        // Not required by default
+    }
+
+    /**
+     * Place a {@link Collider} that has moved while the queries of the current Game World Update are performed, on
+     * its new location. This is the case when a {@link Collider} is moved from within
+     * {@link Collided#onCollision(Collider)}, after which the remaining queries should take its new location into
+     * account.
+     *
+     * @param collider the {@link Collider} that has moved
+     */
+    default void refresh(final Collider collider) {
+        // Not required by default
+    }
+
+    /**
+     * Prepare this {@link BroadPhase} for the queries of the current Game World Update.
+     *
+     * @param colliders all registered instances of {@link Collider}, in the order of registration
+     */
+    void prepare(final List<Collider> colliders);
+
+    /**
+     * Gather all instances of {@link Collider} that might collide with the given {@link Collided}.
+     *
+     * @param collided the {@link Collided} for which the candidates should be gathered
+     * @param result   a {@link List} that can be used to store the candidates
+     * @return a {@link List} of candidates in the order of registration
+     */
+    List<Collider> query(final Collided collided, final List<Collider> result);
+
+    /**
+     * Return whether the given {@link Bounds} can be placed within a {@link BroadPhase}. This is not the case if the
+     * {@link Bounds} are absent, empty or contain a coordinate that is not a number. Such {@link Bounds} can never
+     * intersect with other {@link Bounds}.
+     *
+     * @param bounds the {@link Bounds} to be checked
+     * @return {@code true} if the {@link Bounds} can be placed, {@code false} otherwise
+     */
+    static boolean isPlaceable(final Bounds bounds) {
+        return bounds != null && !bounds.isEmpty()
+                && !Double.isNaN(bounds.getMinX()) && !Double.isNaN(bounds.getMinY())
+                && !Double.isNaN(bounds.getMaxX()) && !Double.isNaN(bounds.getMaxY());
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import java.util.List;
+
+/**
+ * A {@link BruteForceBroadPhase} selects all instances of {@link Collider} as candidates for every
+ * {@link Collided}.
+ */
+class BruteForceBroadPhase implements BroadPhase {
+
+    private List<Collider> colliders = List.of();
+
+    @Override
+    public void prepare(final List<Collider> colliders) {
+        this.colliders = colliders;
+    }
+
+    @Override
+    public List<Collider> query(final Collided collided, final List<Collider> result) {
+        return colliders;
+    }
+}
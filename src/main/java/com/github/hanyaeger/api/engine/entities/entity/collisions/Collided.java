@@ -13,13 +13,16 @@ import java.util.Set;
  * {@link Collider}. In such a case, the {@link Collided} is the {@link YaegerEntity} that
  * gets notified of the collision.
  *
- * <p>There are different types of collision detection. In the case of an {@link Collided} we perform so called
- * <b>Axis-Aligned Bounding Box</b> collision detection, which required the instances of {@link YaegerEntity}
- * to not be {@link Rotatable}. </p>
+ * <p>There are different types of collision detection. In the case of an {@link Collided} we first perform so called
+ * <b>Axis-Aligned Bounding Box</b> collision detection. Only if the BoundingBoxes intersect, the actual shapes are
+ * compared through their {@link CollisionGeometry}, so a circle, an ellipse or a {@link Rotatable} Entity does not
+ * collide with everything that merely touches its BoundingBox. </p>
  *
- * <p>Each Game world Update a {@link Collided} is checked against all instances of{@link Collider}. If many instances
- * of {@link Collider} are part of the {@link YaegerScene}, this
- * could lead to many calculations, which could slow down the game and framerate. Thus ensure only those instances of
+ * <p>Each Game world Update a {@link Collided} is checked against all instances of {@link Collider} that are near
+ * enough to possibly collide. Which instances of {@link Collider} are near enough, is determined by a uniform grid
+ * of which the cell size can be set through the {@link com.github.hanyaeger.api.engine.YaegerConfig}. If many
+ * instances of {@link Collider} are part of the {@link YaegerScene}, this could still lead to many calculations,
+ * which could slow down the game and framerate. Thus ensure only those instances of
  * {@link YaegerEntity} that really need to be part of the collision detection implement
  * the {@link Collided} or {@link Collider} interfaces.
  * </p>
@@ -43,19 +46,10 @@ public interface Collided extends Bounded {
      * @param colliders a {@link Set} of colliders that should be checked for collisions
      */
     default void checkForCollisions(final List<Collider> colliders) {
-        if (colliders == null || colliders.isEmpty()) {
-            return;
-        }
+        var collider = CollisionDetection.findFirstCollision(this, colliders);
 
-        for (final Collider collider : colliders) {
-            if (hasCollidedWith(collider)) {
-                onCollision(collider);
-                break;
-            }
+        if (collider != null) {
+            onCollision(collider);
         }
     }
-
-    private boolean hasCollidedWith(final Collider collider) {
-        return !this.equals(collider) && getBoundingBox().intersects(collider.getBoundingBox());
-    }
 }
@@ -1,25 +1,98 @@
 package com.github.hanyaeger.api.engine.entities.entity.collisions;
 
+import com.github.hanyaeger.api.engine.entities.entity.BoundsChangeListener;
 import com.github.hanyaeger.api.engine.entities.entity.Removeable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A {@link CollisionDelegate} handles all behavior related to Object collisions.
+ * <p>
+ * Which instances of {@link Collider} a {@link Collided} is checked against, is determined by the
+ * {@link CollisionStrategy}. When created with a cell size larger than {@code 0}, a {@link CollisionDelegate} uses
+ * {@link CollisionStrategy#UNIFORM_GRID}. In that case a {@link Collided} is only checked against those instances of
+ * {@link Collider} that share at least one cell of the grid with it. With {@link CollisionStrategy#AABB_TREE} all
+ * instances of {@link Collider} are placed in a tree of bounding boxes, which is only updated for those instances of
+ * {@link Collider} that have moved. Both are updated at the start of the collision detection, and a {@link Collider}
+ * that is moved from within {@link Collided#onCollision(Collider)} is placed on its new location immediately. The
+ * {@link BoundsChangeListener} of a {@link YaegerEntity} is used to detect this. A {@link Collider} that is not a
+ * {@link YaegerEntity} can not be tracked and should therefore not be moved during the collision detection.
  */
 public class CollisionDelegate {
 
     private final List<Collided> collideds;
     private final List<Collider> colliders;
+    private final Set<Collider> staticColliders = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Collider> candidates = new ArrayList<>();
+    private final BoundsChangeListener boundsChangeListener = this::onBoundsChange;
+    private final double cellSize;
+
+    private CollisionStrategy collisionStrategy;
+    private BroadPhase broadPhase;
+    private int candidatePairs;
+    private int detectedCollisions;
+    private boolean checkingCollisions;
 
     /**
-     * Create a new {@link CollisionDelegate}.
+     * Create a new {@link CollisionDelegate} that checks each {@link Collided} against all instances
+     * of {@link Collider}.
      */
     public CollisionDelegate() {
+        this(0);
+    }
+
+    /**
+     * Create a new {@link CollisionDelegate} that uses a uniform grid with cells of the given size as
+     * its broad phase.
+     *
+     * @param cellSize the width and height of a cell as a {@code double}. A value of {@code 0} or less disables the
+     *                 broad phase
+     */
+    public CollisionDelegate(final double cellSize) {
         collideds = new ArrayList<>();
         colliders = new ArrayList<>();
+
+        this.cellSize = cellSize;
+        setCollisionStrategy(CollisionStrategy.UNIFORM_GRID);
+    }
+
+    /**
+     * Set the {@link CollisionStrategy} that should be used. All instances of {@link Collider} that have already
+     * been registered, are transferred to the new {@link CollisionStrategy}.
+     * <p>
+     * Note that {@link CollisionStrategy#UNIFORM_GRID} requires a cell size larger than {@code 0}. If this is not the
+     * case, {@link CollisionStrategy#BRUTE_FORCE} is used instead.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public void setCollisionStrategy(final CollisionStrategy collisionStrategy) {
+        this.collisionStrategy = collisionStrategy;
+
+        broadPhase = createBroadPhase(collisionStrategy);
+        colliders.forEach(collider -> broadPhase.add(collider, staticColliders.contains(collider), isTracked(collider)));
+    }
+
+    /**
+     * Return the width and height of a cell of the uniform grid used by {@link CollisionStrategy#UNIFORM_GRID}.
+     *
+     * @return the cell size as a {@code double}
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Return the {@link CollisionStrategy} that is currently used.
+     *
+     * @return the {@link CollisionStrategy} that is currently used
+     */
+    public CollisionStrategy getCollisionStrategy() {
+        return collisionStrategy;
     }
 
     /**
@@ -30,10 +103,22 @@ public class CollisionDelegate {
      * @return a {@code boolean} stated whether this {@link YaegerEntity} is either a {@link Collider} or a {@link Collided}
      */
     public boolean register(final YaegerEntity entity) {
+        return register(entity, false);
+    }
+
+    /**
+     * Register an {@link YaegerEntity} to be evaluated for collision detection. The {@link YaegerEntity} will only be added
+     * if is an {@link Collider} or {@link Collided}.
+     *
+     * @param entity   the {@link YaegerEntity} that should be registered
+     * @param isStatic whether the {@link YaegerEntity} is static, meaning it is not expected to move
+     * @return a {@code boolean} stated whether this {@link YaegerEntity} is either a {@link Collider} or a {@link Collided}
+     */
+    public boolean register(final YaegerEntity entity, final boolean isStatic) {
         var registered = false;
 
         if (entity instanceof Collider) {
-            register((Collider) entity);
+            register((Collider) entity, isStatic);
             registered = true;
         }
         if (entity instanceof Collided) {
@@ -50,7 +135,26 @@ public class CollisionDelegate {
      * @param Collider the {@link Collider} that should be registered
      */
     public void register(final Collider Collider) {
-        colliders.add(Collider);
+        register(Collider, false);
+    }
+
+    /**
+     * Register a {@link Collider} to be evaluated for collision detection.
+     *
+     * @param collider the {@link Collider} that should be registered
+     * @param isStatic whether the {@link Collider} is static, meaning it is not expected to move
+     */
+    public void register(final Collider collider, final boolean isStatic) {
+        colliders.add(collider);
+
+        if (isStatic) {
+            staticColliders.add(collider);
+        }
+        if (collider instanceof YaegerEntity) {
+            ((YaegerEntity) collider).setBoundsChangeListener(boundsChangeListener);
+        }
+
+        broadPhase.add(collider, isStatic, isTracked(collider));
     }
 
     /**
@@ -76,15 +180,109 @@ public class CollisionDelegate {
         }
     }
 
+    /**
+     * Remove all given instances of {@link Removeable} from the list of Objects that are taken into account. Since
+     * each list is traversed only once, removing many Objects at once is much cheaper than calling
+     * {@link #remove(Removeable)} for each of them.
+     *
+     * @param removeables the {@link Set} of instances of {@link Removeable} that should be removed
+     */
+    public void removeAll(final Set<? extends Removeable> removeables) {
+        if (removeables.isEmpty()) {
+            return;
+        }
+
+        for (final Removeable removeable : removeables) {
+            if (removeable instanceof Collider) {
+                detachCollider((Collider) removeable);
+            }
+        }
+
+        colliders.removeIf(removeables::contains);
+        collideds.removeIf(removeables::contains);
+    }
+
     /**
      * Check for collisions. Each {@link Collided} is asked to check for collisions.
      */
     public void checkCollisions() {
-        collideds.forEach(collided -> collided.checkForCollisions(colliders));
+        broadPhase.prepare(colliders);
+
+        candidatePairs = 0;
+        var detectedBefore = CollisionDetection.getDetectedCollisions();
+
+        checkingCollisions = true;
+        try {
+            for (final Collided collided : collideds) {
+                var candidatesOfCollided = broadPhase.query(collided, candidates);
+                candidatePairs += candidatesOfCollided.size();
+
+                collided.checkForCollisions(candidatesOfCollided);
+            }
+        } finally {
+            detectedCollisions = (int) (CollisionDetection.getDetectedCollisions() - detectedBefore);
+            checkingCollisions = false;
+        }
+    }
+
+    /**
+     * Return the number of pairs of a {@link Collided} and a {@link Collider} that were passed on by the broad phase
+     * during the last call to {@link #checkCollisions()}. Since a {@link Collided} stops checking after its first
+     * collision, not all these pairs are necessarily tested.
+     *
+     * @return the number of candidate pairs
+     */
+    public int getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    /**
+     * Return the number of instances of {@link Collided} that detected a collision during the last call to
+     * {@link #checkCollisions()}. Only collisions detected by the default implementation of
+     * {@link Collided#checkForCollisions(List)} are counted.
+     *
+     * @return the number of detected collisions
+     */
+    public int getDetectedCollisions() {
+        return detectedCollisions;
+    }
+
+    private BroadPhase createBroadPhase(final CollisionStrategy collisionStrategy) {
+        if (collisionStrategy == CollisionStrategy.AABB_TREE) {
+            return new AABBTree();
+        } else if (collisionStrategy == CollisionStrategy.UNIFORM_GRID && cellSize > 0) {
+            return new SpatialHashGrid(cellSize);
+        } else {
+            return new BruteForceBroadPhase();
+        }
+    }
+
+    private void onBoundsChange(final YaegerEntity entity) {
+        if (entity instanceof Collider) {
+            broadPhase.markMoved((Collider) entity);
+
+            if (checkingCollisions) {
+                broadPhase.refresh((Collider) entity);
+            }
+        }
+    }
+
+    private boolean isTracked(final Collider collider) {
+        return collider instanceof YaegerEntity;
     }
 
     private void removeCollider(final Collider Collider) {
         colliders.remove(Collider);
+        detachCollider(Collider);
+    }
+
+    private void detachCollider(final Collider collider) {
+        staticColliders.remove(collider);
+        broadPhase.remove(collider);
+
+        if (collider instanceof YaegerEntity) {
+            ((YaegerEntity) collider).setBoundsChangeListener(null);
+        }
     }
 
     private void removeCollided(final Collided collided) {
@@ -0,0 +1,56 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import java.util.List;
+
+/**
+ * The {@link CollisionDetection} finds the first {@link Collider} a {@link Collided} collides with. It is used by
+ * the default implementation of {@link Collided#checkForCollisions(List)} and counts all collisions it detects, so
+ * the {@link CollisionDelegate} can report the number of detected collisions without depending on the outcome of
+ * {@link Collided#checkForCollisions(List)}.
+ * <p>
+ * Collisions are only checked on the JavaFX Application Thread, so the counter is not synchronized.
+ */
+final class CollisionDetection {
+
+    private static long detectedCollisions;
+
+    private CollisionDetection() {
+    }
+
+    /**
+     * Return the first {@link Collider} from the given {@link List} that collides with the given {@link Collided}.
+     *
+     * @param collided  the {@link Collided}
+     * @param colliders the instances of {@link Collider} that should be checked, may be {@code null}
+     * @return the first {@link Collider} that collides with the {@link Collided}, or {@code null} if there is none
+     */
+    static Collider findFirstCollision(final Collided collided, final List<Collider> colliders) {
+        if (colliders == null || colliders.isEmpty()) {
+            return null;
+        }
+
+        for (final Collider collider : colliders) {
+            if (hasCollided(collided, collider)) {
+                detectedCollisions++;
+                return collider;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Return the total number of collisions detected through {@link #findFirstCollision(Collided, List)}.
+     *
+     * @return the number of detected collisions
+     */
+    static long getDetectedCollisions() {
+        return detectedCollisions;
+    }
+
+    private static boolean hasCollided(final Collided collided, final Collider collider) {
+        return !collided.equals(collider)
+                && collided.getBoundingBox().intersects(collider.getBoundingBox())
+                && NarrowPhase.intersects(collided, collider);
+    }
+}
@@ -0,0 +1,315 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.javafx.image.CollisionMask;
+import javafx.scene.transform.Transform;
+
+import java.util.Arrays;
+
+/**
+ * A {@link CollisionGeometry} describes the actual shape of a {@link Collided} or {@link Collider} within the
+ * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}, which is used to rule out collisions of which only the
+ * BoundingBoxes intersect. The shape is either a circle, a convex polygon, such as a rotated rectangle, or the
+ * opaque pixels of an image as described by a {@link CollisionMask}. Its coordinates are stored as primitives, so no
+ * JavaFX {@link javafx.scene.shape.Shape} has to be created to check for a collision.
+ * <p>
+ * When neither a circle nor a polygon has been set, the BoundingBox itself is used as the shape.
+ */
+public final class CollisionGeometry {
+
+    /**
+     * The number of vertices of the polygon that approximates an ellipse.
+     */
+    public static final int ELLIPSE_VERTICES = 16;
+
+    private static final double[] ELLIPSE_COS = new double[ELLIPSE_VERTICES];
+    private static final double[] ELLIPSE_SIN = new double[ELLIPSE_VERTICES];
+    private static final double UNIFORM_SCALE_TOLERANCE = 1e-9;
+
+    static {
+        for (var i = 0; i < ELLIPSE_VERTICES; i++) {
+            var angle = 2 * Math.PI * i / ELLIPSE_VERTICES;
+            ELLIPSE_COS[i] = Math.cos(angle);
+            ELLIPSE_SIN[i] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * The types of shape a {@link CollisionGeometry} can describe.
+     */
+    public enum Type {
+        /**
+         * The BoundingBox is used as the shape.
+         */
+        BOUNDING_BOX,
+        /**
+         * The shape is a circle.
+         */
+        CIRCLE,
+        /**
+         * The shape is a convex polygon.
+         */
+        POLYGON,
+        /**
+         * The shape consists of the opaque pixels of a {@link CollisionMask}.
+         */
+        MASK
+    }
+
+    private Type type = Type.BOUNDING_BOX;
+
+    private double centerX;
+    private double centerY;
+    private double radius;
+
+    private int vertices;
+    private double[] x = new double[4];
+    private double[] y = new double[4];
+
+    private CollisionMask mask;
+    private double scaleX;
+    private double scaleY;
+
+    /**
+     * Use the BoundingBox as the shape.
+     */
+    public void setBoundingBox() {
+        type = Type.BOUNDING_BOX;
+        vertices = 0;
+    }
+
+    /**
+     * Set the shape to a circle, given in the local coordinates of a {@link javafx.scene.Node}. If the
+     * {@link Transform} does not scale both axes equally, the circle is approximated by a polygon.
+     *
+     * @param centerX   the x-coordinate of the center in local coordinates
+     * @param centerY   the y-coordinate of the center in local coordinates
+     * @param radius    the radius in local coordinates
+     * @param transform the {@link Transform} from local coordinates to those of the Scene
+     */
+    public void setCircle(final double centerX, final double centerY, final double radius, final Transform transform) {
+        setEllipse(centerX, centerY, radius, radius, transform);
+    }
+
+    /**
+     * Set the shape to an ellipse, given in the local coordinates of a {@link javafx.scene.Node}. Unless the ellipse
+     * is a circle after it has been transformed, it is approximated by a polygon of {@link #ELLIPSE_VERTICES}
+     * vertices.
+     *
+     * @param centerX   the x-coordinate of the center in local coordinates
+     * @param centerY   the y-coordinate of the center in local coordinates
+     * @param radiusX   the horizontal radius in local coordinates
+     * @param radiusY   the vertical radius in local coordinates
+     * @param transform the {@link Transform} from local coordinates to those of the Scene
+     */
+    public void setEllipse(final double centerX, final double centerY, final double radiusX, final double radiusY, final Transform transform) {
+        var scaleX = Math.hypot(transform.getMxx(), transform.getMyx());
+        var scaleY = Math.hypot(transform.getMxy(), transform.getMyy());
+
+        if (Math.abs(radiusX * scaleX - radiusY * scaleY) <= UNIFORM_SCALE_TOLERANCE * Math.max(1, radiusX * scaleX)
+                && isOrthogonal(transform)) {
+            type = Type.CIRCLE;
+            vertices = 0;
+            this.centerX = transformX(transform, centerX, centerY);
+            this.centerY = transformY(transform, centerX, centerY);
+            this.radius = radiusX * scaleX;
+            return;
+        }
+
+        startPolygon(ELLIPSE_VERTICES);
+        for (var i = 0; i < ELLIPSE_VERTICES; i++) {
+            var localX = centerX + radiusX * ELLIPSE_COS[i];
+            var localY = centerY + radiusY * ELLIPSE_SIN[i];
+            x[i] = transformX(transform, localX, localY);
+            y[i] = transformY(transform, localX, localY);
+        }
+    }
+
+    /**
+     * Set the shape to a rectangle, given in the local coordinates of a {@link javafx.scene.Node}. After the
+     * {@link Transform} has been applied, this rectangle might be rotated.
+     *
+     * @param minX      the minimal x-coordinate in local coordinates
+     * @param minY      the minimal y-coordinate in local coordinates
+     * @param maxX      the maximal x-coordinate in local coordinates
+     * @param maxY      the maximal y-coordinate in local coordinates
+     * @param transform the {@link Transform} from local coordinates to those of the Scene
+     */
+    public void setRectangle(final double minX, final double minY, final double maxX, final double maxY, final Transform transform) {
+        startPolygon(4);
+        setVertex(0, minX, minY, transform);
+        setVertex(1, maxX, minY, transform);
+        setVertex(2, maxX, maxY, transform);
+        setVertex(3, minX, maxY, transform);
+    }
+
+    /**
+     * Set the shape to the opaque pixels of a {@link CollisionMask}, which covers the given rectangle in the local
+     * coordinates of a {@link javafx.scene.Node}. Since the pixels of a {@link CollisionMask} are aligned to the
+     * axes, a {@link Transform} that rotates or mirrors the rectangle results in the rotated rectangle being used
+     * instead.
+     *
+     * @param mask      the {@link CollisionMask}
+     * @param minX      the minimal x-coordinate in local coordinates
+     * @param minY      the minimal y-coordinate in local coordinates
+     * @param maxX      the maximal x-coordinate in local coordinates
+     * @param maxY      the maximal y-coordinate in local coordinates
+     * @param transform the {@link Transform} from local coordinates to those of the Scene
+     */
+    public void setMask(final CollisionMask mask, final double minX, final double minY, final double maxX, final double maxY, final Transform transform) {
+        if (transform.getMxy() != 0 || transform.getMyx() != 0 || transform.getMxx() <= 0 || transform.getMyy() <= 0
+                || mask.getWidth() == 0 || mask.getHeight() == 0) {
+            setRectangle(minX, minY, maxX, maxY, transform);
+            return;
+        }
+
+        type = Type.MASK;
+        vertices = 0;
+        this.mask = mask;
+        this.centerX = transformX(transform, minX, minY);
+        this.centerY = transformY(transform, minX, minY);
+        this.scaleX = transform.getMxx() * (maxX - minX) / mask.getWidth();
+        this.scaleY = transform.getMyy() * (maxY - minY) / mask.getHeight();
+    }
+
+    /**
+     * Return the {@link Type} of shape.
+     *
+     * @return the {@link Type}
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Return the x-coordinate of the center of the circle, if the {@link Type} is {@link Type#CIRCLE}.
+     *
+     * @return the x-coordinate within the Scene
+     */
+    public double getCenterX() {
+        return centerX;
+    }
+
+    /**
+     * Return the y-coordinate of the center of the circle, if the {@link Type} is {@link Type#CIRCLE}.
+     *
+     * @return the y-coordinate within the Scene
+     */
+    public double getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * Return the radius of the circle, if the {@link Type} is {@link Type#CIRCLE}.
+     *
+     * @return the radius within the Scene
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Return the number of vertices of the polygon, if the {@link Type} is {@link Type#POLYGON}.
+     *
+     * @return the number of vertices
+     */
+    public int getVertices() {
+        return vertices;
+    }
+
+    /**
+     * Return the x-coordinate of a vertex of the polygon.
+     *
+     * @param index the index of the vertex
+     * @return the x-coordinate within the Scene
+     */
+    public double getX(final int index) {
+        return x[index];
+    }
+
+    /**
+     * Return the y-coordinate of a vertex of the polygon.
+     *
+     * @param index the index of the vertex
+     * @return the y-coordinate within the Scene
+     */
+    public double getY(final int index) {
+        return y[index];
+    }
+
+    /**
+     * Return the {@link CollisionMask}, if the {@link Type} is {@link Type#MASK}.
+     *
+     * @return the {@link CollisionMask}
+     */
+    public CollisionMask getMask() {
+        return mask;
+    }
+
+    /**
+     * Return the x-coordinate of the top left corner of the {@link CollisionMask}, if the {@link Type} is
+     * {@link Type#MASK}.
+     *
+     * @return the x-coordinate within the Scene
+     */
+    public double getMaskX() {
+        return centerX;
+    }
+
+    /**
+     * Return the y-coordinate of the top left corner of the {@link CollisionMask}, if the {@link Type} is
+     * {@link Type#MASK}.
+     *
+     * @return the y-coordinate within the Scene
+     */
+    public double getMaskY() {
+        return centerY;
+    }
+
+    /**
+     * Return the width of a single pixel of the {@link CollisionMask} within the Scene, if the {@link Type} is
+     * {@link Type#MASK}.
+     *
+     * @return the width of a pixel
+     */
+    public double getScaleX() {
+        return scaleX;
+    }
+
+    /**
+     * Return the height of a single pixel of the {@link CollisionMask} within the Scene, if the {@link Type} is
+     * {@link Type#MASK}.
+     *
+     * @return the height of a pixel
+     */
+    public double getScaleY() {
+        return scaleY;
+    }
+
+    private void startPolygon(final int vertices) {
+        type = Type.POLYGON;
+        this.vertices = vertices;
+
+        if (x.length < vertices) {
+            x = Arrays.copyOf(x, vertices);
+            y = Arrays.copyOf(y, vertices);
+        }
+    }
+
+    private void setVertex(final int index, final double localX, final double localY, final Transform transform) {
+        x[index] = transformX(transform, localX, localY);
+        y[index] = transformY(transform, localX, localY);
+    }
+
+    private static boolean isOrthogonal(final Transform transform) {
+        var dot = transform.getMxx() * transform.getMxy() + transform.getMyx() * transform.getMyy();
+        return Math.abs(dot) <= UNIFORM_SCALE_TOLERANCE;
+    }
+
+    private static double transformX(final Transform transform, final double x, final double y) {
+        return transform.getMxx() * x + transform.getMxy() * y + transform.getTx();
+    }
+
+    private static double transformY(final Transform transform, final double x, final double y) {
+        return transform.getMyx() * x + transform.getMyy() * y + transform.getTy();
+    }
+}
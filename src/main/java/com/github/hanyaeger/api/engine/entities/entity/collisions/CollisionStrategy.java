@@ -0,0 +1,31 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+/**
+ * A {@link CollisionStrategy} determines how a {@link CollisionDelegate} selects the instances of {@link Collider}
+ * that a {@link Collided} should be checked against. The strategies differ in performance, depending on the number,
+ * size and movement of the instances of {@link Collider}.
+ */
+public enum CollisionStrategy {
+
+    /**
+     * Each {@link Collided} is checked against all instances of {@link Collider}. This is the fastest strategy
+     * when only a few instances of {@link Collider} are part of the {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     */
+    BRUTE_FORCE,
+
+    /**
+     * All instances of {@link Collider} are placed in a uniform grid, of which the cell size can be set through the
+     * {@link com.github.hanyaeger.api.engine.YaegerConfig}. A {@link Collided} is only checked against those instances
+     * of {@link Collider} with which it shares a cell. This strategy works best with many instances of
+     * {@link Collider} of a similar size.
+     */
+    UNIFORM_GRID,
+
+    /**
+     * All instances of {@link Collider} are placed in a dynamic tree of bounding volumes. Only those that have moved
+     * are refitted, and static Entities are never refitted. This strategy works best when a few large static
+     * Entities, such as the tiles of a {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap}, are mixed with
+     * many small moving Entities.
+     */
+    AABB_TREE
+}
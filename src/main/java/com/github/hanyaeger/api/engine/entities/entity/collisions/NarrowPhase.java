@@ -0,0 +1,290 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.Bounded;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.geometry.Bounds;
+
+/**
+ * The {@link NarrowPhase} checks whether two Objects of which the BoundingBoxes intersect, actually collide. It
+ * compares the {@link CollisionGeometry} of both, using a circle-circle test, a circle-box test or the Separating Axis
+ * Theorem for convex polygons. An Object without a {@link CollisionGeometry} is represented by its BoundingBox.
+ * <p>
+ * A {@link CollisionGeometry} of {@link CollisionGeometry.Type#MASK} is compared row by row: the span the other
+ * shape covers within a row of pixels is tested against the bits of that row, and two unscaled masks are compared
+ * through a bitwise AND of their rows.
+ */
+final class NarrowPhase {
+
+    private static final double SCALE_TOLERANCE = 1e-6;
+
+    private NarrowPhase() {
+    }
+
+    /**
+     * Return whether the actual shapes of both Objects intersect. This method assumes their BoundingBoxes
+     * intersect.
+     *
+     * @param first  the first {@link Bounded}
+     * @param second the second {@link Bounded}
+     * @return {@code true} if the shapes intersect
+     */
+    static boolean intersects(final Bounded first, final Bounded second) {
+        var firstGeometry = getCollisionGeometry(first);
+        var secondGeometry = getCollisionGeometry(second);
+
+        var firstType = firstGeometry == null ? CollisionGeometry.Type.BOUNDING_BOX : firstGeometry.getType();
+        var secondType = secondGeometry == null ? CollisionGeometry.Type.BOUNDING_BOX : secondGeometry.getType();
+
+        if (firstType == CollisionGeometry.Type.MASK) {
+            return maskIntersects(firstGeometry, secondGeometry, second.getBoundingBox());
+        }
+        if (secondType == CollisionGeometry.Type.MASK) {
+            return maskIntersects(secondGeometry, firstGeometry, first.getBoundingBox());
+        }
+
+        if (firstType == CollisionGeometry.Type.BOUNDING_BOX) {
+            if (secondType == CollisionGeometry.Type.BOUNDING_BOX) {
+                return true;
+            }
+            return intersects(secondGeometry, first.getBoundingBox());
+        }
+        if (secondType == CollisionGeometry.Type.BOUNDING_BOX) {
+            return intersects(firstGeometry, second.getBoundingBox());
+        }
+
+        if (firstType == CollisionGeometry.Type.CIRCLE) {
+            return secondType == CollisionGeometry.Type.CIRCLE
+                    ? circleIntersectsCircle(firstGeometry, secondGeometry)
+                    : circleIntersectsPolygon(firstGeometry, secondGeometry);
+        }
+
+        return secondType == CollisionGeometry.Type.CIRCLE
+                ? circleIntersectsPolygon(secondGeometry, firstGeometry)
+                : !hasSeparatingEdge(firstGeometry, secondGeometry) && !hasSeparatingEdge(secondGeometry, firstGeometry);
+    }
+
+    private static boolean intersects(final CollisionGeometry geometry, final Bounds box) {
+        if (geometry.getType() == CollisionGeometry.Type.CIRCLE) {
+            return circleIntersectsBox(geometry, box);
+        }
+
+        // The axes of the box never separate, since the BoundingBoxes are known to intersect
+        return !hasSeparatingEdge(geometry, box);
+    }
+
+    static boolean maskIntersects(final CollisionGeometry mask, final CollisionGeometry other, final Bounds box) {
+        var type = other == null ? CollisionGeometry.Type.BOUNDING_BOX : other.getType();
+
+        if (type == CollisionGeometry.Type.MASK && isUnscaled(mask) && isUnscaled(other)) {
+            var offsetX = (int) Math.round(other.getMaskX() - mask.getMaskX());
+            var offsetY = (int) Math.round(other.getMaskY() - mask.getMaskY());
+            return mask.getMask().intersects(other.getMask(), offsetX, offsetY);
+        }
+
+        var pixels = mask.getMask();
+        var scaleY = mask.getScaleY();
+        var firstRow = Math.max(0, (int) Math.floor((box.getMinY() - mask.getMaskY()) / scaleY));
+        var lastRow = Math.min(pixels.getHeight() - 1, (int) Math.floor((box.getMaxY() - mask.getMaskY()) / scaleY));
+
+        for (var row = firstRow; row <= lastRow; row++) {
+            var top = mask.getMaskY() + row * scaleY;
+            var bottom = top + scaleY;
+
+            double minX;
+            double maxX;
+            if (type == CollisionGeometry.Type.CIRCLE) {
+                var dy = clamp(other.getCenterY(), top, bottom) - other.getCenterY();
+                var squared = other.getRadius() * other.getRadius() - dy * dy;
+                if (squared < 0) {
+                    continue;
+                }
+                var halfChord = Math.sqrt(squared);
+                minX = other.getCenterX() - halfChord;
+                maxX = other.getCenterX() + halfChord;
+            } else if (type == CollisionGeometry.Type.POLYGON) {
+                minX = Double.MAX_VALUE;
+                maxX = -Double.MAX_VALUE;
+                for (var i = 0; i < other.getVertices(); i++) {
+                    var j = (i + 1) % other.getVertices();
+                    var lowY = Math.min(other.getY(i), other.getY(j));
+                    var highY = Math.max(other.getY(i), other.getY(j));
+                    if (highY < top || bottom < lowY) {
+                        continue;
+                    }
+                    var fromX = lowY == highY ? other.getX(i) : xAt(other, i, j, clamp(top, lowY, highY));
+                    var toX = lowY == highY ? other.getX(j) : xAt(other, i, j, clamp(bottom, lowY, highY));
+                    minX = Math.min(minX, Math.min(fromX, toX));
+                    maxX = Math.max(maxX, Math.max(fromX, toX));
+                }
+                if (minX > maxX) {
+                    continue;
+                }
+            } else {
+                // A scaled mask is represented by its BoundingBox
+                minX = box.getMinX();
+                maxX = box.getMaxX();
+            }
+
+            var from = (int) Math.floor((minX - mask.getMaskX()) / mask.getScaleX());
+            var to = (int) Math.floor((maxX - mask.getMaskX()) / mask.getScaleX());
+            if (pixels.intersectsRow(row, from, to)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static boolean circleIntersectsCircle(final CollisionGeometry first, final CollisionGeometry second) {
+        var dx = first.getCenterX() - second.getCenterX();
+        var dy = first.getCenterY() - second.getCenterY();
+        var radii = first.getRadius() + second.getRadius();
+
+        return dx * dx + dy * dy <= radii * radii;
+    }
+
+    static boolean circleIntersectsBox(final CollisionGeometry circle, final Bounds box) {
+        var dx = circle.getCenterX() - clamp(circle.getCenterX(), box.getMinX(), box.getMaxX());
+        var dy = circle.getCenterY() - clamp(circle.getCenterY(), box.getMinY(), box.getMaxY());
+
+        return dx * dx + dy * dy <= circle.getRadius() * circle.getRadius();
+    }
+
+    static boolean circleIntersectsPolygon(final CollisionGeometry circle, final CollisionGeometry polygon) {
+        var cx = circle.getCenterX();
+        var cy = circle.getCenterY();
+        var r = circle.getRadius();
+        var vertices = polygon.getVertices();
+
+        var closestX = 0d;
+        var closestY = 0d;
+        var closestDistance = Double.MAX_VALUE;
+
+        for (var i = 0; i < vertices; i++) {
+            var j = (i + 1) % vertices;
+            var nx = polygon.getY(i) - polygon.getY(j);
+            var ny = polygon.getX(j) - polygon.getX(i);
+
+            if (isSeparatedFromCircle(polygon, nx, ny, cx, cy, r)) {
+                return false;
+            }
+
+            var dx = polygon.getX(i) - cx;
+            var dy = polygon.getY(i) - cy;
+            var distance = dx * dx + dy * dy;
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closestX = dx;
+                closestY = dy;
+            }
+        }
+
+        // A circle can also be separated from a polygon along the axis through its closest vertex
+        return !isSeparatedFromCircle(polygon, closestX, closestY, cx, cy, r);
+    }
+
+    private static boolean isSeparatedFromCircle(final CollisionGeometry polygon, final double nx, final double ny,
+                                                 final double cx, final double cy, final double r) {
+        var length = Math.hypot(nx, ny);
+        if (length == 0) {
+            return false;
+        }
+
+        var min = Double.MAX_VALUE;
+        var max = -Double.MAX_VALUE;
+        for (var i = 0; i < polygon.getVertices(); i++) {
+            var projection = polygon.getX(i) * nx + polygon.getY(i) * ny;
+            min = Math.min(min, projection);
+            max = Math.max(max, projection);
+        }
+
+        var center = cx * nx + cy * ny;
+        var extent = r * length;
+
+        return max < center - extent || center + extent < min;
+    }
+
+    private static boolean hasSeparatingEdge(final CollisionGeometry polygon, final CollisionGeometry other) {
+        var vertices = polygon.getVertices();
+
+        for (var i = 0; i < vertices; i++) {
+            var j = (i + 1) % vertices;
+            var nx = polygon.getY(i) - polygon.getY(j);
+            var ny = polygon.getX(j) - polygon.getX(i);
+
+            var min = Double.MAX_VALUE;
+            var max = -Double.MAX_VALUE;
+            for (var k = 0; k < vertices; k++) {
+                var projection = polygon.getX(k) * nx + polygon.getY(k) * ny;
+                min = Math.min(min, projection);
+                max = Math.max(max, projection);
+            }
+
+            var otherMin = Double.MAX_VALUE;
+            var otherMax = -Double.MAX_VALUE;
+            for (var k = 0; k < other.getVertices(); k++) {
+                var projection = other.getX(k) * nx + other.getY(k) * ny;
+                otherMin = Math.min(otherMin, projection);
+                otherMax = Math.max(otherMax, projection);
+            }
+
+            if (max < otherMin || otherMax < min) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasSeparatingEdge(final CollisionGeometry polygon, final Bounds box) {
+        var vertices = polygon.getVertices();
+        var boxCenterX = (box.getMinX() + box.getMaxX()) / 2;
+        var boxCenterY = (box.getMinY() + box.getMaxY()) / 2;
+        var halfWidth = box.getWidth() / 2;
+        var halfHeight = box.getHeight() / 2;
+
+        for (var i = 0; i < vertices; i++) {
+            var j = (i + 1) % vertices;
+            var nx = polygon.getY(i) - polygon.getY(j);
+            var ny = polygon.getX(j) - polygon.getX(i);
+
+            var min = Double.MAX_VALUE;
+            var max = -Double.MAX_VALUE;
+            for (var k = 0; k < vertices; k++) {
+                var projection = polygon.getX(k) * nx + polygon.getY(k) * ny;
+                min = Math.min(min, projection);
+                max = Math.max(max, projection);
+            }
+
+            var boxCenter = boxCenterX * nx + boxCenterY * ny;
+            var boxExtent = halfWidth * Math.abs(nx) + halfHeight * Math.abs(ny);
+
+            if (max < boxCenter - boxExtent || boxCenter + boxExtent < min) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isUnscaled(final CollisionGeometry mask) {
+        return Math.abs(mask.getScaleX() - 1) < SCALE_TOLERANCE && Math.abs(mask.getScaleY() - 1) < SCALE_TOLERANCE;
+    }
+
+    private static double xAt(final CollisionGeometry polygon, final int i, final int j, final double y) {
+        var dy = polygon.getY(j) - polygon.getY(i);
+        return polygon.getX(i) + (y - polygon.getY(i)) * (polygon.getX(j) - polygon.getX(i)) / dy;
+    }
+
+    private static double clamp(final double value, final double min, final double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static CollisionGeometry getCollisionGeometry(final Bounded bounded) {
+        if (bounded instanceof YaegerEntity) {
+            return ((YaegerEntity) bounded).getCollisionGeometry();
+        }
+
+        return null;
+    }
+}
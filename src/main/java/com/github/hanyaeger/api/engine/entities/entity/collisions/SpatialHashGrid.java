@@ -0,0 +1,277 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.Bounds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link SpatialHashGrid} is a uniform grid that is used as the broad phase of the collision detection. Each
+ * Game World Update all instances of {@link Collider} are placed in the cells that are covered by their
+ * BoundingBox. When querying the grid for a given {@link Bounds}, only those instances of {@link Collider} are
+ * returned that share at least one cell with those {@link Bounds}.
+ * <p>
+ * The instances of {@link Collider} are always returned in the order in which they were passed to
+ * {@link #prepare(List)}. This guarantees the first collision that is detected, is the same as the one that would
+ * have been detected without the use of a {@link SpatialHashGrid}. A {@link Collider} that is moved while the grid
+ * is being queried, is moved to its new cells through {@link #refresh(Collider)}.
+ */
+class SpatialHashGrid implements BroadPhase {
+
+    /**
+     * A {@link Collider} that covers more cells than this value, is not added to the individual cells, but will
+     * be part of the result of every query.
+     */
+    static final int MAX_CELLS_PER_COLLIDER = 1024;
+
+    /**
+     * The number of empty cells that may be retained for reuse, before the cells are discarded.
+     */
+    private static final int MAX_RETAINED_EMPTY_CELLS = 256;
+
+    private static final byte NOT_PLACED = 0;
+    private static final byte IN_CELLS = 1;
+    private static final byte OVERSIZED = 2;
+
+    private final double cellSize;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final List<Cell> occupiedCells = new ArrayList<>();
+    private final Cell oversized = new Cell();
+    private List<Collider> colliders = List.of();
+    private final Map<Collider, Integer> indices = new IdentityHashMap<>();
+
+    private byte[] placements = new byte[0];
+    private long[] placedCells = new long[0];
+    private int[] marks = new int[0];
+    private int[] hits = new int[0];
+    private int stamp;
+
+    /**
+     * Create a new {@link SpatialHashGrid} with cells of the given size.
+     *
+     * @param cellSize the width and height of a cell as a {@code double}, should be larger than 0
+     */
+    SpatialHashGrid(final double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Clear the grid and place all given instances of {@link Collider} in the cells covered by their BoundingBox.
+     *
+     * @param colliders the {@link List} of instances of {@link Collider} that should be placed in the grid
+     */
+    @Override
+    public void prepare(final List<Collider> colliders) {
+        if (cells.size() - occupiedCells.size() > MAX_RETAINED_EMPTY_CELLS + occupiedCells.size()) {
+            cells.clear();
+        }
+        occupiedCells.forEach(Cell::clear);
+        occupiedCells.clear();
+        oversized.clear();
+
+        this.colliders = colliders;
+        indices.clear();
+        if (marks.length < colliders.size()) {
+            marks = new int[colliders.size()];
+            hits = new int[colliders.size()];
+            placements = new byte[colliders.size()];
+            placedCells = new long[colliders.size() * 4];
+            stamp = 0;
+        }
+
+        for (var i = 0; i < colliders.size(); i++) {
+            insert(i, colliders.get(i).getBoundingBox());
+        }
+    }
+
+    /**
+     * Gather all instances of {@link Collider} that share at least one cell with the given {@link Collided}.
+     *
+     * @param collided the {@link Collided} for which the candidates should be gathered
+     * @param result   the {@link List} to which the candidates will be added, after it has been cleared
+     * @return the given {@code result}, containing the candidates in the order of registration
+     */
+    @Override
+    public List<Collider> query(final Collided collided, final List<Collider> result) {
+        result.clear();
+
+        var bounds = collided.getBoundingBox();
+
+        if (!BroadPhase.isPlaceable(bounds)) {
+            return result;
+        }
+
+        nextStamp();
+        var hitCount = collect(oversized, 0);
+
+        if (coveredCells(bounds) > MAX_CELLS_PER_COLLIDER) {
+            for (var index = 0; index < colliders.size(); index++) {
+                hitCount = mark(index, hitCount);
+            }
+        } else {
+            var minX = toCell(bounds.getMinX());
+            var maxX = toCell(bounds.getMaxX());
+            var minY = toCell(bounds.getMinY());
+            var maxY = toCell(bounds.getMaxY());
+
+            for (var x = minX; x <= maxX; x++) {
+                for (var y = minY; y <= maxY; y++) {
+                    var cell = cells.get(key(x, y));
+                    if (cell != null) {
+                        hitCount = collect(cell, hitCount);
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(hits, 0, hitCount);
+        for (var i = 0; i < hitCount; i++) {
+            result.add(colliders.get(hits[i]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove the given {@link Collider} from the cells it was placed in, and place it in the cells that are covered
+     * by its current BoundingBox. A {@link Collider} that was not passed to {@link #prepare(List)} is ignored.
+     *
+     * @param collider the {@link Collider} that has moved
+     */
+    @Override
+    public void refresh(final Collider collider) {
+        if (indices.isEmpty()) {
+            for (var i = 0; i < colliders.size(); i++) {
+                indices.put(colliders.get(i), i);
+            }
+        }
+
+        var index = indices.get(collider);
+        if (index == null) {
+            return;
+        }
+
+        if (placements[index] == OVERSIZED) {
+            oversized.remove(index);
+        } else if (placements[index] == IN_CELLS) {
+            var offset = index * 4;
+            for (var x = placedCells[offset]; x <= placedCells[offset + 1]; x++) {
+                for (var y = placedCells[offset + 2]; y <= placedCells[offset + 3]; y++) {
+                    cells.get(key(x, y)).remove(index);
+                }
+            }
+        }
+
+        insert(index, collider.getBoundingBox());
+    }
+
+    private void insert(final int index, final Bounds bounds) {
+        placements[index] = NOT_PLACED;
+
+        if (!BroadPhase.isPlaceable(bounds)) {
+            return;
+        }
+
+        if (coveredCells(bounds) > MAX_CELLS_PER_COLLIDER) {
+            placements[index] = OVERSIZED;
+            oversized.add(index);
+            return;
+        }
+
+        var minX = toCell(bounds.getMinX());
+        var maxX = toCell(bounds.getMaxX());
+        var minY = toCell(bounds.getMinY());
+        var maxY = toCell(bounds.getMaxY());
+
+        placements[index] = IN_CELLS;
+        var offset = index * 4;
+        placedCells[offset] = minX;
+        placedCells[offset + 1] = maxX;
+        placedCells[offset + 2] = minY;
+        placedCells[offset + 3] = maxY;
+
+        for (var x = minX; x <= maxX; x++) {
+            for (var y = minY; y <= maxY; y++) {
+                var cell = cells.computeIfAbsent(key(x, y), k -> new Cell());
+                if (!cell.occupied) {
+                    cell.occupied = true;
+                    occupiedCells.add(cell);
+                }
+                cell.add(index);
+            }
+        }
+    }
+
+    private int collect(final Cell cell, int hitCount) {
+        for (var i = 0; i < cell.size; i++) {
+            hitCount = mark(cell.indices[i], hitCount);
+        }
+        return hitCount;
+    }
+
+    private int mark(final int index, final int hitCount) {
+        if (marks[index] == stamp) {
+            return hitCount;
+        }
+        marks[index] = stamp;
+        hits[hitCount] = index;
+        return hitCount + 1;
+    }
+
+    private void nextStamp() {
+        stamp++;
+        if (stamp == 0) {
+            Arrays.fill(marks, 0);
+            stamp = 1;
+        }
+    }
+
+    private double coveredCells(final Bounds bounds) {
+        var columns = (double) toCell(bounds.getMaxX()) - toCell(bounds.getMinX()) + 1;
+        var rows = (double) toCell(bounds.getMaxY()) - toCell(bounds.getMinY()) + 1;
+        return columns * rows;
+    }
+
+    private long toCell(final double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(final long x, final long y) {
+        return (x << 32) ^ (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A single cell of the grid, containing the indices of the instances of {@link Collider} it contains.
+     */
+    private static class Cell {
+
+        private int[] indices = new int[4];
+        private int size;
+        private boolean occupied;
+
+        void add(final int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+
+        void remove(final int index) {
+            for (var i = 0; i < size; i++) {
+                if (indices[i] == index) {
+                    indices[i] = indices[--size];
+                    return;
+                }
+            }
+        }
+
+        void clear() {
+            size = 0;
+            occupied = false;
+        }
+    }
+}
@@ -3,18 +3,26 @@ package com.github.hanyaeger.api.engine.entities.entity.motion;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import javafx.geometry.Point2D;
 
-import java.util.Optional;
-
 /**
  * A {@link MotionApplier} is an implementation of {@link MotionApplier} that does not abide
  * the laws of Physics and only provides basis behaviour regarding speed and direction.
+ * <p>
+ * The motion is stored as two primitive {@code double} values, so applying and changing the motion does not
+ * create any new objects. Only the new location itself is created on {@link #updateLocation(Point2D)}.
  */
 public class MotionApplier implements MotionModifier, NewtonianModifier, LocationUpdater {
 
-    private static final Point2D IDENTITY_MOTION = new Point2D(0, 1);
-    private static final Point2D NON_MOTION = new Point2D(0, 0);
-    private Optional<Double> direction = Optional.empty();
-    private Coordinate2D motion;
+    private static final double IDENTITY_MOTION_X = 0;
+    private static final double IDENTITY_MOTION_Y = 1;
+
+    private double dx;
+    private double dy;
+
+    private boolean directionRetained = false;
+    private double retainedDirection;
+
+    private boolean directionCached = false;
+    private double cachedDirection;
 
     public static final double DEFAULT_GRAVITATIONAL_CONSTANT = 0.2d;
     public static final double DEFAULT_FRICTION_CONSTANT = 0.01d;
@@ -30,7 +38,7 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
      * Create a new instance of {@link MotionApplier}.
      */
     public MotionApplier() {
-        motion = new Coordinate2D();
+        setMotionVector(0, 0);
     }
 
     @Override
@@ -51,26 +59,31 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
 
     @Override
     public void addToMotion(final double speed, final double direction) {
-        motion = motion.add(createVector(speed, direction));
+        final var angleInRadians = Math.toRadians(direction);
+
+        setMotionVector(dx + Math.sin(angleInRadians) * speed, dy + Math.cos(angleInRadians) * speed);
     }
 
     @Override
     public void setSpeed(final double newSpeed) {
         if (Double.compare(newSpeed, 0d) == 0) {
-            if (NON_MOTION.equals(this.motion)) {
-                this.direction = Optional.of(Direction.DOWN.getValue());
+            if (isStationary()) {
+                retainDirection(Direction.DOWN.getValue());
             } else {
-                this.direction = Optional.of(this.motion.angle(new Point2D(0, 1)));
+                retainDirection(angle(dx, dy));
             }
         }
 
-        if (this.motion.equals(new Coordinate2D(0, 0))) {
-            this.motion = new Coordinate2D(0, newSpeed);
+        if (isStationary()) {
+            setMotionVector(0, newSpeed);
         } else {
-            this.motion = new Coordinate2D((this.motion.normalize().multiply(newSpeed)));
+            final var magnitude = magnitude();
+            setMotionVector(dx / magnitude * newSpeed, dy / magnitude * newSpeed);
         }
 
-        this.direction.ifPresent(this::setDirection);
+        if (directionRetained) {
+            setDirection(retainedDirection);
+        }
     }
 
     @Override
@@ -80,11 +93,15 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
 
     @Override
     public void setDirection(final double direction) {
-        if (Double.compare(0, motion.magnitude()) == 0) {
-            this.direction = Optional.of(direction);
+        final var magnitude = magnitude();
+
+        if (Double.compare(0, magnitude) == 0) {
+            retainDirection(direction);
         } else {
-            motion = createVector(motion.magnitude(), direction);
-            this.direction = Optional.empty();
+            final var angleInRadians = Math.toRadians(direction);
+
+            setMotionVector(Math.sin(angleInRadians) * magnitude, Math.cos(angleInRadians) * magnitude);
+            directionRetained = false;
         }
     }
 
@@ -130,17 +147,21 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
 
     @Override
     public double getSpeed() {
-        return motion.magnitude();
+        return magnitude();
     }
 
     @Override
     public void incrementSpeed(final double increment) {
-        motion = motion.add(motion.normalize().multiply(increment));
+        final var magnitude = magnitude();
+
+        if (magnitude != 0.0) {
+            setMotionVector(dx + dx / magnitude * increment, dy + dy / magnitude * increment);
+        }
     }
 
     @Override
     public void multiplySpeed(final double multiplication) {
-        motion = new Coordinate2D(motion.multiply(multiplication));
+        setMotionVector(dx * multiplication, dy * multiplication);
     }
 
     @Override
@@ -152,17 +173,20 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
 
     @Override
     public double getDirection() {
-        if (direction.isPresent()) {
-            return direction.get();
-        } else {
-            double currentAngle = motion.angle(IDENTITY_MOTION);
+        if (directionRetained) {
+            return retainedDirection;
+        }
 
-            if (motion.getX() < 0) {
-                currentAngle = 360 - currentAngle;
-            }
+        if (!directionCached) {
+            cachedDirection = angle(dx, dy);
 
-            return currentAngle;
+            if (dx < 0) {
+                cachedDirection = 360 - cachedDirection;
+            }
+            directionCached = true;
         }
+
+        return cachedDirection;
     }
 
     /**
@@ -171,19 +195,48 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
      * @return a {@link Coordinate2D} representing the transformation applied on {@link LocationUpdater#updateLocation(Point2D)}
      */
     public Coordinate2D get() {
-        return motion;
+        return new Coordinate2D(dx, dy);
     }
 
     @Override
     public Coordinate2D updateLocation(final Point2D currentLocation) {
-        return new Coordinate2D(currentLocation.add(motion));
+        return new Coordinate2D(currentLocation.getX() + dx, currentLocation.getY() + dy);
     }
 
-    private Coordinate2D createVector(final double speed, final double direction) {
-        final var angleInRadians = Math.toRadians(direction);
-        final var x = Math.sin(angleInRadians);
-        final var y = Math.cos(angleInRadians);
+    private void setMotionVector(final double dx, final double dy) {
+        this.dx = dx;
+        this.dy = dy;
+        this.directionCached = false;
+    }
+
+    private void retainDirection(final double direction) {
+        this.retainedDirection = direction;
+        this.directionRetained = true;
+    }
+
+    private boolean isStationary() {
+        return dx == 0 && dy == 0;
+    }
+
+    private double magnitude() {
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Calculate the angle between the given vector and the identity motion, in the same way as
+     * {@link Point2D#angle(double, double)} does, but without creating a new {@link Point2D}.
+     */
+    private static double angle(final double x, final double y) {
+        final var delta = (x * IDENTITY_MOTION_X + y * IDENTITY_MOTION_Y)
+                / Math.sqrt((x * x + y * y) * (IDENTITY_MOTION_X * IDENTITY_MOTION_X + IDENTITY_MOTION_Y * IDENTITY_MOTION_Y));
+
+        if (delta > 1.0) {
+            return 0.0;
+        }
+        if (delta < -1.0) {
+            return 180.0;
+        }
 
-        return new Coordinate2D(new Coordinate2D(x, y).multiply(speed));
+        return Math.toDegrees(Math.acos(delta));
     }
 }
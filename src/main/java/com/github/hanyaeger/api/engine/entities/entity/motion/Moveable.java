@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.entities.entity.motion;
 
+import com.github.hanyaeger.api.engine.IndependentUpdatable;
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
 import com.github.hanyaeger.api.engine.entities.entity.Placeable;
@@ -89,7 +90,7 @@ public interface Moveable extends Placeable, MotionModifier {
 
     @UpdatableProvider(asFirst = true)
     default Updatable updateLocation() {
-        return timestamp -> {
+        return (IndependentUpdatable) timestamp -> {
             if (Double.compare(getSpeed(), 0D) == 0) {
                 return;
             }
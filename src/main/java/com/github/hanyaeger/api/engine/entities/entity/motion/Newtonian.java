@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.entities.entity.motion;
 
+import com.github.hanyaeger.api.engine.IndependentUpdatable;
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
 
@@ -52,7 +53,7 @@ public interface Newtonian extends BufferedMoveable, NewtonianModifier {
 
     @UpdatableProvider
     default Updatable addSimplePhysics() {
-        return timestamp -> {
+        return (IndependentUpdatable) timestamp -> {
             if (getMotionApplier().isGravitationalPull()) {
                 addToMotion(getMotionApplier().getGravityConstant(), getMotionApplier().getGravityDirection());
             }
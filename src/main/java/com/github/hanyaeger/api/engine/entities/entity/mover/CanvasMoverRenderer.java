@@ -0,0 +1,78 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.Size;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * A {@link CanvasMoverRenderer} draws all movers onto a single {@link Canvas}, which is far cheaper than a
+ * {@link Node} per mover. By default each mover is drawn as a filled square, centered on its location. Override
+ * {@link #draw(GraphicsContext, MoverStore, int)} to draw the movers differently, for instance as an image.
+ */
+public class CanvasMoverRenderer implements MoverRenderer {
+
+    private final Canvas canvas;
+    private final double moverSize;
+    private final Color color;
+
+    /**
+     * Create a new {@link CanvasMoverRenderer}.
+     *
+     * @param canvasSize the {@link Size} of the {@link Canvas}, which is usually the size of the
+     *                   {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}
+     * @param moverSize  the width and height of a single mover
+     * @param color      the {@link Color} of the movers
+     */
+    public CanvasMoverRenderer(final Size canvasSize, final double moverSize, final Color color) {
+        this(new Canvas(canvasSize.getWidth(), canvasSize.getHeight()), moverSize, color);
+    }
+
+    CanvasMoverRenderer(final Canvas canvas, final double moverSize, final Color color) {
+        this.canvas = canvas;
+        this.moverSize = moverSize;
+        this.color = color;
+    }
+
+    @Override
+    public Node getNode() {
+        return canvas;
+    }
+
+    @Override
+    public void render(final MoverStore movers) {
+        var gc = canvas.getGraphicsContext2D();
+
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFill(color);
+
+        for (var i = 0; i < movers.size(); i++) {
+            draw(gc, movers, i);
+        }
+    }
+
+    /**
+     * Draw a single mover. The fill of the {@link GraphicsContext} has been set to the {@link Color} of this
+     * {@link CanvasMoverRenderer}.
+     *
+     * @param gc     the {@link GraphicsContext} of the {@link Canvas}
+     * @param movers the {@link MoverStore} containing the movers
+     * @param index  the index of the mover to be drawn
+     */
+    protected void draw(final GraphicsContext gc, final MoverStore movers, final int index) {
+        var halfSize = moverSize / 2;
+        var rotation = movers.rotation[index];
+
+        if (rotation == 0) {
+            gc.fillRect(movers.x[index] - halfSize, movers.y[index] - halfSize, moverSize, moverSize);
+        } else {
+            // Only rotated movers require the transformation of the GraphicsContext to be changed
+            gc.save();
+            gc.translate(movers.x[index], movers.y[index]);
+            gc.rotate(-rotation);
+            gc.fillRect(-halfSize, -halfSize, moverSize, moverSize);
+            gc.restore();
+        }
+    }
+}
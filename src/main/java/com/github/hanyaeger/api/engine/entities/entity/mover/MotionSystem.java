@@ -0,0 +1,22 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+/**
+ * A {@link MotionSystem} moves all movers according to their speed and direction, just like
+ * {@link com.github.hanyaeger.api.engine.entities.entity.motion.Moveable} does for a single
+ * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity}.
+ */
+public class MotionSystem implements MoverSystem {
+
+    @Override
+    public void apply(final MoverStore movers) {
+        var x = movers.x;
+        var y = movers.y;
+        var dx = movers.dx;
+        var dy = movers.dy;
+
+        for (var i = 0; i < movers.size(); i++) {
+            x[i] += dx[i];
+            y[i] += dy[i];
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link MoverEntity} manages a large number of movers: simple moving objects, such as particles, bullets or
+ * debris, that would be too expensive to be modelled as a {@link YaegerEntity} each. The state of all movers is
+ * stored in a {@link MoverStore} and on each Game World Update all movers are processed at once by a list of
+ * {@link MoverSystem}, after which they are displayed by a {@link MoverRenderer}.
+ * <p>
+ * By default the {@link MotionSystem}, {@link NewtonianSystem} and {@link RotationSystem} are applied, in that order,
+ * which matches the behaviour of a {@link YaegerEntity} that is both
+ * {@link com.github.hanyaeger.api.engine.entities.entity.motion.Newtonian} and
+ * {@link com.github.hanyaeger.api.engine.entities.entity.ContinuousRotatable}. Gravity and friction are only applied
+ * to movers for which a gravitational or friction constant has been set.
+ * <p>
+ * The location of each mover is relative to the anchor location of this {@link MoverEntity}. Movers are not part of
+ * the collision detection.
+ */
+public abstract class MoverEntity extends YaegerEntity implements Updatable {
+
+    private final MoverStore movers = new MoverStore();
+    private final MoverRenderer renderer;
+    private final List<MoverSystem> systems = new ArrayList<>(List.of(new MotionSystem(), new NewtonianSystem(), new RotationSystem()));
+
+    /**
+     * Create a new {@link MoverEntity}.
+     *
+     * @param initialLocation the initial {@link Coordinate2D} of this {@link MoverEntity}
+     * @param renderer        the {@link MoverRenderer} that displays the movers
+     */
+    public MoverEntity(final Coordinate2D initialLocation, final MoverRenderer renderer) {
+        super(initialLocation);
+        this.renderer = renderer;
+    }
+
+    /**
+     * Return the {@link MoverStore} containing all movers of this {@link MoverEntity}.
+     *
+     * @return the {@link MoverStore}
+     */
+    public MoverStore getMovers() {
+        return movers;
+    }
+
+    /**
+     * Replace the instances of {@link MoverSystem} that are applied on each Game World Update.
+     *
+     * @param systems the instances of {@link MoverSystem} to be applied, in order
+     */
+    public void setSystems(final MoverSystem... systems) {
+        this.systems.clear();
+        this.systems.addAll(List.of(systems));
+    }
+
+    /**
+     * Called on each Game World Update, after all instances of {@link MoverSystem} have been applied and before the
+     * movers are displayed. Use this method to add or remove movers, for instance those that have left the
+     * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     *
+     * @param movers    the {@link MoverStore} containing the movers
+     * @param timestamp the timestamp of the Game World Update
+     */
+    protected void updateMovers(final MoverStore movers, final long timestamp) {
+    }
+
+    @Override
+    public void update(final long timestamp) {
+        for (var system : systems) {
+            system.apply(movers);
+        }
+
+        updateMovers(movers, timestamp);
+
+        renderer.render(movers);
+    }
+
+    @Override
+    public void addToEntityCollection(final EntityCollection collection) {
+        collection.addDynamicEntity(this);
+    }
+
+    @Override
+    public void setAnchorLocation(final Coordinate2D anchorLocation) {
+        super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
+        var node = renderer.getNode();
+        node.setLayoutX(anchorLocation.getX());
+        node.setLayoutY(anchorLocation.getY());
+    }
+
+    /**
+     * The {@link Node} of a {@link MoverEntity} is placed through its layout, so the offset is added to the anchor
+     * location.
+     */
+    @Override
+    protected void applyInterpolationOffset(final double x, final double y) {
+        super.applyInterpolationOffset(x, y);
+
+        var node = renderer.getNode();
+        node.setLayoutX(getAnchorLocation().getX() + x);
+        node.setLayoutY(getAnchorLocation().getY() + y);
+    }
+
+    @Override
+    public Optional<Node> getNode() {
+        return Optional.of(renderer.getNode());
+    }
+}
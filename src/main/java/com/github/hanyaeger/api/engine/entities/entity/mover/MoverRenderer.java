@@ -0,0 +1,23 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import javafx.scene.Node;
+
+/**
+ * A {@link MoverRenderer} displays all movers of a {@link MoverStore} through a single JavaFX {@link Node}.
+ */
+public interface MoverRenderer {
+
+    /**
+     * Return the {@link Node} through which the movers are displayed.
+     *
+     * @return the {@link Node} of this {@link MoverRenderer}
+     */
+    Node getNode();
+
+    /**
+     * Display the current state of all movers. This method is called once per Game World Update.
+     *
+     * @param movers the {@link MoverStore} containing the movers
+     */
+    void render(MoverStore movers);
+}
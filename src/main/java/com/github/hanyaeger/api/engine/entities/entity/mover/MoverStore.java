@@ -0,0 +1,347 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import java.util.Arrays;
+
+/**
+ * A {@link MoverStore} contains a large number of movers: simple moving objects, such as particles, that are too
+ * numerous to be modelled as a {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity} each. Instead of
+ * an object per mover, the state of all movers is stored in one primitive array per property, which can be processed
+ * in a single pass by an instance of {@link MoverSystem}.
+ * <p>
+ * Each mover is identified by its index, which lies between {@code 0} and {@link #size()}. When a mover is removed,
+ * the last mover takes its place, so indices are not stable. When removing movers while iterating over them, always
+ * iterate backwards.
+ * <p>
+ * The built-in instances of {@link MoverSystem} access the arrays directly. A custom {@link MoverSystem} reads and
+ * changes each mover through the getters and setters of this {@link MoverStore}, which check the index.
+ */
+public class MoverStore {
+
+    /**
+     * The number of movers for which space is reserved by a new {@link MoverStore}.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private int size;
+
+    double[] x;
+    double[] y;
+    double[] dx;
+    double[] dy;
+    double[] rotation;
+    double[] rotationSpeed;
+    double[] gravityConstant;
+    double[] frictionConstant;
+
+    /**
+     * Create a new {@link MoverStore} with the {@link #DEFAULT_CAPACITY}.
+     */
+    public MoverStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new {@link MoverStore}. The capacity grows when more movers are added.
+     *
+     * @param capacity the number of movers for which space should be reserved
+     */
+    public MoverStore(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of a MoverStore should be larger than 0.");
+        }
+
+        x = new double[capacity];
+        y = new double[capacity];
+        dx = new double[capacity];
+        dy = new double[capacity];
+        rotation = new double[capacity];
+        rotationSpeed = new double[capacity];
+        gravityConstant = new double[capacity];
+        frictionConstant = new double[capacity];
+    }
+
+    /**
+     * Add a mover to this {@link MoverStore}. The mover is not affected by gravity, friction or rotation.
+     *
+     * @param x         the x-coordinate of the mover
+     * @param y         the y-coordinate of the mover
+     * @param speed     the speed of the mover, in pixels per Game World Update
+     * @param direction the direction of the mover in degrees, where {@code 0} means down
+     * @return the index of the new mover
+     */
+    public int add(final double x, final double y, final double speed, final double direction) {
+        if (size == this.x.length) {
+            grow();
+        }
+
+        var index = size++;
+        var angleInRadians = Math.toRadians(direction);
+
+        this.x[index] = x;
+        this.y[index] = y;
+        this.dx[index] = Math.sin(angleInRadians) * speed;
+        this.dy[index] = Math.cos(angleInRadians) * speed;
+        this.rotation[index] = 0;
+        this.rotationSpeed[index] = 0;
+        this.gravityConstant[index] = 0;
+        this.frictionConstant[index] = 0;
+
+        return index;
+    }
+
+    /**
+     * Remove the mover with the given index. The last mover is moved to this index.
+     *
+     * @param index the index of the mover to be removed
+     */
+    public void remove(final int index) {
+        checkIndex(index);
+
+        var last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            dx[index] = dx[last];
+            dy[index] = dy[last];
+            rotation[index] = rotation[last];
+            rotationSpeed[index] = rotationSpeed[last];
+            gravityConstant[index] = gravityConstant[last];
+            frictionConstant[index] = frictionConstant[last];
+        }
+    }
+
+    /**
+     * Remove all movers whose location lies outside the given area, such as movers that have left the
+     * {@link com.github.hanyaeger.api.engine.scenes.YaegerScene}.
+     *
+     * @param minX the minimal x-coordinate
+     * @param minY the minimal y-coordinate
+     * @param maxX the maximal x-coordinate
+     * @param maxY the maximal y-coordinate
+     */
+    public void removeOutside(final double minX, final double minY, final double maxX, final double maxY) {
+        for (var i = size - 1; i >= 0; i--) {
+            if (x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) {
+                remove(i);
+            }
+        }
+    }
+
+    /**
+     * Remove all movers.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Return the number of movers in this {@link MoverStore}.
+     *
+     * @return the number of movers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the x-coordinate of a mover.
+     *
+     * @param index the index of the mover
+     * @return the x-coordinate
+     */
+    public double getX(final int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    /**
+     * Return the y-coordinate of a mover.
+     *
+     * @param index the index of the mover
+     * @return the y-coordinate
+     */
+    public double getY(final int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    /**
+     * Return the rotation of a mover.
+     *
+     * @param index the index of the mover
+     * @return the rotation in degrees
+     */
+    public double getRotation(final int index) {
+        checkIndex(index);
+        return rotation[index];
+    }
+
+    /**
+     * Return the rotation speed of a mover.
+     *
+     * @param index the index of the mover
+     * @return the rotation speed in degrees per Game World Update
+     */
+    public double getRotationSpeed(final int index) {
+        checkIndex(index);
+        return rotationSpeed[index];
+    }
+
+    /**
+     * Return the horizontal component of the velocity of a mover.
+     *
+     * @param index the index of the mover
+     * @return the change of the x-coordinate per Game World Update
+     */
+    public double getVelocityX(final int index) {
+        checkIndex(index);
+        return dx[index];
+    }
+
+    /**
+     * Return the vertical component of the velocity of a mover.
+     *
+     * @param index the index of the mover
+     * @return the change of the y-coordinate per Game World Update
+     */
+    public double getVelocityY(final int index) {
+        checkIndex(index);
+        return dy[index];
+    }
+
+    /**
+     * Return the gravitational constant of a mover.
+     *
+     * @param index the index of the mover
+     * @return the gravitational constant, or {@code 0} if the mover is not affected by gravity
+     */
+    public double getGravityConstant(final int index) {
+        checkIndex(index);
+        return gravityConstant[index];
+    }
+
+    /**
+     * Return the friction constant of a mover.
+     *
+     * @param index the index of the mover
+     * @return the friction constant, or {@code 0} if the mover is not affected by friction
+     */
+    public double getFrictionConstant(final int index) {
+        checkIndex(index);
+        return frictionConstant[index];
+    }
+
+    /**
+     * Return the speed of a mover.
+     *
+     * @param index the index of the mover
+     * @return the speed in pixels per Game World Update
+     */
+    public double getSpeed(final int index) {
+        checkIndex(index);
+        return Math.hypot(dx[index], dy[index]);
+    }
+
+    /**
+     * Set the location of a mover.
+     *
+     * @param index the index of the mover
+     * @param x     the new x-coordinate
+     * @param y     the new y-coordinate
+     */
+    public void setLocation(final int index, final double x, final double y) {
+        checkIndex(index);
+        this.x[index] = x;
+        this.y[index] = y;
+    }
+
+    /**
+     * Set the velocity of a mover through its horizontal and vertical components.
+     *
+     * @param index     the index of the mover
+     * @param velocityX the change of the x-coordinate per Game World Update
+     * @param velocityY the change of the y-coordinate per Game World Update
+     */
+    public void setVelocity(final int index, final double velocityX, final double velocityY) {
+        checkIndex(index);
+        this.dx[index] = velocityX;
+        this.dy[index] = velocityY;
+    }
+
+    /**
+     * Set the velocity of a mover through its speed and direction.
+     *
+     * @param index     the index of the mover
+     * @param speed     the speed in pixels per Game World Update
+     * @param direction the direction in degrees, where {@code 0} means down
+     */
+    public void setMotion(final int index, final double speed, final double direction) {
+        var angleInRadians = Math.toRadians(direction);
+        setVelocity(index, Math.sin(angleInRadians) * speed, Math.cos(angleInRadians) * speed);
+    }
+
+    /**
+     * Set the rotation of a mover.
+     *
+     * @param index    the index of the mover
+     * @param rotation the rotation in degrees
+     */
+    public void setRotation(final int index, final double rotation) {
+        checkIndex(index);
+        this.rotation[index] = rotation;
+    }
+
+    /**
+     * Set the rotation speed of a mover, which is added to its rotation on each Game World Update.
+     *
+     * @param index         the index of the mover
+     * @param rotationSpeed the rotation speed in degrees per Game World Update
+     */
+    public void setRotationSpeed(final int index, final double rotationSpeed) {
+        checkIndex(index);
+        this.rotationSpeed[index] = rotationSpeed;
+    }
+
+    /**
+     * Set the gravitational constant of a mover. A value of {@code 0} means the mover is not affected by gravity.
+     *
+     * @param index           the index of the mover
+     * @param gravityConstant the gravitational constant, see
+     *                        {@link com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier#DEFAULT_GRAVITATIONAL_CONSTANT}
+     */
+    public void setGravityConstant(final int index, final double gravityConstant) {
+        checkIndex(index);
+        this.gravityConstant[index] = gravityConstant;
+    }
+
+    /**
+     * Set the friction constant of a mover. A value of {@code 0} means the mover is not affected by friction.
+     *
+     * @param index            the index of the mover
+     * @param frictionConstant the friction constant, see
+     *                         {@link com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier#DEFAULT_FRICTION_CONSTANT}
+     */
+    public void setFrictionConstant(final int index, final double frictionConstant) {
+        checkIndex(index);
+        this.frictionConstant[index] = frictionConstant;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size + " movers.");
+        }
+    }
+
+    private void grow() {
+        var capacity = x.length * 2;
+
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        dx = Arrays.copyOf(dx, capacity);
+        dy = Arrays.copyOf(dy, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        rotationSpeed = Arrays.copyOf(rotationSpeed, capacity);
+        gravityConstant = Arrays.copyOf(gravityConstant, capacity);
+        frictionConstant = Arrays.copyOf(frictionConstant, capacity);
+    }
+}
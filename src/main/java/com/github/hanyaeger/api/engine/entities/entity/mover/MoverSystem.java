@@ -0,0 +1,15 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+/**
+ * A {@link MoverSystem} applies a single kind of behaviour, such as motion or gravity, to all movers in a
+ * {@link MoverStore} at once.
+ */
+public interface MoverSystem {
+
+    /**
+     * Apply the behaviour of this {@link MoverSystem} to all movers in the given {@link MoverStore}.
+     *
+     * @param movers the {@link MoverStore} containing the movers
+     */
+    void apply(MoverStore movers);
+}
@@ -0,0 +1,52 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
+
+/**
+ * A {@link NewtonianSystem} applies gravity and friction to all movers, just like
+ * {@link com.github.hanyaeger.api.engine.entities.entity.motion.Newtonian} does for a single
+ * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity}. The strength of both is set per mover,
+ * through {@link MoverStore#setGravityConstant(int, double)} and {@link MoverStore#setFrictionConstant(int, double)}.
+ */
+public class NewtonianSystem implements MoverSystem {
+
+    private final double gravityX;
+    private final double gravityY;
+
+    /**
+     * Create a new {@link NewtonianSystem} with a downward gravitational pull.
+     */
+    public NewtonianSystem() {
+        this(Direction.DOWN.getValue());
+    }
+
+    /**
+     * Create a new {@link NewtonianSystem}.
+     *
+     * @param gravityDirection the direction of the gravitational pull in degrees, where {@code 0} means down
+     */
+    public NewtonianSystem(final double gravityDirection) {
+        var angleInRadians = Math.toRadians(gravityDirection);
+
+        gravityX = Math.sin(angleInRadians);
+        gravityY = Math.cos(angleInRadians);
+    }
+
+    @Override
+    public void apply(final MoverStore movers) {
+        var dx = movers.dx;
+        var dy = movers.dy;
+        var gravityConstant = movers.gravityConstant;
+        var frictionConstant = movers.frictionConstant;
+
+        for (var i = 0; i < movers.size(); i++) {
+            dx[i] += gravityX * gravityConstant[i];
+            dy[i] += gravityY * gravityConstant[i];
+
+            // Friction decreases the speed by a fraction of itself, while retaining the direction
+            var remaining = 1 - frictionConstant[i];
+            dx[i] *= remaining;
+            dy[i] *= remaining;
+        }
+    }
+}
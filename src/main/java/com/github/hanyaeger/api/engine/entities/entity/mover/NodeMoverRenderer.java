@@ -0,0 +1,65 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+
+/**
+ * A {@link NodeMoverRenderer} displays each mover through its own {@link Node}, which is placed at the location of the
+ * mover. All these instances of {@link Node} are children of a single {@link Group} and are reused when movers are
+ * removed and added, so the scene graph only changes when the number of movers changes.
+ * <p>
+ * Since each {@link Node} is part of the scene graph, a {@link CanvasMoverRenderer} performs far better for large
+ * numbers of movers.
+ */
+public abstract class NodeMoverRenderer implements MoverRenderer {
+
+    private final Group group;
+
+    /**
+     * Create a new {@link NodeMoverRenderer}.
+     */
+    public NodeMoverRenderer() {
+        this(new Group());
+    }
+
+    NodeMoverRenderer(final Group group) {
+        this.group = group;
+    }
+
+    /**
+     * Create the {@link Node} that displays a single mover. Its origin is placed at the location of the mover.
+     *
+     * @return a new {@link Node}
+     */
+    protected abstract Node createNode();
+
+    @Override
+    public Node getNode() {
+        return group;
+    }
+
+    @Override
+    public void render(final MoverStore movers) {
+        var children = group.getChildren();
+        var size = movers.size();
+
+        if (children.size() > size) {
+            children.remove(size, children.size());
+        } else if (children.size() < size) {
+            var nodes = new ArrayList<Node>(size - children.size());
+            for (var i = children.size(); i < size; i++) {
+                nodes.add(createNode());
+            }
+            children.addAll(nodes);
+        }
+
+        for (var i = 0; i < size; i++) {
+            var node = children.get(i);
+            node.setLayoutX(movers.x[i]);
+            node.setLayoutY(movers.y[i]);
+            node.setRotate(-movers.rotation[i]);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+/**
+ * A {@link RotationSystem} rotates all movers according to their rotation speed, just like
+ * {@link com.github.hanyaeger.api.engine.entities.entity.ContinuousRotatable} does for a single
+ * {@link com.github.hanyaeger.api.engine.entities.entity.YaegerEntity}.
+ */
+public class RotationSystem implements MoverSystem {
+
+    @Override
+    public void apply(final MoverStore movers) {
+        var rotation = movers.rotation;
+        var rotationSpeed = movers.rotationSpeed;
+
+        for (var i = 0; i < movers.size(); i++) {
+            rotation[i] += rotationSpeed[i];
+        }
+    }
+}
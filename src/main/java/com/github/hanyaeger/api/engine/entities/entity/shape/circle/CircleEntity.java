@@ -2,8 +2,10 @@ package com.github.hanyaeger.api.engine.entities.entity.shape.circle;
 
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.github.hanyaeger.api.engine.entities.entity.shape.CenteredShapeEntity;
 import com.google.inject.Injector;
+import javafx.scene.Node;
 import javafx.scene.shape.Circle;
 
 /**
@@ -36,6 +38,7 @@ public abstract class CircleEntity extends CenteredShapeEntity<Circle> {
      */
     public void setRadius(final double radius) {
         shape.ifPresentOrElse(circle -> circle.setRadius(radius), () -> this.radius = radius);
+        notifyBoundsChange();
     }
 
     /**
@@ -51,12 +54,27 @@ public abstract class CircleEntity extends CenteredShapeEntity<Circle> {
     @Override
     public final void setAnchorLocation(Coordinate2D anchorLocation) {
         super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
         shape.ifPresent(circle -> {
             circle.setCenterX(anchorLocation.getX());
             circle.setCenterY(anchorLocation.getY());
         });
     }
 
+    @Override
+    protected void updateCollisionGeometry(final CollisionGeometry geometry, final Node node) {
+        if (shape.isPresent()) {
+            var circle = shape.get();
+            geometry.setCircle(circle.getCenterX(), circle.getCenterY(), circle.getRadius(), node.getLocalToSceneTransform());
+        } else {
+            super.updateCollisionGeometry(geometry, node);
+        }
+    }
+
     @Override
     public void init(final Injector injector) {
         super.init(injector);
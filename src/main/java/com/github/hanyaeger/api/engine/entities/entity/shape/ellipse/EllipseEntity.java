@@ -3,10 +3,12 @@ package com.github.hanyaeger.api.engine.entities.entity.shape.ellipse;
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.github.hanyaeger.api.engine.entities.entity.shape.CenteredShapeEntity;
 import com.github.hanyaeger.api.engine.entities.entity.shape.circle.CircleEntity;
 import com.github.hanyaeger.api.engine.entities.entity.shape.rectangle.RectangleEntity;
 import com.google.inject.Injector;
+import javafx.scene.Node;
 import javafx.scene.shape.Ellipse;
 
 /**
@@ -57,6 +59,7 @@ public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
      */
     public void setRadiusX(final double radiusX) {
         shape.ifPresentOrElse(ellipse -> ellipse.setRadiusX(radiusX), () -> this.radiusX = radiusX);
+        notifyBoundsChange();
     }
 
     /**
@@ -66,6 +69,7 @@ public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
      */
     public void setRadiusY(final double radiusY) {
         shape.ifPresentOrElse(ellipse -> ellipse.setRadiusY(radiusY), () -> this.radiusY = radiusY);
+        notifyBoundsChange();
     }
 
     /**
@@ -89,12 +93,27 @@ public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
     @Override
     public final void setAnchorLocation(final Coordinate2D anchorLocation) {
         super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
         shape.ifPresent(ellipse -> {
             ellipse.setCenterX(anchorLocation.getX());
             ellipse.setCenterY(anchorLocation.getY());
         });
     }
 
+    @Override
+    protected void updateCollisionGeometry(final CollisionGeometry geometry, final Node node) {
+        if (shape.isPresent()) {
+            var ellipse = shape.get();
+            geometry.setEllipse(ellipse.getCenterX(), ellipse.getCenterY(), ellipse.getRadiusX(), ellipse.getRadiusY(), node.getLocalToSceneTransform());
+        } else {
+            super.updateCollisionGeometry(geometry, node);
+        }
+    }
+
     @Override
     public void init(final Injector injector) {
         super.init(injector);
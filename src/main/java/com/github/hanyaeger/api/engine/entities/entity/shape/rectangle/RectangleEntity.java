@@ -52,6 +52,7 @@ public abstract class RectangleEntity extends ShapeEntity<Rectangle> {
      */
     public void setHeight(final double height) {
         shape.ifPresentOrElse(shape -> shape.setHeight(height), () -> this.height = height);
+        notifyBoundsChange();
     }
 
     /**
@@ -61,6 +62,7 @@ public abstract class RectangleEntity extends ShapeEntity<Rectangle> {
      */
     public void setWidth(final double width) {
         shape.ifPresentOrElse(shape -> shape.setWidth(width), () -> this.width = width);
+        notifyBoundsChange();
     }
 
     /**
@@ -120,6 +122,11 @@ public abstract class RectangleEntity extends ShapeEntity<Rectangle> {
     @Override
     public final void setAnchorLocation(Coordinate2D anchorLocation) {
         super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
         shape.ifPresent(rectangle -> {
             rectangle.setX(anchorLocation.getX());
             rectangle.setY(anchorLocation.getY());
@@ -48,6 +48,7 @@ public class TextEntity extends ShapeEntity<Text> {
      */
     public void setText(final String displayText) {
         shape.ifPresentOrElse(text -> text.setText(displayText), () -> this.text = displayText);
+        notifyBoundsChange();
     }
 
     /**
@@ -73,6 +74,7 @@ public class TextEntity extends ShapeEntity<Text> {
      */
     public void setFont(final Font font) {
         shape.ifPresentOrElse(text -> text.setFont(font), () -> this.font = font);
+        notifyBoundsChange();
     }
 
     /**
@@ -87,6 +89,11 @@ public class TextEntity extends ShapeEntity<Text> {
     @Override
     public final void setAnchorLocation(final Coordinate2D anchorLocation) {
         super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
         shape.ifPresent(text -> {
             text.setX(anchorLocation.getX());
             text.setY(anchorLocation.getY());
@@ -7,6 +7,7 @@ import javafx.scene.image.ImageView;
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
 import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
@@ -25,6 +26,7 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
     private final String resource;
     private final Size size;
     private boolean preserveAspectRatio = true;
+    private boolean pixelPerfectCollisions = false;
     private SpriteAnimationDelegateFactory spriteAnimationDelegateFactory;
     private ImageRepository imageRepository;
     private ImageViewFactory imageViewFactory;
@@ -33,6 +35,7 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
     private Optional<Integer> spriteIndex = Optional.empty();
     protected Optional<ImageView> imageView = Optional.empty();
     protected Optional<SpriteAnimationDelegate> spriteAnimationDelegate = Optional.empty();
+    private Optional<Node> canvas = Optional.empty();
 
     /**
      * Instantiate a new {@link SpriteEntity} for a given image.
@@ -108,6 +111,33 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
         this.preserveAspectRatio = preserveAspectRatio;
     }
 
+    /**
+     * Use the opaque pixels of the current frame of this {@link SpriteEntity} when checking for collisions, instead
+     * of its BoundingBox. The transparent pixels of the image then no longer cause collisions. This check is more
+     * expensive, so it is disabled by default. When this {@link SpriteEntity} is rotated or mirrored, its rotated
+     * bounds are used instead.
+     *
+     * @param pixelPerfectCollisions {@code true} if only the opaque pixels should collide, {@code false} otherwise
+     */
+    public void setPixelPerfectCollisions(final boolean pixelPerfectCollisions) {
+        this.pixelPerfectCollisions = pixelPerfectCollisions;
+    }
+
+    @Override
+    protected void updateCollisionGeometry(final CollisionGeometry geometry, final Node node) {
+        if (pixelPerfectCollisions && imageView.isPresent()) {
+            var mask = imageRepository.getCollisionMask(imageView.get().getImage(), imageView.get().getViewport());
+
+            if (mask.isPresent()) {
+                var bounds = node.getBoundsInLocal();
+                geometry.setMask(mask.get(), bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), node.getLocalToSceneTransform());
+                return;
+            }
+        }
+
+        super.updateCollisionGeometry(geometry, node);
+    }
+
     /**
      * Return the number of frames comprising this {@link SpriteEntity}.
      *
@@ -118,9 +148,23 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
     }
 
     private ImageView createImageView(final String resource, final double requestedWidth, final double requestedHeight, final boolean preserveAspectRatio) {
-        var image = imageRepository.get(resource, requestedWidth, requestedHeight, preserveAspectRatio);
+        var region = imageRepository.getRegion(resource, requestedWidth, requestedHeight, preserveAspectRatio);
 
-        return imageViewFactory.create(image);
+        var imageView = imageViewFactory.create(region.getImage());
+        region.getViewport().ifPresent(imageView::setViewport);
+        return imageView;
+    }
+
+    /**
+     * Request the image of this {@link SpriteEntity} to be packed into a texture atlas by the given
+     * {@link ImageRepository}. This should be done before this {@link SpriteEntity} is initialized.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param imageRepository the {@link ImageRepository} that should pack the image of this {@link SpriteEntity}
+     */
+    public void addToTextureAtlas(final ImageRepository imageRepository) {
+        imageRepository.addToAtlas(resource, size.getWidth() * frames, size.getHeight(), preserveAspectRatio);
     }
 
     @Override
@@ -128,15 +172,61 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
         return imageView;
     }
 
+    /**
+     * Render this {@link SpriteEntity} onto the given {@link javafx.scene.canvas.Canvas}, instead of adding its
+     * {@link ImageView} to the scene graph. Since the {@link ImageView} is then not part of a
+     * {@link javafx.scene.Scene}, the {@link javafx.scene.canvas.Canvas} is used to obtain the dimensions of the
+     * {@link javafx.scene.Scene}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     *
+     * @param canvas the {@link Node} onto which this {@link SpriteEntity} is rendered
+     */
+    public void setCanvas(final Node canvas) {
+        this.canvas = Optional.of(canvas);
+    }
+
+    @Override
+    public double getSceneWidth() {
+        if (canvas.isPresent()) {
+            return canvas.get().getScene().getWidth();
+        }
+
+        return super.getSceneWidth();
+    }
+
+    @Override
+    public double getSceneHeight() {
+        if (canvas.isPresent()) {
+            return canvas.get().getScene().getHeight();
+        }
+
+        return super.getSceneHeight();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The image of a {@link SpriteEntity} is released on removal, unless it was created by an
+     * {@link com.github.hanyaeger.api.engine.entities.EntityPool}. In that case the {@link SpriteEntity} can be
+     * spawned again, and should still show its image.
+     */
     @Override
     public final void remove() {
-        imageView.ifPresent(imageView -> imageView.setImage(null));
+        if (getPool().isEmpty()) {
+            imageView.ifPresent(imageView -> imageView.setImage(null));
+        }
         super.remove();
     }
 
     @Override
     public final void setAnchorLocation(Coordinate2D anchorLocation) {
         super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
         imageView.ifPresent(imageView -> {
             imageView.setX(anchorLocation.getX());
             imageView.setY(anchorLocation.getY());
@@ -82,18 +82,25 @@ public class SpriteAnimationDelegate implements Updatable {
         setSpriteIndex(++currentIndex);
     }
 
+    /**
+     * When the {@link ImageView} already has a viewport, its image is part of a texture atlas. In that case the
+     * frames are located within that viewport.
+     */
     private void createViewPorts(final int frames) {
-        var frameWidth = getFrameWidth(frames);
-        var frameHeight = imageView.getImage().getHeight();
+        var region = imageView.getViewport();
+        if (region == null) {
+            region = new Rectangle2D(0, 0, imageView.getImage().getWidth(), imageView.getImage().getHeight());
+        }
 
-        IntStream.range(0, frames).forEach(frame -> addViewPort(frame, frameWidth, frameHeight));
-    }
+        var frameWidth = region.getWidth() / frames;
+        var frameHeight = region.getHeight();
+        var originX = region.getMinX();
+        var originY = region.getMinY();
 
-    private void addViewPort(final int frame, final double frameWidth, final double frameHeight) {
-        viewports.add(new Rectangle2D(frame * frameWidth, 0, frameWidth, frameHeight));
+        IntStream.range(0, frames).forEach(frame -> addViewPort(originX + frame * frameWidth, originY, frameWidth, frameHeight));
     }
 
-    private double getFrameWidth(final int frames) {
-        return imageView.getImage().getWidth() / frames;
+    private void addViewPort(final double minX, final double minY, final double frameWidth, final double frameHeight) {
+        viewports.add(new Rectangle2D(minX, minY, frameWidth, frameHeight));
     }
 }
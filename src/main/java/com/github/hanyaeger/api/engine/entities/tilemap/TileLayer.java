@@ -0,0 +1,177 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link TileLayer} contains all static tiles of a {@link TileMap}, which were added through
+ * {@link TileMap#addStaticTile(int, String)}. Instead of creating a {@link YaegerEntity} with its own
+ * {@link javafx.scene.image.ImageView} for each tile, all tiles are drawn once onto a single {@link Canvas}. The
+ * image of each type of tile is scaled only once and shared by all tiles of that type.
+ * <p>
+ * Since the pixels of a {@link Canvas} are uploaded to the GPU as a single texture, which is limited in size, a
+ * {@link TileLayer} that is larger than {@link #MAXIMUM_CHUNK_SIZE} is split into chunks. Each chunk is drawn onto a
+ * {@link Canvas} of its own and all chunks are placed in a {@link Group}. Chunks that contain no tiles are omitted.
+ * <p>
+ * Since all tiles are drawn onto the {@link Canvas} when this {@link TileLayer} is initialized, the static tiles
+ * can not be changed, removed, or collided with afterwards.
+ */
+public class TileLayer extends YaegerEntity {
+
+    /**
+     * The maximum width and height of a single {@link Canvas}, which is well within the maximum texture size of
+     * all common GPUs.
+     */
+    static final int MAXIMUM_CHUNK_SIZE = 2048;
+
+    private final Size size;
+    private final Size tileSize;
+    private final Map<String, List<Coordinate2D>> tiles = new LinkedHashMap<>();
+
+    private ImageRepository imageRepository;
+    private Optional<Node> node = Optional.empty();
+
+    /**
+     * Create a new {@link TileLayer}.
+     *
+     * @param location the {@link Coordinate2D} of the top-left corner of this {@link TileLayer}
+     * @param size     the {@link Size} of this {@link TileLayer}
+     * @param tileSize the {@link Size} of a single tile
+     */
+    public TileLayer(final Coordinate2D location, final Size size, final Size tileSize) {
+        super(location);
+        this.size = size;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Add a tile to this {@link TileLayer}.
+     *
+     * @param resource the url of the image of the tile
+     * @param location the {@link Coordinate2D} of the top-left corner of the tile, relative to the top-left corner of
+     *                 this {@link TileLayer}
+     */
+    void addTile(final String resource, final Coordinate2D location) {
+        tiles.computeIfAbsent(resource, key -> new ArrayList<>()).add(location);
+    }
+
+    /**
+     * Return the number of tiles in this {@link TileLayer}.
+     *
+     * @return the number of tiles
+     */
+    public int getTileCount() {
+        return tiles.values().stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public void init(final Injector injector) {
+        var width = Math.ceil(size.getWidth());
+        var height = Math.ceil(size.getHeight());
+        var columns = Math.max(1, (int) Math.ceil(width / MAXIMUM_CHUNK_SIZE));
+        var rows = Math.max(1, (int) Math.ceil(height / MAXIMUM_CHUNK_SIZE));
+
+        var chunks = drawChunks(width, height, columns, rows);
+
+        if (chunks.length == 1) {
+            node = Optional.of(chunks[0] == null ? createCanvas(width, height) : chunks[0]);
+        } else {
+            var group = createGroup();
+            for (var chunk : chunks) {
+                if (chunk != null) {
+                    group.getChildren().add(chunk);
+                }
+            }
+            node = Optional.of(group);
+        }
+
+        super.init(injector);
+    }
+
+    private Canvas[] drawChunks(final double width, final double height, final int columns, final int rows) {
+        var chunks = new Canvas[columns * rows];
+
+        tiles.forEach((resource, locations) -> {
+            var image = imageRepository.get(resource, tileSize.getWidth(), tileSize.getHeight(), false);
+
+            for (var location : locations) {
+                // A tile that crosses the border of a chunk is drawn onto each chunk it overlaps
+                var firstColumn = chunkIndex(location.getX(), columns);
+                var lastColumn = chunkIndex(location.getX() + tileSize.getWidth() - 1, columns);
+                var firstRow = chunkIndex(location.getY(), rows);
+                var lastRow = chunkIndex(location.getY() + tileSize.getHeight() - 1, rows);
+
+                for (var row = firstRow; row <= lastRow; row++) {
+                    for (var column = firstColumn; column <= lastColumn; column++) {
+                        var chunk = chunks[row * columns + column];
+
+                        if (chunk == null) {
+                            chunk = createCanvas(Math.min(MAXIMUM_CHUNK_SIZE, width - column * MAXIMUM_CHUNK_SIZE),
+                                    Math.min(MAXIMUM_CHUNK_SIZE, height - row * MAXIMUM_CHUNK_SIZE));
+                            if (chunks.length > 1) {
+                                chunk.setLayoutX(column * MAXIMUM_CHUNK_SIZE);
+                                chunk.setLayoutY(row * MAXIMUM_CHUNK_SIZE);
+                            }
+                            chunks[row * columns + column] = chunk;
+                        }
+
+                        chunk.getGraphicsContext2D().drawImage(image,
+                                location.getX() - column * MAXIMUM_CHUNK_SIZE,
+                                location.getY() - row * MAXIMUM_CHUNK_SIZE);
+                    }
+                }
+            }
+        });
+
+        return chunks;
+    }
+
+    private static int chunkIndex(final double position, final int chunks) {
+        return Math.max(0, Math.min(chunks - 1, (int) Math.floor(position / MAXIMUM_CHUNK_SIZE)));
+    }
+
+    @Override
+    public void setAnchorLocation(final Coordinate2D anchorLocation) {
+        super.setAnchorLocation(anchorLocation);
+
+        if (isNodeChangesDeferred()) {
+            return;
+        }
+
+        node.ifPresent(layer -> {
+            layer.setLayoutX(anchorLocation.getX());
+            layer.setLayoutY(anchorLocation.getY());
+        });
+    }
+
+    @Override
+    public Optional<? extends Node> getNode() {
+        return node;
+    }
+
+    Canvas createCanvas(final double width, final double height) {
+        return new Canvas(width, height);
+    }
+
+    Group createGroup() {
+        return new Group();
+    }
+
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.*;
 public abstract class TileMap extends EntitySupplier implements Anchorable, Activatable {
 
     private final Map<Integer, Class<? extends YaegerEntity>> entities = new HashMap<>();
+    private final Map<Integer, String> staticTiles = new HashMap<>();
 
     private int[][] map;
     private transient TileFactory tileFactory;
@@ -98,6 +99,21 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
         entities.put(identifier, entityClass);
     }
 
+    /**
+     * Add the image of a static tile that can be used in this {@link TileMap}. Unlike the instances of
+     * {@link YaegerEntity} added through {@link #addEntity(int, Class)}, a static tile does not become a
+     * {@link YaegerEntity} of its own. Instead, all static tiles are drawn onto a single {@link TileLayer}, which
+     * is placed below all other instances of {@link YaegerEntity} of this {@link TileMap}. Use static tiles for
+     * large numbers of tiles that never change, such as a floor or background. This method should only be called
+     * from the lifecycle method {@link TileMap#setupEntities()}.
+     *
+     * @param identifier The identifier as an {@code int} to be used from the map.
+     * @param resource   The url of the image of the static tile.
+     */
+    public void addStaticTile(final int identifier, final String resource) {
+        staticTiles.put(identifier, resource);
+    }
+
     private void transformMapToEntities() {
         double x;
         double y;
@@ -115,6 +131,8 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
             throw new YaegerEngineException("No Size or Location is set for this TileMap. Has setDimensionProvider been called?");
         }
 
+        Optional<TileLayer> tileLayer = Optional.empty();
+
         for (int i = 0; i < map.length; i++) {
             var entityHeight = height / map.length;
             var entityY = i * entityHeight;
@@ -126,7 +144,19 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
                     var entityClass = entities.get(key);
 
                     if (entityClass == null) {
-                        throw new EntityNotAvailableException("An Entity with key \"" + key + "\" has not been added to the TileMap.");
+                        var resource = staticTiles.get(key);
+
+                        if (resource == null) {
+                            throw new EntityNotAvailableException("An Entity with key \"" + key + "\" has not been added to the TileMap.");
+                        }
+
+                        if (tileLayer.isEmpty()) {
+                            tileLayer = Optional.of(new TileLayer(new Coordinate2D(x, y), new Size(width, height),
+                                    new Size(Math.ceil(entityWidth), Math.ceil(entityHeight))));
+                        }
+
+                        tileLayer.get().addTile(resource, new Coordinate2D(Math.round(j * entityWidth), Math.round(entityY)));
+                        continue;
                     }
 
                     var entity = tileFactory.create(entityClass,
@@ -137,6 +167,9 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
                 }
             }
         }
+
+        // The static tiles should be placed below all other tiles
+        tileLayer.ifPresent(layer -> add(0, layer));
     }
 
     private Coordinate2D getTopLeftLocation(final Coordinate2D location, final Size size) {
@@ -196,6 +229,7 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
         if (!super.equals(o)) return false;
         TileMap entities1 = (TileMap) o;
         return entities.equals(entities1.entities) &&
+                staticTiles.equals(entities1.staticTiles) &&
                 Arrays.equals(map, entities1.map) &&
                 size.equals(entities1.size) &&
                 location.equals(entities1.location);
@@ -203,7 +237,7 @@ public abstract class TileMap extends EntitySupplier implements Anchorable, Acti
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(super.hashCode(), entities, size, location);
+        int result = Objects.hash(super.hashCode(), entities, staticTiles, size, location);
         result = 31 * result + Arrays.hashCode(map);
         return result;
     }
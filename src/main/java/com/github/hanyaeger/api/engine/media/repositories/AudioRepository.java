@@ -1,21 +1,21 @@
 package com.github.hanyaeger.api.engine.media.repositories;
 
 import com.github.hanyaeger.api.engine.Destroyable;
+import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
 import com.google.inject.Singleton;
 import javafx.scene.media.AudioClip;
 
-import java.util.*;
-
 /**
  * An {@code AudioRepository} provides a central repository for acquiring audio files.
+ * <p>
+ * Loaded audio clips are retained in a least recently used cache, of which the size is bounded by the number of
+ * audio clips. When that number is exceeded, the least recently used audio clips are evicted.
  */
 @Singleton
 public class AudioRepository implements ResourceConsumer, Destroyable {
 
-    private static final String CYCLECOUNT = "-cyclecount-";
-
-    private final Map<String, AudioClip> audioMap = new WeakHashMap<>();
+    private final ResourceCache<AudioClip> audioCache = new ResourceCache<>(audioClip -> 1, YaegerConfig.DEFAULT_AUDIO_CACHE_SIZE);
 
     private static AudioRepository audioRepository;
 
@@ -45,17 +45,32 @@ public class AudioRepository implements ResourceConsumer, Destroyable {
      * @return the {@link AudioClip} that was requested
      */
     public AudioClip get(final String audiofile, int cycleCount) {
-        var key = audiofile;
-        if (cycleCount != 0) {
-            key = audiofile + CYCLECOUNT + cycleCount;
-        }
-        if (audioMap.containsKey(key)) {
-            return audioMap.get(key);
-        } else {
-            var audioClip = new AudioClip(createPathForResource(audiofile));
-            audioMap.put(key, audioClip);
-            return audioClip;
-        }
+        return audioCache.get(new ResourceKey(audiofile, ResourceKey.NO_SIZE, ResourceKey.NO_SIZE, cycleCount), key -> new AudioClip(createPathForResource(key.getUrl())));
+    }
+
+    /**
+     * Set the maximum number of audio clips retained by this {@link AudioRepository}. If more audio clips are
+     * currently retained, the least recently used audio clips are evicted.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a
+     * {@link com.github.hanyaeger.api.engine.YaegerGame}</b>. Use the command line option
+     * {@code --audioCacheSize=<clips>} instead.
+     *
+     * @param maximumSize the maximum number of audio clips. A value of {@code 0} or less means no audio clips
+     *                    are evicted
+     */
+    public void setMaximumSize(final int maximumSize) {
+        audioCache.setMaximumWeight(maximumSize);
+    }
+
+    /**
+     * Return the {@link CacheStatistics} of the cache that retains the loaded audio clips. The weight of the cache
+     * is the number of audio clips.
+     *
+     * @return the current {@link CacheStatistics}
+     */
+    public CacheStatistics getCacheStatistics() {
+        return audioCache.getStatistics();
     }
 
     /**
@@ -66,11 +81,11 @@ public class AudioRepository implements ResourceConsumer, Destroyable {
      * @return the number of key-value mappings in this map
      */
     public int size() {
-        return audioMap.size();
+        return audioCache.size();
     }
 
     @Override
     public void destroy() {
-        audioMap.clear();
+        audioCache.clear();
     }
 }
@@ -0,0 +1,82 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+/**
+ * A {@link CacheStatistics} contains the counters of the cache used by a repository, such as the
+ * {@link ImageRepository}, at the moment it was created.
+ */
+public class CacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long weight;
+    private final long maximumWeight;
+
+    /**
+     * Create a new {@link CacheStatistics}.
+     *
+     * @param hits          the number of requests that were served from the cache
+     * @param misses        the number of requests for which a resource had to be loaded
+     * @param evictions     the number of resources that were evicted from the cache
+     * @param weight        the current total weight of all cached resources
+     * @param maximumWeight the maximum total weight of all cached resources, or {@code 0} or less if unbounded
+     */
+    public CacheStatistics(final long hits, final long misses, final long evictions, final long weight, final long maximumWeight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.weight = weight;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Return the number of requests that were served from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Return the number of requests for which a resource had to be loaded.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Return the number of resources that were evicted from the cache, because its maximum weight was exceeded.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Return the current total weight of all cached resources. For the {@link ImageRepository} this is the number
+     * of bytes occupied by the decoded images, for the {@link AudioRepository} the number of audio clips.
+     *
+     * @return the total weight
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Return the maximum total weight of all cached resources.
+     *
+     * @return the maximum weight, or {@code 0} or less if the cache is unbounded
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public String toString() {
+        return hits + " / " + misses + " / " + evictions;
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.image.Image;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ImagePreload} is the {@link CompletableFuture} returned by {@link ImageRepository#preload(java.util.Collection)}.
+ * It completes when all images have been loaded, or completes exceptionally when one of them could not be loaded.
+ * Its progress can be followed through {@link #progressProperty()}, for instance to show a progress bar.
+ * <p>
+ * Since JavaFX reports the progress of an {@link Image} on the JavaFX Application Thread, this {@link ImagePreload}
+ * also completes on that thread.
+ */
+public class ImagePreload extends CompletableFuture<Void> {
+
+    private final List<Image> images;
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper();
+    private final InvalidationListener listener = observable -> updateProgress();
+
+    /**
+     * Create a new {@link ImagePreload} for the given images.
+     *
+     * @param images the instances of {@link Image} that are being loaded
+     */
+    ImagePreload(final List<Image> images) {
+        this.images = images;
+
+        images.forEach(image -> {
+            image.progressProperty().addListener(listener);
+            image.errorProperty().addListener(listener);
+        });
+
+        updateProgress();
+    }
+
+    /**
+     * Return the progress of this {@link ImagePreload} as a property.
+     *
+     * @return a {@link ReadOnlyDoubleProperty} with a value between {@code 0} and {@code 1}
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Return the progress of this {@link ImagePreload}.
+     *
+     * @return the average progress of all images, as a value between {@code 0} and {@code 1}
+     */
+    public double getProgress() {
+        return progress.get();
+    }
+
+    private void updateProgress() {
+        if (isDone()) {
+            return;
+        }
+
+        if (images.isEmpty()) {
+            progress.set(1);
+            complete(null);
+            return;
+        }
+
+        var total = 0d;
+        var loaded = true;
+
+        for (var image : images) {
+            if (image.isError()) {
+                detach();
+                completeExceptionally(image.getException());
+                return;
+            }
+
+            total += image.getProgress();
+            loaded &= image.getProgress() >= 1;
+        }
+
+        progress.set(total / images.size());
+
+        if (loaded) {
+            detach();
+            complete(null);
+        }
+    }
+
+    private void detach() {
+        images.forEach(image -> {
+            image.progressProperty().removeListener(listener);
+            image.errorProperty().removeListener(listener);
+        });
+    }
+}
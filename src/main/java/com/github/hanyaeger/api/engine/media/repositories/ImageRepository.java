@@ -1,22 +1,52 @@
 package com.github.hanyaeger.api.engine.media.repositories;
 
 import com.github.hanyaeger.api.engine.Destroyable;
+import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.media.ResourceConsumer;
+import com.github.hanyaeger.api.javafx.image.CollisionMask;
 import com.github.hanyaeger.api.javafx.image.ImageFactory;
+import com.github.hanyaeger.api.javafx.image.ImageRegion;
+import com.github.hanyaeger.api.javafx.image.TextureAtlasBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.WeakHashMap;
 
 /**
  * An {@code ImageRepository} provides a central repository for acquiring sprites.
+ * <p>
+ * Loaded images are retained in a least recently used cache, of which the size is bounded by the number of bytes
+ * occupied by the decoded images (width &times; height &times; 4). When that size is exceeded, the least recently
+ * used images are evicted and will be loaded again on their next request. The pages of the texture atlases created
+ * through {@link #packAtlas()} count towards the same size, until they are released through {@link #releaseAtlas()}.
+ * <p>
+ * The {@link CollisionMask} of each image and viewport is retained for as long as the image itself is in use.
  */
 @Singleton
 public class ImageRepository implements ResourceConsumer, Destroyable {
 
-    private final Map<String, Image> imageMap = new WeakHashMap<>();
+    /**
+     * The number of bytes occupied by a single pixel of a decoded {@link Image}.
+     */
+    static final int BYTES_PER_PIXEL = 4;
+
+    private final ResourceCache<Image> imageCache = new ResourceCache<>(ImageRepository::weigh, YaegerConfig.DEFAULT_IMAGE_CACHE_SIZE);
+    private final Map<ResourceKey, Image> atlasCandidates = new LinkedHashMap<>();
+    private final Map<ResourceKey, ImageRegion> atlasRegions = new HashMap<>();
+    private final Set<Image> atlasPages = new HashSet<>();
+    private final Map<Image, Map<Rectangle2D, CollisionMask>> collisionMasks = new WeakHashMap<>();
     private ImageFactory factory;
 
     /**
@@ -28,14 +58,29 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(final String url) {
+        return imageCache.get(new ResourceKey(url), key -> factory.create(createPathForResource(url)));
+    }
+
+    /**
+     * Load the images with content from the specified urls on a background thread. This method returns immediately,
+     * after which the images can be obtained through {@link #get(String)} while they are being loaded. Images that
+     * are already available are not loaded again. Each image is weighed again once it has finished loading.
+     *
+     * @param urls the strings representing the URLs to use in fetching the pixel data
+     * @return an {@link ImagePreload} that completes when all images have been loaded
+     */
+    public ImagePreload preload(final Collection<String> urls) {
+        var images = new ArrayList<Image>(urls.size());
 
-        if (imageMap.containsKey(url)) {
-            return imageMap.get(url);
-        } else {
-            var image = factory.create(createPathForResource(url));
-            imageMap.put(url, image);
-            return image;
+        for (var url : urls) {
+            images.add(imageCache.get(new ResourceKey(url), key -> {
+                var image = factory.createInBackground(createPathForResource(url));
+                reweighWhenLoaded(key, image);
+                return image;
+            }));
         }
+
+        return new ImagePreload(images);
     }
 
     /**
@@ -51,16 +96,149 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return an {@link Image} with content loaded from the specified url
      */
     public Image get(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        return get(constructKey(url, requestedWidth, requestedHeight, preserveRatio), requestedWidth, requestedHeight, preserveRatio);
+    }
+
+    /**
+     * Return an {@link ImageRegion} for the {@link Image} with the specified parameters. If that {@link Image} has
+     * been packed into a texture atlas through {@link #packAtlas()}, the {@link ImageRegion} points into that atlas.
+     * Otherwise it covers the {@link Image} returned by {@link #get(String, double, double, boolean)}.
+     *
+     * @param url             the string representing the URL to use in fetching the pixel
+     *                        data
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   indicates whether to preserve the aspect ratio of
+     *                        the original image when scaling to fit the image within the
+     *                        specified bounding box
+     * @return an {@link ImageRegion} for the requested {@link Image}
+     */
+    public ImageRegion getRegion(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        var imageKey = constructKey(url, requestedWidth, requestedHeight, preserveRatio);
+        var region = atlasRegions.get(imageKey);
+
+        if (region != null) {
+            return region;
+        }
+
+        return new ImageRegion(get(imageKey, requestedWidth, requestedHeight, preserveRatio));
+    }
+
+    /**
+     * Load the {@link Image} with the specified parameters and pack it into a texture atlas on the next call to
+     * {@link #packAtlas()}.
+     *
+     * @param url             the string representing the URL to use in fetching the pixel
+     *                        data
+     * @param requestedWidth  the image's bounding box width
+     * @param requestedHeight the image's bounding box height
+     * @param preserveRatio   indicates whether to preserve the aspect ratio of
+     *                        the original image when scaling to fit the image within the
+     *                        specified bounding box
+     */
+    public void addToAtlas(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        var imageKey = constructKey(url, requestedWidth, requestedHeight, preserveRatio);
+
+        if (!atlasRegions.containsKey(imageKey) && !atlasCandidates.containsKey(imageKey)) {
+            atlasCandidates.put(imageKey, get(imageKey, requestedWidth, requestedHeight, preserveRatio));
+        }
+    }
+
+    /**
+     * Pack all images that were added through {@link #addToAtlas(String, double, double, boolean)} into one or more
+     * texture atlases. From then on, {@link #getRegion(String, double, double, boolean)} returns a region of an
+     * atlas for those images.
+     */
+    public void packAtlas() {
+        if (atlasCandidates.isEmpty()) {
+            return;
+        }
+
+        var builder = createTextureAtlasBuilder();
+        atlasCandidates.forEach(builder::add);
+        atlasCandidates.clear();
+
+        var regions = builder.build();
+        atlasRegions.putAll(regions);
+        regions.values().forEach(region -> atlasPages.add(region.getImage()));
+
+        imageCache.setReservedWeight(atlasPages.stream().mapToLong(ImageRepository::weigh).sum());
+    }
+
+    /**
+     * Release all texture atlases created through {@link #packAtlas()}, including the images that were added through
+     * {@link #addToAtlas(String, double, double, boolean)} but not yet packed. From then on,
+     * {@link #getRegion(String, double, double, boolean)} no longer returns a region of an atlas and the atlas pages no
+     * longer count towards the maximum size of this {@link ImageRepository}.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a
+     * {@link com.github.hanyaeger.api.engine.YaegerGame}</b>
+     */
+    public void releaseAtlas() {
+        atlasCandidates.clear();
+        atlasRegions.clear();
+        atlasPages.clear();
+        imageCache.setReservedWeight(0);
+    }
+
+    /**
+     * Return the number of images that have been packed into a texture atlas.
+     *
+     * @return the number of packed images
+     */
+    public int atlasSize() {
+        return atlasRegions.size();
+    }
+
+    /**
+     * Set the maximum number of bytes occupied by the decoded images retained by this {@link ImageRepository}.
+     * If the images currently retained exceed this size, the least recently used images are evicted.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a
+     * {@link com.github.hanyaeger.api.engine.YaegerGame}</b>. Use the command line option
+     * {@code --imageCacheSize=<bytes>} instead.
+     *
+     * @param maximumSize the maximum size in bytes. A value of {@code 0} or less means no images are evicted
+     */
+    public void setMaximumSize(final long maximumSize) {
+        imageCache.setMaximumWeight(maximumSize);
+    }
 
-        String imageKey = constructKey(url, requestedWidth, requestedHeight, preserveRatio);
+    /**
+     * Return the {@link CacheStatistics} of the cache that retains the loaded images. The weight of the cache
+     * is the number of bytes occupied by the decoded images.
+     *
+     * @return the current {@link CacheStatistics}
+     */
+    public CacheStatistics getCacheStatistics() {
+        return imageCache.getStatistics();
+    }
 
-        if (imageMap.containsKey(imageKey)) {
-            return imageMap.get(imageKey);
-        } else {
-            var image = factory.create(createPathForResource(url), requestedWidth, requestedHeight, preserveRatio);
-            imageMap.put(imageKey, image);
-            return image;
+    /**
+     * Return the {@link CollisionMask} of a region of an {@link Image}. The {@link CollisionMask} is created on the
+     * first request and retained for as long as the {@link Image} is in use, so all Entities that show the same
+     * frame of the same {@link Image} share one {@link CollisionMask}.
+     *
+     * @param image    the {@link Image}, as returned by this {@link ImageRepository}
+     * @param viewport the region of the {@link Image}, such as a frame of a sprite or a region of a texture atlas,
+     *                 or {@code null} for the complete {@link Image}
+     * @return an {@link Optional} containing the {@link CollisionMask}, or an empty {@link Optional} if the pixels
+     * of the {@link Image} are not available (yet)
+     */
+    public Optional<CollisionMask> getCollisionMask(final Image image, final Rectangle2D viewport) {
+        if (image == null || image.getProgress() < 1 || image.isError() || image.getPixelReader() == null) {
+            return Optional.empty();
         }
+
+        var region = viewport == null ? new Rectangle2D(0, 0, image.getWidth(), image.getHeight()) : viewport;
+        var masks = collisionMasks.computeIfAbsent(image, key -> new HashMap<>());
+
+        return Optional.of(masks.computeIfAbsent(region, key -> CollisionMask.create(image.getPixelReader(),
+                (int) key.getMinX(), (int) key.getMinY(), (int) key.getWidth(), (int) key.getHeight())));
+    }
+
+    TextureAtlasBuilder<ResourceKey> createTextureAtlasBuilder() {
+        return new TextureAtlasBuilder<>();
     }
 
     @Inject
@@ -68,8 +246,32 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
         this.factory = factory;
     }
 
-    private String constructKey(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
-        return ((int) requestedWidth) + "-" + ((int) requestedHeight) + "-" + preserveRatio + "-" + url;
+    private Image get(final ResourceKey imageKey, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        return imageCache.get(imageKey, key -> factory.create(createPathForResource(key.getUrl()), requestedWidth, requestedHeight, preserveRatio));
+    }
+
+    private void reweighWhenLoaded(final ResourceKey key, final Image image) {
+        image.progressProperty().addListener(new ChangeListener<>() {
+            @Override
+            public void changed(final ObservableValue<? extends Number> observable, final Number oldValue, final Number newValue) {
+                if (newValue.doubleValue() >= 1) {
+                    observable.removeListener(this);
+                    imageCache.reweigh(key, image);
+                }
+            }
+        });
+    }
+
+    private ResourceKey constructKey(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
+        return new ResourceKey(url, (int) requestedWidth, (int) requestedHeight, preserveRatio ? 1 : 0);
+    }
+
+    private static long weigh(final Image image) {
+        if (image == null) {
+            return 0;
+        }
+
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
     }
 
     /**
@@ -80,11 +282,13 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
      * @return the number of key-value mappings in this map
      */
     public int size() {
-        return imageMap.size();
+        return imageCache.size();
     }
 
     @Override
     public void destroy() {
-        imageMap.clear();
+        imageCache.clear();
+        releaseAtlas();
+        collisionMasks.clear();
     }
 }
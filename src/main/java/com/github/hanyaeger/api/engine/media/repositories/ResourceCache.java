@@ -0,0 +1,186 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link ResourceCache} is a least recently used cache of which the total weight of all entries is bounded. The
+ * weight of an entry is determined by a weigher, such as the number of bytes an {@link javafx.scene.image.Image}
+ * occupies. When the total weight exceeds the maximum weight, the least recently used entries are evicted.
+ * <p>
+ * Because the weight of a resource that is being loaded in the background may still change, the weight of an entry is
+ * determined again each time it is returned, or when it is explicitly reweighed through
+ * {@link #reweigh(ResourceKey, Object)}.
+ * <p>
+ * Resources that are not retained by the {@link ResourceCache} itself, but do count towards the same budget, can be
+ * accounted for as reserved weight. Reserved weight is never evicted, but leaves less room for the cached resources.
+ *
+ * @param <V> the type of the cached resources
+ */
+class ResourceCache<V> {
+
+    private final ToLongFunction<V> weigher;
+    private final Map<ResourceKey, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long maximumWeight;
+    private long weight;
+    private long reservedWeight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Create a new {@link ResourceCache}.
+     *
+     * @param weigher       the {@link ToLongFunction} that determines the weight of a resource
+     * @param maximumWeight the maximum total weight of all resources. A value of {@code 0} or less means this
+     *                      {@link ResourceCache} is unbounded
+     */
+    ResourceCache(final ToLongFunction<V> weigher, final long maximumWeight) {
+        this.weigher = weigher;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Return the resource for the given key, or create and cache it if it is not available.
+     *
+     * @param key     the key of the resource
+     * @param factory the {@link Function} that creates the resource for the key
+     * @return the resource for the given key
+     */
+    V get(final ResourceKey key, final Function<ResourceKey, V> factory) {
+        var entry = entries.get(key);
+
+        if (entry != null) {
+            hits++;
+            reweigh(entry);
+            return entry.value;
+        }
+
+        misses++;
+        var value = factory.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Return the resource for the given key, without creating it and without affecting the counters.
+     *
+     * @param key the key of the resource
+     * @return the resource, or {@code null} if it is not available
+     */
+    V peek(final ResourceKey key) {
+        var entry = entries.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Add a resource to this {@link ResourceCache}, replacing any resource with the same key.
+     *
+     * @param key   the key of the resource
+     * @param value the resource
+     */
+    void put(final ResourceKey key, final V value) {
+        var entry = new Entry<>(value, weigher.applyAsLong(value));
+        var previous = entries.put(key, entry);
+
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entry.weight;
+
+        evict();
+    }
+
+    /**
+     * Determine the weight of a cached resource again, for instance because it has finished loading. Nothing happens
+     * if the given resource is no longer cached for the given key.
+     *
+     * @param key   the key of the resource
+     * @param value the resource
+     */
+    void reweigh(final ResourceKey key, final V value) {
+        var entry = entries.get(key);
+
+        if (entry != null && entry.value == value) {
+            reweigh(entry);
+        }
+    }
+
+    /**
+     * Set the maximum total weight of all resources, evicting resources if the current total weight exceeds it.
+     *
+     * @param maximumWeight the maximum weight. A value of {@code 0} or less means this {@link ResourceCache}
+     *                      is unbounded
+     */
+    void setMaximumWeight(final long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        evict();
+    }
+
+    /**
+     * Set the weight of the resources that are not retained by this {@link ResourceCache}, but do count towards its
+     * maximum weight, evicting resources if the total weight exceeds the maximum weight.
+     *
+     * @param reservedWeight the reserved weight
+     */
+    void setReservedWeight(final long reservedWeight) {
+        this.reservedWeight = reservedWeight;
+        evict();
+    }
+
+    /**
+     * Remove all resources. The counters and the reserved weight are not reset.
+     */
+    void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(hits, misses, evictions, weight + reservedWeight, maximumWeight);
+    }
+
+    private void reweigh(final Entry<V> entry) {
+        var newWeight = weigher.applyAsLong(entry.value);
+
+        if (newWeight != entry.weight) {
+            weight += newWeight - entry.weight;
+            entry.weight = newWeight;
+            evict();
+        }
+    }
+
+    private void evict() {
+        if (maximumWeight <= 0) {
+            return;
+        }
+
+        var iterator = entries.values().iterator();
+
+        // Always retain the most recently used resource, even if it exceeds the maximum weight by itself
+        while (weight + reservedWeight > maximumWeight && entries.size() > 1) {
+            var eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.weight;
+            evictions++;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private long weight;
+
+        private Entry(final V value, final long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import java.util.Objects;
+
+/**
+ * A {@link ResourceKey} identifies a resource in the cache of a repository, such as the {@link ImageRepository}. It
+ * combines the url of the resource with the parameters it was loaded with. Unlike a key that is built by concatenating
+ * these into a {@link String}, creating a {@link ResourceKey} does not copy the url and its hash code is computed
+ * only once.
+ */
+final class ResourceKey {
+
+    /**
+     * The width and height of a resource that is loaded without a requested size.
+     */
+    static final int NO_SIZE = -1;
+
+    private final String url;
+    private final int width;
+    private final int height;
+    private final int options;
+    private final int hash;
+
+    /**
+     * Create a new {@link ResourceKey} for a resource that is loaded without any parameters.
+     *
+     * @param url the url of the resource
+     */
+    ResourceKey(final String url) {
+        this(url, NO_SIZE, NO_SIZE, 0);
+    }
+
+    /**
+     * Create a new {@link ResourceKey}.
+     *
+     * @param url     the url of the resource
+     * @param width   the requested width of the resource
+     * @param height  the requested height of the resource
+     * @param options any further parameter, such as whether the aspect ratio is preserved or the cycle count
+     */
+    ResourceKey(final String url, final int width, final int height, final int options) {
+        this.url = url;
+        this.width = width;
+        this.height = height;
+        this.options = options;
+
+        var result = url.hashCode();
+        result = 31 * result + width;
+        result = 31 * result + height;
+        result = 31 * result + options;
+        this.hash = result;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResourceKey that = (ResourceKey) o;
+        return hash == that.hash
+                && width == that.width
+                && height == that.height
+                && options == that.options
+                && Objects.equals(url, that.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return width + "-" + height + "-" + options + "-" + url;
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.hanyaeger.api.engine.scenes;
 
+import com.github.hanyaeger.api.engine.FixedTimestep;
 import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionStrategy;
 import com.github.hanyaeger.api.javafx.animationtimer.AnimationTimerFactory;
 import com.google.inject.Inject;
 import javafx.animation.AnimationTimer;
@@ -27,10 +29,19 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
     private AnimationTimerFactory animationTimerFactory;
     private final List<Timer> timers = new ArrayList<>();
     private final List<EntitySpawner> spawners = new ArrayList<>();
+    private CollisionStrategy collisionStrategy = CollisionStrategy.UNIFORM_GRID;
+    private FixedTimestep fixedTimestep;
+    private boolean parallelUpdate = false;
+    private boolean canvasRendering = false;
 
     @Override
     public void activate() {
         super.activate();
+        entityCollection.setCollisionStrategy(collisionStrategy);
+        entityCollection.setParallelUpdate(parallelUpdate);
+        if (canvasRendering) {
+            entityCollection.enableCanvasRendering();
+        }
         createGameLoop();
         startGameLoop();
     }
@@ -40,7 +51,6 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
         stopGameLoop();
         updater.clear();
         getEntitySupplier().clear();
-        entityCollection.clear();
         setAnimationTimerFactory(null);
         setUpdater(null);
         super.destroy();
@@ -64,11 +74,39 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
 
     @Override
     public final void update(final long timestamp) {
+        if (entityCollection != null) {
+            entityCollection.startFrame(timestamp);
+        }
+
+        if (fixedTimestep == null) {
+            getUpdater().update(timestamp);
+        } else {
+            fixedTimestep.update(timestamp);
+        }
+
+        if (entityCollection != null) {
+            entityCollection.render();
+            entityCollection.endFrame();
+        }
+    }
+
+    private void step(final long timestamp) {
+        entityCollection.storePreviousLocations();
         getUpdater().update(timestamp);
     }
 
+    private void interpolate(final double alpha) {
+        if (entityCollection != null) {
+            entityCollection.interpolate(alpha);
+        }
+    }
+
     private void createGameLoop() {
-        animator = this.animationTimerFactory.create(this::update);
+        if (getConfig() != null && getConfig().isHeadless()) {
+            animator = this.animationTimerFactory.createHeadless(this::update);
+        } else {
+            animator = this.animationTimerFactory.create(this::update);
+        }
     }
 
     @Override
@@ -76,6 +114,71 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
         return updater;
     }
 
+    /**
+     * Set the {@link CollisionStrategy} that should be used for detecting collisions between the Entities of this
+     * {@link DynamicScene}. The default is {@link CollisionStrategy#UNIFORM_GRID}. Use
+     * {@link CollisionStrategy#AABB_TREE} for a {@link DynamicScene} that contains many large static Entities, such
+     * as a {@link com.github.hanyaeger.api.engine.entities.tilemap.TileMap}, combined with a few moving Entities.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public void setCollisionStrategy(final CollisionStrategy collisionStrategy) {
+        this.collisionStrategy = collisionStrategy;
+
+        if (entityCollection != null) {
+            entityCollection.setCollisionStrategy(collisionStrategy);
+        }
+    }
+
+    /**
+     * Perform the Game World Update at a fixed rate, instead of once per rendered frame. By default, the Game World
+     * Update is performed once per frame, which means speeds are expressed per frame and the game runs faster on a
+     * display with a higher refresh rate. With a fixed rate, the game runs at the same speed regardless of the
+     * refresh rate or dropped frames, and the rendered locations of all dynamic Entities are interpolated between
+     * their last two locations.
+     * <p>
+     * When a frame takes too long, at most {@link FixedTimestep#DEFAULT_MAX_STEPS_PER_FRAME} Game World Updates are
+     * performed during the next frame, after which the game slows down instead of trying to catch up.
+     *
+     * @param updatesPerSecond the number of Game World Updates per second, usually {@code 60}
+     */
+    public void setFixedTimestep(final int updatesPerSecond) {
+        this.fixedTimestep = new FixedTimestep(updatesPerSecond, FixedTimestep.DEFAULT_MAX_STEPS_PER_FRAME, this::step, this::interpolate);
+    }
+
+    /**
+     * Compute the movement of all Entities that implement {@link com.github.hanyaeger.api.engine.ParallelUpdatable}
+     * in parallel, using all available processor cores. This is only worthwhile for a {@link DynamicScene} that
+     * contains many moving Entities, and has no effect when it contains fewer than
+     * {@link com.github.hanyaeger.api.engine.entities.EntityCollection#PARALLEL_UPDATE_THRESHOLD} of them.
+     *
+     * @param parallelUpdate {@code true} to enable parallel Game World Updates, {@code false} to disable them
+     */
+    public void setParallelUpdate(final boolean parallelUpdate) {
+        this.parallelUpdate = parallelUpdate;
+
+        if (entityCollection != null) {
+            entityCollection.setParallelUpdate(parallelUpdate);
+        }
+    }
+
+    /**
+     * Render all instances of {@link com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity} onto a
+     * single {@link javafx.scene.canvas.Canvas}, instead of adding a {@link javafx.scene.image.ImageView} per
+     * {@link com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity} to the scene graph. This is
+     * worthwhile for a {@link DynamicScene} that contains thousands of sprites, since the scene graph then becomes
+     * the bottleneck.
+     * <p>
+     * All sprites are drawn below all other Entities, in the order in which they were added. Since they are not part
+     * of the scene graph, sprites that are rendered onto the {@link javafx.scene.canvas.Canvas} do not receive mouse
+     * events. This method should be called from {@link #setupScene()}.
+     *
+     * @param canvasRendering {@code true} to render all sprites onto a single {@link javafx.scene.canvas.Canvas}
+     */
+    public void setCanvasRendering(final boolean canvasRendering) {
+        this.canvasRendering = canvasRendering;
+    }
+
     @Override
     public List<Timer> getTimers() {
         return timers;
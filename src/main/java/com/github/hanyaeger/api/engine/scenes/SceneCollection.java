@@ -4,12 +4,16 @@ import com.github.hanyaeger.api.engine.Initializable;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.exceptions.YaegerSceneNotAvailableException;
+import com.github.hanyaeger.api.engine.media.repositories.ImagePreload;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import javafx.stage.Stage;
 import com.github.hanyaeger.api.engine.scenes.splash.SplashScreenFactory;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,6 +29,9 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
     private transient YaegerScene activeScene;
     private int firstScene;
     private SplashScreenFactory splashScreenFactory;
+    private transient ImageRepository imageRepository;
+    private final transient Map<Integer, ImagePreload> preloads = new HashMap<>();
+    private transient Integer pendingScene;
     private boolean finishedSplashScreen = false;
 
     /**
@@ -82,6 +89,26 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
             throw new YaegerSceneNotAvailableException(id);
         }
 
+        var preload = preload(id, requestedScene);
+        if (preload != null && !preload.isDone()) {
+            // The current scene remains active until the images of the requested scene have been loaded
+            pendingScene = id;
+            preload.whenComplete((result, exception) -> {
+                if (Integer.valueOf(id).equals(pendingScene)) {
+                    switchTo(id, requestedScene);
+                }
+            });
+            return;
+        }
+
+        switchTo(id, requestedScene);
+    }
+
+    private void switchTo(final int id, final YaegerScene requestedScene) {
+        pendingScene = null;
+        // From now on the images are retained by the scene itself, so the image cache is free to evict them later on
+        preloads.remove(id);
+
         if (activeScene != null) {
             activeScene.destroy();
         }
@@ -89,6 +116,30 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
         activate(requestedScene);
     }
 
+    /**
+     * Start loading the images of all instances of {@link YaegerScene} on a background thread, so they are available
+     * when the {@link YaegerScene} is set active.
+     */
+    private void preloadScenes() {
+        forEach(this::preload);
+    }
+
+    private ImagePreload preload(final int id, final YaegerScene scene) {
+        var preload = preloads.get(id);
+
+        if (preload == null) {
+            var images = scene.getImagesToPreload();
+            if (images == null || images.isEmpty()) {
+                return null;
+            }
+
+            preload = imageRepository.preload(images);
+            preloads.put(id, preload);
+        }
+
+        return preload;
+    }
+
     private void activate(final YaegerScene scene) {
         injector.injectMembers(scene);
         annotationProcessor.configureUpdateDelegators(scene);
@@ -112,6 +163,8 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
     }
 
     public void postSetupScenes() {
+        preloadScenes();
+
         if (yaegerConfig.isShowSplash()) {
             addSplashScreen();
         } else {
@@ -157,6 +210,11 @@ public class SceneCollection extends LinkedHashMap<Integer, YaegerScene> impleme
         this.annotationProcessor = annotationProcessor;
     }
 
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
     @Inject
     public void setSplashScreenFactory(final SplashScreenFactory splashScreenFactory) {
         this.splashScreenFactory = splashScreenFactory;
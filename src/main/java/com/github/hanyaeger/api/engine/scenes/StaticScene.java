@@ -3,8 +3,10 @@ package com.github.hanyaeger.api.engine.scenes;
 import com.github.hanyaeger.api.engine.DependencyInjector;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.debug.Debugger;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
 import com.github.hanyaeger.api.engine.entities.tilemap.TileMap;
 import com.github.hanyaeger.api.engine.entities.tilemap.TileMapListProvider;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.guice.factories.EntityCollectionFactory;
 import com.github.hanyaeger.api.guice.factories.SceneFactory;
 import com.google.inject.Inject;
@@ -44,6 +46,8 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     private EntitySupplier entitySupplier;
     private KeyListenerDelegate keyListenerDelegate;
     private BackgroundDelegate backgroundDelegate;
+    private ImageRepository imageRepository;
+    private boolean textureAtlas = false;
 
     private final List<TileMap> tileMaps = new ArrayList<>();
 
@@ -85,11 +89,38 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
     @Override
     public void postActivate() {
+        if (textureAtlas) {
+            packTextureAtlas();
+        }
+
         entityCollection.registerSupplier(entitySupplier);
         entityCollection.initialUpdate();
         debugger.toFront();
     }
 
+    /**
+     * Pack the images of all instances of {@link SpriteEntity} that are part of this {@link StaticScene} on
+     * activation, including those of all instances of {@link TileMap}, into a few large texture atlases. This
+     * reduces the number of textures that have to be uploaded to, and switched by, the GPU, which is worthwhile for a
+     * {@link YaegerScene} with many distinct images, such as the tiles of a {@link TileMap}.
+     * <p>
+     * Sprites that are spawned later on use the atlas as well, as long as their image was packed on activation.
+     *
+     * @param textureAtlas {@code true} to pack all images into texture atlases on activation
+     */
+    public void setTextureAtlas(final boolean textureAtlas) {
+        this.textureAtlas = textureAtlas;
+    }
+
+    private void packTextureAtlas() {
+        entitySupplier.forEach(entity -> entity.applyEntityProcessor(yaegerEntity -> {
+            if (yaegerEntity instanceof SpriteEntity) {
+                ((SpriteEntity) yaegerEntity).addToTextureAtlas(imageRepository);
+            }
+        }));
+        imageRepository.packAtlas();
+    }
+
     /**
      * Add an {@link YaegerEntity} to this {@link YaegerScene}.
      * <p>
@@ -138,6 +169,15 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         this.config = yaegerConfig;
     }
 
+    /**
+     * Return the {@link YaegerConfig} used by this {@link StaticScene}.
+     *
+     * @return the {@link YaegerConfig}
+     */
+    YaegerConfig getConfig() {
+        return config;
+    }
+
     @Override
     public void setBackgroundColor(final Color color) {
         backgroundDelegate.setBackgroundColor(color);
@@ -173,6 +213,10 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     public void destroy() {
         keyListenerDelegate.tearDown(scene);
         backgroundDelegate.destroy();
+        entityCollection.clear();
+        if (textureAtlas) {
+            imageRepository.releaseAtlas();
+        }
         clear();
     }
 
@@ -248,6 +292,11 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         this.entitySupplier = entitySupplier;
     }
 
+    @Inject
+    public void setImageRepository(final ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+
     @Inject
     public void setColorAdjust(final ColorAdjust colorAdjust) {
         this.colorAdjust = colorAdjust;
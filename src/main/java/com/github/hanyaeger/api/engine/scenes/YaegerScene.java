@@ -7,6 +7,9 @@ import javafx.scene.Scene;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * A {@code YaegerScene} encapsulates a scene or level from a {@code Yaeger Game}.
  */
@@ -29,6 +32,20 @@ public interface YaegerScene extends DimensionsProvider, Destroyable, Initializa
      */
     void postActivate();
 
+    /**
+     * Return the images that should be loaded before this {@link YaegerScene} is activated, such as its background
+     * image. These images are loaded on a background thread as soon as the game has started, so switching to this
+     * {@link YaegerScene} does not stall the game. When this {@link YaegerScene} is set active before its images
+     * have been loaded, the current {@link YaegerScene} remains active until they are.
+     * <p>
+     * Override this method to declare the images of this {@link YaegerScene}. By default no images are declared.
+     *
+     * @return a {@link Collection} containing the urls of the images, relative to the resources folder
+     */
+    default Collection<String> getImagesToPreload() {
+        return List.of();
+    }
+
     /**
      * Set the background color of the {@link YaegerScene}. When both the background color and a background image
      * are set, the color is not visible.
@@ -2,6 +2,7 @@ package com.github.hanyaeger.api.javafx.animationtimer;
 
 import com.google.inject.Singleton;
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 
 /**
  * An {@code AnimationTimerFactory} should be used to create instances of an {@link AnimationTimer}.
@@ -27,6 +28,17 @@ public class AnimationTimerFactory {
                 };
     }
 
+    /**
+     * Create an {@link AnimationTimer} that is not driven by the JavaFX pulse, but calls the given handler as fast
+     * as possible, using a synthetic clock.
+     *
+     * @param handler an {@link AnimationTimerHandler} that should be called on each tick of the synthetic clock
+     * @return an instance of {@link HeadlessAnimationTimer}
+     */
+    public AnimationTimer createHeadless(final AnimationTimerHandler handler) {
+        return new HeadlessAnimationTimer(handler, Platform::runLater);
+    }
+
     /**
      * Create an {@link AnimationTimer} with the given handler for the given interval.
      *
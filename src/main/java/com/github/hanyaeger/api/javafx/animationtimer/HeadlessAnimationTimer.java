@@ -0,0 +1,96 @@
+package com.github.hanyaeger.api.javafx.animationtimer;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link HeadlessAnimationTimer} is an {@link AnimationTimer} that is not driven by the JavaFX pulse. Instead, it
+ * calls its handler as fast as possible, passing the timestamp of a synthetic clock that advances exactly
+ * {@link #TICK_DURATION} nanoseconds per call. This makes the Game World Update deterministic and independent of
+ * the rendering.
+ * <p>
+ * The ticks are performed in batches of {@link #TICKS_PER_BATCH}. After each batch, the next batch is scheduled on
+ * the given {@link Executor}, so other work on the JavaFX Application Thread, such as switching scenes, can still be
+ * performed.
+ */
+public class HeadlessAnimationTimer extends AnimationTimer {
+
+    /**
+     * The duration of a single tick of the synthetic clock in nanoseconds, which equals 60 ticks per second.
+     */
+    public static final long TICK_DURATION = 1_000_000_000L / 60;
+
+    /**
+     * The number of ticks that is performed before control is returned to the {@link Executor}.
+     */
+    static final int TICKS_PER_BATCH = 60;
+
+    private final AnimationTimerHandler handler;
+    private final Executor executor;
+
+    private long timestamp = 0;
+    private boolean running = false;
+    private long generation = 0;
+
+    /**
+     * Create a new {@link HeadlessAnimationTimer}.
+     *
+     * @param handler  the {@link AnimationTimerHandler} that should be called on each tick
+     * @param executor the {@link Executor} on which each batch of ticks should be run, which will usually
+     *                 be the JavaFX Application Thread
+     */
+    public HeadlessAnimationTimer(final AnimationTimerHandler handler, final Executor executor) {
+        this.handler = handler;
+        this.executor = executor;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        final var currentGeneration = ++generation;
+        executor.execute(() -> runBatch(currentGeneration));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void handle(final long now) {
+        handler.handle(now);
+    }
+
+    /**
+     * Return the current timestamp of the synthetic clock.
+     *
+     * @return the timestamp in nanoseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Run a single batch of ticks. A batch that was scheduled before the last call to {@link #start()}, is ignored,
+     * so stopping and restarting never results in two batches being scheduled at the same time.
+     */
+    private void runBatch(final long batchGeneration) {
+        for (var i = 0; i < TICKS_PER_BATCH && isCurrent(batchGeneration); i++) {
+            timestamp += TICK_DURATION;
+            handle(timestamp);
+        }
+
+        if (isCurrent(batchGeneration)) {
+            executor.execute(() -> runBatch(batchGeneration));
+        }
+    }
+
+    private boolean isCurrent(final long batchGeneration) {
+        return running && batchGeneration == generation;
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.hanyaeger.api.javafx.image;
+
+import javafx.scene.image.PixelReader;
+
+/**
+ * A {@link CollisionMask} records which pixels of an image, or of a region of an image, are opaque. Each row is
+ * stored as a sequence of bits, packed into {@code long} values, so two masks can be compared 64 pixels at a time.
+ * <p>
+ * A {@link CollisionMask} is created once per image and viewport, after which it can be reused by all Entities that
+ * show the same frame of the same image.
+ */
+public final class CollisionMask {
+
+    /**
+     * A pixel is considered opaque if its alpha value exceeds this threshold.
+     */
+    public static final int ALPHA_THRESHOLD = 0;
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int ADDRESS_BITS = 6;
+    private static final int BIT_INDEX_MASK = BITS_PER_WORD - 1;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    private CollisionMask(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + BIT_INDEX_MASK) >>> ADDRESS_BITS;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Create a new {@link CollisionMask} for a region of an image.
+     *
+     * @param reader the {@link PixelReader} of the image
+     * @param minX   the x-coordinate of the region within the image
+     * @param minY   the y-coordinate of the region within the image
+     * @param width  the width of the region in pixels
+     * @param height the height of the region in pixels
+     * @return the {@link CollisionMask} of the region
+     */
+    public static CollisionMask create(final PixelReader reader, final int minX, final int minY, final int width, final int height) {
+        var mask = new CollisionMask(Math.max(0, width), Math.max(0, height));
+
+        for (var y = 0; y < mask.height; y++) {
+            for (var x = 0; x < mask.width; x++) {
+                if ((reader.getArgb(minX + x, minY + y) >>> 24) > ALPHA_THRESHOLD) {
+                    mask.set(x, y);
+                }
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Return the width of this {@link CollisionMask}.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Return the height of this {@link CollisionMask}.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Return whether the given pixel is opaque.
+     *
+     * @param x the x-coordinate of the pixel
+     * @param y the y-coordinate of the pixel
+     * @return {@code true} if the pixel is opaque
+     */
+    public boolean isSet(final int x, final int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+
+        return (bits[y * wordsPerRow + (x >>> ADDRESS_BITS)] & (1L << (x & BIT_INDEX_MASK))) != 0;
+    }
+
+    /**
+     * Return whether any pixel of a row between the given columns is opaque.
+     *
+     * @param y    the row
+     * @param from the first column, inclusive
+     * @param to   the last column, inclusive
+     * @return {@code true} if at least one of the pixels is opaque
+     */
+    public boolean intersectsRow(final int y, final int from, final int to) {
+        if (y < 0 || y >= height) {
+            return false;
+        }
+
+        var first = Math.max(0, from);
+        var last = Math.min(width - 1, to);
+
+        for (var x = first; x <= last; x += BITS_PER_WORD) {
+            if ((bitsFrom(y, x) & rangeMask(last - x + 1)) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return whether this {@link CollisionMask} and another {@link CollisionMask} share an opaque pixel.
+     *
+     * @param other   the other {@link CollisionMask}
+     * @param offsetX the x-coordinate of the other {@link CollisionMask} relative to this one
+     * @param offsetY the y-coordinate of the other {@link CollisionMask} relative to this one
+     * @return {@code true} if an opaque pixel of this {@link CollisionMask} overlaps an opaque pixel of the other
+     */
+    public boolean intersects(final CollisionMask other, final int offsetX, final int offsetY) {
+        var minX = Math.max(0, offsetX);
+        var maxX = Math.min(width, offsetX + other.width);
+        var minY = Math.max(0, offsetY);
+        var maxY = Math.min(height, offsetY + other.height);
+
+        for (var y = minY; y < maxY; y++) {
+            for (var x = minX; x < maxX; x += BITS_PER_WORD) {
+                var overlap = bitsFrom(y, x) & other.bitsFrom(y - offsetY, x - offsetX);
+
+                if ((overlap & rangeMask(maxX - x)) != 0) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void set(final int x, final int y) {
+        bits[y * wordsPerRow + (x >>> ADDRESS_BITS)] |= 1L << (x & BIT_INDEX_MASK);
+    }
+
+    /**
+     * Return the 64 bits of a row, starting at the given column. Bits beyond the end of the row are zero.
+     */
+    private long bitsFrom(final int y, final int x) {
+        var word = x >>> ADDRESS_BITS;
+        var shift = x & BIT_INDEX_MASK;
+        var rowStart = y * wordsPerRow;
+
+        var result = bits[rowStart + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            result |= bits[rowStart + word + 1] << (BITS_PER_WORD - shift);
+        }
+
+        return result;
+    }
+
+    private static long rangeMask(final int length) {
+        return length >= BITS_PER_WORD ? -1L : (1L << length) - 1;
+    }
+}
@@ -25,6 +25,21 @@ public class ImageFactory {
         return new Image(url);
     }
 
+    /**
+     * Constructs an {@link Image} with content loaded from the specified url on a background thread. The
+     * {@link Image} is returned immediately and its progress can be followed through
+     * {@link Image#progressProperty()}.
+     *
+     * @param url the string representing the URL to use in fetching the pixel
+     *            data
+     * @return an instance of {@link Image} that is being loaded
+     * @throws NullPointerException     if URL is null
+     * @throws IllegalArgumentException if URL is invalid or unsupported
+     */
+    public Image createInBackground(final String url) {
+        return new Image(url, true);
+    }
+
     /**
      * Construct a new {@link Image} with the specified parameters.
      *
@@ -0,0 +1,68 @@
+package com.github.hanyaeger.api.javafx.image;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.Optional;
+
+/**
+ * An {@link ImageRegion} is a handle to the pixels of a single image. This is either a complete {@link Image}, or a
+ * region of a texture atlas that contains many images. In the latter case, the viewport describes where the image is
+ * located within the atlas.
+ */
+public class ImageRegion {
+
+    private final Image image;
+    private final Optional<Rectangle2D> viewport;
+
+    /**
+     * Create a new {@link ImageRegion} that covers a complete {@link Image}.
+     *
+     * @param image the {@link Image}
+     */
+    public ImageRegion(final Image image) {
+        this.image = image;
+        this.viewport = Optional.empty();
+    }
+
+    /**
+     * Create a new {@link ImageRegion} that covers part of an {@link Image}.
+     *
+     * @param image    the {@link Image} that contains the region, usually a texture atlas
+     * @param viewport the part of the {@link Image} that is covered by this {@link ImageRegion}
+     */
+    public ImageRegion(final Image image, final Rectangle2D viewport) {
+        this.image = image;
+        this.viewport = Optional.of(viewport);
+    }
+
+    /**
+     * Return the {@link Image} that contains this {@link ImageRegion}.
+     *
+     * @return the {@link Image}
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Return the part of the {@link Image} that is covered by this {@link ImageRegion}, or an empty {@link Optional}
+     * if the complete {@link Image} is covered.
+     *
+     * @return the viewport of this {@link ImageRegion}
+     */
+    public Optional<Rectangle2D> getViewport() {
+        return viewport;
+    }
+
+    /**
+     * Show this {@link ImageRegion} through the given {@link ImageView}.
+     *
+     * @param imageView the {@link ImageView} that should show this {@link ImageRegion}
+     */
+    public void applyTo(final ImageView imageView) {
+        imageView.setImage(image);
+        imageView.setViewport(viewport.orElse(null));
+    }
+}
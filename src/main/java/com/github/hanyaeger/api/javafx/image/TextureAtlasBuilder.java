@@ -0,0 +1,157 @@
+package com.github.hanyaeger.api.javafx.image;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TextureAtlasBuilder} packs many small images into a few large images, called texture atlases. All images
+ * on the same atlas share a single texture on the GPU, which saves both texture switches while rendering and the
+ * uploading of a texture per image.
+ * <p>
+ * Images are packed on shelves: they are sorted by height, after which they are placed next to each other until a
+ * shelf is full. When an atlas is full, a new one is started. Images that are larger than an atlas are not packed.
+ *
+ * @param <K> the type of the keys through which the packed images are identified
+ */
+public class TextureAtlasBuilder<K> {
+
+    /**
+     * The default width and height of a texture atlas. This is supported by the GPU of practically all devices.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+
+    /**
+     * The number of transparent pixels between two images, which prevents neighbouring images from bleeding into
+     * each other when an image is scaled or rotated.
+     */
+    static final int PADDING = 1;
+
+    private final int pageSize;
+    private final Map<K, Image> images = new LinkedHashMap<>();
+
+    /**
+     * Create a new {@link TextureAtlasBuilder} with the {@link #DEFAULT_PAGE_SIZE}.
+     */
+    public TextureAtlasBuilder() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Create a new {@link TextureAtlasBuilder}.
+     *
+     * @param pageSize the width and height of a single texture atlas
+     */
+    public TextureAtlasBuilder(final int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size of a texture atlas should be larger than 0.");
+        }
+
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Add an {@link Image} that should be packed.
+     *
+     * @param key   the key through which the {@link ImageRegion} of the {@link Image} can be obtained from the result
+     *              of {@link #build()}
+     * @param image the {@link Image} to be packed
+     */
+    public void add(final K key, final Image image) {
+        images.put(key, image);
+    }
+
+    /**
+     * Pack all added images into texture atlases.
+     *
+     * @return a {@link Map} containing an {@link ImageRegion} for each key of which the {@link Image} has been packed.
+     * An {@link Image} that is too large, not loaded yet, or would be the only {@link Image} on its atlas, is not
+     * packed and has no {@link ImageRegion}
+     */
+    public Map<K, ImageRegion> build() {
+        var regions = new HashMap<K, ImageRegion>();
+
+        var placements = new ArrayList<Placement<K>>();
+        for (var entry : images.entrySet()) {
+            var image = entry.getValue();
+            var width = (int) Math.ceil(image.getWidth());
+            var height = (int) Math.ceil(image.getHeight());
+
+            if (image.getPixelReader() != null && width > 0 && height > 0 && width <= pageSize && height <= pageSize) {
+                placements.add(new Placement<>(entry.getKey(), image, width, height));
+            }
+        }
+        placements.sort(Comparator.comparingInt((Placement<K> placement) -> placement.height).reversed());
+
+        var page = new ArrayList<Placement<K>>();
+        int x = 0, y = 0, shelfHeight = 0, pageWidth = 0, pageHeight = 0;
+
+        for (var placement : placements) {
+            if (x + placement.width > pageSize) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            if (y + placement.height > pageSize) {
+                createPage(page, pageWidth, pageHeight, regions);
+                page = new ArrayList<>();
+                x = y = shelfHeight = pageWidth = pageHeight = 0;
+            }
+
+            placement.x = x;
+            placement.y = y;
+            page.add(placement);
+
+            x += placement.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, placement.height);
+            pageWidth = Math.max(pageWidth, placement.x + placement.width);
+            pageHeight = Math.max(pageHeight, placement.y + placement.height);
+        }
+        createPage(page, pageWidth, pageHeight, regions);
+
+        return regions;
+    }
+
+    private void createPage(final List<Placement<K>> page, final int width, final int height, final Map<K, ImageRegion> regions) {
+        // A single image gains nothing from being copied onto an atlas of its own
+        if (page.size() < 2) {
+            return;
+        }
+
+        var atlas = createWritableImage(width, height);
+        var pixelWriter = atlas.getPixelWriter();
+
+        for (var placement : page) {
+            pixelWriter.setPixels(placement.x, placement.y, placement.width, placement.height, placement.image.getPixelReader(), 0, 0);
+            regions.put(placement.key, new ImageRegion(atlas, new Rectangle2D(placement.x, placement.y, placement.width, placement.height)));
+        }
+    }
+
+    WritableImage createWritableImage(final int width, final int height) {
+        return new WritableImage(width, height);
+    }
+
+    private static class Placement<K> {
+
+        private final K key;
+        private final Image image;
+        private final int width;
+        private final int height;
+        private int x;
+        private int y;
+
+        Placement(final K key, final Image image, final int width, final int height) {
+            this.key = key;
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -8,6 +8,9 @@ module hanyaeger.api {
     requires transitive javafx.media;
     requires transitive javafx.graphics;
     requires transitive com.google.guice;
+    requires static java.compiler;
+    requires static jdk.management;
+    requires java.management;
 
     exports com.github.hanyaeger.api.engine;
     exports com.github.hanyaeger.api.engine.annotations;
@@ -25,6 +28,7 @@ module hanyaeger.api {
     exports com.github.hanyaeger.api.engine.entities.entity.shape.circle;
     exports com.github.hanyaeger.api.engine.entities.entity.shape.ellipse;
     exports com.github.hanyaeger.api.engine.entities.entity.motion;
+    exports com.github.hanyaeger.api.engine.entities.entity.mover;
     exports com.github.hanyaeger.api.engine.scenes.splash;
     exports com.github.hanyaeger.api.engine.entities.entity.collisions;
     exports com.github.hanyaeger.api.engine.entities.entity.events.userinput;
@@ -0,0 +1,154 @@
+package com.github.hanyaeger.api.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepTest {
+
+    private static final int STEPS_PER_SECOND = 50;
+    private static final long STEP = 20_000_000L;
+    private static final int MAX_STEPS_PER_FRAME = 3;
+
+    private List<Long> steps;
+    private List<Double> alphas;
+    private FixedTimestep sut;
+
+    @BeforeEach
+    void setup() {
+        steps = new ArrayList<>();
+        alphas = new ArrayList<>();
+        sut = new FixedTimestep(STEPS_PER_SECOND, MAX_STEPS_PER_FRAME, steps::add, alphas::add);
+    }
+
+    @Test
+    void stepDurationIsDerivedFromStepsPerSecond() {
+        // Arrange
+
+        // Act
+        var actual = sut.getStepDuration();
+
+        // Assert
+        assertEquals(STEP, actual);
+    }
+
+    @Test
+    void firstUpdatePerformsSingleStep() {
+        // Arrange
+
+        // Act
+        sut.update(1000);
+
+        // Assert
+        assertEquals(List.of(1000L), steps);
+        assertEquals(List.of(1d), alphas);
+    }
+
+    @Test
+    void updateWithinSingleStepPerformsNoStep() {
+        // Arrange
+        sut.update(0);
+
+        // Act
+        sut.update(STEP / 4);
+
+        // Assert
+        assertEquals(1, steps.size());
+        assertEquals(0.25, alphas.get(1), 0.0001);
+    }
+
+    @Test
+    void updatePerformsAllStepsThatFitInAccumulator() {
+        // Arrange
+        sut.update(0);
+
+        // Act
+        sut.update(STEP + STEP / 2);
+        sut.update(3 * STEP);
+
+        // Assert
+        assertEquals(List.of(0L, STEP, 2 * STEP, 3 * STEP), steps);
+        assertEquals(0.5, alphas.get(1), 0.0001);
+        assertEquals(0, alphas.get(2), 0.0001);
+    }
+
+    @Test
+    void updateIsIndependentOfFrameRate() {
+        // Arrange
+        var fast = new ArrayList<Long>();
+        var fastSut = new FixedTimestep(STEPS_PER_SECOND, MAX_STEPS_PER_FRAME, fast::add, alpha -> {
+        });
+        sut.update(0);
+        fastSut.update(0);
+
+        // Act
+        for (var i = 1; i <= 60; i++) {
+            sut.update(i * 1_000_000_000L / 60);
+        }
+        for (var i = 1; i <= 144; i++) {
+            fastSut.update(i * 1_000_000_000L / 144);
+        }
+
+        // Assert
+        assertEquals(STEPS_PER_SECOND + 1, steps.size());
+        assertEquals(STEPS_PER_SECOND + 1, fast.size());
+    }
+
+    @Test
+    void updateIsCappedAtMaxStepsPerFrame() {
+        // Arrange
+        sut.update(0);
+
+        // Act
+        sut.update(100 * STEP + STEP / 2);
+
+        // Assert
+        assertEquals(1 + MAX_STEPS_PER_FRAME, steps.size());
+        assertEquals(0.5, alphas.get(1), 0.0001);
+    }
+
+    @Test
+    void timeDroppedByCapIsNotCaughtUpLater() {
+        // Arrange
+        sut.update(0);
+        sut.update(100 * STEP);
+
+        // Act
+        sut.update(101 * STEP);
+
+        // Assert
+        assertEquals(1 + MAX_STEPS_PER_FRAME + 1, steps.size());
+    }
+
+    @Test
+    void timestampGoingBackwardsPerformsNoStep() {
+        // Arrange
+        sut.update(10 * STEP);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        assertEquals(1, steps.size());
+    }
+
+    @Test
+    void zeroStepsPerSecondThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, MAX_STEPS_PER_FRAME, steps::add, alphas::add));
+    }
+
+    @Test
+    void zeroMaxStepsPerFrameThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(STEPS_PER_SECOND, 0, steps::add, alphas::add));
+    }
+}
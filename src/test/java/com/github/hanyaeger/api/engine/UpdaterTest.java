@@ -75,4 +75,88 @@ class UpdaterTest {
         // Assert
         verify(updatable).update(TIMESTAMP);
     }
+
+    @Test
+    void updateIndependentUpdatablesOnlyUpdatesIndependentUpdatables() {
+        // Arrange
+        var independentUpdatable = mock(IndependentUpdatable.class);
+        sut.addUpdatable(independentUpdatable);
+        sut.addUpdatable(updatable);
+
+        // Act
+        sut.updateIndependentUpdatables(TIMESTAMP);
+
+        // Assert
+        verify(independentUpdatable).update(TIMESTAMP);
+        verify(updatable, never()).update(TIMESTAMP);
+    }
+
+    @Test
+    void updateAfterUpdateIndependentUpdatablesSkipsIndependentUpdatables() {
+        // Arrange
+        var independentUpdatable = mock(IndependentUpdatable.class);
+        sut.addUpdatable(independentUpdatable);
+        sut.addUpdatable(updatable);
+        sut.updateIndependentUpdatables(TIMESTAMP);
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        verify(independentUpdatable, times(1)).update(TIMESTAMP);
+        verify(updatable).update(TIMESTAMP);
+    }
+
+    @Test
+    void updateIndependentUpdatablesSkipsIndependentUpdatableAfterOtherUpdatable() {
+        // Arrange
+        var independentUpdatable = mock(IndependentUpdatable.class);
+        sut.addUpdatable(updatable);
+        sut.addUpdatable(independentUpdatable);
+
+        // Act
+        sut.updateIndependentUpdatables(TIMESTAMP);
+
+        // Assert
+        verify(independentUpdatable, never()).update(TIMESTAMP);
+        verify(updatable, never()).update(TIMESTAMP);
+    }
+
+    @Test
+    void updateAfterUpdateIndependentUpdatablesPreservesOrder() {
+        // Arrange
+        var firstIndependentUpdatable = mock(IndependentUpdatable.class);
+        var lastIndependentUpdatable = mock(IndependentUpdatable.class);
+        sut.addUpdatable(firstIndependentUpdatable);
+        sut.addUpdatable(updatable);
+        sut.addUpdatable(lastIndependentUpdatable);
+        sut.updateIndependentUpdatables(TIMESTAMP);
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        InOrder inOrder = inOrder(firstIndependentUpdatable, updatable, lastIndependentUpdatable);
+        inOrder.verify(firstIndependentUpdatable).update(TIMESTAMP);
+        inOrder.verify(updatable).update(TIMESTAMP);
+        inOrder.verify(lastIndependentUpdatable).update(TIMESTAMP);
+        verify(firstIndependentUpdatable, times(1)).update(TIMESTAMP);
+    }
+
+    @Test
+    void secondUpdateAfterUpdateIndependentUpdatablesUpdatesAllUpdatables() {
+        // Arrange
+        var independentUpdatable = mock(IndependentUpdatable.class);
+        sut.addUpdatable(independentUpdatable);
+        sut.addUpdatable(updatable);
+        sut.updateIndependentUpdatables(TIMESTAMP);
+        sut.update(TIMESTAMP);
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        verify(independentUpdatable, times(2)).update(TIMESTAMP);
+        verify(updatable, times(2)).update(TIMESTAMP);
+    }
 }
@@ -4,8 +4,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,6 +39,19 @@ class YaegerCommandLineParserTest {
         assertFalse(actual.isShowSplash());
     }
 
+    @Test
+    void headlessReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var headlessArgs = Arrays.asList("--headless");
+
+        // Act
+        var actual = sut.parseToConfig(headlessArgs);
+
+        // Assert
+        assertTrue(actual.isHeadless());
+    }
+
     @Test
     void helpPrintsHelpScreen() {
         // Arrange
@@ -52,6 +67,65 @@ class YaegerCommandLineParserTest {
         // Assert
         String output = new String(ba.toByteArray());
         assertTrue(output.contains("--noSplash"));
+        assertTrue(output.contains("--headless"));
         assertTrue(output.contains("--help"));
+        assertTrue(output.contains("--metrics="));
+        assertTrue(output.contains("--jmx"));
+        assertTrue(output.contains("--collisionCellSize="));
+        assertTrue(output.contains("--imageCacheSize="));
+        assertTrue(output.contains("--audioCacheSize="));
+    }
+
+    @Test
+    void cacheSizesReturnCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var cacheSizeArgs = Arrays.asList("--imageCacheSize=1024", "--audioCacheSize=8");
+
+        // Act
+        var actual = sut.parseToConfig(cacheSizeArgs);
+
+        // Assert
+        assertEquals(1024, actual.getImageCacheSize());
+        assertEquals(8, actual.getAudioCacheSize());
+    }
+
+    @Test
+    void collisionCellSizeReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var collisionCellSizeArgs = Arrays.asList("--collisionCellSize=64");
+
+        // Act
+        var actual = sut.parseToConfig(collisionCellSizeArgs);
+
+        // Assert
+        assertEquals(64, actual.getCollisionCellSize());
+    }
+
+    @Test
+    void metricsReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var metricsArgs = Arrays.asList("--metrics=metrics.csv");
+
+        // Act
+        var actual = sut.parseToConfig(metricsArgs);
+
+        // Assert
+        assertEquals(Optional.of(Path.of("metrics.csv")), actual.getMetricsFile());
+    }
+
+    @Test
+    void jmxReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var jmxArgs = Arrays.asList("--jmx");
+
+        // Act
+        var actual = sut.parseToConfig(jmxArgs);
+
+        // Assert
+        assertTrue(actual.isMetricsJmx());
     }
 }
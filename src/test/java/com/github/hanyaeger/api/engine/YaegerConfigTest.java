@@ -2,6 +2,8 @@ package com.github.hanyaeger.api.engine;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class YaegerConfigTest {
@@ -56,6 +58,106 @@ class YaegerConfigTest {
         assertTrue(actual);
     }
 
+    @Test
+    void collisionCellSizeDefaultsToDefaultCollisionCellSize() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        var actual = sut.getCollisionCellSize();
+
+        // Assert
+        assertEquals(YaegerConfig.DEFAULT_COLLISION_CELL_SIZE, actual);
+    }
+
+    @Test
+    void collisionCellSizeSetGivesSetValue() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        sut.setCollisionCellSize(64);
+        var actual = sut.getCollisionCellSize();
+
+        // Assert
+        assertEquals(64, actual);
+    }
+
+    @Test
+    void imageCacheSizeDefaultsToDefaultImageCacheSize() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        var actual = sut.getImageCacheSize();
+
+        // Assert
+        assertEquals(YaegerConfig.DEFAULT_IMAGE_CACHE_SIZE, actual);
+    }
+
+    @Test
+    void imageCacheSizeSetGivesSetValue() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        sut.setImageCacheSize(1024);
+        var actual = sut.getImageCacheSize();
+
+        // Assert
+        assertEquals(1024, actual);
+    }
+
+    @Test
+    void audioCacheSizeDefaultsToDefaultAudioCacheSize() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        var actual = sut.getAudioCacheSize();
+
+        // Assert
+        assertEquals(YaegerConfig.DEFAULT_AUDIO_CACHE_SIZE, actual);
+    }
+
+    @Test
+    void audioCacheSizeSetGivesSetValue() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        sut.setAudioCacheSize(8);
+        var actual = sut.getAudioCacheSize();
+
+        // Assert
+        assertEquals(8, actual);
+    }
+
+    @Test
+    void headlessDefaultsToFalse() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        var actual = sut.isHeadless();
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void headlessSetTrueGivesTrue() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act
+        sut.setHeadless(true);
+        var actual = sut.isHeadless();
+
+        // Assert
+        assertTrue(actual);
+    }
+
     @Test
     void yaegerConfigIsNotEqualToNull() {
         // Arrange
@@ -126,4 +228,25 @@ class YaegerConfigTest {
         // Act & Assert
         assertNotEquals(sut.hashCode(), sutOther.hashCode());
     }
+
+    @Test
+    void metricsAreNotExportedByDefault() {
+        // Arrange
+        var sut = new YaegerConfig();
+
+        // Act & Assert
+        assertTrue(sut.getMetricsFile().isEmpty());
+        assertFalse(sut.isMetricsJmx());
+    }
+
+    @Test
+    void configWithDifferentMetricsFileIsNotEqual() {
+        // Arrange
+        var sut = new YaegerConfig();
+        var sutOther = new YaegerConfig();
+        sutOther.setMetricsFile(Path.of("metrics.jsonl"));
+
+        // Act & Assert
+        assertNotEquals(sut, sutOther);
+    }
 }
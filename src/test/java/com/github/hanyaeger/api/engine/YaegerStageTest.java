@@ -1,5 +1,9 @@
 package com.github.hanyaeger.api.engine;
 
+import com.github.hanyaeger.api.engine.debug.FileMetricsExporter;
+import com.github.hanyaeger.api.engine.debug.Metrics;
+import com.github.hanyaeger.api.engine.media.repositories.AudioRepository;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.scenes.SceneCollection;
 import com.github.hanyaeger.api.guice.factories.SceneCollectionFactory;
 import com.google.inject.Injector;
@@ -9,6 +13,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import static org.mockito.Mockito.*;
 
 class YaegerStageTest {
@@ -23,6 +32,9 @@ class YaegerStageTest {
     private YaegerStage sut;
     private SceneCollectionFactory sceneCollectionFactory;
     private SceneCollection sceneCollection;
+    private ImageRepository imageRepository;
+    private AudioRepository audioRepository;
+    private Metrics metrics;
 
     @BeforeEach
     void setUp() {
@@ -32,9 +44,15 @@ class YaegerStageTest {
         yaegerConfig = new YaegerConfig();
         sceneCollectionFactory = mock(SceneCollectionFactory.class);
         sceneCollection = mock(SceneCollection.class);
+        imageRepository = mock(ImageRepository.class);
+        audioRepository = mock(AudioRepository.class);
+        metrics = mock(Metrics.class);
 
         sut = new YaegerStage(yaegerGame, stage, yaegerConfig);
         sut.setSceneCollectionFactory(sceneCollectionFactory);
+        sut.setImageRepository(imageRepository);
+        sut.setAudioRepository(audioRepository);
+        sut.setMetrics(metrics);
 
         when(sceneCollectionFactory.create(stage, yaegerConfig)).thenReturn(sceneCollection);
     }
@@ -50,6 +68,41 @@ class YaegerStageTest {
         verify(sceneCollectionFactory).create(stage, yaegerConfig);
     }
 
+    @Test
+    void cacheSizesFromCommandLineReachRepositories() {
+        // Arrange
+        var config = new YaegerCommandLineParser().parseToConfig(List.of("--imageCacheSize=1024", "--audioCacheSize=8"));
+        var images = new ImageRepository();
+        var audio = new AudioRepository();
+        var stageWithConfig = new YaegerStage(yaegerGame, stage, config);
+        stageWithConfig.setSceneCollectionFactory(sceneCollectionFactory);
+        stageWithConfig.setImageRepository(images);
+        stageWithConfig.setAudioRepository(audio);
+        stageWithConfig.setMetrics(metrics);
+        when(sceneCollectionFactory.create(stage, config)).thenReturn(sceneCollection);
+
+        // Act
+        stageWithConfig.init(injector);
+
+        // Assert
+        assertEquals(1024, images.getCacheStatistics().getMaximumWeight());
+        assertEquals(8, audio.getCacheStatistics().getMaximumWeight());
+    }
+
+    @Test
+    void atInitCacheSizesFromConfigAreApplied() {
+        // Arrange
+        yaegerConfig.setImageCacheSize(1024);
+        yaegerConfig.setAudioCacheSize(8);
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(imageRepository).setMaximumSize(1024);
+        verify(audioRepository).setMaximumSize(8);
+    }
+
     @Test
     void atInitializationSetSizeIsUsed() {
         // Arrange
@@ -134,6 +187,29 @@ class YaegerStageTest {
         inOrder.verify(stage).setHeight(anyDouble());
     }
 
+    @Test
+    void atInitializationStageIsShown() {
+        // Arrange
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(stage).show();
+    }
+
+    @Test
+    void atInitializationStageIsNotShownWhenHeadless() {
+        // Arrange
+        yaegerConfig.setHeadless(true);
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(stage, never()).show();
+    }
+
     @Test
     void callingQuitDelegatesToStage() {
         // Arrange
@@ -183,4 +259,50 @@ class YaegerStageTest {
         // Assert
         verify(sceneCollection).addScene(expectedIndex, expectedScene);
     }
+
+    @Test
+    void atInitCacheStatisticsAreRegisteredAsMetrics() {
+        // Arrange
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(metrics).gauge(eq("cache.images.hits"), any());
+        verify(metrics).gauge(eq("cache.audio.hits"), any());
+    }
+
+    @Test
+    void atInitNoExporterIsAddedByDefault() {
+        // Arrange
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(metrics, never()).addExporter(any());
+    }
+
+    @Test
+    void atInitFileExporterIsAddedIfMetricsFileIsSet() {
+        // Arrange
+        yaegerConfig.setMetricsFile(Path.of("metrics.csv"));
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(metrics).addExporter(any(FileMetricsExporter.class));
+    }
+
+    @Test
+    void quitClosesMetrics() {
+        // Arrange
+
+        // Act
+        sut.quit();
+
+        // Assert
+        verify(metrics).close();
+    }
 }
@@ -0,0 +1,133 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnotatedMethodsTest {
+
+    @Test
+    void ofReturnsSameInstanceForSameClass() {
+        // Arrange
+        var expected = AnnotatedMethods.of(AnnotatedObject.class);
+
+        // Act
+        var actual = AnnotatedMethods.of(AnnotatedObject.class);
+
+        // Assert
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void ofFindsAllAnnotatedMethods() {
+        // Arrange
+
+        // Act
+        var actual = AnnotatedMethods.of(AnnotatedObject.class);
+
+        // Assert
+        assertEquals(1, actual.getActivators().length);
+        assertEquals(2, actual.getPostActivators().length);
+        assertEquals(1, actual.getUpdatableProviders().length);
+        assertTrue(actual.getUpdatableProviders()[0].isAsFirst());
+    }
+
+    @Test
+    void ofReturnsEmptyArraysForClassWithoutAnnotations() {
+        // Arrange
+
+        // Act
+        var actual = AnnotatedMethods.of(Object.class);
+
+        // Assert
+        assertEquals(0, actual.getActivators().length);
+        assertEquals(0, actual.getPostActivators().length);
+        assertEquals(0, actual.getUpdatableProviders().length);
+    }
+
+    @Test
+    void ofIgnoresNonPublicMethods() {
+        // Arrange
+
+        // Act
+        var actual = AnnotatedMethods.of(ObjectWithPrivateActivator.class);
+
+        // Assert
+        assertEquals(0, actual.getActivators().length);
+    }
+
+    @Test
+    void ofUsesGeneratedWiringIfPresent() {
+        // Arrange
+        var wiredObject = new WiredObject();
+
+        // Act
+        var actual = AnnotatedMethods.of(WiredObject.class);
+        actual.invokeActivators(wiredObject);
+
+        // Assert
+        assertTrue(actual.isWired());
+        assertTrue(wiredObject.isActivated());
+        assertEquals(0, actual.getActivators().length);
+    }
+
+    @Test
+    void ofUsesReflectionIfNoWiringIsPresent() {
+        // Arrange
+
+        // Act
+        var actual = AnnotatedMethods.of(AnnotatedObject.class);
+
+        // Assert
+        assertFalse(actual.isWired());
+    }
+
+    @Test
+    void exceptionThrownByWiringIsWrappedInYaegerEngineException() {
+        // Arrange
+        var sut = AnnotatedMethods.of(WiredObject.class);
+
+        // Act
+        var actual = assertThrows(YaegerEngineException.class, () -> sut.invokePostActivators(new WiredObject()));
+
+        // Assert
+        assertTrue(actual.getCause() instanceof InvocationTargetException);
+    }
+
+    public static class AnnotatedObject {
+
+        @OnActivation
+        public void activate() {
+            // Not required here
+        }
+
+        @OnPostActivation
+        public void postActivate() {
+            // Not required here
+        }
+
+        @OnPostActivation
+        public void anotherPostActivate() {
+            // Not required here
+        }
+
+        @UpdatableProvider(asFirst = true)
+        public Updatable provideUpdatable() {
+            return timestamp -> {
+                // Not required here
+            };
+        }
+    }
+
+    public static class ObjectWithPrivateActivator {
+
+        @OnActivation
+        private void activate() {
+            // Not required here
+        }
+    }
+}
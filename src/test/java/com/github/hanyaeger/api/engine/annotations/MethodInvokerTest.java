@@ -0,0 +1,71 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+import com.github.hanyaeger.api.engine.exceptions.YaegerEngineException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodInvokerTest {
+
+    @Test
+    void invokeReturnsValueOfMethod() throws NoSuchMethodException {
+        // Arrange
+        var sut = new MethodInvoker(Target.class.getMethod("value"));
+
+        // Act
+        var actual = sut.invoke(new Target());
+
+        // Assert
+        assertEquals("value", actual);
+    }
+
+    @Test
+    void invokeVoidMethodReturnsNull() throws NoSuchMethodException {
+        // Arrange
+        var target = new Target();
+        var sut = new MethodInvoker(Target.class.getMethod("call"));
+
+        // Act
+        var actual = sut.invoke(target);
+
+        // Assert
+        assertNull(actual);
+        assertTrue(target.isCalled());
+    }
+
+    @Test
+    void exceptionThrownByMethodIsWrappedInYaegerEngineException() throws NoSuchMethodException {
+        // Arrange
+        var sut = new MethodInvoker(Target.class.getMethod("fail"));
+
+        // Act
+        var actual = assertThrows(YaegerEngineException.class, () -> sut.invoke(new Target()));
+
+        // Assert
+        assertTrue(actual.getCause() instanceof InvocationTargetException);
+        assertTrue(actual.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    public static class Target {
+
+        private boolean called = false;
+
+        public String value() {
+            return "value";
+        }
+
+        public void call() {
+            called = true;
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+
+        boolean isCalled() {
+            return called;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+/**
+ * An object with an {@link AnnotationWiring}, written by hand as the
+ * {@link com.github.hanyaeger.api.engine.annotations.processor.WiringProcessor} would generate it.
+ */
+public class WiredObject {
+
+    private boolean activated = false;
+
+    @OnActivation
+    public void activate() {
+        activated = true;
+    }
+
+    boolean isActivated() {
+        return activated;
+    }
+}
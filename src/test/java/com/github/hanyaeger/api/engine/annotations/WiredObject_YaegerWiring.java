@@ -0,0 +1,19 @@
+package com.github.hanyaeger.api.engine.annotations;
+
+public final class WiredObject_YaegerWiring implements AnnotationWiring {
+
+    @Override
+    public void invokeActivators(final Object gameObject) {
+        ((WiredObject) gameObject).activate();
+    }
+
+    @Override
+    public void invokePostActivators(final Object gameObject) {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public void configureUpdateDelegators(final Object gameObject) {
+        // Not required here
+    }
+}
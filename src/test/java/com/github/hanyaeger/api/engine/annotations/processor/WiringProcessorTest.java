@@ -0,0 +1,171 @@
+package com.github.hanyaeger.api.engine.annotations.processor;
+
+import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.Updater;
+import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
+import com.github.hanyaeger.api.engine.annotations.AnnotationWiring;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WiringProcessorTest {
+
+    private static final String SPAWNED = String.join("\n",
+            "package game;",
+            "import com.github.hanyaeger.api.engine.Updatable;",
+            "import com.github.hanyaeger.api.engine.UpdateDelegator;",
+            "import com.github.hanyaeger.api.engine.Updater;",
+            "import com.github.hanyaeger.api.engine.annotations.OnActivation;",
+            "import com.github.hanyaeger.api.engine.annotations.OnPostActivation;",
+            "import com.github.hanyaeger.api.engine.annotations.UpdatableProvider;",
+            "public class Spawned implements UpdateDelegator {",
+            "    public static final java.util.List<String> CALLS = new java.util.ArrayList<>();",
+            "    public static Updater UPDATER;",
+            "    @OnActivation public void activate() { CALLS.add(\"activate\"); }",
+            "    @OnPostActivation public void postActivate() { CALLS.add(\"postActivate\"); }",
+            "    @UpdatableProvider(asFirst = true) public Updatable provide() { CALLS.add(\"provide\"); return timestamp -> {}; }",
+            "    @Override public Updater getUpdater() { return UPDATER; }",
+            "    @Override public void update(long timestamp) { }",
+            "    public static class Nested { @OnActivation public void activate() { } }",
+            "    private static class Hidden { @OnActivation public void activate() { } }",
+            "}");
+    private static final String CHILD = String.join("\n",
+            "package game;",
+            "public class Child extends Spawned { }");
+    private static final String BASE = String.join("\n",
+            "package game;",
+            "public abstract class Base { @com.github.hanyaeger.api.engine.annotations.OnActivation public void activate() { } }");
+    private static final String WITH_PARAMETER = String.join("\n",
+            "package game;",
+            "public class WithParameter { @com.github.hanyaeger.api.engine.annotations.OnActivation public void activate(int value) { } }");
+    private static final String PLAIN = String.join("\n",
+            "package game;",
+            "public class Plain { public void activate() { } }");
+
+    @TempDir
+    Path output;
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+    private URLClassLoader classLoader;
+
+    @BeforeEach
+    void setup() throws Exception {
+        diagnostics = new DiagnosticCollector<>();
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var yaegerClasses = Path.of(AnnotationWiring.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+        var task = compiler.getTask(null, null, diagnostics,
+                List.of("-classpath", yaegerClasses.toString(), "-d", output.toString(), "-s", output.toString()),
+                null,
+                List.of(source("game.Spawned", SPAWNED), source("game.Child", CHILD), source("game.Base", BASE),
+                        source("game.WithParameter", WITH_PARAMETER), source("game.Plain", PLAIN)));
+        task.setProcessors(List.of(new WiringProcessor()));
+
+        assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+
+        classLoader = new URLClassLoader(new java.net.URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    void wiringIsGeneratedForClassWithAnnotatedMethods() throws Exception {
+        // Arrange
+
+        // Act
+        var actual = classLoader.loadClass("game.Spawned" + AnnotationWiring.SUFFIX);
+
+        // Assert
+        assertTrue(AnnotationWiring.class.isAssignableFrom(actual));
+    }
+
+    @Test
+    void wiringIsGeneratedForClassWithInheritedAnnotatedMethods() {
+        // Arrange
+
+        // Act & Assert
+        assertDoesNotThrow(() -> classLoader.loadClass("game.Child" + AnnotationWiring.SUFFIX));
+    }
+
+    @Test
+    void wiringIsGeneratedForNestedClass() {
+        // Arrange
+
+        // Act & Assert
+        assertDoesNotThrow(() -> classLoader.loadClass("game.Spawned$Nested" + AnnotationWiring.SUFFIX));
+    }
+
+    @Test
+    void noWiringIsGeneratedForPrivateAbstractOrPlainClass() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("game.Spawned$Hidden" + AnnotationWiring.SUFFIX));
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("game.Base" + AnnotationWiring.SUFFIX));
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("game.Plain" + AnnotationWiring.SUFFIX));
+    }
+
+    @Test
+    void noWiringIsGeneratedForMethodWithParameters() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("game.WithParameter" + AnnotationWiring.SUFFIX));
+        assertTrue(diagnostics.getDiagnostics().stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING));
+    }
+
+    @Test
+    void wiringInvokesAnnotatedMethods() throws Exception {
+        // Arrange
+        var updater = mock(Updater.class);
+        var spawnedClass = classLoader.loadClass("game.Spawned");
+        spawnedClass.getField("UPDATER").set(null, updater);
+        var spawned = spawnedClass.getConstructor().newInstance();
+        var sut = (AnnotationWiring) classLoader.loadClass("game.Spawned" + AnnotationWiring.SUFFIX).getConstructor().newInstance();
+
+        // Act
+        sut.invokeActivators(spawned);
+        sut.configureUpdateDelegators(spawned);
+        sut.invokePostActivators(spawned);
+
+        // Assert
+        assertEquals(List.of("activate", "provide", "postActivate"), spawnedClass.getField("CALLS").get(null));
+        verify(updater).addUpdatable(any(Updatable.class), eq(true));
+    }
+
+    @Test
+    void annotationProcessorUsesGeneratedWiring() throws Exception {
+        // Arrange
+        var spawnedClass = classLoader.loadClass("game.Child");
+        spawnedClass.getField("UPDATER").set(null, mock(Updater.class));
+        var spawned = spawnedClass.getConstructor().newInstance();
+        var annotationProcessor = new AnnotationProcessor();
+
+        // Act
+        annotationProcessor.invokeActivators(spawned);
+        annotationProcessor.configureUpdateDelegators(spawned);
+
+        // Assert
+        assertEquals(List.of("activate", "provide"), spawnedClass.getField("CALLS").get(null));
+    }
+
+    private static JavaFileObject source(final String name, final String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
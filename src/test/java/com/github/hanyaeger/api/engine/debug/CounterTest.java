@@ -0,0 +1,47 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CounterTest {
+
+    @Test
+    void newCounterIsZero() {
+        // Arrange
+        var sut = new Counter();
+
+        // Act
+        var actual = sut.get();
+
+        // Assert
+        assertEquals(0, actual);
+    }
+
+    @Test
+    void incrementAndAddIncreaseValue() {
+        // Arrange
+        var sut = new Counter();
+
+        // Act
+        sut.increment();
+        sut.add(41);
+
+        // Assert
+        assertEquals(42, sut.get());
+    }
+
+    @Test
+    void incrementFromSeveralThreadsLosesNoIncrements() {
+        // Arrange
+        var sut = new Counter();
+
+        // Act
+        IntStream.range(0, 100_000).parallel().forEach(i -> sut.increment());
+
+        // Assert
+        assertEquals(100_000, sut.get());
+    }
+}
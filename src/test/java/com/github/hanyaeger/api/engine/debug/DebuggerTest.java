@@ -12,6 +12,7 @@ import javafx.scene.layout.Pane;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class DebuggerTest {
@@ -87,4 +88,23 @@ class DebuggerTest {
         // Verify
         verify(gridPane).setVisible(false);
     }
+
+    @Test
+    void debuggerIsOnlyObservingWhenVisible() {
+        // Setup
+        when(gridPane.isVisible()).thenReturn(false, true);
+        sut.setup(pane);
+
+        // Test & Verify
+        assertFalse(sut.isObserving());
+        assertTrue(sut.isObserving());
+    }
+
+    @Test
+    void debuggerIsNotObservingBeforeSetup() {
+        // Setup
+
+        // Test & Verify
+        assertFalse(sut.isObserving());
+    }
 }
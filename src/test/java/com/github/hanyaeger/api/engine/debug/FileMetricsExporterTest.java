@@ -0,0 +1,83 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileMetricsExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void formatIsDerivedFromFileName() {
+        // Arrange
+        var csv = new FileMetricsExporter(directory.resolve("metrics.csv"));
+        var json = new FileMetricsExporter(directory.resolve("metrics.jsonl"));
+
+        // Act & Assert
+        assertEquals(FileMetricsExporter.Format.CSV, csv.getFormat());
+        assertEquals(FileMetricsExporter.Format.JSON_LINES, json.getFormat());
+    }
+
+    @Test
+    void csvStartsWithHeader() throws IOException {
+        // Arrange
+        var file = directory.resolve("metrics.csv");
+        var sut = new FileMetricsExporter(file);
+
+        // Act
+        sut.export(1000, values(1, 2.5));
+        sut.export(2000, values(3, 4.5));
+        sut.close();
+
+        // Assert
+        assertEquals(List.of("timestamp,counter,gauge", "1000,1,2.5", "2000,3,4.5"), Files.readAllLines(file));
+    }
+
+    @Test
+    void jsonLinesContainOneObjectPerExport() throws IOException {
+        // Arrange
+        var file = directory.resolve("metrics.jsonl");
+        var sut = new FileMetricsExporter(file);
+
+        // Act
+        sut.export(1000, values(1, Double.NaN));
+        sut.close();
+
+        // Assert
+        assertEquals(List.of("{\"timestamp\":1000,\"counter\":1,\"gauge\":null}"), Files.readAllLines(file));
+    }
+
+    @Test
+    void fileIsRolledWhenMaximumSizeIsExceeded() throws IOException {
+        // Arrange
+        var file = directory.resolve("metrics.csv");
+        var sut = new FileMetricsExporter(file, FileMetricsExporter.Format.CSV, 1);
+
+        // Act
+        sut.export(1000, values(1, 2));
+        sut.export(2000, values(3, 4));
+        sut.close();
+
+        // Assert
+        assertEquals(List.of("timestamp,counter,gauge", "1000,1,2"),
+                Files.readAllLines(directory.resolve("metrics.csv.1")));
+        assertEquals(List.of("timestamp,counter,gauge", "2000,3,4"), Files.readAllLines(file));
+    }
+
+    private Map<String, Number> values(final long counter, final Number gauge) {
+        var values = new LinkedHashMap<String, Number>();
+        values.put("counter", counter);
+        values.put("gauge", gauge);
+        return values;
+    }
+}
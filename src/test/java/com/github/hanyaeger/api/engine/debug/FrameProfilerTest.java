@@ -0,0 +1,198 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private static final int WINDOW_SIZE = 10;
+    private static final long FRAME_INTERVAL = 16_666_667L;
+    private static final double DELTA = 0.5d;
+
+    private FrameProfiler sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new FrameProfiler(WINDOW_SIZE);
+    }
+
+    @Test
+    void windowSizeOfOneThrowsException() {
+        // Arrange
+
+        // Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> new FrameProfiler(1));
+    }
+
+    @Test
+    void newProfilerHasNoResults() {
+        // Arrange
+
+        // Act
+        var percentile = sut.getPercentile(FrameProfiler.Phase.FRAME, 50);
+
+        // Assert
+        assertEquals(0, sut.getFrames());
+        assertEquals(0, percentile);
+        assertEquals(0, sut.getFramesPerSecond());
+        assertEquals(0, sut.getAllocatedBytesPerFrame());
+    }
+
+    @Test
+    void recordReturnsCurrentTime() {
+        // Arrange
+        var before = System.nanoTime();
+
+        // Act
+        var actual = sut.record(FrameProfiler.Phase.UPDATABLES, before);
+
+        // Assert
+        assertTrue(actual >= before);
+    }
+
+    @Test
+    void percentilesAreCalculatedOverRecordedFrames() {
+        // Arrange
+        for (var i = 1; i <= WINDOW_SIZE; i++) {
+            recordFrame(i, i * 1_000_000L);
+        }
+
+        // Act
+        var p50 = sut.getPercentile(FrameProfiler.Phase.COLLISIONS, 50);
+        var p99 = sut.getPercentile(FrameProfiler.Phase.COLLISIONS, 99);
+
+        // Assert
+        assertEquals(5, p50, DELTA);
+        assertEquals(10, p99, DELTA);
+    }
+
+    @Test
+    void onlyMostRecentFramesAreRetained() {
+        // Arrange
+        for (var i = 0; i < WINDOW_SIZE; i++) {
+            recordFrame(i, 100_000_000L);
+        }
+
+        // Act
+        for (var i = 0; i < WINDOW_SIZE; i++) {
+            recordFrame(WINDOW_SIZE + i, 1_000_000L);
+        }
+
+        // Assert
+        assertEquals(WINDOW_SIZE, sut.getFrames());
+        assertEquals(1, sut.getPercentile(FrameProfiler.Phase.COLLISIONS, 99), DELTA);
+    }
+
+    @Test
+    void phaseRecordedTwiceDuringFrameIsAddedUp() {
+        // Arrange
+        sut.startFrame(0);
+        var start = System.nanoTime();
+
+        // Act
+        sut.record(FrameProfiler.Phase.UPDATABLES, start - 1_000_000L);
+        sut.record(FrameProfiler.Phase.UPDATABLES, start - 2_000_000L);
+        sut.endFrame();
+
+        // Assert
+        assertTrue(sut.getPercentile(FrameProfiler.Phase.UPDATABLES, 50) >= 3);
+    }
+
+    @Test
+    void framesPerSecondIsBasedOnTimestamps() {
+        // Arrange
+        for (var i = 0; i < WINDOW_SIZE; i++) {
+            recordFrame(i, 0);
+        }
+
+        // Act
+        var actual = sut.getFramesPerSecond();
+
+        // Assert
+        assertEquals(60, actual, 0.01);
+    }
+
+    @Test
+    void histogramContainsAllFrames() {
+        // Arrange
+        for (var i = 0; i < WINDOW_SIZE; i++) {
+            recordFrame(i, 0);
+        }
+
+        // Act
+        var histogram = sut.getHistogram();
+
+        // Assert
+        assertEquals(FrameProfiler.HISTOGRAM_BOUNDS.length + 1, histogram.length);
+        var total = 0;
+        for (var bucket : histogram) {
+            total += bucket;
+        }
+        assertEquals(WINDOW_SIZE, total);
+    }
+
+    @Test
+    void allocatedBytesPerFrameIsNotNegative() {
+        // Arrange
+        sut.startFrame(0);
+        var allocated = new byte[1024];
+        sut.endFrame();
+
+        // Act
+        var actual = sut.getAllocatedBytesPerFrame();
+
+        // Assert
+        assertTrue(actual >= 0);
+        assertEquals(1024, allocated.length);
+    }
+
+    @Test
+    void disabledProfilerRecordsNoFrames() {
+        // Arrange
+        sut.setEnabled(false);
+
+        // Act
+        recordFrame(0, 0);
+
+        // Assert
+        assertEquals(0, sut.getFrames());
+        assertEquals(0, sut.startPhase());
+        assertEquals(42, sut.record(FrameProfiler.Phase.UPDATABLES, 42));
+        assertEquals(0, sut.endFrame());
+    }
+
+    @Test
+    void enablingProfilerAgainDiscardsEarlierFrames() {
+        // Arrange
+        recordFrame(0, 0);
+        recordFrame(1, 0);
+        sut.setEnabled(false);
+
+        // Act
+        sut.setEnabled(true);
+
+        // Assert
+        assertEquals(0, sut.getFrames());
+        assertEquals(0, sut.getFramesPerSecond());
+    }
+
+    @Test
+    void enablingEnabledProfilerKeepsFrames() {
+        // Arrange
+        recordFrame(0, 0);
+
+        // Act
+        sut.setEnabled(true);
+
+        // Assert
+        assertEquals(1, sut.getFrames());
+    }
+
+    private void recordFrame(final int frame, final long collisionDuration) {
+        sut.startFrame(frame * FRAME_INTERVAL);
+        sut.record(FrameProfiler.Phase.COLLISIONS, System.nanoTime() - collisionDuration);
+        sut.endFrame();
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsMBeanTest {
+
+    private Metrics metrics;
+    private MetricsMBean sut;
+
+    @BeforeEach
+    void setup() {
+        metrics = new Metrics();
+        metrics.counter("collisions.detected").add(3);
+        sut = new MetricsMBean(metrics);
+        metrics.report(0);
+    }
+
+    @Test
+    void getAttributeReturnsValueOfMetric() throws AttributeNotFoundException {
+        // Arrange
+
+        // Act
+        var actual = sut.getAttribute("collisions.detected");
+
+        // Assert
+        assertEquals(3L, actual);
+    }
+
+    @Test
+    void getAttributeReturnsValueOfLastReport() throws AttributeNotFoundException {
+        // Arrange
+        metrics.counter("collisions.detected").add(2);
+
+        // Act
+        var actual = sut.getAttribute("collisions.detected");
+
+        // Assert
+        assertEquals(3L, actual);
+    }
+
+    @Test
+    void getAttributeOfUnknownMetricThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(AttributeNotFoundException.class, () -> sut.getAttribute("unknown"));
+    }
+
+    @Test
+    void setAttributeThrowsAttributeNotFoundException() {
+        // Arrange
+        var attribute = new Attribute("collisions.detected", 4L);
+
+        // Act & Assert
+        assertThrows(AttributeNotFoundException.class, () -> sut.setAttribute(attribute));
+    }
+
+    @Test
+    void setAttributesSetsNoAttributes() {
+        // Arrange
+        var attributes = new AttributeList(List.of(new Attribute("collisions.detected", 4L)));
+
+        // Act
+        var actual = sut.setAttributes(attributes);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void invokeThrowsReflectionExceptionWrappingNoSuchMethodException() {
+        // Arrange
+
+        // Act
+        var actual = assertThrows(ReflectionException.class, () -> sut.invoke("reset", new Object[0], new String[0]));
+
+        // Assert
+        assertTrue(actual.getTargetException() instanceof NoSuchMethodException);
+    }
+
+    @Test
+    void mBeanInfoContainsAttributePerMetric() {
+        // Arrange
+        metrics.gauge("entities.updatables", () -> 1);
+        metrics.report(Metrics.DEFAULT_REPORT_INTERVAL);
+
+        // Act
+        var attributes = sut.getMBeanInfo().getAttributes();
+
+        // Assert
+        assertEquals(2, attributes.length);
+        assertTrue(Arrays.stream(attributes).noneMatch(attribute -> attribute.isWritable()));
+    }
+
+    @Test
+    void registerRegistersWithMBeanServer() throws Exception {
+        // Arrange
+        var server = MBeanServerFactory.newMBeanServer();
+
+        // Act
+        sut.register(server);
+        new MetricsMBean(metrics).register(server);
+
+        // Assert
+        assertEquals(3L, server.getAttribute(new ObjectName(MetricsMBean.OBJECT_NAME), "collisions.detected"));
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class MetricsTest {
+
+    private Metrics sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new Metrics();
+    }
+
+    @Test
+    void counterWithSameNameReturnsSameCounter() {
+        // Arrange
+        var expected = sut.counter("entities.supplied");
+
+        // Act
+        var actual = sut.counter("entities.supplied");
+
+        // Assert
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void timingWithSameNameReturnsSameTiming() {
+        // Arrange
+        var expected = sut.timing("frame");
+
+        // Act
+        var actual = sut.timing("frame");
+
+        // Assert
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void snapshotContainsAllMetricsSortedByName() {
+        // Arrange
+        sut.counter("b.counter").add(3);
+        sut.gauge("a.gauge", () -> 7);
+        sut.timing("c.timing").record(1_000_000L);
+
+        // Act
+        var actual = sut.snapshot();
+
+        // Assert
+        assertEquals(List.of("a.gauge", "b.counter", "c.timing.count", "c.timing.max", "c.timing.mean"),
+                List.copyOf(actual.keySet()));
+        assertEquals(7, actual.get("a.gauge"));
+        assertEquals(3L, actual.get("b.counter"));
+        assertEquals(1L, actual.get("c.timing.count"));
+    }
+
+    @Test
+    void gaugeWithSameNameReplacesGauge() {
+        // Arrange
+        sut.gauge("gauge", () -> 1);
+
+        // Act
+        sut.gauge("gauge", () -> 2);
+
+        // Assert
+        assertEquals(Map.of("gauge", 2), sut.snapshot());
+    }
+
+    @Test
+    void removeGaugeRemovesGauge() {
+        // Arrange
+        Supplier<Integer> gauge = () -> 1;
+        sut.gauge("gauge", gauge);
+
+        // Act
+        sut.removeGauge("gauge", gauge);
+
+        // Assert
+        assertTrue(sut.snapshot().isEmpty());
+    }
+
+    @Test
+    void removeGaugeKeepsGaugeThatReplacedIt() {
+        // Arrange
+        Supplier<Integer> gauge = () -> 1;
+        sut.gauge("gauge", gauge);
+        sut.gauge("gauge", () -> 2);
+
+        // Act
+        sut.removeGauge("gauge", gauge);
+
+        // Assert
+        assertEquals(Map.of("gauge", 2), sut.snapshot());
+    }
+
+    @Test
+    void reportExportsToAllExporters() {
+        // Arrange
+        var exporter = mock(MetricsExporter.class);
+        var otherExporter = mock(MetricsExporter.class);
+        sut.addExporter(exporter);
+        sut.addExporter(otherExporter);
+        sut.counter("counter").increment();
+
+        // Act
+        sut.report(1000);
+
+        // Assert
+        verify(exporter).export(1000, Map.of("counter", 1L));
+        verify(otherExporter).export(1000, Map.of("counter", 1L));
+    }
+
+    @Test
+    void reportOnlyExportsOncePerInterval() {
+        // Arrange
+        var exporter = mock(MetricsExporter.class);
+        sut.addExporter(exporter);
+        sut.setReportInterval(1000);
+
+        // Act
+        sut.report(1000);
+        sut.report(1500);
+        sut.report(2000);
+
+        // Assert
+        verify(exporter).export(eq(1000L), anyMap());
+        verify(exporter, never()).export(eq(1500L), anyMap());
+        verify(exporter).export(eq(2000L), anyMap());
+    }
+
+    @Test
+    void lastReportIsEmptyBeforeFirstReport() {
+        // Arrange
+        sut.counter("counter").increment();
+
+        // Act
+        var actual = sut.getLastReport();
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void lastReportContainsValuesOfMostRecentReport() {
+        // Arrange
+        sut.addExporter(mock(MetricsExporter.class));
+        var counter = sut.counter("counter");
+        counter.increment();
+        sut.report(1000);
+
+        // Act
+        counter.increment();
+        var actual = sut.getLastReport();
+
+        // Assert
+        assertEquals(Map.of("counter", 1L), actual);
+        assertThrows(UnsupportedOperationException.class, () -> actual.put("counter", 2L));
+    }
+
+    @Test
+    void metricsWithoutExporterAreNotObserved() {
+        // Arrange
+
+        // Act
+        var actual = sut.isObserved();
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void metricsWithExporterAreObserved() {
+        // Arrange
+        sut.addExporter(mock(MetricsExporter.class));
+
+        // Act
+        var actual = sut.isObserved();
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void metricsExposedThroughMBeanAreObserved() {
+        // Arrange
+        new MetricsMBean(sut);
+
+        // Act
+        var actual = sut.isObserved();
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void reportOfUnobservedMetricsTakesNoSnapshot() {
+        // Arrange
+        var gauge = mock(Supplier.class);
+        sut.gauge("gauge", gauge);
+
+        // Act
+        sut.report(1000);
+
+        // Assert
+        verifyNoInteractions(gauge);
+        assertTrue(sut.getLastReport().isEmpty());
+    }
+
+    @Test
+    void closeClosesAndRemovesExporters() {
+        // Arrange
+        var exporter = mock(MetricsExporter.class);
+        sut.addExporter(exporter);
+
+        // Act
+        sut.close();
+        sut.report(1000);
+
+        // Assert
+        verify(exporter).close();
+        verify(exporter, never()).export(anyLong(), anyMap());
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.hanyaeger.api.engine.debug;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingTest {
+
+    private static final double DELTA = 0.0001d;
+
+    @Test
+    void newTimingHasNoDurations() {
+        // Arrange
+        var sut = new Timing();
+
+        // Act & Assert
+        assertEquals(0, sut.getCount());
+        assertEquals(0, sut.getMean(), DELTA);
+        assertEquals(0, sut.getMax(), DELTA);
+    }
+
+    @Test
+    void recordedDurationsAreReportedInMilliseconds() {
+        // Arrange
+        var sut = new Timing();
+
+        // Act
+        sut.record(2_000_000L);
+        sut.record(4_000_000L);
+
+        // Assert
+        assertEquals(2, sut.getCount());
+        assertEquals(3, sut.getMean(), DELTA);
+        assertEquals(4, sut.getMax(), DELTA);
+    }
+
+    @Test
+    void recordFromSeveralThreadsLosesNoDurations() {
+        // Arrange
+        var sut = new Timing();
+
+        // Act
+        IntStream.rangeClosed(1, 100_000).parallel().forEach(i -> sut.record(i * 1_000_000L));
+
+        // Assert
+        assertEquals(100_000, sut.getCount());
+        assertEquals(50_000.5, sut.getMean(), DELTA);
+        assertEquals(100_000, sut.getMax(), DELTA);
+    }
+}
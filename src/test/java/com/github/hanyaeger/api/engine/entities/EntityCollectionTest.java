@@ -1,26 +1,52 @@
 package com.github.hanyaeger.api.engine.entities;
 
+import com.github.hanyaeger.api.engine.IndependentUpdatable;
+import com.github.hanyaeger.api.engine.ParallelUpdatable;
 import com.github.hanyaeger.api.engine.Updatable;
+import com.github.hanyaeger.api.engine.Updater;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.debug.Debugger;
+import com.github.hanyaeger.api.engine.debug.FrameProfiler;
+import com.github.hanyaeger.api.engine.debug.Metrics;
+import com.github.hanyaeger.api.engine.debug.MetricsExporter;
+import com.github.hanyaeger.api.engine.debug.StatisticsObserver;
+import com.github.hanyaeger.api.engine.entities.entity.CompositeEntity;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collided;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.Collider;
+import com.github.hanyaeger.api.engine.entities.entity.events.EventTypes;
+import com.github.hanyaeger.api.engine.entities.entity.events.system.RemoveEntityEvent;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.github.hanyaeger.api.javafx.image.ImageRegion;
+import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
+import com.github.hanyaeger.api.engine.Size;
 import com.google.inject.Injector;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.event.EventType;
+import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -61,6 +87,216 @@ class EntityCollectionTest {
         assertEquals(0, sut.getStatistics().getSuppliers());
     }
 
+    @Test
+    void collisionCellSizeOfConfigIsUsedByCollisionDelegate() {
+        // Arrange
+        when(config.getCollisionCellSize()).thenReturn(64d);
+
+        // Act
+        sut = new EntityCollection(pane, config);
+
+        // Assert
+        assertEquals(64, sut.getCollisionDelegate().getCellSize());
+    }
+
+    @Test
+    void updateDuringFrameIsRecordedByFrameProfiler() {
+        // Arrange
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var debugger = mock(Debugger.class);
+        when(debugger.isObserving()).thenReturn(true);
+        sut = new EntityCollection(pane, config);
+        sut.addStatisticsObserver(debugger);
+        sut.setAnnotationProcessor(annotationProcessor);
+
+        // Act
+        sut.startFrame(0);
+        sut.update(0);
+        sut.render();
+        sut.endFrame();
+
+        // Assert
+        var profiler = sut.getStatistics().getFrameProfiler();
+        assertEquals(1, profiler.getFrames());
+        assertTrue(profiler.getPercentile(FrameProfiler.Phase.FRAME, 50) >= profiler.getPercentile(FrameProfiler.Phase.COLLISIONS, 50));
+    }
+
+    @Test
+    void endFrameRecordsFrameInMetrics() {
+        // Arrange
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var metrics = new Metrics();
+        metrics.addExporter(mock(MetricsExporter.class));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setMetrics(metrics);
+
+        // Act
+        sut.startFrame(0);
+        sut.update(0);
+        sut.render();
+        sut.endFrame();
+
+        // Assert
+        assertEquals(1L, metrics.timing("frame").getCount());
+        assertEquals(0L, metrics.counter("collisions.detected").get());
+    }
+
+    @Test
+    void frameProfilerIsDisabledWhileNobodyObserves() {
+        // Arrange
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var debugger = mock(Debugger.class);
+        var metrics = new Metrics();
+        sut = new EntityCollection(pane, config);
+        sut.addStatisticsObserver(debugger);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setMetrics(metrics);
+
+        // Act
+        sut.startFrame(0);
+        sut.update(0);
+        sut.render();
+        sut.endFrame();
+
+        // Assert
+        assertFalse(sut.getStatistics().getFrameProfiler().isEnabled());
+        assertEquals(0, sut.getStatistics().getFrameProfiler().getFrames());
+        assertEquals(0L, metrics.timing("frame").getCount());
+    }
+
+    @Test
+    void setMetricsRegistersGauges() {
+        // Arrange
+        var metrics = new Metrics();
+        sut = new EntityCollection(pane, config);
+
+        // Act
+        sut.setMetrics(metrics);
+
+        // Assert
+        assertEquals(0, metrics.snapshot().get("entities.updatables"));
+    }
+
+    @Test
+    void clearRemovesGaugesFromMetrics() {
+        // Arrange
+        var metrics = new Metrics();
+        sut = new EntityCollection(pane, config);
+        sut.setMetrics(metrics);
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertFalse(metrics.snapshot().containsKey("entities.updatables"));
+    }
+
+    @Test
+    void clearKeepsGaugesOfNextEntityCollection() {
+        // Arrange
+        var metrics = new Metrics();
+        sut = new EntityCollection(pane, config);
+        sut.setMetrics(metrics);
+        var next = new EntityCollection(pane, config);
+        next.setMetrics(metrics);
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertTrue(metrics.snapshot().containsKey("entities.updatables"));
+    }
+
+    @Test
+    void updateInvalidatesCachedBoundingBoxesOfOwnEntities() {
+        // Arrange
+        var entity = new ColliderEntity();
+        sut = entityCollectionWith(entity);
+        entity.getBoundingBox();
+        clearInvocations(entity.node);
+
+        // Act
+        sut.update(0L);
+        entity.getBoundingBox();
+
+        // Assert
+        verify(entity.node).localToScene((Bounds) any(), eq(true));
+    }
+
+    @Test
+    void updateOfOtherEntityCollectionKeepsCachedBoundingBoxes() {
+        // Arrange
+        var entity = new ColliderEntity();
+        sut = entityCollectionWith(entity);
+        var other = new EntityCollection(pane, config);
+        other.setAnnotationProcessor(annotationProcessor);
+        other.init(injector);
+        entity.getBoundingBox();
+        clearInvocations(entity.node);
+
+        // Act
+        other.update(0L);
+        entity.getBoundingBox();
+
+        // Assert
+        verify(entity.node, never()).localToScene((Bounds) any(), eq(true));
+    }
+
+    @Test
+    void statisticsObserverThatIsNotObservingIsNotUpdated() {
+        // Arrange
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var observer = mock(StatisticsObserver.class);
+        when(observer.isObserving()).thenReturn(false);
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addStatisticsObserver(observer);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        verify(observer, never()).update(any());
+    }
+
+    @Test
+    void statisticsObserverIsUpdatedOncePerSamplingInterval() {
+        // Arrange
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var observer = mock(StatisticsObserver.class);
+        when(observer.isObserving()).thenReturn(true);
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addStatisticsObserver(observer);
+
+        // Act
+        sut.update(0);
+        sut.update(EntityCollection.STATISTICS_SAMPLING_INTERVAL - 1);
+        sut.update(EntityCollection.STATISTICS_SAMPLING_INTERVAL);
+
+        // Assert
+        verify(observer, times(2)).update(any());
+    }
+
+    @Test
+    void statisticsObserverIsUpdatedAsSoonAsItStartsObserving() {
+        // Arrange
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var observer = mock(StatisticsObserver.class);
+        when(observer.isObserving()).thenReturn(false, true);
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addStatisticsObserver(observer);
+        sut.update(0);
+
+        // Act
+        sut.update(1);
+
+        // Assert
+        verify(observer).update(any());
+    }
+
     @Test
     void clearClearsSupplier() {
         // Arrange
@@ -173,6 +409,31 @@ class EntityCollectionTest {
             verify(supplier).get();
         }
 
+        @Test
+        void suppliedEntitiesAreCountedByMetrics() {
+            // Arrange
+            List<YaegerEntity> updatables = new ArrayList<>();
+            updatables.add(updatableEntity);
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(updatables);
+
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+
+            var metrics = new Metrics();
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.setMetrics(metrics);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+
+            // Act
+            sut.initialUpdate();
+
+            // Assert
+            assertEquals(1L, metrics.counter("entities.supplied").get());
+        }
+
         @Test
         void addDynamicEntityCallsAnnotationProcessor() {
             // Arrange
@@ -282,6 +543,275 @@ class EntityCollectionTest {
             assertTrue(updatableEntity.isApplyTranslationsForAnchorPointCalled());
         }
 
+        @Test
+        void suppliedEntitiesAreAddedAtOnce() {
+            // Arrange
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            updatableEntity.setNode(node);
+            var otherNode = mock(Node.class, withSettings().withoutAnnotations());
+            var otherEntity = new UpdatableEntity(LOCATION);
+            otherEntity.setNode(otherNode);
+            ObservableList<Node> children = FXCollections.observableArrayList();
+            var changes = new AtomicInteger();
+            children.addListener((ListChangeListener<Node>) change -> changes.incrementAndGet());
+            when(pane.getChildren()).thenReturn(children);
+            var supplier = new EntitySupplier();
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            supplier.add(updatableEntity);
+            supplier.add(otherEntity);
+
+            // Act
+            sut.update(0L);
+
+            // Assert
+            assertEquals(List.of(node, otherNode), children);
+            assertEquals(1, changes.get());
+        }
+
+        @Test
+        void removedPooledEntityIsRecycledWithoutInjection() {
+            // Arrange
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            updatableEntity.setNode(node);
+            ObservableList<Node> children = FXCollections.observableArrayList();
+            var additions = new AtomicInteger();
+            children.addListener((ListChangeListener<Node>) change -> {
+                while (change.next()) {
+                    if (change.wasAdded()) {
+                        additions.incrementAndGet();
+                    }
+                }
+            });
+            when(pane.getChildren()).thenReturn(children);
+            var pool = new EntityPool<>(() -> updatableEntity);
+            var supplier = new EntitySupplier();
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            supplier.add(pool.obtain());
+            sut.initialUpdate();
+
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(node).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            removeHandler.getValue().handle(new RemoveEntityEvent(updatableEntity));
+            sut.update(0L);
+
+            // Act
+            supplier.add(pool.obtain());
+            sut.update(1L);
+
+            // Assert
+            verify(injector, times(1)).injectMembers(updatableEntity);
+            verify(annotationProcessor, times(1)).invokeActivators(updatableEntity);
+            assertEquals(List.of(node), children);
+            assertEquals(2, additions.get());
+            verify(node, times(2)).setVisible(true);
+        }
+
+        @Test
+        void childrenOfRecycledCompositeEntityAreRegisteredAgain() {
+            // Arrange
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var group = mock(Group.class);
+            when(group.getChildren()).thenReturn(FXCollections.observableArrayList());
+            var child = new ColliderEntity();
+            when(child.node.isVisible()).thenReturn(true);
+            var composite = new CompositeEntityImpl(child);
+            composite.setGroup(group);
+            var pool = new EntityPool<>(() -> composite);
+            var collided = new CollidedEntity();
+            var supplier = new EntitySupplier();
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            supplier.add(collided);
+            supplier.add(pool.obtain());
+            sut.initialUpdate();
+
+            var childRemoveHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(child.node).addEventHandler(eq(EventTypes.REMOVE), childRemoveHandler.capture());
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(group).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            composite.remove();
+            childRemoveHandler.getValue().handle(new RemoveEntityEvent(child));
+            removeHandler.getValue().handle(new RemoveEntityEvent(composite));
+            sut.update(0L);
+
+            // Act
+            supplier.add(pool.obtain());
+            sut.update(1L);
+            sut.update(2L);
+
+            // Assert
+            assertEquals(List.of(child), collided.colliders);
+            assertEquals(3, sut.getStatistics().getStatics());
+            verify(child.node, times(2)).setVisible(true);
+        }
+
+        @Test
+        void hiddenChildOfRecycledCompositeEntityRemainsHidden() {
+            // Arrange
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var group = mock(Group.class);
+            when(group.getChildren()).thenReturn(FXCollections.observableArrayList());
+            var visibleChild = new ColliderEntity();
+            when(visibleChild.node.isVisible()).thenReturn(true);
+            var hiddenChild = new ColliderEntity();
+            when(hiddenChild.node.isVisible()).thenReturn(false);
+            var composite = new CompositeEntityImpl(visibleChild, hiddenChild);
+            composite.setGroup(group);
+            var pool = new EntityPool<>(() -> composite);
+            var supplier = new EntitySupplier();
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            supplier.add(pool.obtain());
+            sut.initialUpdate();
+
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(group).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            composite.remove();
+            removeHandler.getValue().handle(new RemoveEntityEvent(composite));
+            sut.update(0L);
+
+            // Act
+            supplier.add(pool.obtain());
+            sut.update(1L);
+
+            // Assert
+            var visibleChildInOrder = inOrder(visibleChild.node);
+            visibleChildInOrder.verify(visibleChild.node).setVisible(false);
+            visibleChildInOrder.verify(visibleChild.node).setVisible(true);
+            var hiddenChildInOrder = inOrder(hiddenChild.node);
+            hiddenChildInOrder.verify(hiddenChild.node).setVisible(false);
+            hiddenChildInOrder.verify(hiddenChild.node, never()).setVisible(true);
+            var groupInOrder = inOrder(group);
+            groupInOrder.verify(group).setVisible(false);
+            groupInOrder.verify(group).setVisible(true);
+        }
+
+        @Test
+        void removedPooledEntityIsReturnedToPool() {
+            // Arrange
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            updatableEntity.setNode(node);
+            ObservableList<Node> children = FXCollections.observableArrayList();
+            when(pane.getChildren()).thenReturn(children);
+            var pool = new EntityPool<>(() -> updatableEntity);
+            var supplier = new EntitySupplier();
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            supplier.add(pool.obtain());
+            sut.initialUpdate();
+
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(node).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            removeHandler.getValue().handle(new RemoveEntityEvent(updatableEntity));
+
+            // Act
+            sut.update(0L);
+
+            // Assert
+            assertEquals(1, pool.size());
+            assertTrue(children.isEmpty());
+        }
+
+        @Test
+        void removedEntitiesAreRemovedAtOnce() {
+            // Arrange
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            updatableEntity.setNode(node);
+            var otherNode = mock(Node.class, withSettings().withoutAnnotations());
+            var otherEntity = new UpdatableEntity(LOCATION);
+            otherEntity.setNode(otherNode);
+            var remainingNode = mock(Node.class);
+            ObservableList<Node> children = FXCollections.observableArrayList(remainingNode);
+            when(pane.getChildren()).thenReturn(children);
+            var supplier = new EntitySupplier();
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            supplier.add(updatableEntity);
+            supplier.add(otherEntity);
+            sut.initialUpdate();
+
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(node).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            removeHandler.getValue().handle(new RemoveEntityEvent(updatableEntity));
+            removeHandler.getValue().handle(new RemoveEntityEvent(otherEntity));
+            removeHandler.getValue().handle(new RemoveEntityEvent(otherEntity));
+
+            // Act
+            sut.update(0L);
+
+            // Assert
+            assertEquals(List.of(remainingNode), children);
+            assertEquals(0, sut.getStatistics().getUpdatables());
+            assertEquals(0, sut.getStatistics().getStatics());
+            assertEquals(0, sut.getStatistics().getGarbage());
+        }
+
+        @Test
+        void interpolateInterpolatesDynamicEntities() {
+            // Arrange
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            updatableEntity.setNode(node);
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.addDynamicEntity(updatableEntity);
+            sut.storePreviousLocations();
+            updatableEntity.setAnchorLocation(new Coordinate2D(LOCATION.getX() + 10, LOCATION.getY()));
+
+            // Act
+            sut.interpolate(0.5);
+
+            // Assert
+            verify(node).setLayoutX(-5);
+        }
+
+        @Test
+        void storePreviousLocationsResetsInterpolation() {
+            // Arrange
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            updatableEntity.setNode(node);
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.addDynamicEntity(updatableEntity);
+            sut.storePreviousLocations();
+
+            // Act
+            sut.storePreviousLocations();
+
+            // Assert
+            verify(node).setLayoutX(0);
+            verify(node).setLayoutY(0);
+        }
+
         private class UpdatableEntity extends YaegerEntity implements Updatable {
 
             private Node node;
@@ -355,6 +885,300 @@ class EntityCollectionTest {
     }
 
 
+    @Nested
+    class TestsWithParallelUpdatableEntities {
+
+        private List<ParallelUpdatableEntity> entities;
+
+        @BeforeEach
+        void setup() {
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+
+            entities = new ArrayList<>();
+            for (var i = 0; i < EntityCollection.PARALLEL_UPDATE_THRESHOLD; i++) {
+                var entity = new ParallelUpdatableEntity(LOCATION);
+                entities.add(entity);
+                sut.addDynamicEntity(entity);
+            }
+        }
+
+        @Test
+        void parallelUpdateCommitsNodeChangesBeforeRemainingUpdate() {
+            // Arrange
+            sut.setParallelUpdate(true);
+
+            // Act
+            sut.update(0L);
+
+            // Assert
+            for (var entity : entities) {
+                assertEquals(1, entity.independentUpdates.get());
+                assertEquals(1, entity.dependentUpdates);
+                assertTrue(entity.committedBeforeDependentUpdate);
+                assertEquals(new Coordinate2D(LOCATION.getX() + 1, LOCATION.getY()), entity.getAnchorLocation());
+            }
+        }
+
+        @Test
+        void sequentialUpdatePerformsCompleteUpdate() {
+            // Arrange
+            sut.setParallelUpdate(false);
+
+            // Act
+            sut.update(0L);
+
+            // Assert
+            for (var entity : entities) {
+                assertEquals(1, entity.independentUpdates.get());
+                assertEquals(1, entity.dependentUpdates);
+                assertEquals(new Coordinate2D(LOCATION.getX() + 1, LOCATION.getY()), entity.getAnchorLocation());
+            }
+        }
+
+        @Test
+        void parallelUpdatePreservesOrderOfUpdatablesAtThreshold() {
+            // Arrange
+            var belowThreshold = updateOrderWithParallelUpdatables(EntityCollection.PARALLEL_UPDATE_THRESHOLD - 1);
+
+            // Act
+            var atThreshold = updateOrderWithParallelUpdatables(EntityCollection.PARALLEL_UPDATE_THRESHOLD);
+
+            // Assert
+            assertEquals(List.of("move", "other", "watch", "physics"), belowThreshold);
+            assertEquals(belowThreshold, atThreshold);
+        }
+
+        /**
+         * Perform a parallel Game World Update with an {@link Updatable} that is registered before the given number
+         * of instances of {@link ParallelUpdatable}, and return the order in which the first of those and the
+         * {@link Updatable} were updated.
+         */
+        private List<String> updateOrderWithParallelUpdatables(final int count) {
+            var log = Collections.synchronizedList(new ArrayList<String>());
+            var entityCollection = new EntityCollection(pane, config);
+            entityCollection.setAnnotationProcessor(annotationProcessor);
+            entityCollection.init(injector);
+            entityCollection.setParallelUpdate(true);
+
+            entityCollection.addDynamicEntity(timestamp -> log.add("other"));
+            for (var i = 0; i < count; i++) {
+                entityCollection.addDynamicEntity(new OrderedUpdatableEntity(i == 0 ? log : new ArrayList<>()));
+            }
+
+            entityCollection.update(0L);
+            return log;
+        }
+
+        private class OrderedUpdatableEntity extends YaegerEntity implements ParallelUpdatable {
+
+            private final Updater updater = new Updater();
+
+            OrderedUpdatableEntity(final List<String> log) {
+                super(LOCATION);
+
+                updater.addUpdatable((IndependentUpdatable) timestamp -> log.add("physics"));
+                updater.addUpdatable(timestamp -> log.add("watch"), true);
+                updater.addUpdatable((IndependentUpdatable) timestamp -> log.add("move"), true);
+            }
+
+            @Override
+            public void update(final long timestamp) {
+                updater.update(timestamp);
+            }
+
+            @Override
+            public Updater getUpdater() {
+                return updater;
+            }
+
+            @Override
+            public Optional<? extends Node> getNode() {
+                return Optional.empty();
+            }
+        }
+
+        private class ParallelUpdatableEntity extends YaegerEntity implements ParallelUpdatable {
+
+            private final Updater updater = new Updater();
+            private final AtomicInteger independentUpdates = new AtomicInteger();
+            private int dependentUpdates;
+            private boolean committedBeforeDependentUpdate;
+
+            ParallelUpdatableEntity(final Coordinate2D initialLocation) {
+                super(initialLocation);
+
+                updater.addUpdatable((IndependentUpdatable) timestamp -> {
+                    independentUpdates.incrementAndGet();
+                    setAnchorLocationX(getAnchorLocation().getX() + 1);
+                });
+                updater.addUpdatable(timestamp -> {
+                    dependentUpdates++;
+                    committedBeforeDependentUpdate = !isNodeChangesDeferred();
+                });
+            }
+
+            @Override
+            public void update(final long timestamp) {
+                updater.update(timestamp);
+            }
+
+            @Override
+            public Updater getUpdater() {
+                return updater;
+            }
+
+            @Override
+            public Optional<? extends Node> getNode() {
+                return Optional.empty();
+            }
+        }
+    }
+
+    @Nested
+    class TestsWithCanvasRendering {
+
+        private Pane pane;
+        private ImageView imageView;
+        private SpriteEntityImpl spriteEntity;
+        private EntitySupplier supplier;
+
+        @BeforeEach
+        void setup() {
+            pane = new Pane();
+            imageView = mock(ImageView.class);
+            var imageViewFactory = mock(ImageViewFactory.class);
+            when(imageViewFactory.create(any())).thenReturn(imageView);
+
+            spriteEntity = new SpriteEntityImpl(LOCATION);
+            var imageRepository = mock(ImageRepository.class);
+            when(imageRepository.getRegion(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(new ImageRegion(null));
+            spriteEntity.setImageRepository(imageRepository);
+            spriteEntity.setImageViewFactory(imageViewFactory);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            supplier = new EntitySupplier();
+            sut.registerSupplier(supplier);
+        }
+
+        @Test
+        void spritesAreNotAddedToPaneWhenCanvasRenderingIsEnabled() {
+            // Arrange
+            sut.enableCanvasRendering();
+            supplier.add(spriteEntity);
+
+            // Act
+            sut.initialUpdate();
+
+            // Assert
+            assertEquals(1, pane.getChildren().size());
+            assertTrue(pane.getChildren().get(0) instanceof Canvas);
+        }
+
+        @Test
+        void spritesAreAddedToPaneWhenCanvasRenderingIsNotEnabled() {
+            // Arrange
+            supplier.add(spriteEntity);
+
+            // Act
+            sut.initialUpdate();
+
+            // Assert
+            assertEquals(List.of(imageView), pane.getChildren());
+        }
+
+        @Test
+        void enableCanvasRenderingTwiceAddsSingleCanvas() {
+            // Arrange
+            sut.enableCanvasRendering();
+
+            // Act
+            sut.enableCanvasRendering();
+            sut.initialUpdate();
+
+            // Assert
+            assertEquals(1, pane.getChildren().size());
+        }
+
+        @Test
+        void removedSpriteIsNoLongerRendered() {
+            // Arrange
+            sut.enableCanvasRendering();
+            supplier.add(spriteEntity);
+            sut.initialUpdate();
+
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            verify(imageView).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            removeHandler.getValue().handle(new RemoveEntityEvent(spriteEntity));
+            sut.update(0L);
+            clearInvocations(imageView);
+
+            // Act
+            sut.render();
+
+            // Assert
+            verify(imageView, never()).getImage();
+            assertEquals(1, pane.getChildren().size());
+        }
+
+        @Test
+        void recycledSpriteIsVisibleAndStillCollides() {
+            // Arrange
+            var colliderView = mock(ImageView.class);
+            when(colliderView.localToScene((Bounds) any(), eq(true))).thenReturn(new BoundingBox(0, 0, 10, 10));
+            var imageViewFactory = mock(ImageViewFactory.class);
+            when(imageViewFactory.create(any())).thenReturn(colliderView);
+            var imageRepository = mock(ImageRepository.class);
+            when(imageRepository.getRegion(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(new ImageRegion(null));
+
+            var pool = new EntityPool<>(() -> {
+                var sprite = new ColliderSpriteEntityImpl(LOCATION);
+                sprite.setImageRepository(imageRepository);
+                sprite.setImageViewFactory(imageViewFactory);
+                return sprite;
+            });
+            var collided = new CollidedEntity();
+            supplier.add(collided);
+            var sprite = pool.obtain();
+            supplier.add(sprite);
+            sut.initialUpdate();
+
+            var removeHandler = ArgumentCaptor.forClass(EventHandler.class);
+            sprite.remove();
+            verify(colliderView).addEventHandler(eq(EventTypes.REMOVE), removeHandler.capture());
+            removeHandler.getValue().handle(new RemoveEntityEvent(sprite));
+            sut.update(0L);
+
+            // Act
+            supplier.add(pool.obtain());
+            sut.update(1L);
+            sut.update(2L);
+
+            // Assert
+            verify(colliderView, never()).setImage(null);
+            verify(colliderView).setVisible(false);
+            verify(colliderView, times(2)).setVisible(true);
+            assertEquals(List.of(sprite), collided.colliders);
+        }
+
+        private class SpriteEntityImpl extends SpriteEntity {
+
+            SpriteEntityImpl(final Coordinate2D location) {
+                super("images/bubble.png", location, new Size(10, 10));
+            }
+        }
+
+        private class ColliderSpriteEntityImpl extends SpriteEntity implements Collider {
+
+            ColliderSpriteEntityImpl(final Coordinate2D location) {
+                super("images/bubble.png", location, new Size(10, 10));
+            }
+        }
+    }
+
     private class KeyListeningEntityImpl extends YaegerEntity implements KeyListener {
 
         public KeyListeningEntityImpl(Coordinate2D initialPosition) {
@@ -382,4 +1206,70 @@ class EntityCollectionTest {
             return pressedKeys;
         }
     }
+
+    private EntityCollection entityCollectionWith(final YaegerEntity entity) {
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        var supplier = new EntitySupplier();
+        supplier.add(entity);
+
+        var entityCollection = new EntityCollection(pane, config);
+        entityCollection.setAnnotationProcessor(annotationProcessor);
+        entityCollection.init(injector);
+        entityCollection.registerSupplier(supplier);
+        entityCollection.initialUpdate();
+        return entityCollection;
+    }
+
+    private class CollidedEntity extends YaegerEntity implements Collided {
+
+        private final Node node = mock(Node.class, withSettings().withoutAnnotations());
+        private final List<Collider> colliders = new ArrayList<>();
+
+        CollidedEntity() {
+            super(LOCATION);
+            when(node.localToScene((Bounds) any(), eq(true))).thenReturn(new BoundingBox(5, 5, 10, 10));
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            colliders.add(collidingObject);
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.of(node);
+        }
+    }
+
+    private class ColliderEntity extends YaegerEntity implements Collider {
+
+        private final Node node = mock(Node.class, withSettings().withoutAnnotations());
+
+        ColliderEntity() {
+            super(LOCATION);
+            when(node.localToScene((Bounds) any(), eq(true))).thenReturn(new BoundingBox(0, 0, 10, 10));
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.of(node);
+        }
+    }
+
+    private class CompositeEntityImpl extends CompositeEntity {
+
+        private final YaegerEntity[] children;
+
+        CompositeEntityImpl(final YaegerEntity... children) {
+            super(LOCATION);
+            this.children = children;
+        }
+
+        @Override
+        protected void setupEntities() {
+            for (var child : children) {
+                addEntity(child);
+            }
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityPoolTest {
+
+    private List<PooledEntity> created;
+    private List<PooledEntity> reset;
+    private EntityPool<PooledEntity> sut;
+
+    @BeforeEach
+    void setup() {
+        created = new ArrayList<>();
+        reset = new ArrayList<>();
+        sut = new EntityPool<>(() -> {
+            var entity = new PooledEntity();
+            created.add(entity);
+            return entity;
+        }, reset::add, 2);
+    }
+
+    @Test
+    void obtainFromEmptyPoolCreatesNewEntity() {
+        // Arrange
+
+        // Act
+        var actual = sut.obtain();
+
+        // Assert
+        assertEquals(List.of(actual), created);
+    }
+
+    @Test
+    void obtainedEntityKnowsItsPool() {
+        // Arrange
+
+        // Act
+        var actual = sut.obtain();
+
+        // Assert
+        assertSame(sut, actual.getPool().get());
+    }
+
+    @Test
+    void releasedEntityIsResetAndRecycled() {
+        // Arrange
+        var entity = sut.obtain();
+
+        // Act
+        var retained = sut.release(entity);
+        var actual = sut.obtain();
+
+        // Assert
+        assertTrue(retained);
+        assertSame(entity, actual);
+        assertEquals(List.of(entity), reset);
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    void entityReleasedTwiceIsOnlyRecycledOnce() {
+        // Arrange
+        var entity = sut.obtain();
+
+        // Act
+        sut.release(entity);
+        sut.release(entity);
+
+        // Assert
+        assertEquals(1, sut.size());
+        assertEquals(1, reset.size());
+    }
+
+    @Test
+    void entityReleasedToFullPoolIsDiscarded() {
+        // Arrange
+        var first = sut.obtain();
+        var second = sut.obtain();
+        var third = sut.obtain();
+        sut.release(first);
+        sut.release(second);
+
+        // Act
+        var actual = sut.release(third);
+
+        // Assert
+        assertFalse(actual);
+        assertEquals(2, sut.size());
+    }
+
+    private static class PooledEntity extends YaegerEntity {
+
+        PooledEntity() {
+            super(new Coordinate2D(0, 0));
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+}
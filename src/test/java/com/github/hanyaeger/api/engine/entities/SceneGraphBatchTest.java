@@ -0,0 +1,134 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SceneGraphBatchTest {
+
+    private SceneGraphBatch sut;
+    private Node node1;
+    private Node node2;
+    private Node node3;
+
+    @BeforeEach
+    void setup() {
+        sut = new SceneGraphBatch();
+        node1 = mock(Node.class);
+        node2 = mock(Node.class);
+        node3 = mock(Node.class);
+    }
+
+    @Test
+    void applyAddsAllNodesAtOnceInOrder() {
+        // Arrange
+        ObservableList<Node> children = FXCollections.observableArrayList(node3);
+        var changes = new int[1];
+        children.addListener((ListChangeListener<Node>) change -> changes[0]++);
+        sut.add(node1);
+        sut.add(node2);
+
+        // Act
+        sut.apply(children);
+
+        // Assert
+        assertEquals(List.of(node3, node1, node2), children);
+        assertEquals(1, changes[0]);
+    }
+
+    @Test
+    void applyWithoutChangesDoesNotTouchChildren() {
+        // Arrange
+        ObservableList<Node> children = mock(ObservableList.class);
+
+        // Act
+        sut.apply(children);
+
+        // Assert
+        verifyNoInteractions(children);
+    }
+
+    @Test
+    void applyRemovesNodesAtOnce() {
+        // Arrange
+        ObservableList<Node> children = FXCollections.observableArrayList(node1, node2, node3);
+        var changes = new int[1];
+        children.addListener((ListChangeListener<Node>) change -> changes[0]++);
+        sut.remove(node1);
+        sut.remove(node3);
+
+        // Act
+        sut.apply(children);
+
+        // Assert
+        assertEquals(List.of(node2), children);
+        assertEquals(1, changes[0]);
+    }
+
+    @Test
+    void applyClearsChildrenWhenAllAreRemoved() {
+        // Arrange
+        ObservableList<Node> children = FXCollections.observableArrayList(node1, node2);
+        sut.remove(node2);
+        sut.remove(node1);
+
+        // Act
+        sut.apply(children);
+
+        // Assert
+        assertTrue(children.isEmpty());
+    }
+
+    @Test
+    void applyRemovesBeforeAdding() {
+        // Arrange
+        ObservableList<Node> children = FXCollections.observableArrayList(node1, node2);
+        sut.remove(node1);
+        sut.add(node3);
+        sut.add(node1);
+
+        // Act
+        sut.apply(children);
+
+        // Assert
+        assertEquals(List.of(node2, node3, node1), children);
+    }
+
+    @Test
+    void applyOnlyAppliesChangesOnce() {
+        // Arrange
+        ObservableList<Node> children = FXCollections.observableArrayList(node1);
+        sut.remove(node1);
+        sut.add(node2);
+        sut.apply(children);
+
+        // Act
+        sut.apply(children);
+
+        // Assert
+        assertEquals(List.of(node2), children);
+    }
+
+    @Test
+    void clearDiscardsAllChanges() {
+        // Arrange
+        ObservableList<Node> children = mock(ObservableList.class);
+        sut.add(node1);
+        sut.remove(node2);
+
+        // Act
+        sut.clear();
+        sut.apply(children);
+
+        // Assert
+        verifyNoInteractions(children);
+    }
+}
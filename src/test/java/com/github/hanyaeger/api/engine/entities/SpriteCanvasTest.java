@@ -0,0 +1,152 @@
+package com.github.hanyaeger.api.engine.entities;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class SpriteCanvasTest {
+
+    private static final double WIDTH = 640;
+    private static final double HEIGHT = 480;
+    private static final double IMAGE_WIDTH = 40;
+    private static final double IMAGE_HEIGHT = 20;
+
+    private SpriteCanvas sut;
+    private Canvas canvas;
+    private GraphicsContext gc;
+    private Image image;
+    private ImageView sprite;
+
+    @BeforeEach
+    void setup() {
+        canvas = mock(Canvas.class);
+        gc = mock(GraphicsContext.class);
+        when(canvas.getGraphicsContext2D()).thenReturn(gc);
+        when(canvas.getWidth()).thenReturn(WIDTH);
+        when(canvas.getHeight()).thenReturn(HEIGHT);
+
+        image = mock(Image.class);
+        when(image.getWidth()).thenReturn(IMAGE_WIDTH);
+        when(image.getHeight()).thenReturn(IMAGE_HEIGHT);
+
+        sprite = mock(ImageView.class);
+        when(sprite.getImage()).thenReturn(image);
+        when(sprite.isVisible()).thenReturn(true);
+        when(sprite.getOpacity()).thenReturn(1d);
+        when(sprite.getX()).thenReturn(10d);
+        when(sprite.getY()).thenReturn(20d);
+
+        sut = new SpriteCanvas(canvas);
+    }
+
+    @Test
+    void renderClearsCanvasBeforeDrawing() {
+        // Arrange
+        sut.add(sprite);
+
+        // Act
+        sut.render();
+
+        // Assert
+        var inOrder = inOrder(gc);
+        inOrder.verify(gc).clearRect(0, 0, WIDTH, HEIGHT);
+        inOrder.verify(gc).drawImage(image, 0, 0, IMAGE_WIDTH, IMAGE_HEIGHT, 10, 20, IMAGE_WIDTH, IMAGE_HEIGHT);
+    }
+
+    @Test
+    void renderIncludesLayoutAndTranslation() {
+        // Arrange
+        when(sprite.getLayoutX()).thenReturn(1d);
+        when(sprite.getLayoutY()).thenReturn(2d);
+        when(sprite.getTranslateX()).thenReturn(-20d);
+        when(sprite.getTranslateY()).thenReturn(-10d);
+        sut.add(sprite);
+
+        // Act
+        sut.render();
+
+        // Assert
+        verify(gc).drawImage(image, 0, 0, IMAGE_WIDTH, IMAGE_HEIGHT, -9, 12, IMAGE_WIDTH, IMAGE_HEIGHT);
+    }
+
+    @Test
+    void renderHonorsViewport() {
+        // Arrange
+        when(sprite.getViewport()).thenReturn(new Rectangle2D(20, 0, 20, 20));
+        sut.add(sprite);
+
+        // Act
+        sut.render();
+
+        // Assert
+        verify(gc).drawImage(image, 20, 0, 20, 20, 10, 20, 20, 20);
+    }
+
+    @Test
+    void renderRotatesAroundCenterOfSprite() {
+        // Arrange
+        when(sprite.getRotate()).thenReturn(90d);
+        when(sprite.getOpacity()).thenReturn(0.5d);
+        sut.add(sprite);
+
+        // Act
+        sut.render();
+
+        // Assert
+        var inOrder = inOrder(gc);
+        inOrder.verify(gc).save();
+        inOrder.verify(gc).setGlobalAlpha(0.5d);
+        inOrder.verify(gc).translate(30, 30);
+        inOrder.verify(gc).rotate(90);
+        inOrder.verify(gc).drawImage(image, 0, 0, IMAGE_WIDTH, IMAGE_HEIGHT, -20, -10, IMAGE_WIDTH, IMAGE_HEIGHT);
+        inOrder.verify(gc).restore();
+    }
+
+    @Test
+    void renderSkipsInvisibleSprites() {
+        // Arrange
+        when(sprite.isVisible()).thenReturn(false);
+        sut.add(sprite);
+
+        // Act
+        sut.render();
+
+        // Assert
+        verify(gc, never()).drawImage(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void removedSpritesAreNoLongerDrawn() {
+        // Arrange
+        var otherSprite = mock(ImageView.class);
+        sut.add(sprite);
+        sut.add(otherSprite);
+
+        // Act
+        sut.remove(sprite);
+        sut.render();
+
+        // Assert
+        assertEquals(1, sut.size());
+        verify(sprite, never()).getImage();
+    }
+
+    @Test
+    void clearDiscardsAllSprites() {
+        // Arrange
+        sut.add(sprite);
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.size());
+    }
+}
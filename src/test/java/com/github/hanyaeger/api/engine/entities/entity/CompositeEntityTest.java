@@ -3,8 +3,12 @@ package com.github.hanyaeger.api.engine.entities.entity;
 import com.github.hanyaeger.api.engine.entities.EntityProcessor;
 import com.github.hanyaeger.api.engine.entities.entity.events.EventTypes;
 import com.google.inject.Injector;
+import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,7 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -64,6 +69,21 @@ class CompositeEntityTest {
         verify(group).setLayoutY(LOCATION.getY());
     }
 
+    @Test
+    void interpolateAnchorLocationAddsOffsetToLayoutOfGroup() {
+        // Arrange
+        sut.setAnchorLocation(new Coordinate2D(10, 20));
+        sut.storePreviousAnchorLocation();
+        sut.setAnchorLocation(new Coordinate2D(30, 20));
+
+        // Act
+        sut.interpolateAnchorLocation(0.5);
+
+        // Assert
+        verify(group).setLayoutX(20);
+        verify(group, times(3)).setLayoutY(20);
+    }
+
     @Test
     void getNodeReturnsGroupIfSet() {
         // Arrange
@@ -92,6 +112,40 @@ class CompositeEntityTest {
         assertTrue(optionalNode.isEmpty());
     }
 
+    @Test
+    void movingChildInvalidatesCachedBoundingBoxOfCompositeEntity() {
+        // Arrange
+        var child = new ChildEntity();
+        sut.addEntityToAdd(child);
+        sut.beforeInitialize();
+        when(group.localToScene((Bounds) any(), eq(true))).thenReturn(new BoundingBox(0, 0, 10, 10));
+        sut.getBoundingBox();
+
+        // Act
+        child.setAnchorLocation(LOCATION);
+        sut.getBoundingBox();
+
+        // Assert
+        verify(group, times(2)).localToScene((Bounds) any(), eq(true));
+    }
+
+    @Test
+    void unchangedChildKeepsCachedBoundingBoxOfCompositeEntity() {
+        // Arrange
+        var child = new ChildEntity();
+        sut.addEntityToAdd(child);
+        sut.beforeInitialize();
+        when(group.localToScene((Bounds) any(), eq(true))).thenReturn(new BoundingBox(0, 0, 10, 10));
+        sut.getBoundingBox();
+
+        // Act
+        child.getBoundingBox();
+        sut.getBoundingBox();
+
+        // Assert
+        verify(group, times(1)).localToScene((Bounds) any(), eq(true));
+    }
+
     @Nested
     class WithAddedEntities {
         private YaegerEntity entity1;
@@ -197,6 +251,23 @@ class CompositeEntityTest {
             verify(entity3).remove();
         }
 
+        @Test
+        void setVisibleAfterRemoveOnlyShowsChildrenHiddenByRemove() {
+            // Arrange
+            when(entity1.isVisible()).thenReturn(true);
+            when(entity2.isVisible()).thenReturn(false);
+            when(entity3.isVisible()).thenReturn(true);
+            sut.remove();
+
+            // Act
+            sut.setVisible(true);
+
+            // Assert
+            verify(entity1).setVisible(true);
+            verify(entity2, never()).setVisible(true);
+            verify(entity3).setVisible(true);
+        }
+
         @Test
         void addToParentDelegatesToChildren() {
             // Arrange
@@ -211,6 +282,33 @@ class CompositeEntityTest {
             verify(entity3).addToParent(any(EntityProcessor.class));
         }
 
+        @Test
+        void addToParentAddsNodesOfChildrenToGroupAtOnce() {
+            // Arrange
+            var processor = mock(EntityProcessor.class);
+            var node1 = mock(Node.class);
+            var node3 = mock(Node.class);
+            ObservableList<Node> children = mock(ObservableList.class);
+            when(group.getChildren()).thenReturn(children);
+            doReturn(Optional.of(node1)).when(entity1).getNode();
+            doReturn(Optional.empty()).when(entity2).getNode();
+            doReturn(Optional.of(node3)).when(entity3).getNode();
+            for (var entity : List.of(entity1, entity2, entity3)) {
+                doAnswer(invocation -> {
+                    ((EntityProcessor) invocation.getArgument(0)).process(entity);
+                    return null;
+                }).when(entity).addToParent(any(EntityProcessor.class));
+            }
+
+            // Act
+            sut.addToParent(processor);
+
+            // Assert
+            verify(children).addAll(List.of(node1, node3));
+            verify(children, never()).add(any());
+            verify(processor).process(sut);
+        }
+
         @Test
         void addToParentCallsApplyTranslationsForAnchorPointOnAllChildren() {
             // Arrange
@@ -242,6 +340,20 @@ class CompositeEntityTest {
         }
     }
 
+    private class ChildEntity extends YaegerEntity {
+
+        private final Node node = mock(Node.class);
+
+        ChildEntity() {
+            super(DEFAULT_LOCATION);
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.of(node);
+        }
+    }
+
     private class CompositeEntityImpl extends CompositeEntity {
 
         private List<YaegerEntity> entitiesToAdd = new ArrayList<>();
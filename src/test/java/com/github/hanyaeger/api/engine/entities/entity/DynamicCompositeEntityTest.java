@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -140,6 +141,38 @@ class DynamicCompositeEntityTest {
             // Assert
             assertTrue(sut.getGarbage().isEmpty());
         }
+
+        @Test
+        void removesNodesOfGarbageFromGroupAtOnce() {
+            // Arrange
+            sut.setMotionApplier(motionApplier);
+
+            var updater = mock(Updater.class);
+            sut.setUpdater(updater);
+
+            ObservableList<Node> children = mock(ObservableList.class);
+            when(group.getChildren()).thenReturn(children);
+
+            var node1 = mock(Node.class);
+            var node2 = mock(Node.class);
+            var entity1 = mock(YaegerEntity.class);
+            var entity2 = mock(YaegerEntity.class);
+            doReturn(Optional.of(node1)).when(entity1).getNode();
+            doReturn(Optional.of(node2)).when(entity2).getNode();
+            sut.addEntityToAdd(entity1);
+            sut.addEntityToAdd(entity2);
+
+            sut.init(injector);
+            sut.addToGarbage(entity1);
+            sut.addToGarbage(entity2);
+
+            // Act
+            sut.update(TIMESTAMP);
+
+            // Assert
+            verify(children).removeAll(Set.of(node1, node2));
+            verify(children, never()).remove(any());
+        }
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.github.hanyaeger.api.engine.entities.entity;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.EntityProcessor;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
 import com.google.inject.Injector;
 import javafx.event.EventHandler;
@@ -11,6 +12,8 @@ import javafx.geometry.BoundingBox;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Translate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -999,6 +1002,283 @@ class YaegerEntityTest {
         Assertions.assertEquals(sut, entityProcessor.processedEntity);
     }
 
+    @Test
+    void setAnchorLocationNotifiesBoundsChangeListener() {
+        // Arrange
+        var listener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(listener);
+
+        // Act
+        sut.setAnchorLocation(new Coordinate2D(3.7, 4.2));
+
+        // Assert
+        verify(listener).onBoundsChange(sut);
+    }
+
+    @Test
+    void setAnchorPointNotifiesBoundsChangeListener() {
+        // Arrange
+        var listener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(listener);
+
+        // Act
+        sut.setAnchorPoint(AnchorPoint.CENTER_CENTER);
+
+        // Assert
+        verify(listener).onBoundsChange(sut);
+    }
+
+    @Test
+    void setRotateNotifiesBoundsChangeListener() {
+        // Arrange
+        var listener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(listener);
+
+        // Act
+        sut.setRotate(37);
+
+        // Assert
+        verify(listener).onBoundsChange(sut);
+    }
+
+    @Test
+    void removedBoundsChangeListenerIsNotNotified() {
+        // Arrange
+        var listener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(listener);
+        sut.setBoundsChangeListener(null);
+
+        // Act
+        sut.setAnchorLocation(new Coordinate2D(3.7, 4.2));
+
+        // Assert
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void collisionGeometryOfUnrotatedEntityIsBoundingBox() {
+        // Arrange
+        when(node.getLocalToSceneTransform()).thenReturn(new Translate(10, 10));
+
+        // Act
+        var actual = sut.getCollisionGeometry();
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.BOUNDING_BOX, actual.getType());
+    }
+
+    @Test
+    void collisionGeometryOfRotatedEntityIsRotatedRectangle() {
+        // Arrange
+        when(node.getLocalToSceneTransform()).thenReturn(new Rotate(45));
+        when(boundingBox.getMaxX()).thenReturn(ENTITY_WIDTH);
+        when(boundingBox.getMaxY()).thenReturn(ENTITY_HEIGHT);
+
+        // Act
+        var actual = sut.getCollisionGeometry();
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.POLYGON, actual.getType());
+        assertEquals(4, actual.getVertices());
+    }
+
+    @Test
+    void collisionGeometryIsOnlyCalculatedOncePerUpdate() {
+        // Arrange
+        when(node.getLocalToSceneTransform()).thenReturn(new Rotate(45));
+
+        // Act
+        sut.getCollisionGeometry();
+        sut.getCollisionGeometry();
+
+        // Assert
+        verify(node, times(1)).getBoundsInLocal();
+    }
+
+    @Test
+    void getBoundingBoxIsOnlyCalculatedOncePerUpdate() {
+        // Arrange
+        when(node.localToScene(boundingBox, true)).thenReturn(BOUNDING_BOX);
+
+        // Act
+        sut.getBoundingBox();
+        var actual = sut.getBoundingBox();
+
+        // Assert
+        assertEquals(BOUNDING_BOX, actual);
+        verify(node, times(1)).localToScene(boundingBox, true);
+    }
+
+    @Test
+    void getBoundingBoxIsRecalculatedAfterSetAnchorLocation() {
+        // Arrange
+        when(node.localToScene(boundingBox, true)).thenReturn(BOUNDING_BOX);
+        sut.getBoundingBox();
+
+        // Act
+        sut.setAnchorLocation(new Coordinate2D(3.7, 4.2));
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(boundingBox, true);
+    }
+
+    @Test
+    void getBoundingBoxIsRecalculatedAfterSetRotate() {
+        // Arrange
+        when(node.localToScene(boundingBox, true)).thenReturn(BOUNDING_BOX);
+        sut.getBoundingBox();
+
+        // Act
+        sut.setRotate(37);
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(boundingBox, true);
+    }
+
+    @Test
+    void getBoundingBoxIsRecalculatedInNextUpdate() {
+        // Arrange
+        when(node.localToScene(boundingBox, true)).thenReturn(BOUNDING_BOX);
+        var updateCounter = new UpdateCounter();
+        sut.setUpdateCounter(updateCounter);
+        sut.getBoundingBox();
+
+        // Act
+        updateCounter.increment();
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(boundingBox, true);
+    }
+
+    @Test
+    void setAnchorLocationWhileNodeChangesDeferredDoesNotNotifyBoundsChange() {
+        // Arrange
+        var boundsChangeListener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(boundsChangeListener);
+        var expected = new Coordinate2D(LOCATION.getX() + 10, LOCATION.getY());
+        sut.deferNodeChanges();
+
+        // Act
+        sut.setAnchorLocation(expected);
+
+        // Assert
+        assertEquals(expected, sut.getAnchorLocation());
+        verifyNoInteractions(boundsChangeListener);
+    }
+
+    @Test
+    void commitNodeChangesNotifiesBoundsChangeOnce() {
+        // Arrange
+        var boundsChangeListener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(boundsChangeListener);
+        sut.deferNodeChanges();
+        sut.setAnchorLocation(new Coordinate2D(LOCATION.getX() + 10, LOCATION.getY()));
+        sut.setAnchorLocation(new Coordinate2D(LOCATION.getX() + 20, LOCATION.getY()));
+
+        // Act
+        sut.commitNodeChanges();
+
+        // Assert
+        verify(boundsChangeListener, times(1)).onBoundsChange(sut);
+    }
+
+    @Test
+    void commitNodeChangesWithoutChangesDoesNotNotifyBoundsChange() {
+        // Arrange
+        var boundsChangeListener = mock(BoundsChangeListener.class);
+        sut.setBoundsChangeListener(boundsChangeListener);
+        sut.deferNodeChanges();
+
+        // Act
+        sut.commitNodeChanges();
+
+        // Assert
+        verifyNoInteractions(boundsChangeListener);
+    }
+
+    @Test
+    void interpolateAnchorLocationMovesNodeTowardsPreviousLocation() {
+        // Arrange
+        sut.storePreviousAnchorLocation();
+        sut.setAnchorLocation(new Coordinate2D(LOCATION.getX() + 10, LOCATION.getY() - 20));
+
+        // Act
+        sut.interpolateAnchorLocation(0.25);
+
+        // Assert
+        verify(node).setLayoutX(-7.5);
+        verify(node).setLayoutY(15);
+    }
+
+    @Test
+    void interpolateAnchorLocationWithoutPreviousLocationDoesNothing() {
+        // Arrange
+
+        // Act
+        sut.interpolateAnchorLocation(0.25);
+
+        // Assert
+        verify(node, never()).setLayoutX(anyDouble());
+        verify(node, never()).setLayoutY(anyDouble());
+    }
+
+    @Test
+    void interpolateAnchorLocationDoesNotChangeAnchorLocation() {
+        // Arrange
+        var expected = new Coordinate2D(LOCATION.getX() + 10, LOCATION.getY());
+        sut.storePreviousAnchorLocation();
+        sut.setAnchorLocation(expected);
+
+        // Act
+        sut.interpolateAnchorLocation(0.5);
+
+        // Assert
+        assertEquals(expected, sut.getAnchorLocation());
+    }
+
+    @Test
+    void resetInterpolationRemovesOffset() {
+        // Arrange
+        sut.storePreviousAnchorLocation();
+
+        // Act
+        sut.resetInterpolation();
+
+        // Assert
+        verify(node).setLayoutX(0);
+        verify(node).setLayoutY(0);
+    }
+
+    @Test
+    void getBoundingBoxIsRecalculatedAfterInterpolation() {
+        // Arrange
+        when(node.localToScene(boundingBox, true)).thenReturn(BOUNDING_BOX);
+        sut.storePreviousAnchorLocation();
+        sut.getBoundingBox();
+
+        // Act
+        sut.interpolateAnchorLocation(0.5);
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(boundingBox, true);
+    }
+
+    @Test
+    void getBoundingBoxWithoutNodeReturnsEmptyBoundingBox() {
+        // Arrange
+        sut.setNode(Optional.empty());
+
+        // Act
+        var actual = sut.getBoundingBox();
+
+        // Assert
+        assertEquals(new BoundingBox(0, 0, 0, 0), actual);
+    }
+
     private class YaegerEntityImpl extends YaegerEntity {
 
         private Optional<Node> node = Optional.empty();
@@ -0,0 +1,247 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AABBTreeTest {
+
+    private AABBTree sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new AABBTree();
+    }
+
+    @Test
+    void queryReturnsSameIntersectingCollidersAsBruteForceWhileMoving() {
+        // Arrange
+        var random = new Random(42);
+        var colliders = new ArrayList<Collider>();
+        var moving = new ArrayList<MovableCollider>();
+
+        for (var i = 0; i < 300; i++) {
+            var collider = new MovableCollider(randomBounds(random));
+            var isStatic = i % 3 == 0;
+
+            colliders.add(collider);
+            if (!isStatic) {
+                moving.add(collider);
+            }
+            sut.add(collider, isStatic, true);
+        }
+
+        // Act & Assert
+        for (var update = 0; update < 20; update++) {
+            for (final MovableCollider collider : moving) {
+                if (random.nextBoolean()) {
+                    collider.moveBy(random.nextDouble() * 40 - 20, random.nextDouble() * 40 - 20);
+                    sut.markMoved(collider);
+                }
+            }
+            sut.prepare(colliders);
+
+            for (var i = 0; i < 50; i++) {
+                var collided = collidedAt(randomBounds(random));
+                var bounds = collided.getBoundingBox();
+
+                var expected = colliders.stream()
+                        .filter(collider -> collider.getBoundingBox().intersects(bounds))
+                        .collect(Collectors.toList());
+                var actual = sut.query(collided, new ArrayList<>()).stream()
+                        .filter(collider -> collider.getBoundingBox().intersects(bounds))
+                        .collect(Collectors.toList());
+
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void staticColliderIsNotRefittedOnPrepare() {
+        // Arrange
+        var collider = new MovableCollider(new BoundingBox(0, 0, 10, 10));
+        sut.add(collider, true, true);
+        sut.prepare(List.of(collider));
+
+        // Act
+        collider.moveBy(500, 500);
+        sut.prepare(List.of(collider));
+
+        // Assert
+        assertTrue(sut.query(collidedAt(new BoundingBox(500, 500, 10, 10)), new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void staticColliderThatIsMarkedAsMovedIsRefitted() {
+        // Arrange
+        var collider = new MovableCollider(new BoundingBox(0, 0, 10, 10));
+        sut.add(collider, true, true);
+        sut.prepare(List.of(collider));
+
+        // Act
+        collider.moveBy(500, 500);
+        sut.markMoved(collider);
+        sut.prepare(List.of(collider));
+
+        // Assert
+        assertEquals(List.of(collider), sut.query(collidedAt(new BoundingBox(500, 500, 10, 10)), new ArrayList<>()));
+    }
+
+    @Test
+    void refreshedColliderIsFoundAtNewLocationBeforeNextPrepare() {
+        // Arrange
+        var dynamicCollider = new MovableCollider(new BoundingBox(0, 0, 10, 10));
+        var staticCollider = new MovableCollider(new BoundingBox(100, 100, 10, 10));
+        sut.add(dynamicCollider, false, true);
+        sut.add(staticCollider, true, true);
+        sut.prepare(List.of(dynamicCollider, staticCollider));
+
+        // Act
+        dynamicCollider.moveBy(500, 500);
+        staticCollider.moveBy(400, 400);
+        sut.markMoved(dynamicCollider);
+        sut.markMoved(staticCollider);
+        sut.refresh(dynamicCollider);
+        sut.refresh(staticCollider);
+
+        // Assert
+        assertEquals(List.of(dynamicCollider, staticCollider), sut.query(collidedAt(new BoundingBox(495, 495, 20, 20)), new ArrayList<>()));
+        assertTrue(sut.query(collidedAt(new BoundingBox(0, 0, 10, 10)), new ArrayList<>()).isEmpty());
+        assertTrue(sut.query(collidedAt(new BoundingBox(100, 100, 10, 10)), new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void untrackedColliderIsRefittedOnEachPrepare() {
+        // Arrange
+        var collider = new MovableCollider(new BoundingBox(0, 0, 10, 10));
+        sut.add(collider, false, false);
+        sut.prepare(List.of(collider));
+
+        // Act
+        collider.moveBy(500, 500);
+        sut.prepare(List.of(collider));
+
+        // Assert
+        assertEquals(List.of(collider), sut.query(collidedAt(new BoundingBox(500, 500, 10, 10)), new ArrayList<>()));
+    }
+
+    @Test
+    void colliderWithinMarginIsNotReinserted() {
+        // Arrange
+        var collider = new MovableCollider(new BoundingBox(0, 0, 10, 10));
+        sut.add(collider, false, true);
+        sut.prepare(List.of(collider));
+
+        // Act
+        collider.moveBy(AABBTree.MARGIN / 2, 0);
+        sut.markMoved(collider);
+        sut.prepare(List.of(collider));
+
+        // Assert
+        assertEquals(List.of(collider), sut.query(collidedAt(new BoundingBox(-AABBTree.MARGIN, 0, 1, 1)), new ArrayList<>()));
+    }
+
+    @Test
+    void removedColliderIsNotReturned() {
+        // Arrange
+        var first = new MovableCollider(new BoundingBox(0, 0, 10, 10));
+        var second = new MovableCollider(new BoundingBox(5, 5, 10, 10));
+        sut.add(first, false, true);
+        sut.add(second, true, true);
+        sut.prepare(List.of(first, second));
+
+        // Act
+        sut.remove(first);
+        sut.remove(second);
+        sut.prepare(List.of());
+
+        // Assert
+        assertEquals(0, sut.size());
+        assertTrue(sut.query(collidedAt(new BoundingBox(0, 0, 20, 20)), new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void colliderWithoutBoundingBoxIsPlacedOnceItHasOne() {
+        // Arrange
+        var collider = new MovableCollider(new BoundingBox(0, 0, -1, -1));
+        sut.add(collider, false, true);
+        sut.prepare(List.of(collider));
+
+        // Act
+        collider.setBounds(new BoundingBox(0, 0, 10, 10));
+        sut.prepare(List.of(collider));
+
+        // Assert
+        assertEquals(1, sut.size());
+        assertEquals(List.of(collider), sut.query(collidedAt(new BoundingBox(0, 0, 10, 10)), new ArrayList<>()));
+    }
+
+    @Test
+    void treeRemainsBalancedWhenCollidersAreAddedInOrder() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var i = 0; i < 1024; i++) {
+            var collider = new MovableCollider(new BoundingBox(i * 20, 0, 10, 10));
+            colliders.add(collider);
+            sut.add(collider, false, true);
+        }
+
+        // Act
+        sut.prepare(colliders);
+
+        // Assert
+        assertEquals(1024, sut.size());
+        assertTrue(sut.dynamicHeight() <= 20);
+    }
+
+    private static Bounds randomBounds(final Random random) {
+        return new BoundingBox(random.nextDouble() * 1000, random.nextDouble() * 1000,
+                1 + random.nextDouble() * 60, 1 + random.nextDouble() * 60);
+    }
+
+    private static Collided collidedAt(final Bounds bounds) {
+        var collided = mock(Collided.class);
+        when(collided.getBoundingBox()).thenReturn(bounds);
+        return collided;
+    }
+
+    private static class MovableCollider implements Collider {
+
+        private Bounds bounds;
+
+        MovableCollider(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        void moveBy(final double dx, final double dy) {
+            bounds = new BoundingBox(bounds.getMinX() + dx, bounds.getMinY() + dy, bounds.getWidth(), bounds.getHeight());
+        }
+
+        void setBounds(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+}
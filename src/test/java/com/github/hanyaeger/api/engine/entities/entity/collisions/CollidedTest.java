@@ -61,6 +61,23 @@ public class CollidedTest {
         assertEquals(trivialCollider, sut.getLastCollider());
     }
 
+    @Test
+    void checkForCollisionsCountsDetectedCollisions() {
+        // Arrange
+        var collidingCollider = new CollidingCollider();
+        collidingCollider.setBounds(TEST_COLLIDED_BOUNDINGBOX);
+        var noCollisionCollider = new CollidingCollider();
+        noCollisionCollider.setBounds(TEST_NOT_COLLIDING_BOUNDINGBOX);
+        var detectedBefore = CollisionDetection.getDetectedCollisions();
+
+        // Act
+        sut.checkForCollisions(List.of(collidingCollider));
+        sut.checkForCollisions(List.of(noCollisionCollider));
+
+        // Assert
+        assertEquals(1, CollisionDetection.getDetectedCollisions() - detectedBefore);
+    }
+
     @Test
     void testNoCollisionReportNoCollision() {
         // Arrange
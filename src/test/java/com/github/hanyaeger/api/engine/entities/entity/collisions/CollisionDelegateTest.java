@@ -3,15 +3,23 @@ package com.github.hanyaeger.api.engine.entities.entity.collisions;
 import com.github.hanyaeger.api.engine.Timer;
 import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.Removeable;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,6 +53,25 @@ class CollisionDelegateTest {
         assertEquals(1, argument.getValue().size());
     }
 
+    @Test
+    void checkCollisionsCountsCandidatePairsAndDetectedCollisions() {
+        // Arrange
+        var collided = new RecordingCollided(new BoundingBox(0, 0, 10, 10));
+        var otherCollided = new RecordingCollided(new BoundingBox(100, 100, 10, 10));
+        var collider = new BoundedCollider(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(otherCollided);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        assertEquals(2, collisionDelegate.getCandidatePairs());
+        assertEquals(1, collisionDelegate.getDetectedCollisions());
+    }
+
     @Test
     void nonColliderOrCollidedReturnsFalseOnRegister() {
         // Act
@@ -137,6 +164,353 @@ class CollisionDelegateTest {
         assertEquals(0, argument.getValue().size());
     }
 
+    @Test
+    void afterRemoveAllNoCollisionsAreCheckedOrReported() {
+        // Arrange
+        YaegerEntity collidedEntity = mock(CollidedImpl.class);
+        YaegerEntity otherCollidedEntity = mock(CollidedImpl.class);
+        YaegerEntity colliderEntity = mock(ColliderImpl.class);
+        YaegerEntity otherColliderEntity = mock(ColliderImpl.class);
+
+        collisionDelegate.register(collidedEntity);
+        collisionDelegate.register(otherCollidedEntity);
+        collisionDelegate.register(colliderEntity);
+        collisionDelegate.register(otherColliderEntity);
+
+        Set<Removeable> removeables = Collections.newSetFromMap(new IdentityHashMap<>());
+        removeables.add(collidedEntity);
+        removeables.add(colliderEntity);
+
+        ArgumentCaptor<List> argument = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        collisionDelegate.removeAll(removeables);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify((Collided) collidedEntity, never()).checkForCollisions(anyList());
+        verify((Collided) otherCollidedEntity).checkForCollisions(argument.capture());
+        assertEquals(1, argument.getValue().size());
+        assertSame(otherColliderEntity, argument.getValue().get(0));
+    }
+
+    @Test
+    void broadPhaseReportsSameCollisionsAsBruteForce() {
+        // Arrange
+        var random = new Random(42);
+        var bruteForce = new CollisionDelegate();
+        var broadPhase = new CollisionDelegate(32);
+
+        var collideds = new ArrayList<RecordingCollided>();
+        for (var i = 0; i < 300; i++) {
+            var collided = new RecordingCollided(randomBounds(random));
+            collideds.add(collided);
+            bruteForce.register(collided);
+            broadPhase.register(collided);
+        }
+        for (var i = 0; i < 300; i++) {
+            var collider = new BoundedCollider(randomBounds(random));
+            bruteForce.register(collider);
+            broadPhase.register(collider);
+        }
+        var hugeCollider = new BoundedCollider(new BoundingBox(-10000, -10000, 100000, 100000));
+        bruteForce.register(hugeCollider);
+        broadPhase.register(hugeCollider);
+
+        // Act
+        bruteForce.checkCollisions();
+        var expected = new ArrayList<List<Collider>>();
+        collideds.forEach(collided -> expected.add(collided.drainCollisions()));
+
+        broadPhase.checkCollisions();
+        var actual = new ArrayList<List<Collider>>();
+        collideds.forEach(collided -> actual.add(collided.drainCollisions()));
+
+        // Assert
+        assertEquals(expected, actual);
+        assertTrue(expected.stream().anyMatch(collisions -> !collisions.isEmpty() && collisions.get(0) != hugeCollider));
+    }
+
+    @Test
+    void broadPhaseOnlyPassesCollidersThatShareACell() {
+        // Arrange
+        var sut = new CollisionDelegate(10);
+        var collided = new RecordingCollided(new BoundingBox(0, 0, 5, 5));
+        var near = new BoundedCollider(new BoundingBox(8, 8, 5, 5));
+        var far = new BoundedCollider(new BoundingBox(100, 100, 5, 5));
+
+        sut.register(collided);
+        sut.register(far);
+        sut.register(near);
+
+        // Act
+        sut.checkCollisions();
+
+        // Assert
+        assertEquals(List.of(near), collided.getLastCandidates());
+    }
+
+    @Test
+    void broadPhaseDetectsTouchingBoundingBoxesOnCellBorder() {
+        // Arrange
+        var sut = new CollisionDelegate(10);
+        var collided = new RecordingCollided(new BoundingBox(0, 0, 10, 10));
+        var touching = new BoundedCollider(new BoundingBox(10, 10, 10, 10));
+
+        sut.register(collided);
+        sut.register(touching);
+
+        // Act
+        sut.checkCollisions();
+
+        // Assert
+        assertEquals(List.of(touching), collided.drainCollisions());
+    }
+
+    @Test
+    void defaultCollisionStrategyIsUniformGrid() {
+        // Arrange
+        var sut = new CollisionDelegate(10);
+
+        // Act
+        var collisionStrategy = sut.getCollisionStrategy();
+
+        // Assert
+        assertEquals(CollisionStrategy.UNIFORM_GRID, collisionStrategy);
+    }
+
+    @Test
+    void uniformGridWithoutCellSizePassesAllColliders() {
+        // Arrange
+        var sut = new CollisionDelegate(0);
+        var collided = new RecordingCollided(new BoundingBox(0, 0, 5, 5));
+        var near = new BoundedCollider(new BoundingBox(8, 8, 5, 5));
+        var far = new BoundedCollider(new BoundingBox(100, 100, 5, 5));
+
+        sut.register(collided);
+        sut.register(far);
+        sut.register(near);
+
+        // Act
+        sut.checkCollisions();
+
+        // Assert
+        assertEquals(List.of(far, near), collided.getLastCandidates());
+    }
+
+    @Test
+    void aabbTreeReportsSameCollisionsAsBruteForce() {
+        // Arrange
+        var random = new Random(42);
+        var bruteForce = new CollisionDelegate();
+        var aabbTree = new CollisionDelegate();
+        aabbTree.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+
+        var collideds = new ArrayList<RecordingCollided>();
+        for (var i = 0; i < 300; i++) {
+            var collided = new RecordingCollided(randomBounds(random));
+            collideds.add(collided);
+            bruteForce.register(collided);
+            aabbTree.register(collided);
+        }
+        for (var i = 0; i < 300; i++) {
+            var collider = new BoundedCollider(randomBounds(random));
+            bruteForce.register(collider);
+            aabbTree.register(collider, i % 2 == 0);
+        }
+
+        // Act
+        bruteForce.checkCollisions();
+        var expected = new ArrayList<List<Collider>>();
+        collideds.forEach(collided -> expected.add(collided.drainCollisions()));
+
+        aabbTree.checkCollisions();
+        var actual = new ArrayList<List<Collider>>();
+        collideds.forEach(collided -> actual.add(collided.drainCollisions()));
+
+        // Assert
+        assertEquals(expected, actual);
+        assertTrue(expected.stream().anyMatch(collisions -> !collisions.isEmpty()));
+    }
+
+    @Test
+    void changingCollisionStrategyRetainsRegisteredColliders() {
+        // Arrange
+        var sut = new CollisionDelegate(10);
+        var collided = new RecordingCollided(new BoundingBox(0, 0, 10, 10));
+        var collider = new BoundedCollider(new BoundingBox(5, 5, 10, 10));
+
+        sut.register(collided);
+        sut.register(collider, true);
+
+        // Act
+        sut.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+        sut.checkCollisions();
+
+        // Assert
+        assertEquals(CollisionStrategy.AABB_TREE, sut.getCollisionStrategy());
+        assertEquals(List.of(collider), collided.drainCollisions());
+    }
+
+    @Test
+    void aabbTreeDetectsCollisionWithMovedEntity() {
+        // Arrange
+        var sut = new CollisionDelegate();
+        sut.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+
+        var collided = new RecordingCollided(new BoundingBox(500, 500, 10, 10));
+        var collider = new MovingColliderImpl(new Coordinate2D(0, 0));
+
+        sut.register(collided);
+        sut.register((YaegerEntity) collider);
+        sut.checkCollisions();
+
+        // Act
+        collider.setAnchorLocation(new Coordinate2D(505, 505));
+        sut.checkCollisions();
+
+        // Assert
+        assertEquals(List.of(collider), collided.drainCollisions());
+    }
+
+    @Test
+    void removedColliderIsNotReportedAfterMoving() {
+        // Arrange
+        var sut = new CollisionDelegate();
+        sut.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+        var collider = new MovingColliderImpl(new Coordinate2D(0, 0));
+        sut.register((YaegerEntity) collider);
+
+        // Act
+        sut.remove(collider);
+        collider.setAnchorLocation(new Coordinate2D(505, 505));
+        sut.checkCollisions();
+
+        // Assert
+        var collided = new RecordingCollided(new BoundingBox(500, 500, 10, 10));
+        sut.register(collided);
+        sut.checkCollisions();
+        assertTrue(collided.drainCollisions().isEmpty());
+    }
+
+    @Test
+    void uniformGridReportsSameCollisionsAsBruteForceWhenCollidersMoveOnCollision() {
+        // Arrange
+        var bruteForce = new CollisionDelegate();
+        var uniformGrid = new CollisionDelegate(32);
+
+        // Act
+        var expected = collisionsOfJumpingEntities(bruteForce);
+        var actual = collisionsOfJumpingEntities(uniformGrid);
+
+        // Assert
+        assertEquals(expected, actual);
+        assertTrue(expected.size() > 100);
+    }
+
+    @Test
+    void aabbTreeReportsSameCollisionsAsBruteForceWhenCollidersMoveOnCollision() {
+        // Arrange
+        var bruteForce = new CollisionDelegate();
+        var aabbTree = new CollisionDelegate();
+        aabbTree.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+
+        // Act
+        var expected = collisionsOfJumpingEntities(bruteForce);
+        var actual = collisionsOfJumpingEntities(aabbTree);
+
+        // Assert
+        assertEquals(expected, actual);
+        assertTrue(expected.size() > 100);
+    }
+
+    /**
+     * Register a fixed set of Entities that are both a {@link Collider} and a {@link Collided}, and move to a
+     * random location within {@link Collided#onCollision(Collider)}. Half of them are registered as static, although
+     * they move as well. Return all collisions that were reported during a few Game World Updates.
+     */
+    private List<String> collisionsOfJumpingEntities(final CollisionDelegate sut) {
+        var random = new Random(42);
+        var log = new ArrayList<String>();
+
+        for (var i = 0; i < 200; i++) {
+            var entity = new JumpingEntity(i, new Coordinate2D(random.nextDouble() * 400, random.nextDouble() * 400), log);
+            sut.register((YaegerEntity) entity, i % 2 == 0);
+        }
+
+        for (var i = 0; i < 5; i++) {
+            sut.checkCollisions();
+        }
+
+        return log;
+    }
+
+    private static Bounds randomBounds(final Random random) {
+        return new BoundingBox(random.nextDouble() * 1000 - 100, random.nextDouble() * 1000 - 100,
+                random.nextDouble() * 60, random.nextDouble() * 60);
+    }
+
+    private static class BoundedCollider implements Collider {
+
+        private final Bounds bounds;
+
+        BoundedCollider(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class RecordingCollided implements Collided {
+
+        private final Bounds bounds;
+        private final List<Collider> collisions = new ArrayList<>();
+        private List<Collider> lastCandidates = List.of();
+
+        RecordingCollided(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public void checkForCollisions(final List<Collider> colliders) {
+            lastCandidates = new ArrayList<>(colliders);
+            Collided.super.checkForCollisions(colliders);
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            collisions.add(collidingObject);
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+
+        List<Collider> getLastCandidates() {
+            return lastCandidates;
+        }
+
+        List<Collider> drainCollisions() {
+            var drained = new ArrayList<>(collisions);
+            collisions.clear();
+            return drained;
+        }
+    }
+
     private class CollidedImpl extends YaegerEntity implements Collided {
 
         /**
@@ -207,7 +581,7 @@ class CollisionDelegateTest {
 
         @Override
         public Optional<? extends Node> getNode() {
-            return null;
+            return Optional.empty();
         }
 
         @Override
@@ -235,6 +609,41 @@ class CollisionDelegateTest {
             return null;
         }
     }
-}
 
+    private class MovingColliderImpl extends ColliderImpl {
+
+        public MovingColliderImpl(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return new BoundingBox(getAnchorLocation().getX(), getAnchorLocation().getY(), 10, 10);
+        }
+    }
+
+    private class JumpingEntity extends ColliderImpl implements Collided {
+
+        private final int id;
+        private final Random random;
+        private final List<String> log;
+
+        JumpingEntity(final int id, final Coordinate2D initialPosition, final List<String> log) {
+            super(initialPosition);
+            this.id = id;
+            this.random = new Random(id);
+            this.log = log;
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            log.add(id + "->" + ((JumpingEntity) collidingObject).id);
+            setAnchorLocation(new Coordinate2D(random.nextDouble() * 400, random.nextDouble() * 400));
+        }
 
+        @Override
+        public Bounds getBoundingBox() {
+            return new BoundingBox(getAnchorLocation().getX(), getAnchorLocation().getY(), 20, 20);
+        }
+    }
+}
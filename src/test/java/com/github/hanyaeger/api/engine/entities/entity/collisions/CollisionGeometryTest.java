@@ -0,0 +1,133 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.javafx.image.CollisionMask;
+import javafx.scene.image.PixelReader;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CollisionGeometryTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void newGeometryUsesBoundingBox() {
+        // Arrange
+        var sut = new CollisionGeometry();
+
+        // Act
+        var actual = sut.getType();
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.BOUNDING_BOX, actual);
+    }
+
+    @Test
+    void setCircleTransformsCenterAndRadius() {
+        // Arrange
+        var sut = new CollisionGeometry();
+        var transform = new Translate(10, 20).createConcatenation(new Scale(2, 2));
+
+        // Act
+        sut.setCircle(5, 5, 3, transform);
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.CIRCLE, sut.getType());
+        assertEquals(20, sut.getCenterX(), DELTA);
+        assertEquals(30, sut.getCenterY(), DELTA);
+        assertEquals(6, sut.getRadius(), DELTA);
+    }
+
+    @Test
+    void setCircleWithNonUniformScaleCreatesPolygon() {
+        // Arrange
+        var sut = new CollisionGeometry();
+
+        // Act
+        sut.setCircle(0, 0, 3, new Scale(2, 1));
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.POLYGON, sut.getType());
+        assertEquals(CollisionGeometry.ELLIPSE_VERTICES, sut.getVertices());
+        assertEquals(6, sut.getX(0), DELTA);
+    }
+
+    @Test
+    void setEllipseWithEqualRadiiCreatesCircle() {
+        // Arrange
+        var sut = new CollisionGeometry();
+
+        // Act
+        sut.setEllipse(0, 0, 4, 4, new Rotate(30));
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.CIRCLE, sut.getType());
+        assertEquals(4, sut.getRadius(), DELTA);
+    }
+
+    @Test
+    void setRectangleRotatesCorners() {
+        // Arrange
+        var sut = new CollisionGeometry();
+
+        // Act
+        sut.setRectangle(-1, -1, 1, 1, new Rotate(45));
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.POLYGON, sut.getType());
+        assertEquals(4, sut.getVertices());
+        assertEquals(0, sut.getX(0), DELTA);
+        assertEquals(-Math.sqrt(2), sut.getY(0), DELTA);
+    }
+
+    @Test
+    void setBoundingBoxResetsPolygon() {
+        // Arrange
+        var sut = new CollisionGeometry();
+        sut.setRectangle(0, 0, 1, 1, new Translate());
+
+        // Act
+        sut.setBoundingBox();
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.BOUNDING_BOX, sut.getType());
+        assertEquals(0, sut.getVertices());
+    }
+
+    @Test
+    void setMaskStoresOriginAndPixelSize() {
+        // Arrange
+        var sut = new CollisionGeometry();
+        var mask = CollisionMask.create(mock(PixelReader.class), 0, 0, 10, 5);
+        var transform = new Translate(100, 50).createConcatenation(new Scale(2, 3));
+
+        // Act
+        sut.setMask(mask, 0, 0, 20, 10, transform);
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.MASK, sut.getType());
+        assertSame(mask, sut.getMask());
+        assertEquals(100, sut.getMaskX(), DELTA);
+        assertEquals(50, sut.getMaskY(), DELTA);
+        assertEquals(4, sut.getScaleX(), DELTA);
+        assertEquals(6, sut.getScaleY(), DELTA);
+    }
+
+    @Test
+    void setMaskWithRotationCreatesPolygon() {
+        // Arrange
+        var sut = new CollisionGeometry();
+        var mask = CollisionMask.create(mock(PixelReader.class), 0, 0, 10, 10);
+
+        // Act
+        sut.setMask(mask, 0, 0, 10, 10, new Rotate(45));
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.POLYGON, sut.getType());
+        assertEquals(4, sut.getVertices());
+    }
+}
@@ -0,0 +1,271 @@
+package com.github.hanyaeger.api.engine.entities.entity.collisions;
+
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
+import com.github.hanyaeger.api.javafx.image.CollisionMask;
+import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
+import javafx.scene.Node;
+import javafx.scene.image.PixelReader;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NarrowPhaseTest {
+
+    private static final Translate IDENTITY = new Translate();
+
+    @Test
+    void touchingCirclesIntersect() {
+        // Arrange
+        var first = circle(0, 0, 5);
+        var second = circle(10, 0, 5);
+
+        // Act
+        var actual = NarrowPhase.circleIntersectsCircle(first, second);
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void circlesWithIntersectingBoundingBoxesNeedNotIntersect() {
+        // Arrange
+        var first = circle(0, 0, 5);
+        var second = circle(8, 8, 5);
+
+        // Act
+        var actual = NarrowPhase.circleIntersectsCircle(first, second);
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void circleDoesNotIntersectCornerOfBox() {
+        // Arrange
+        var circle = circle(0, 0, 5);
+        var box = new BoundingBox(4, 4, 10, 10);
+
+        // Act
+        var actual = NarrowPhase.circleIntersectsBox(circle, box);
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void circleIntersectsSideOfBox() {
+        // Arrange
+        var circle = circle(0, 0, 5);
+        var box = new BoundingBox(4, -1, 10, 2);
+
+        // Act
+        var actual = NarrowPhase.circleIntersectsBox(circle, box);
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void circleDoesNotIntersectRotatedRectangleNearItsBoundingBoxCorner() {
+        // Arrange
+        var rectangle = new CollisionGeometry();
+        rectangle.setRectangle(-10, -10, 10, 10, new Rotate(45));
+        var circle = circle(12, 12, 2);
+
+        // Act
+        var actual = NarrowPhase.circleIntersectsPolygon(circle, rectangle);
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void circleIntersectsRotatedRectangleAtItsCorner() {
+        // Arrange
+        var rectangle = new CollisionGeometry();
+        rectangle.setRectangle(-10, -10, 10, 10, new Rotate(45));
+        var circle = circle(15, 0, 1.5);
+
+        // Act
+        var actual = NarrowPhase.circleIntersectsPolygon(circle, rectangle);
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void rotatedRectanglesAreSeparated() {
+        // Arrange
+        var first = new CollisionGeometry();
+        first.setRectangle(-10, -10, 10, 10, new Rotate(45));
+        var second = new CollisionGeometry();
+        second.setRectangle(-10, -10, 10, 10, new Translate(22, 22).createConcatenation(new Rotate(45)));
+
+        // Act
+        var actual = NarrowPhase.intersects(new GeometryCollider(first), new GeometryCollider(second));
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void overlappingRotatedRectanglesIntersect() {
+        // Arrange
+        var first = new CollisionGeometry();
+        first.setRectangle(-10, -10, 10, 10, new Rotate(45));
+        var second = new CollisionGeometry();
+        second.setRectangle(-10, -10, 10, 10, new Translate(15, 0).createConcatenation(new Rotate(30)));
+
+        // Act
+        var actual = NarrowPhase.intersects(new GeometryCollider(first), new GeometryCollider(second));
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void withoutGeometryBoundingBoxesSuffice() {
+        // Arrange
+        var first = new GeometryCollider(new CollisionGeometry());
+        var second = new GeometryCollider(new CollisionGeometry());
+
+        // Act
+        var actual = NarrowPhase.intersects(first, second);
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void masksWithOverlappingOpaquePixelsIntersect() {
+        // Arrange
+        var first = mask(diagonal(10), 0, 0, 1);
+        var second = mask(diagonal(10), 3, 3, 1);
+
+        // Act
+        var actual = NarrowPhase.maskIntersects(first, second, new BoundingBox(3, 3, 10, 10));
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void masksWithOverlappingTransparentPixelsDoNotIntersect() {
+        // Arrange
+        var first = mask(diagonal(10), 0, 0, 1);
+        var second = mask(diagonal(10), 3, 0, 1);
+
+        // Act
+        var actual = NarrowPhase.maskIntersects(first, second, new BoundingBox(3, 0, 10, 10));
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void boxOverTransparentPixelsDoesNotIntersectMask() {
+        // Arrange
+        var mask = mask(diagonal(10), 0, 0, 1);
+
+        // Act
+        var actual = NarrowPhase.maskIntersects(mask, null, new BoundingBox(6, 0, 4, 4));
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void boxOverOpaquePixelsIntersectsScaledMask() {
+        // Arrange
+        var mask = mask(diagonal(10), 0, 0, 2);
+
+        // Act
+        var actual = NarrowPhase.maskIntersects(mask, null, new BoundingBox(12, 12, 1, 1));
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void circleIntersectsMaskOnlyAtOpaquePixels() {
+        // Arrange
+        var mask = mask(diagonal(10), 0, 0, 1);
+        var near = circle(7, 2, 2);
+        var touching = circle(7, 2, 4);
+
+        // Act & Assert
+        assertFalse(NarrowPhase.maskIntersects(mask, near, new BoundingBox(5, 0, 4, 4)));
+        assertTrue(NarrowPhase.maskIntersects(mask, touching, new BoundingBox(3, -2, 8, 8)));
+    }
+
+    @Test
+    void rotatedRectangleIntersectsMaskOnlyAtOpaquePixels() {
+        // Arrange
+        var mask = mask(diagonal(20), 0, 0, 1);
+        var away = new CollisionGeometry();
+        away.setRectangle(-2, -2, 2, 2, new Translate(15, 4).createConcatenation(new Rotate(45)));
+        var across = new CollisionGeometry();
+        across.setRectangle(-2, -2, 2, 2, new Translate(12, 9).createConcatenation(new Rotate(45)));
+
+        // Act & Assert
+        assertFalse(NarrowPhase.maskIntersects(mask, away, new BoundingBox(12.1, 1.1, 5.8, 5.8)));
+        assertTrue(NarrowPhase.maskIntersects(mask, across, new BoundingBox(9.1, 6.1, 5.8, 5.8)));
+    }
+
+    private CollisionGeometry mask(final CollisionMask mask, final double x, final double y, final double scale) {
+        var geometry = new CollisionGeometry();
+        geometry.setMask(mask, 0, 0, mask.getWidth(), mask.getHeight(), new Translate(x, y).createConcatenation(new Scale(scale, scale)));
+        return geometry;
+    }
+
+    /**
+     * Create a {@link CollisionMask} of which only the pixels on the diagonal from the top left corner are opaque.
+     */
+    private CollisionMask diagonal(final int size) {
+        var reader = mock(PixelReader.class);
+        when(reader.getArgb(anyInt(), anyInt())).thenAnswer(invocation ->
+                invocation.getArgument(0).equals(invocation.getArgument(1)) ? 0xFF000000 : 0);
+        return CollisionMask.create(reader, 0, 0, size, size);
+    }
+
+    private CollisionGeometry circle(final double x, final double y, final double radius) {
+        var geometry = new CollisionGeometry();
+        geometry.setCircle(x, y, radius, IDENTITY);
+        return geometry;
+    }
+
+    private static class GeometryCollider extends YaegerEntity implements Collider {
+
+        private final CollisionGeometry geometry;
+
+        GeometryCollider(final CollisionGeometry geometry) {
+            super(new Coordinate2D());
+            this.geometry = geometry;
+        }
+
+        @Override
+        public CollisionGeometry getCollisionGeometry() {
+            return geometry;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void init(final Injector injector) {
+            // Not required here
+        }
+    }
+}
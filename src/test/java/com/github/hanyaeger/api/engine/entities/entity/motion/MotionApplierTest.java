@@ -492,4 +492,42 @@ class MotionApplierTest {
         // Arrange
         assertEquals(2, sut.getSpeed(), DELTA);
     }
+
+    @Test
+    void getDirectionIsUpdatedAfterAddToMotion() {
+        // Arrange
+        sut.setMotion(1, Direction.DOWN);
+        sut.getDirection();
+
+        // Act
+        sut.addToMotion(2, Direction.LEFT);
+
+        // Assert
+        assertEquals(360 - Math.toDegrees(Math.atan2(2, 1)), sut.getDirection(), DELTA);
+    }
+
+    @Test
+    void getDirectionIsRetainedWhenSpeedIsSetToZero() {
+        // Arrange
+        sut.setMotion(1, DIRECTION);
+
+        // Act
+        sut.setSpeed(0);
+
+        // Assert
+        assertEquals(DIRECTION, sut.getDirection(), DELTA);
+    }
+
+    @Test
+    void getReturnsCurrentMotion() {
+        // Arrange
+        sut.setMotion(2, Direction.RIGHT);
+
+        // Act
+        var motion = sut.get();
+
+        // Assert
+        assertEquals(2, motion.getX(), DELTA);
+        assertEquals(0, motion.getY(), DELTA);
+    }
 }
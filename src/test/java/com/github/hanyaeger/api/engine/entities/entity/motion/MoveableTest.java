@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.entities.entity.motion;
 
+import com.github.hanyaeger.api.engine.IndependentUpdatable;
 import com.github.hanyaeger.api.engine.Updatable;
 import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
@@ -181,6 +182,17 @@ class MoveableTest {
         assertNotNull(updatable);
     }
 
+    @Test
+    void updateLocationReturnsAnIndependentUpdatable() {
+        // Arrange
+
+        // Act
+        Updatable updatable = sut.updateLocation();
+
+        // Assert
+        assertTrue(updatable instanceof IndependentUpdatable);
+    }
+
     @Test
     void callingTheUpdatableModifiesLocation() {
         // Arrange
@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.entities.entity.motion;
 
+import com.github.hanyaeger.api.engine.IndependentUpdatable;
 import com.github.hanyaeger.api.engine.entities.entity.AnchorPoint;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
 import javafx.scene.Node;
@@ -185,6 +186,17 @@ class NewtonianTest {
             assertFalse(actual);
         }
 
+        @Test
+        void addSimplePhysicsReturnsAnIndependentUpdatable() {
+            // Arrange
+
+            // Act
+            var updatable = sut.addSimplePhysics();
+
+            // Assert
+            assertTrue(updatable instanceof IndependentUpdatable);
+        }
+
         @Test
         void updateOnUpdatableDoesNotAddToMotionIfGravitationalPullIsFalse() {
             // Arrange
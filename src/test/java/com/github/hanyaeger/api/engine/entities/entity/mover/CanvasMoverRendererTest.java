@@ -0,0 +1,94 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class CanvasMoverRendererTest {
+
+    private static final double MOVER_SIZE = 4;
+    private static final double WIDTH = 640;
+    private static final double HEIGHT = 480;
+
+    private CanvasMoverRenderer sut;
+    private Canvas canvas;
+    private GraphicsContext gc;
+    private MoverStore movers;
+
+    @BeforeEach
+    void setup() {
+        canvas = mock(Canvas.class);
+        gc = mock(GraphicsContext.class);
+        when(canvas.getGraphicsContext2D()).thenReturn(gc);
+        when(canvas.getWidth()).thenReturn(WIDTH);
+        when(canvas.getHeight()).thenReturn(HEIGHT);
+        movers = new MoverStore();
+
+        sut = new CanvasMoverRenderer(canvas, MOVER_SIZE, Color.RED);
+    }
+
+    @Test
+    void getNodeReturnsCanvas() {
+        // Arrange
+
+        // Act
+        var node = sut.getNode();
+
+        // Assert
+        assertEquals(canvas, node);
+    }
+
+    @Test
+    void renderClearsCanvasBeforeDrawing() {
+        // Arrange
+        movers.add(10, 20, 0, 0);
+
+        // Act
+        sut.render(movers);
+
+        // Assert
+        var inOrder = inOrder(gc);
+        inOrder.verify(gc).clearRect(0, 0, WIDTH, HEIGHT);
+        inOrder.verify(gc).setFill(Color.RED);
+        inOrder.verify(gc).fillRect(8, 18, MOVER_SIZE, MOVER_SIZE);
+    }
+
+    @Test
+    void renderDrawsUnrotatedMoversWithoutTransformation() {
+        // Arrange
+        movers.add(10, 20, 0, 0);
+        movers.add(30, 40, 0, 0);
+
+        // Act
+        sut.render(movers);
+
+        // Assert
+        verify(gc).fillRect(8, 18, MOVER_SIZE, MOVER_SIZE);
+        verify(gc).fillRect(28, 38, MOVER_SIZE, MOVER_SIZE);
+        verify(gc, never()).save();
+        verify(gc, never()).rotate(anyDouble());
+    }
+
+    @Test
+    void renderDrawsRotatedMoverAroundItsLocation() {
+        // Arrange
+        var index = movers.add(10, 20, 0, 0);
+        movers.rotation[index] = 45;
+
+        // Act
+        sut.render(movers);
+
+        // Assert
+        var inOrder = inOrder(gc);
+        inOrder.verify(gc).save();
+        inOrder.verify(gc).translate(10, 20);
+        inOrder.verify(gc).rotate(-45);
+        inOrder.verify(gc).fillRect(-2, -2, MOVER_SIZE, MOVER_SIZE);
+        inOrder.verify(gc).restore();
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MotionSystemTest {
+
+    private static final double DELTA = 0.000001d;
+
+    @Test
+    void applyMovesAllMoversAccordingToTheirVelocity() {
+        // Arrange
+        var movers = new MoverStore();
+        movers.add(0, 0, 2, Direction.DOWN.getValue());
+        movers.add(10, 10, 3, Direction.LEFT.getValue());
+        var sut = new MotionSystem();
+
+        // Act
+        sut.apply(movers);
+
+        // Assert
+        assertEquals(0, movers.getX(0), DELTA);
+        assertEquals(2, movers.getY(0), DELTA);
+        assertEquals(7, movers.getX(1), DELTA);
+        assertEquals(10, movers.getY(1), DELTA);
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.entities.EntityCollection;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class MoverEntityTest {
+
+    private static final long TIMESTAMP = 314L;
+    private static final double DELTA = 0.000001d;
+    private static final Coordinate2D DEFAULT_LOCATION = new Coordinate2D(37, 42);
+
+    private MoverEntityImpl sut;
+    private MoverRenderer renderer;
+    private Node node;
+
+    @BeforeEach
+    void setup() {
+        renderer = mock(MoverRenderer.class);
+        node = mock(Node.class);
+        when(renderer.getNode()).thenReturn(node);
+
+        sut = new MoverEntityImpl(DEFAULT_LOCATION, renderer);
+    }
+
+    @Test
+    void getNodeReturnsNodeOfRenderer() {
+        // Arrange
+
+        // Act
+        var actual = sut.getNode();
+
+        // Assert
+        assertEquals(Optional.of(node), actual);
+    }
+
+    @Test
+    void addToEntityCollectionAddsAsDynamicEntity() {
+        // Arrange
+        var entityCollection = mock(EntityCollection.class);
+
+        // Act
+        sut.addToEntityCollection(entityCollection);
+
+        // Assert
+        verify(entityCollection).addDynamicEntity(sut);
+    }
+
+    @Test
+    void setAnchorLocationPlacesNodeThroughLayout() {
+        // Arrange
+        var location = new Coordinate2D(10, 20);
+
+        // Act
+        sut.setAnchorLocation(location);
+
+        // Assert
+        verify(node).setLayoutX(10);
+        verify(node).setLayoutY(20);
+    }
+
+    @Test
+    void updateAppliesDefaultSystems() {
+        // Arrange
+        var movers = sut.getMovers();
+        var index = movers.add(0, 0, 2, 0);
+        movers.setRotationSpeed(index, 5);
+        movers.setGravityConstant(index, 1);
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        assertEquals(2, movers.getY(index), DELTA);
+        assertEquals(3, movers.getSpeed(index), DELTA);
+        assertEquals(5, movers.getRotation(index), DELTA);
+    }
+
+    @Test
+    void updateAppliesSystemsThenCallsHookThenRenders() {
+        // Arrange
+        var system = mock(MoverSystem.class);
+        sut.setSystems(system);
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        var inOrder = inOrder(system, renderer);
+        inOrder.verify(system).apply(sut.getMovers());
+        inOrder.verify(renderer).render(sut.getMovers());
+        assertEquals(TIMESTAMP, sut.updatedOn);
+    }
+
+    private static class MoverEntityImpl extends MoverEntity {
+
+        private long updatedOn;
+
+        MoverEntityImpl(final Coordinate2D initialLocation, final MoverRenderer renderer) {
+            super(initialLocation, renderer);
+        }
+
+        @Override
+        protected void updateMovers(final MoverStore movers, final long timestamp) {
+            updatedOn = timestamp;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoverStoreTest {
+
+    private static final double DELTA = 0.000001d;
+
+    private MoverStore sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new MoverStore(2);
+    }
+
+    @Test
+    void newStoreIsEmpty() {
+        // Arrange
+
+        // Act
+        var size = sut.size();
+
+        // Assert
+        assertEquals(0, size);
+    }
+
+    @Test
+    void capacityOfZeroThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new MoverStore(0));
+    }
+
+    @Test
+    void addStoresLocationAndVelocity() {
+        // Arrange
+
+        // Act
+        var index = sut.add(10, 20, 2, Direction.RIGHT.getValue());
+
+        // Assert
+        assertEquals(0, index);
+        assertEquals(10, sut.getX(index), DELTA);
+        assertEquals(20, sut.getY(index), DELTA);
+        assertEquals(2, sut.dx[index], DELTA);
+        assertEquals(0, sut.dy[index], DELTA);
+        assertEquals(2, sut.getSpeed(index), DELTA);
+    }
+
+    @Test
+    void addBeyondCapacityGrowsStore() {
+        // Arrange
+        sut.add(0, 0, 0, 0);
+        sut.add(1, 1, 0, 0);
+
+        // Act
+        var index = sut.add(2, 2, 0, 0);
+
+        // Assert
+        assertEquals(3, sut.size());
+        assertEquals(1, sut.getX(1), DELTA);
+        assertEquals(2, sut.getX(index), DELTA);
+    }
+
+    @Test
+    void addResetsPropertiesOfPreviouslyRemovedMover() {
+        // Arrange
+        var index = sut.add(0, 0, 0, 0);
+        sut.setRotationSpeed(index, 3);
+        sut.setGravityConstant(index, 0.2);
+        sut.setFrictionConstant(index, 0.01);
+        sut.remove(index);
+
+        // Act
+        index = sut.add(0, 0, 0, 0);
+
+        // Assert
+        assertEquals(0, sut.rotationSpeed[index], DELTA);
+        assertEquals(0, sut.gravityConstant[index], DELTA);
+        assertEquals(0, sut.frictionConstant[index], DELTA);
+    }
+
+    @Test
+    void removeMovesLastMoverToIndex() {
+        // Arrange
+        sut.add(0, 0, 0, 0);
+        sut.add(1, 1, 0, 0);
+        sut.add(2, 2, 0, 0);
+
+        // Act
+        sut.remove(0);
+
+        // Assert
+        assertEquals(2, sut.size());
+        assertEquals(2, sut.getX(0), DELTA);
+        assertEquals(1, sut.getX(1), DELTA);
+    }
+
+    @Test
+    void removeOutsideRemovesOnlyMoversOutsideArea() {
+        // Arrange
+        sut.add(-1, 5, 0, 0);
+        sut.add(5, 5, 0, 0);
+        sut.add(5, 11, 0, 0);
+        sut.add(6, 6, 0, 0);
+
+        // Act
+        sut.removeOutside(0, 0, 10, 10);
+
+        // Assert
+        assertEquals(2, sut.size());
+        assertEquals(11, sut.getX(0) + sut.getX(1), DELTA);
+    }
+
+    @Test
+    void clearRemovesAllMovers() {
+        // Arrange
+        sut.add(0, 0, 0, 0);
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void setVelocityChangesVelocity() {
+        // Arrange
+        var index = sut.add(0, 0, 0, 0);
+
+        // Act
+        sut.setVelocity(index, 3, 4);
+
+        // Assert
+        assertEquals(3, sut.getVelocityX(index), DELTA);
+        assertEquals(4, sut.getVelocityY(index), DELTA);
+        assertEquals(5, sut.getSpeed(index), DELTA);
+    }
+
+    @Test
+    void setMotionChangesVelocityLikeAdd() {
+        // Arrange
+        var index = sut.add(0, 0, 0, 0);
+
+        // Act
+        sut.setMotion(index, 2, Direction.UP.getValue());
+
+        // Assert
+        assertEquals(0, sut.getVelocityX(index), DELTA);
+        assertEquals(-2, sut.getVelocityY(index), DELTA);
+    }
+
+    @Test
+    void settersOfSlotAreReturnedByGetters() {
+        // Arrange
+        var index = sut.add(0, 0, 0, 0);
+
+        // Act
+        sut.setRotation(index, 90);
+        sut.setRotationSpeed(index, 2);
+        sut.setGravityConstant(index, 0.2);
+        sut.setFrictionConstant(index, 0.01);
+
+        // Assert
+        assertEquals(90, sut.getRotation(index), DELTA);
+        assertEquals(2, sut.getRotationSpeed(index), DELTA);
+        assertEquals(0.2, sut.getGravityConstant(index), DELTA);
+        assertEquals(0.01, sut.getFrictionConstant(index), DELTA);
+    }
+
+    @Test
+    void accessingIndexOutsideStoreThrowsException() {
+        // Arrange
+        sut.add(0, 0, 0, 0);
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.getX(1));
+    }
+}
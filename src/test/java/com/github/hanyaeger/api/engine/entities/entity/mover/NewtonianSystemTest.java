@@ -0,0 +1,87 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import com.github.hanyaeger.api.engine.entities.entity.motion.Direction;
+import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NewtonianSystemTest {
+
+    private static final double DELTA = 0.000001d;
+
+    private MoverStore movers;
+
+    @BeforeEach
+    void setup() {
+        movers = new MoverStore();
+    }
+
+    @Test
+    void moverWithoutGravityAndFrictionIsNotAffected() {
+        // Arrange
+        movers.add(0, 0, 2, Direction.RIGHT.getValue());
+        var sut = new NewtonianSystem();
+
+        // Act
+        sut.apply(movers);
+
+        // Assert
+        assertEquals(2, movers.dx[0], DELTA);
+        assertEquals(0, movers.dy[0], DELTA);
+    }
+
+    @Test
+    void gravityIsAddedInDirectionOfGravity() {
+        // Arrange
+        movers.add(0, 0, 0, 0);
+        movers.setGravityConstant(0, 0.5);
+        var sut = new NewtonianSystem(Direction.LEFT.getValue());
+
+        // Act
+        sut.apply(movers);
+
+        // Assert
+        assertEquals(-0.5, movers.dx[0], DELTA);
+        assertEquals(0, movers.dy[0], DELTA);
+    }
+
+    @Test
+    void frictionDecreasesSpeedWithoutChangingDirection() {
+        // Arrange
+        movers.add(0, 0, 2, Direction.UP.getValue());
+        movers.setFrictionConstant(0, 0.25);
+        var sut = new NewtonianSystem();
+
+        // Act
+        sut.apply(movers);
+
+        // Assert
+        assertEquals(0, movers.dx[0], DELTA);
+        assertEquals(-1.5, movers.dy[0], DELTA);
+    }
+
+    @Test
+    void gravityAndFrictionMatchMotionApplier() {
+        // Arrange
+        var motionApplier = new MotionApplier();
+        motionApplier.setMotion(3, Direction.RIGHT.getValue());
+
+        var index = movers.add(0, 0, 3, Direction.RIGHT.getValue());
+        movers.setGravityConstant(index, MotionApplier.DEFAULT_GRAVITATIONAL_CONSTANT);
+        movers.setFrictionConstant(index, MotionApplier.DEFAULT_FRICTION_CONSTANT);
+        var sut = new NewtonianSystem();
+
+        // Act
+        for (var i = 0; i < 10; i++) {
+            motionApplier.addToMotion(MotionApplier.DEFAULT_GRAVITATIONAL_CONSTANT, Direction.DOWN.getValue());
+            motionApplier.incrementSpeed(-MotionApplier.DEFAULT_FRICTION_CONSTANT * motionApplier.getSpeed());
+            sut.apply(movers);
+        }
+
+        // Assert
+        assertEquals(motionApplier.get().getX(), movers.dx[index], DELTA);
+        assertEquals(motionApplier.get().getY(), movers.dy[index], DELTA);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class NodeMoverRendererTest {
+
+    private NodeMoverRendererImpl sut;
+    private Group group;
+    private ObservableList<Node> children;
+    private MoverStore movers;
+
+    @BeforeEach
+    void setup() {
+        group = mock(Group.class);
+        children = FXCollections.observableArrayList();
+        when(group.getChildren()).thenReturn(children);
+        movers = new MoverStore();
+
+        sut = new NodeMoverRendererImpl(group);
+    }
+
+    @Test
+    void getNodeReturnsGroup() {
+        // Arrange
+
+        // Act
+        var node = sut.getNode();
+
+        // Assert
+        assertEquals(group, node);
+    }
+
+    @Test
+    void renderCreatesNodeForEachMover() {
+        // Arrange
+        movers.add(0, 0, 0, 0);
+        movers.add(0, 0, 0, 0);
+
+        // Act
+        sut.render(movers);
+
+        // Assert
+        assertEquals(2, children.size());
+        assertEquals(2, sut.created);
+    }
+
+    @Test
+    void renderOnlyCreatesNodesForAdditionalMovers() {
+        // Arrange
+        movers.add(0, 0, 0, 0);
+        movers.add(0, 0, 0, 0);
+        sut.render(movers);
+        movers.remove(1);
+
+        // Act
+        sut.render(movers);
+        movers.add(0, 0, 0, 0);
+        sut.render(movers);
+
+        // Assert
+        assertEquals(2, children.size());
+        assertEquals(3, sut.created);
+    }
+
+    @Test
+    void renderRemovesNodesOfRemovedMovers() {
+        // Arrange
+        movers.add(0, 0, 0, 0);
+        movers.add(0, 0, 0, 0);
+        sut.render(movers);
+        movers.clear();
+
+        // Act
+        sut.render(movers);
+
+        // Assert
+        assertEquals(0, children.size());
+    }
+
+    @Test
+    void renderPlacesNodesOnLocationOfMovers() {
+        // Arrange
+        var index = movers.add(10, 20, 0, 0);
+        movers.rotation[index] = 45;
+
+        // Act
+        sut.render(movers);
+
+        // Assert
+        var node = children.get(0);
+        verify(node).setLayoutX(10);
+        verify(node).setLayoutY(20);
+        verify(node).setRotate(-45);
+    }
+
+    private static class NodeMoverRendererImpl extends NodeMoverRenderer {
+
+        private int created;
+
+        NodeMoverRendererImpl(final Group group) {
+            super(group);
+        }
+
+        @Override
+        protected Node createNode() {
+            created++;
+            return mock(Node.class);
+        }
+    }
+}
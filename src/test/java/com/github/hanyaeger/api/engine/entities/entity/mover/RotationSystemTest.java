@@ -0,0 +1,28 @@
+package com.github.hanyaeger.api.engine.entities.entity.mover;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RotationSystemTest {
+
+    private static final double DELTA = 0.000001d;
+
+    @Test
+    void applyRotatesAllMoversAccordingToTheirRotationSpeed() {
+        // Arrange
+        var movers = new MoverStore();
+        movers.add(0, 0, 0, 0);
+        movers.add(0, 0, 0, 0);
+        movers.setRotationSpeed(1, 5);
+        var sut = new RotationSystem();
+
+        // Act
+        sut.apply(movers);
+        sut.apply(movers);
+
+        // Assert
+        assertEquals(0, movers.getRotation(0), DELTA);
+        assertEquals(10, movers.getRotation(1), DELTA);
+    }
+}
@@ -1,9 +1,11 @@
 package com.github.hanyaeger.api.engine.entities.entity.shape.circle;
 
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.google.inject.Injector;
 import javafx.geometry.Bounds;
 import javafx.scene.shape.Circle;
+import javafx.scene.transform.Translate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -106,6 +108,25 @@ class CircleEntityTest {
         verify(circle).setRadius(RADIUS);
     }
 
+    @Test
+    void collisionGeometryIsTransformedCircle() {
+        // Arrange
+        sut.setShape(circle);
+        when(circle.getCenterX()).thenReturn(10d);
+        when(circle.getCenterY()).thenReturn(20d);
+        when(circle.getRadius()).thenReturn(5d);
+        when(circle.getLocalToSceneTransform()).thenReturn(new Translate(100, 200));
+
+        // Act
+        var actual = sut.getCollisionGeometry();
+
+        // Assert
+        assertEquals(CollisionGeometry.Type.CIRCLE, actual.getType());
+        assertEquals(110, actual.getCenterX());
+        assertEquals(220, actual.getCenterY());
+        assertEquals(5, actual.getRadius());
+    }
+
     private class CircleEntityImpl extends CircleEntity {
 
         public CircleEntityImpl(Coordinate2D initialPosition) {
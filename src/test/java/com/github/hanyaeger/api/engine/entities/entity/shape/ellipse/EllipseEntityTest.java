@@ -2,8 +2,10 @@ package com.github.hanyaeger.api.engine.entities.entity.shape.ellipse;
 
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.google.inject.Injector;
 import javafx.scene.shape.Ellipse;
+import javafx.scene.transform.Translate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -180,6 +182,24 @@ class EllipseEntityTest {
             verify(ellipse).setRadiusY(RADIUS_Y);
         }
 
+        @Test
+        void collisionGeometryIsPolygonApproximatingEllipse() {
+            // Arrange
+            sut.setShape(ellipse);
+            when(ellipse.getRadiusX()).thenReturn(20d);
+            when(ellipse.getRadiusY()).thenReturn(10d);
+            when(ellipse.getLocalToSceneTransform()).thenReturn(new Translate(100, 200));
+
+            // Act
+            var actual = sut.getCollisionGeometry();
+
+            // Assert
+            assertEquals(CollisionGeometry.Type.POLYGON, actual.getType());
+            assertEquals(CollisionGeometry.ELLIPSE_VERTICES, actual.getVertices());
+            assertEquals(120, actual.getX(0));
+            assertEquals(200, actual.getY(0));
+        }
+
         private class EllipseEntityImpl extends EllipseEntity {
 
             public EllipseEntityImpl(Coordinate2D initialPosition) {
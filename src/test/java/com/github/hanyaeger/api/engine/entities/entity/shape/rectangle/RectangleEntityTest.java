@@ -52,6 +52,23 @@ class RectangleEntityTest {
             verify(rectangle).setY(expected.getY());
         }
 
+        @Test
+        void setAnchorLocationWhileNodeChangesDeferredIsAppliedOnCommit() {
+            // Arrange
+            sut.setShape(rectangle);
+            var expected = new Coordinate2D(1.1, 2.2);
+            sut.deferNodeChanges();
+            sut.setAnchorLocation(expected);
+            verify(rectangle, never()).setX(anyDouble());
+
+            // Act
+            sut.commitNodeChanges();
+
+            // Assert
+            verify(rectangle).setX(expected.getX());
+            verify(rectangle).setY(expected.getY());
+        }
+
         @Test
         void getWidthWithoutNodeOrBufferedWidthReturnsDefault() {
             // Arrange
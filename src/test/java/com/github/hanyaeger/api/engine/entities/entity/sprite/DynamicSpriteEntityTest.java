@@ -9,6 +9,7 @@ import com.github.hanyaeger.api.engine.entities.entity.motion.MotionApplier;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
 import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.guice.factories.SpriteAnimationDelegateFactory;
+import com.github.hanyaeger.api.javafx.image.ImageRegion;
 import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
 import com.google.inject.Injector;
 import javafx.scene.image.Image;
@@ -81,7 +82,7 @@ class DynamicSpriteEntityTest {
         sut.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
         sut.setUpdater(updater);
 
-        when(imageRepository.get(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(image);
+        when(imageRepository.getRegion(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(new ImageRegion(image));
 
         when(imageViewFactory.create(image)).thenReturn(imageView);
         when(spriteAnimationDelegateFactory.create(imageView, 1)).thenReturn(spriteAnimationDelegate);
@@ -106,7 +107,7 @@ class DynamicSpriteEntityTest {
         sut.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
         sut.setUpdater(updater);
 
-        when(imageRepository.get(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(image);
+        when(imageRepository.getRegion(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(new ImageRegion(image));
 
         when(imageViewFactory.create(image)).thenReturn(imageView);
         when(spriteAnimationDelegateFactory.create(imageView, 1)).thenReturn(spriteAnimationDelegate);
@@ -147,7 +148,7 @@ class DynamicSpriteEntityTest {
         sut.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
         sut.setUpdater(updater);
 
-        when(imageRepository.get(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(image);
+        when(imageRepository.getRegion(DEFAULT_RESOURCE, WIDTH, HEIGHT, true)).thenReturn(new ImageRegion(image));
 
         when(imageViewFactory.create(image)).thenReturn(imageView);
         when(spriteAnimationDelegateFactory.create(imageView, 1)).thenReturn(spriteAnimationDelegate);
@@ -175,7 +176,7 @@ class DynamicSpriteEntityTest {
         sut.setSpriteAnimationDelegateFactory(spriteAnimationDelegateFactory);
         sut.setUpdater(updater);
 
-        when(imageRepository.get(DEFAULT_RESOURCE, WIDTH * frames, HEIGHT, true)).thenReturn(image);
+        when(imageRepository.getRegion(DEFAULT_RESOURCE, WIDTH * frames, HEIGHT, true)).thenReturn(new ImageRegion(image));
 
         when(imageViewFactory.create(image)).thenReturn(imageView);
         when(spriteAnimationDelegateFactory.create(imageView, frames)).thenReturn(spriteAnimationDelegate);
@@ -2,18 +2,30 @@ package com.github.hanyaeger.api.engine.entities.entity.sprite;
 
 import com.github.hanyaeger.api.engine.Size;
 import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionGeometry;
 import com.github.hanyaeger.api.engine.entities.entity.events.system.RemoveEntityEvent;
 import com.github.hanyaeger.api.engine.entities.entity.sprite.delegates.SpriteAnimationDelegate;
 import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.guice.factories.SpriteAnimationDelegateFactory;
+import com.github.hanyaeger.api.javafx.image.CollisionMask;
+import com.github.hanyaeger.api.javafx.image.ImageRegion;
 import com.github.hanyaeger.api.javafx.image.ImageViewFactory;
 import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Translate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +69,24 @@ class SpriteEntityTest {
         assertTrue(gameNode.isEmpty());
     }
 
+    @Test
+    void sceneDimensionsAreObtainedFromCanvasWhenRenderedOntoCanvas() {
+        // Arrange
+        var sut = new SpriteEntityImpl(DEFAULT_RESOURCE, DEFAULT_LOCATION, DEFAULT_SIZE);
+        var canvas = mock(Node.class);
+        var scene = mock(Scene.class);
+        when(canvas.getScene()).thenReturn(scene);
+        when(scene.getWidth()).thenReturn(640d);
+        when(scene.getHeight()).thenReturn(480d);
+
+        // Act
+        sut.setCanvas(canvas);
+
+        // Assert
+        assertEquals(640d, sut.getSceneWidth());
+        assertEquals(480d, sut.getSceneHeight());
+    }
+
     @Test
     void instantiatingASpriteEntityWithOneFrameGivesNoSideEffects() {
         // Arrange
@@ -93,7 +123,7 @@ class SpriteEntityTest {
             sut.setImageViewFactory(imageViewFactory);
 
             var image = mock(Image.class);
-            when(imageRepository.get(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+            when(imageRepository.getRegion(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(new ImageRegion(image));
             imageView = mock(ImageView.class);
             when(imageViewFactory.create(image)).thenReturn(imageView);
         }
@@ -132,7 +162,77 @@ class SpriteEntityTest {
             sut.init(injector);
 
             // Assert
-            verify(imageRepository).get(DEFAULT_RESOURCE, WIDTH, HEIGHT, false);
+            verify(imageRepository).getRegion(DEFAULT_RESOURCE, WIDTH, HEIGHT, false);
+        }
+
+        @Test
+        void viewportOfRegionInTextureAtlasIsAppliedToImageView() {
+            // Arrange
+            var atlas = mock(Image.class);
+            var viewport = new Rectangle2D(10, 20, WIDTH, HEIGHT);
+            when(imageRepository.getRegion(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(new ImageRegion(atlas, viewport));
+            when(imageViewFactory.create(atlas)).thenReturn(imageView);
+
+            // Act
+            sut.init(injector);
+
+            // Assert
+            verify(imageView).setViewport(viewport);
+        }
+
+        @Test
+        void pixelPerfectCollisionsUseMaskOfCurrentViewport() {
+            // Arrange
+            var image = mock(Image.class);
+            var viewport = new Rectangle2D(WIDTH, 0, WIDTH, HEIGHT);
+            var mask = CollisionMask.create(mock(PixelReader.class), 0, 0, WIDTH, HEIGHT);
+            when(imageView.getImage()).thenReturn(image);
+            when(imageView.getViewport()).thenReturn(viewport);
+            when(imageView.getLocalToSceneTransform()).thenReturn(new Translate(X_POSITION, Y_POSITION));
+            when(imageView.getBoundsInLocal()).thenReturn(new BoundingBox(0, 0, WIDTH, HEIGHT));
+            when(imageRepository.getCollisionMask(image, viewport)).thenReturn(Optional.of(mask));
+            sut.setPixelPerfectCollisions(true);
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getCollisionGeometry();
+
+            // Assert
+            assertEquals(CollisionGeometry.Type.MASK, actual.getType());
+            assertSame(mask, actual.getMask());
+            assertEquals(X_POSITION, actual.getMaskX());
+            assertEquals(Y_POSITION, actual.getMaskY());
+        }
+
+        @Test
+        void withoutPixelPerfectCollisionsNoMaskIsUsed() {
+            // Arrange
+            when(imageView.getLocalToSceneTransform()).thenReturn(new Translate(X_POSITION, Y_POSITION));
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getCollisionGeometry();
+
+            // Assert
+            assertEquals(CollisionGeometry.Type.BOUNDING_BOX, actual.getType());
+            verify(imageRepository, never()).getCollisionMask(any(), any());
+        }
+
+        @Test
+        void pixelPerfectCollisionsOfRotatedSpriteUseRotatedBounds() {
+            // Arrange
+            var mask = CollisionMask.create(mock(PixelReader.class), 0, 0, WIDTH, HEIGHT);
+            when(imageView.getLocalToSceneTransform()).thenReturn(new Rotate(30));
+            when(imageView.getBoundsInLocal()).thenReturn(new BoundingBox(0, 0, WIDTH, HEIGHT));
+            when(imageRepository.getCollisionMask(any(), any())).thenReturn(Optional.of(mask));
+            sut.setPixelPerfectCollisions(true);
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getCollisionGeometry();
+
+            // Assert
+            assertEquals(CollisionGeometry.Type.POLYGON, actual.getType());
         }
 
         @Test
@@ -161,7 +261,7 @@ class SpriteEntityTest {
             sut = new SpriteEntityImpl(DEFAULT_RESOURCE, DEFAULT_LOCATION, DEFAULT_SIZE, FRAMES);
 
             var image = mock(Image.class);
-            when(imageRepository.get(DEFAULT_RESOURCE, WIDTH * FRAMES, HEIGHT, true)).thenReturn(image);
+            when(imageRepository.getRegion(DEFAULT_RESOURCE, WIDTH * FRAMES, HEIGHT, true)).thenReturn(new ImageRegion(image));
             imageView = mock(ImageView.class);
             when(imageViewFactory.create(image)).thenReturn(imageView);
             when(spriteAnimationDelegateFactory.create(imageView, FRAMES)).thenReturn(spriteAnimationDelegate);
@@ -171,6 +271,17 @@ class SpriteEntityTest {
             sut.setImageViewFactory(imageViewFactory);
         }
 
+        @Test
+        void addToTextureAtlasRequestsImageContainingAllFrames() {
+            // Arrange
+
+            // Act
+            sut.addToTextureAtlas(imageRepository);
+
+            // Assert
+            verify(imageRepository).addToAtlas(DEFAULT_RESOURCE, WIDTH * FRAMES, HEIGHT, true);
+        }
+
         @Test
         void callingInitAfterInstantiatingWithDoubleFrameImageWiresDelegates() {
             // Arrange
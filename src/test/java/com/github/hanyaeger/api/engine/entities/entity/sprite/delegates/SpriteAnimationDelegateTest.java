@@ -132,4 +132,21 @@ class SpriteAnimationDelegateTest implements ResourceConsumer {
         // Assert
         verify(imageView, atLeast(3)).setViewport(any());
     }
+
+    @Test
+    void framesAreLocatedWithinExistingViewportOfTextureAtlas() {
+        // Arrange
+        var atlasImageView = mock(ImageView.class);
+        when(atlasImageView.getImage()).thenReturn(image);
+        when(atlasImageView.getViewport()).thenReturn(new Rectangle2D(200, 50, IMAGE_WIDTH, IMAGE_HEIGHT));
+        var argument = ArgumentCaptor.forClass(Rectangle2D.class);
+
+        // Act
+        var atlasSut = new SpriteAnimationDelegate(atlasImageView, FRAMES);
+        atlasSut.setSpriteIndex(1);
+
+        // Assert
+        verify(atlasImageView, times(2)).setViewport(argument.capture());
+        assertEquals(new Rectangle2D(200 + IMAGE_WIDTH / FRAMES, 50, IMAGE_WIDTH / FRAMES, IMAGE_HEIGHT), argument.getValue());
+    }
 }
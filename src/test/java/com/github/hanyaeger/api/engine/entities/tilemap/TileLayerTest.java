@@ -0,0 +1,184 @@
+package com.github.hanyaeger.api.engine.entities.tilemap;
+
+import com.github.hanyaeger.api.engine.Size;
+import com.github.hanyaeger.api.engine.entities.entity.Coordinate2D;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
+import com.google.inject.Injector;
+import javafx.collections.FXCollections;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TileLayerTest {
+
+    private static final String FLOOR = "waterworld/images/bubble.png";
+    private static final String WALL = "waterworld/images/poison.png";
+    private static final Coordinate2D LOCATION = new Coordinate2D(10, 20);
+    private static final Size SIZE = new Size(100, 50);
+    private static final Size TILE_SIZE = new Size(25, 25);
+
+    private Canvas canvas;
+    private GraphicsContext graphicsContext;
+    private ImageRepository imageRepository;
+    private TileLayer sut;
+
+    @BeforeEach
+    void setup() {
+        canvas = mock(Canvas.class);
+        graphicsContext = mock(GraphicsContext.class);
+        when(canvas.getGraphicsContext2D()).thenReturn(graphicsContext);
+        imageRepository = mock(ImageRepository.class);
+
+        sut = new TileLayer(LOCATION, SIZE, TILE_SIZE) {
+            @Override
+            Canvas createCanvas(final double width, final double height) {
+                return canvas;
+            }
+        };
+        sut.setImageRepository(imageRepository);
+    }
+
+    @Test
+    void nodeIsEmptyBeforeInit() {
+        // Arrange
+
+        // Act
+        var node = sut.getNode();
+
+        // Assert
+        assertTrue(node.isEmpty());
+    }
+
+    @Test
+    void initDrawsAllTilesOntoCanvas() {
+        // Arrange
+        var floor = mock(Image.class);
+        var wall = mock(Image.class);
+        when(imageRepository.get(FLOOR, TILE_SIZE.getWidth(), TILE_SIZE.getHeight(), false)).thenReturn(floor);
+        when(imageRepository.get(WALL, TILE_SIZE.getWidth(), TILE_SIZE.getHeight(), false)).thenReturn(wall);
+        sut.addTile(FLOOR, new Coordinate2D(0, 0));
+        sut.addTile(WALL, new Coordinate2D(25, 0));
+        sut.addTile(FLOOR, new Coordinate2D(50, 25));
+
+        // Act
+        sut.init(mock(Injector.class));
+
+        // Assert
+        verify(graphicsContext).drawImage(floor, 0, 0);
+        verify(graphicsContext).drawImage(wall, 25, 0);
+        verify(graphicsContext).drawImage(floor, 50, 25);
+        assertSame(canvas, sut.getNode().get());
+    }
+
+    @Test
+    void initSplitsLargeLayerIntoChunks() {
+        // Arrange
+        var chunks = new ArrayList<Canvas>();
+        var group = mock(Group.class);
+        when(group.getChildren()).thenReturn(FXCollections.observableArrayList());
+        var floor = mock(Image.class);
+        when(imageRepository.get(FLOOR, TILE_SIZE.getWidth(), TILE_SIZE.getHeight(), false)).thenReturn(floor);
+        var largeLayer = createLayerWithChunks(new Size(3000, 100), chunks, group);
+        largeLayer.addTile(FLOOR, new Coordinate2D(0, 0));
+        largeLayer.addTile(FLOOR, new Coordinate2D(2040, 25));
+
+        // Act
+        largeLayer.init(mock(Injector.class));
+
+        // Assert
+        assertEquals(2, chunks.size());
+        assertEquals(chunks, group.getChildren());
+        assertSame(group, largeLayer.getNode().get());
+        verify(chunks.get(1)).setLayoutX(TileLayer.MAXIMUM_CHUNK_SIZE);
+        verify(chunks.get(0).getGraphicsContext2D()).drawImage(floor, 0, 0);
+        verify(chunks.get(0).getGraphicsContext2D()).drawImage(floor, 2040, 25);
+        verify(chunks.get(1).getGraphicsContext2D()).drawImage(floor, -8, 25);
+    }
+
+    @Test
+    void initOmitsChunksWithoutTiles() {
+        // Arrange
+        var chunks = new ArrayList<Canvas>();
+        var group = mock(Group.class);
+        when(group.getChildren()).thenReturn(FXCollections.observableArrayList());
+        var largeLayer = createLayerWithChunks(new Size(5000, 5000), chunks, group);
+        largeLayer.addTile(FLOOR, new Coordinate2D(4500, 4500));
+
+        // Act
+        largeLayer.init(mock(Injector.class));
+
+        // Assert
+        assertEquals(1, chunks.size());
+        assertEquals(chunks, group.getChildren());
+        verify(chunks.get(0)).setLayoutX(2 * TileLayer.MAXIMUM_CHUNK_SIZE);
+        verify(chunks.get(0)).setLayoutY(2 * TileLayer.MAXIMUM_CHUNK_SIZE);
+    }
+
+    @Test
+    void imageOfEachTypeOfTileIsRequestedOnce() {
+        // Arrange
+        sut.addTile(FLOOR, new Coordinate2D(0, 0));
+        sut.addTile(FLOOR, new Coordinate2D(25, 0));
+        sut.addTile(FLOOR, new Coordinate2D(50, 0));
+
+        // Act
+        sut.init(mock(Injector.class));
+
+        // Assert
+        verify(imageRepository, times(1)).get(FLOOR, TILE_SIZE.getWidth(), TILE_SIZE.getHeight(), false);
+    }
+
+    @Test
+    void tileCountEqualsNumberOfAddedTiles() {
+        // Arrange
+        sut.addTile(FLOOR, new Coordinate2D(0, 0));
+        sut.addTile(WALL, new Coordinate2D(25, 0));
+
+        // Act
+        var tileCount = sut.getTileCount();
+
+        // Assert
+        assertEquals(2, tileCount);
+    }
+
+    @Test
+    void setAnchorLocationPlacesCanvas() {
+        // Arrange
+        sut.init(mock(Injector.class));
+
+        // Act
+        sut.setAnchorLocation(LOCATION);
+
+        // Assert
+        verify(canvas).setLayoutX(LOCATION.getX());
+        verify(canvas).setLayoutY(LOCATION.getY());
+    }
+
+    private TileLayer createLayerWithChunks(final Size size, final List<Canvas> chunks, final Group group) {
+        var layer = new TileLayer(LOCATION, size, TILE_SIZE) {
+            @Override
+            Canvas createCanvas(final double width, final double height) {
+                var chunk = mock(Canvas.class);
+                when(chunk.getGraphicsContext2D()).thenReturn(mock(GraphicsContext.class));
+                chunks.add(chunk);
+                return chunk;
+            }
+
+            @Override
+            Group createGroup() {
+                return group;
+            }
+        };
+        layer.setImageRepository(imageRepository);
+        return layer;
+    }
+}
@@ -308,6 +308,73 @@ class TileMapTest {
         assertEquals(SIZE.getWidth(), argument.getValue().getWidth());
     }
 
+    @Test
+    void staticTilesAreAddedAsSingleTileLayerBelowOtherEntities() {
+        // Arrange
+        var localSut = new TileMap(LOCATION, SIZE) {
+
+            @Override
+            public void setupEntities() {
+                addEntity(1, SpriteEntityOne.class);
+                addStaticTile(2, "waterworld/images/bubble.png");
+            }
+
+            @Override
+            public int[][] defineMap() {
+                int[][] map = {
+                        {2, 2, 2, 2},
+                        {2, 1, 2, 2}};
+                return map;
+            }
+        };
+
+        var entity = mock(YaegerEntity.class);
+        var tileFactory = mock(TileFactory.class);
+        when(tileFactory.create(any(), any(), any())).thenReturn(entity);
+
+        localSut.setTileFactory(tileFactory);
+
+        // Act
+        localSut.activate();
+
+        // Assert
+        verify(tileFactory, times(1)).create(any(), any(), any());
+        assertEquals(2, localSut.size());
+        assertTrue(localSut.get(0) instanceof TileLayer);
+        assertEquals(7, ((TileLayer) localSut.get(0)).getTileCount());
+        assertSame(entity, localSut.get(1));
+    }
+
+    @Test
+    void tileMapWithoutStaticTilesHasNoTileLayer() {
+        // Arrange
+        var localSut = new TileMap(LOCATION, SIZE) {
+
+            @Override
+            public void setupEntities() {
+                addEntity(1, SpriteEntityOne.class);
+            }
+
+            @Override
+            public int[][] defineMap() {
+                int[][] map = {
+                        {1, 1}};
+                return map;
+            }
+        };
+
+        var tileFactory = mock(TileFactory.class);
+        when(tileFactory.create(any(), any(), any())).thenReturn(mock(YaegerEntity.class));
+
+        localSut.setTileFactory(tileFactory);
+
+        // Act
+        localSut.activate();
+
+        // Assert
+        assertTrue(localSut.stream().noneMatch(TileLayer.class::isInstance));
+    }
+
     @Test
     void anchorPointIsAvailableThroughGetter() {
         // Arrange
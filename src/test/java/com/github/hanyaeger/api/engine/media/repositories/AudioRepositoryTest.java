@@ -1,5 +1,6 @@
 package com.github.hanyaeger.api.engine.media.repositories;
 
+import com.github.hanyaeger.api.engine.YaegerConfig;
 import javafx.scene.media.AudioClip;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -93,4 +94,21 @@ class AudioRepositoryTest {
         Assertions.assertNotSame(audioClip1, audioClip2);
         Assertions.assertEquals(2, audioRepository.size());
     }
+
+    @Test
+    void leastRecentlyUsedAudioClipIsEvictedWhenMaximumSizeIsExceeded() {
+        // Arrange
+        audioRepository.destroy();
+        audioRepository.setMaximumSize(1);
+        var evictions = audioRepository.getCacheStatistics().getEvictions();
+        audioRepository.get("waterworld/audio/waterworld.mp3");
+
+        // Act
+        audioRepository.get("waterworld/audio/waterworld.mp3", 2);
+
+        // Assert
+        Assertions.assertEquals(1, audioRepository.size());
+        Assertions.assertEquals(evictions + 1, audioRepository.getCacheStatistics().getEvictions());
+        audioRepository.setMaximumSize(YaegerConfig.DEFAULT_AUDIO_CACHE_SIZE);
+    }
 }
@@ -0,0 +1,115 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ImagePreloadTest {
+
+    private static final double DELTA = 0.000001d;
+
+    @Test
+    void preloadWithoutImagesIsCompletedImmediately() {
+        // Arrange
+
+        // Act
+        var sut = new ImagePreload(List.of());
+
+        // Assert
+        assertTrue(sut.isDone());
+        assertEquals(1, sut.getProgress(), DELTA);
+    }
+
+    @Test
+    void preloadOfLoadedImagesIsCompletedImmediately() {
+        // Arrange
+        var image = new LoadingImage(1);
+
+        // Act
+        var sut = new ImagePreload(List.of(image.image));
+
+        // Assert
+        assertTrue(sut.isDone());
+        assertFalse(sut.isCompletedExceptionally());
+    }
+
+    @Test
+    void progressIsAverageOfAllImages() {
+        // Arrange
+        var first = new LoadingImage(0);
+        var second = new LoadingImage(0);
+        var sut = new ImagePreload(List.of(first.image, second.image));
+
+        // Act
+        first.setProgress(1);
+        second.setProgress(0.5);
+
+        // Assert
+        assertEquals(0.75, sut.getProgress(), DELTA);
+        assertFalse(sut.isDone());
+    }
+
+    @Test
+    void preloadIsCompletedWhenAllImagesAreLoaded() {
+        // Arrange
+        var first = new LoadingImage(0);
+        var second = new LoadingImage(0);
+        var sut = new ImagePreload(List.of(first.image, second.image));
+
+        // Act
+        first.setProgress(1);
+        second.setProgress(1);
+
+        // Assert
+        assertTrue(sut.isDone());
+        assertEquals(1, sut.progressProperty().get(), DELTA);
+    }
+
+    @Test
+    void preloadIsCompletedExceptionallyWhenImageCanNotBeLoaded() {
+        // Arrange
+        var image = new LoadingImage(0);
+        var exception = new IllegalArgumentException();
+        when(image.image.getException()).thenReturn(exception);
+        var sut = new ImagePreload(List.of(image.image));
+
+        // Act
+        image.setError();
+
+        // Assert
+        assertTrue(sut.isCompletedExceptionally());
+        var thrown = assertThrows(ExecutionException.class, sut::get);
+        assertSame(exception, thrown.getCause());
+    }
+
+    private static class LoadingImage {
+
+        private final Image image = mock(Image.class);
+        private final SimpleDoubleProperty progress;
+        private final SimpleBooleanProperty error = new SimpleBooleanProperty();
+
+        LoadingImage(final double progress) {
+            this.progress = new SimpleDoubleProperty(progress);
+
+            when(image.progressProperty()).thenReturn(this.progress);
+            when(image.errorProperty()).thenReturn(error);
+            when(image.getProgress()).thenAnswer(invocation -> this.progress.get());
+            when(image.isError()).thenAnswer(invocation -> error.get());
+        }
+
+        void setProgress(final double progress) {
+            this.progress.set(progress);
+        }
+
+        void setError() {
+            error.set(true);
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.github.hanyaeger.api.engine.media.repositories;
 
 import com.github.hanyaeger.api.javafx.image.ImageFactory;
+import com.github.hanyaeger.api.javafx.image.ImageRegion;
+import com.github.hanyaeger.api.javafx.image.TextureAtlasBuilder;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 
@@ -109,5 +119,243 @@ class ImageRepositoryTest {
         Assertions.assertSame(firstImage, secondImage);
         Assertions.assertEquals(1, imageRepository.size());
     }
-}
 
+    @Test
+    void getRegionOfImageThatIsNotPackedCoversCompleteImage() {
+        // Arrange
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+
+        // Act
+        var region = imageRepository.getRegion("waterworld/images/bubble.png", 20, 20, true);
+
+        // Assert
+        Assertions.assertSame(image, region.getImage());
+        Assertions.assertTrue(region.getViewport().isEmpty());
+    }
+
+    @Test
+    void getRegionOfPackedImageReturnsRegionOfAtlas() {
+        // Arrange
+        TextureAtlasBuilder<ResourceKey> builder = mock(TextureAtlasBuilder.class);
+        var atlasRegion = new ImageRegion(mock(Image.class), new Rectangle2D(0, 0, 20, 20));
+        var sut = new ImageRepository() {
+            @Override
+            TextureAtlasBuilder<ResourceKey> createTextureAtlasBuilder() {
+                return builder;
+            }
+        };
+        sut.setFactory(imageFactory);
+        Image image = mock(Image.class);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(image);
+        sut.addToAtlas("waterworld/images/bubble.png", 20, 20, true);
+
+        var key = ArgumentCaptor.forClass(ResourceKey.class);
+        when(builder.build()).thenAnswer(invocation -> {
+            verify(builder).add(key.capture(), eq(image));
+            return Map.of(key.getValue(), atlasRegion);
+        });
+
+        // Act
+        sut.packAtlas();
+
+        // Assert
+        Assertions.assertSame(atlasRegion, sut.getRegion("waterworld/images/bubble.png", 20, 20, true));
+        Assertions.assertEquals(1, sut.atlasSize());
+    }
+
+    @Test
+    void packedAtlasPagesCountTowardsCacheWeightUntilReleased() {
+        // Arrange
+        TextureAtlasBuilder<ResourceKey> builder = mock(TextureAtlasBuilder.class);
+        Image page = mock(Image.class);
+        when(page.getWidth()).thenReturn(64d);
+        when(page.getHeight()).thenReturn(32d);
+        var sut = new ImageRepository() {
+            @Override
+            TextureAtlasBuilder<ResourceKey> createTextureAtlasBuilder() {
+                return builder;
+            }
+        };
+        sut.setFactory(imageFactory);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(mock(Image.class));
+        sut.addToAtlas("waterworld/images/bubble.png", 20, 20, true);
+        sut.addToAtlas("waterworld/images/poison.png", 20, 20, true);
+        when(builder.build()).thenReturn(Map.of(
+                new ResourceKey("waterworld/images/bubble.png", 20, 20, 1), new ImageRegion(page, new Rectangle2D(0, 0, 20, 20)),
+                new ResourceKey("waterworld/images/poison.png", 20, 20, 1), new ImageRegion(page, new Rectangle2D(20, 0, 20, 20))));
+        sut.packAtlas();
+
+        var packedWeight = sut.getCacheStatistics().getWeight();
+
+        // Act
+        sut.releaseAtlas();
+
+        // Assert
+        Assertions.assertEquals(64 * 32 * ImageRepository.BYTES_PER_PIXEL, packedWeight);
+        Assertions.assertEquals(0, sut.getCacheStatistics().getWeight());
+        Assertions.assertEquals(0, sut.atlasSize());
+        Assertions.assertTrue(sut.getRegion("waterworld/images/bubble.png", 20, 20, true).getViewport().isEmpty());
+    }
+
+    @Test
+    void packAtlasWithoutImagesDoesNotCreateAtlas() {
+        // Arrange
+
+        // Act
+        imageRepository.packAtlas();
+
+        // Assert
+        Assertions.assertEquals(0, imageRepository.atlasSize());
+    }
+
+    @Test
+    void preloadLoadsImagesInBackgroundAndMakesThemAvailable() {
+        // Arrange
+        Image image = mock(Image.class);
+        when(image.progressProperty()).thenReturn(new SimpleDoubleProperty(1));
+        when(image.errorProperty()).thenReturn(new SimpleBooleanProperty());
+        when(image.getProgress()).thenReturn(1d);
+        when(imageFactory.createInBackground(anyString())).thenReturn(image);
+
+        // Act
+        var preload = imageRepository.preload(List.of("waterworld/images/bubble.png"));
+
+        // Assert
+        Assertions.assertTrue(preload.isDone());
+        Assertions.assertSame(image, imageRepository.get("waterworld/images/bubble.png"));
+        verify(imageFactory, never()).create(anyString());
+    }
+
+    @Test
+    void preloadedImageIsWeighedAgainWhenLoaded() {
+        // Arrange
+        Image image = mock(Image.class);
+        var progress = new SimpleDoubleProperty(0);
+        when(image.progressProperty()).thenReturn(progress);
+        when(image.errorProperty()).thenReturn(new SimpleBooleanProperty());
+        when(imageFactory.createInBackground(anyString())).thenReturn(image);
+        imageRepository.preload(List.of("waterworld/images/bubble.png"));
+        when(image.getWidth()).thenReturn(10d);
+        when(image.getHeight()).thenReturn(20d);
+
+        // Act
+        progress.set(1);
+
+        // Assert
+        Assertions.assertEquals(10 * 20 * ImageRepository.BYTES_PER_PIXEL, imageRepository.getCacheStatistics().getWeight());
+    }
+
+    @Test
+    void preloadDoesNotLoadAvailableImagesAgain() {
+        // Arrange
+        Image image = mock(Image.class);
+        when(image.progressProperty()).thenReturn(new SimpleDoubleProperty(1));
+        when(image.errorProperty()).thenReturn(new SimpleBooleanProperty());
+        when(image.getProgress()).thenReturn(1d);
+        when(imageFactory.create(anyString())).thenReturn(image);
+        imageRepository.get("waterworld/images/bubble.png");
+
+        // Act
+        imageRepository.preload(List.of("waterworld/images/bubble.png"));
+
+        // Assert
+        verify(imageFactory, never()).createInBackground(anyString());
+    }
+
+    @Test
+    void leastRecentlyUsedImageIsEvictedWhenMaximumSizeIsExceeded() {
+        // Arrange
+        Image first = mock(Image.class);
+        Image second = mock(Image.class);
+        when(first.getWidth()).thenReturn(10d);
+        when(first.getHeight()).thenReturn(10d);
+        when(second.getWidth()).thenReturn(10d);
+        when(second.getHeight()).thenReturn(10d);
+        when(imageFactory.create(anyString(), anyDouble(), anyDouble(), anyBoolean())).thenReturn(first, second);
+        imageRepository.setMaximumSize(10 * 10 * ImageRepository.BYTES_PER_PIXEL);
+        imageRepository.get("waterworld/images/bubble.png", 10, 10, true);
+
+        // Act
+        imageRepository.get("waterworld/images/bubble.png", 10, 10, false);
+
+        // Assert
+        Assertions.assertEquals(1, imageRepository.size());
+        var statistics = imageRepository.getCacheStatistics();
+        Assertions.assertEquals(1, statistics.getEvictions());
+        Assertions.assertEquals(10 * 10 * ImageRepository.BYTES_PER_PIXEL, statistics.getWeight());
+    }
+
+    @Test
+    void cacheStatisticsCountHitsAndMisses() {
+        // Arrange
+        when(imageFactory.create(anyString())).thenReturn(mock(Image.class));
+
+        // Act
+        imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/bubble.png");
+        imageRepository.get("waterworld/images/bubble.png");
+
+        // Assert
+        var statistics = imageRepository.getCacheStatistics();
+        Assertions.assertEquals(2, statistics.getHits());
+        Assertions.assertEquals(1, statistics.getMisses());
+    }
+
+    @Test
+    void getCollisionMaskIsCachedPerImageAndViewport() {
+        // Arrange
+        var image = loadedImage();
+        var viewport = new Rectangle2D(2, 0, 2, 2);
+
+        // Act
+        var first = imageRepository.getCollisionMask(image, viewport);
+        var second = imageRepository.getCollisionMask(image, new Rectangle2D(2, 0, 2, 2));
+        var complete = imageRepository.getCollisionMask(image, null);
+
+        // Assert
+        Assertions.assertSame(first.get(), second.get());
+        Assertions.assertNotSame(first.get(), complete.get());
+        Assertions.assertEquals(2, first.get().getWidth());
+        Assertions.assertEquals(4, complete.get().getWidth());
+        verify(image.getPixelReader(), times(2 * 2 + 4 * 2)).getArgb(anyInt(), anyInt());
+    }
+
+    @Test
+    void getCollisionMaskOfLoadingImageIsEmpty() {
+        // Arrange
+        var image = loadedImage();
+        when(image.getProgress()).thenReturn(0.5);
+
+        // Act
+        var actual = imageRepository.getCollisionMask(image, null);
+
+        // Assert
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void afterDestroyCollisionMasksAreCreatedAgain() {
+        // Arrange
+        var image = loadedImage();
+        var first = imageRepository.getCollisionMask(image, null);
+
+        // Act
+        imageRepository.destroy();
+        var second = imageRepository.getCollisionMask(image, null);
+
+        // Assert
+        Assertions.assertNotSame(first.get(), second.get());
+    }
+
+    private Image loadedImage() {
+        var image = mock(Image.class);
+        var reader = mock(PixelReader.class);
+        when(image.getProgress()).thenReturn(1d);
+        when(image.isError()).thenReturn(false);
+        when(image.getPixelReader()).thenReturn(reader);
+        when(image.getWidth()).thenReturn(4d);
+        when(image.getHeight()).thenReturn(2d);
+        return image;
+    }
+}
@@ -0,0 +1,205 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceCacheTest {
+
+    private static final long MAXIMUM_WEIGHT = 10;
+
+    private Map<String, Long> weights;
+    private ResourceCache<String> sut;
+
+    @BeforeEach
+    void setup() {
+        weights = new HashMap<>();
+        sut = new ResourceCache<>(value -> weights.getOrDefault(value, 1L), MAXIMUM_WEIGHT);
+    }
+
+    @Test
+    void getCreatesResourceOnMiss() {
+        // Arrange
+
+        // Act
+        var actual = sut.get(new ResourceKey("key"), ResourceKey::getUrl);
+
+        // Assert
+        assertEquals("key", actual);
+        assertEquals(1, sut.size());
+        assertEquals(1, sut.getStatistics().getMisses());
+        assertEquals(0, sut.getStatistics().getHits());
+    }
+
+    @Test
+    void getReturnsCachedResourceOnHit() {
+        // Arrange
+        var cached = sut.get(new ResourceKey("key"), key -> new String("value"));
+
+        // Act
+        var actual = sut.get(new ResourceKey("key"), key -> new String("value"));
+
+        // Assert
+        assertSame(cached, actual);
+        assertEquals(1, sut.getStatistics().getHits());
+        assertEquals(1, sut.getStatistics().getMisses());
+    }
+
+    @Test
+    void leastRecentlyUsedResourceIsEvictedWhenMaximumWeightIsExceeded() {
+        // Arrange
+        weights.put("a", 4L);
+        weights.put("b", 4L);
+        weights.put("c", 4L);
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+        sut.get(new ResourceKey("b"), ResourceKey::getUrl);
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+
+        // Act
+        sut.get(new ResourceKey("c"), ResourceKey::getUrl);
+
+        // Assert
+        assertEquals("a", sut.peek(new ResourceKey("a")));
+        assertNull(sut.peek(new ResourceKey("b")));
+        assertEquals("c", sut.peek(new ResourceKey("c")));
+        assertEquals(8, sut.getStatistics().getWeight());
+        assertEquals(1, sut.getStatistics().getEvictions());
+    }
+
+    @Test
+    void resourceHeavierThanMaximumWeightIsRetainedByItself() {
+        // Arrange
+        weights.put("large", MAXIMUM_WEIGHT * 2);
+        sut.get(new ResourceKey("small"), ResourceKey::getUrl);
+
+        // Act
+        sut.get(new ResourceKey("large"), ResourceKey::getUrl);
+
+        // Assert
+        assertEquals(1, sut.size());
+        assertEquals("large", sut.peek(new ResourceKey("large")));
+    }
+
+    @Test
+    void changedWeightIsTakenIntoAccountOnHit() {
+        // Arrange
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+        sut.get(new ResourceKey("b"), ResourceKey::getUrl);
+        weights.put("b", MAXIMUM_WEIGHT);
+
+        // Act
+        sut.get(new ResourceKey("b"), ResourceKey::getUrl);
+
+        // Assert
+        assertNull(sut.peek(new ResourceKey("a")));
+        assertEquals(MAXIMUM_WEIGHT, sut.getStatistics().getWeight());
+    }
+
+    @Test
+    void loweringMaximumWeightEvictsResources() {
+        // Arrange
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+        sut.get(new ResourceKey("b"), ResourceKey::getUrl);
+        sut.get(new ResourceKey("c"), ResourceKey::getUrl);
+
+        // Act
+        sut.setMaximumWeight(2);
+
+        // Assert
+        assertEquals(2, sut.size());
+        assertNull(sut.peek(new ResourceKey("a")));
+        assertEquals(2, sut.getStatistics().getMaximumWeight());
+    }
+
+    @Test
+    void maximumWeightOfZeroMeansUnbounded() {
+        // Arrange
+        sut.setMaximumWeight(0);
+
+        // Act
+        for (var i = 0; i < MAXIMUM_WEIGHT * 2; i++) {
+            sut.get(new ResourceKey("key" + i), ResourceKey::getUrl);
+        }
+
+        // Assert
+        assertEquals(MAXIMUM_WEIGHT * 2, sut.size());
+        assertEquals(0, sut.getStatistics().getEvictions());
+    }
+
+    @Test
+    void putReplacesWeightOfPreviousResource() {
+        // Arrange
+        weights.put("heavy", 5L);
+        sut.put(new ResourceKey("key"), "heavy");
+
+        // Act
+        sut.put(new ResourceKey("key"), "light");
+
+        // Assert
+        assertEquals(1, sut.getStatistics().getWeight());
+        assertEquals("light", sut.peek(new ResourceKey("key")));
+    }
+
+    @Test
+    void reservedWeightEvictsResourcesAndCountsTowardsWeight() {
+        // Arrange
+        weights.put("a", 4L);
+        weights.put("b", 4L);
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+        sut.get(new ResourceKey("b"), ResourceKey::getUrl);
+
+        // Act
+        sut.setReservedWeight(5);
+
+        // Assert
+        assertNull(sut.peek(new ResourceKey("a")));
+        assertEquals("b", sut.peek(new ResourceKey("b")));
+        assertEquals(9, sut.getStatistics().getWeight());
+        assertEquals(1, sut.getStatistics().getEvictions());
+    }
+
+    @Test
+    void reweighTakesChangedWeightIntoAccount() {
+        // Arrange
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+        weights.put("a", 6L);
+
+        // Act
+        sut.reweigh(new ResourceKey("a"), "a");
+
+        // Assert
+        assertEquals(6, sut.getStatistics().getWeight());
+        assertEquals(0, sut.getStatistics().getHits());
+    }
+
+    @Test
+    void reweighIgnoresResourceThatIsNoLongerCached() {
+        // Arrange
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+        weights.put("b", 6L);
+
+        // Act
+        sut.reweigh(new ResourceKey("a"), "b");
+
+        // Assert
+        assertEquals(1, sut.getStatistics().getWeight());
+    }
+
+    @Test
+    void clearRemovesAllResourcesButRetainsCounters() {
+        // Arrange
+        sut.get(new ResourceKey("a"), ResourceKey::getUrl);
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.size());
+        assertEquals(0, sut.getStatistics().getWeight());
+        assertEquals(1, sut.getStatistics().getMisses());
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.hanyaeger.api.engine.media.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceKeyTest {
+
+    private static final String URL = "waterworld/images/bubble.png";
+
+    @Test
+    void keysWithSameContentAreEqual() {
+        // Arrange
+        var sut = new ResourceKey(URL, 20, 30, 1);
+        var other = new ResourceKey(new String(URL), 20, 30, 1);
+
+        // Act
+        var equal = sut.equals(other);
+
+        // Assert
+        assertTrue(equal);
+        assertEquals(sut.hashCode(), other.hashCode());
+    }
+
+    @Test
+    void keysWithDifferentSizeAreNotEqual() {
+        // Arrange
+        var sut = new ResourceKey(URL, 20, 30, 1);
+        var other = new ResourceKey(URL, 30, 20, 1);
+
+        // Act
+        var equal = sut.equals(other);
+
+        // Assert
+        assertFalse(equal);
+    }
+
+    @Test
+    void keysWithDifferentOptionsAreNotEqual() {
+        // Arrange
+        var sut = new ResourceKey(URL, 20, 30, 1);
+        var other = new ResourceKey(URL, 20, 30, 0);
+
+        // Act
+        var equal = sut.equals(other);
+
+        // Assert
+        assertFalse(equal);
+    }
+
+    @Test
+    void keyWithoutSizeDiffersFromKeyWithSizeZero() {
+        // Arrange
+        var sut = new ResourceKey(URL);
+        var other = new ResourceKey(URL, 0, 0, 0);
+
+        // Act
+        var equal = sut.equals(other);
+
+        // Assert
+        assertFalse(equal);
+        assertEquals(URL, sut.getUrl());
+    }
+
+    @Test
+    void equalsFailsWithNull() {
+        // Arrange
+        var sut = new ResourceKey(URL);
+
+        // Act
+        var equal = sut.equals(null);
+
+        // Assert
+        assertFalse(equal);
+    }
+}
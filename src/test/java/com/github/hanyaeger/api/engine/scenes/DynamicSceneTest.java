@@ -7,6 +7,7 @@ import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.debug.Debugger;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.EntitySupplier;
+import com.github.hanyaeger.api.engine.entities.entity.collisions.CollisionStrategy;
 import com.github.hanyaeger.api.engine.scenes.delegates.BackgroundDelegate;
 import com.github.hanyaeger.api.engine.scenes.delegates.KeyListenerDelegate;
 import com.github.hanyaeger.api.guice.factories.EntityCollectionFactory;
@@ -155,6 +156,176 @@ class DynamicSceneTest {
         verify(entityCollection).update(0L);
     }
 
+    @Test
+    void activateAppliesDefaultCollisionStrategy() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setCollisionStrategy(CollisionStrategy.UNIFORM_GRID);
+    }
+
+    @Test
+    void activateDisablesParallelUpdateByDefault() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setParallelUpdate(false);
+    }
+
+    @Test
+    void parallelUpdateSetBeforeActivateIsApplied() {
+        // Arrange
+        sut.setParallelUpdate(true);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setParallelUpdate(true);
+    }
+
+    @Test
+    void activateDoesNotEnableCanvasRenderingByDefault() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection, never()).enableCanvasRendering();
+    }
+
+    @Test
+    void canvasRenderingSetBeforeActivateIsApplied() {
+        // Arrange
+        sut.setCanvasRendering(true);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).enableCanvasRendering();
+    }
+
+    @Test
+    void updateRendersAfterFixedTimestepInterpolation() {
+        // Arrange
+        sut.setFixedTimestep(60);
+        sut.activate();
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        var inOrder = inOrder(entityCollection);
+        inOrder.verify(entityCollection).interpolate(1);
+        inOrder.verify(entityCollection).render();
+    }
+
+    @Test
+    void updateIsMeasuredAsSingleFrame() {
+        // Arrange
+        sut.activate();
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        var inOrder = inOrder(entityCollection, updater);
+        inOrder.verify(entityCollection).startFrame(TIMESTAMP);
+        inOrder.verify(updater).update(TIMESTAMP);
+        inOrder.verify(entityCollection).render();
+        inOrder.verify(entityCollection).endFrame();
+    }
+
+    @Test
+    void collisionStrategySetBeforeActivateIsApplied() {
+        // Arrange
+        sut.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setCollisionStrategy(CollisionStrategy.AABB_TREE);
+    }
+
+    @Test
+    void collisionStrategySetAfterActivateIsApplied() {
+        // Arrange
+        sut.activate();
+
+        // Act
+        sut.setCollisionStrategy(CollisionStrategy.BRUTE_FORCE);
+
+        // Assert
+        verify(entityCollection).setCollisionStrategy(CollisionStrategy.BRUTE_FORCE);
+    }
+
+    @Test
+    void activateCreatesAnimationTimer() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(animationTimerFactory).create(any());
+        verify(animationTimer).start();
+    }
+
+    @Test
+    void activateCreatesHeadlessAnimationTimerWhenHeadless() {
+        // Arrange
+        var headlessAnimationTimer = mock(AnimationTimer.class);
+        when(config.isHeadless()).thenReturn(true);
+        when(animationTimerFactory.createHeadless(any())).thenReturn(headlessAnimationTimer);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(animationTimerFactory, never()).create(any());
+        verify(headlessAnimationTimer).start();
+    }
+
+    @Test
+    void updateWithFixedTimestepStoresPreviousLocationsBeforeUpdating() {
+        // Arrange
+        sut.setFixedTimestep(60);
+        sut.activate();
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        var inOrder = inOrder(entityCollection, updater);
+        inOrder.verify(entityCollection).storePreviousLocations();
+        inOrder.verify(updater).update(TIMESTAMP);
+        inOrder.verify(entityCollection).interpolate(1);
+    }
+
+    @Test
+    void updateWithFixedTimestepSkipsUpdateWithinSingleStep() {
+        // Arrange
+        sut.setFixedTimestep(60);
+        sut.activate();
+        sut.update(TIMESTAMP);
+
+        // Act
+        sut.update(TIMESTAMP + 1_000_000L);
+
+        // Assert
+        verify(updater, times(1)).update(anyLong());
+        verify(entityCollection, times(2)).interpolate(anyDouble());
+    }
+
     @Test
     void setUpdaterIsUsed() {
         // Arrange
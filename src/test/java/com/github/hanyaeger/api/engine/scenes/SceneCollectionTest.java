@@ -3,6 +3,8 @@ package com.github.hanyaeger.api.engine.scenes;
 import com.github.hanyaeger.api.engine.YaegerConfig;
 import com.github.hanyaeger.api.engine.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.engine.exceptions.YaegerSceneNotAvailableException;
+import com.github.hanyaeger.api.engine.media.repositories.ImagePreload;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import com.github.hanyaeger.api.engine.scenes.splash.SplashScene;
 import com.github.hanyaeger.api.engine.scenes.splash.SplashScreenFactory;
 import com.google.inject.Injector;
@@ -13,6 +15,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.List;
+import java.util.function.BiConsumer;
+
 import static org.mockito.Mockito.*;
 
 class SceneCollectionTest {
@@ -255,6 +260,121 @@ class SceneCollectionTest {
         verify(intro).destroy();
     }
 
+    @Test
+    void postSetupScenesPreloadsImagesOfAllScenes() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        sut.setImageRepository(imageRepository);
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class);
+        when(level1.getImagesToPreload()).thenReturn(List.of("background.png"));
+        when(imageRepository.preload(any())).thenReturn(mock(ImagePreload.class));
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+
+        // Act
+        sut.postSetupScenes();
+
+        // Verify
+        verify(imageRepository).preload(List.of("background.png"));
+    }
+
+    @Test
+    void selectingSceneWithLoadingImagesKeepsCurrentSceneActiveUntilLoaded() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        sut.setImageRepository(imageRepository);
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class);
+        when(level1.getImagesToPreload()).thenReturn(List.of("background.png"));
+        var preload = mock(ImagePreload.class);
+        when(preload.isDone()).thenReturn(false);
+        when(imageRepository.preload(any())).thenReturn(preload);
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(0);
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        Assertions.assertEquals(intro, sut.getActiveScene());
+        verify(intro, never()).destroy();
+
+        ArgumentCaptor<BiConsumer<Void, Throwable>> onLoaded = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(preload).whenComplete(onLoaded.capture());
+        onLoaded.getValue().accept(null, null);
+
+        Assertions.assertEquals(level1, sut.getActiveScene());
+        verify(intro).destroy();
+    }
+
+    @Test
+    void selectingSceneWithLoadedImagesActivatesSceneImmediately() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        sut.setImageRepository(imageRepository);
+        var level1 = mock(YaegerScene.class);
+        when(level1.getImagesToPreload()).thenReturn(List.of("background.png"));
+        var preload = mock(ImagePreload.class);
+        when(preload.isDone()).thenReturn(true);
+        when(imageRepository.preload(any())).thenReturn(preload);
+        sut.addScene(1, level1);
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        Assertions.assertEquals(level1, sut.getActiveScene());
+    }
+
+    @Test
+    void preloadIsReleasedOnceSceneIsActivated() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        sut.setImageRepository(imageRepository);
+        var level1 = mock(YaegerScene.class);
+        when(level1.getImagesToPreload()).thenReturn(List.of("background.png"));
+        var preload = mock(ImagePreload.class);
+        when(preload.isDone()).thenReturn(true);
+        when(imageRepository.preload(any())).thenReturn(preload);
+        sut.addScene(1, level1);
+        sut.postSetupScenes();
+        sut.setActive(1);
+
+        // Act
+        sut.setActive(1);
+
+        // Verify
+        verify(imageRepository, times(2)).preload(List.of("background.png"));
+    }
+
+    @Test
+    void loadedSceneIsNotActivatedWhenOtherSceneWasSelectedMeanwhile() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        sut.setImageRepository(imageRepository);
+        var intro = mock(YaegerScene.class);
+        var level1 = mock(YaegerScene.class);
+        when(level1.getImagesToPreload()).thenReturn(List.of("background.png"));
+        var preload = mock(ImagePreload.class);
+        when(imageRepository.preload(any())).thenReturn(preload);
+        sut.addScene(0, intro);
+        sut.addScene(1, level1);
+        sut.setActive(1);
+        sut.setActive(0);
+
+        ArgumentCaptor<BiConsumer<Void, Throwable>> onLoaded = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(preload).whenComplete(onLoaded.capture());
+
+        // Act
+        onLoaded.getValue().accept(null, null);
+
+        // Verify
+        Assertions.assertEquals(intro, sut.getActiveScene());
+        verify(level1, never()).activate();
+    }
+
     @Test
     void equalsSucceedsWithSameInstance() {
         // Arrange
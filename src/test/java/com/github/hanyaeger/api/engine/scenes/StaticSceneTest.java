@@ -18,6 +18,8 @@ import javafx.stage.Stage;
 import com.github.hanyaeger.api.engine.entities.EntityCollection;
 import com.github.hanyaeger.api.engine.entities.entity.YaegerEntity;
 import com.github.hanyaeger.api.engine.entities.entity.events.userinput.KeyListener;
+import com.github.hanyaeger.api.engine.entities.entity.sprite.SpriteEntity;
+import com.github.hanyaeger.api.engine.media.repositories.ImageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -186,6 +188,7 @@ class StaticSceneTest {
         // Verify
         verify(keyListenerDelegate).tearDown(scene);
         verify(backgroundDelegate).destroy();
+        verify(entityCollection).clear();
         verify(children).clear();
     }
 
@@ -402,6 +405,60 @@ class StaticSceneTest {
         verify(debugger).toFront();
     }
 
+    @Test
+    void postActivationPacksImagesOfSpritesIntoTextureAtlasBeforeInitialUpdate() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        var spriteEntity = mock(SpriteEntity.class);
+        doCallRealMethod().when(spriteEntity).applyEntityProcessor(any());
+        var supplier = new EntitySupplier();
+        supplier.add(spriteEntity);
+        sut.setEntitySupplier(supplier);
+        sut.setImageRepository(imageRepository);
+        sut.setTextureAtlas(true);
+        sut.activate();
+
+        // Act
+        sut.postActivate();
+
+        // Verify
+        var inOrder = inOrder(spriteEntity, imageRepository, entityCollection);
+        inOrder.verify(spriteEntity).addToTextureAtlas(imageRepository);
+        inOrder.verify(imageRepository).packAtlas();
+        inOrder.verify(entityCollection).initialUpdate();
+    }
+
+    @Test
+    void postActivationDoesNotPackTextureAtlasByDefault() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        sut.setImageRepository(imageRepository);
+        sut.activate();
+
+        // Act
+        sut.postActivate();
+
+        // Verify
+        verifyNoInteractions(imageRepository);
+    }
+
+    @Test
+    void destroyReleasesTextureAtlas() {
+        // Arrange
+        var imageRepository = mock(ImageRepository.class);
+        var children = mock(ObservableList.class);
+        when(pane.getChildren()).thenReturn(children);
+        sut.setImageRepository(imageRepository);
+        sut.setTextureAtlas(true);
+        sut.activate();
+
+        // Act
+        sut.destroy();
+
+        // Verify
+        verify(imageRepository).releaseAtlas();
+    }
+
     private class StaticSceneImpl extends StaticScene {
 
         @Override
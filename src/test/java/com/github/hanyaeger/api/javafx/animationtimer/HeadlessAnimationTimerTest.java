@@ -0,0 +1,118 @@
+package com.github.hanyaeger.api.javafx.animationtimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessAnimationTimerTest {
+
+    private Deque<Runnable> scheduled;
+    private List<Long> timestamps;
+    private HeadlessAnimationTimer sut;
+
+    @BeforeEach
+    void setup() {
+        scheduled = new ArrayDeque<>();
+        timestamps = new ArrayList<>();
+        sut = new HeadlessAnimationTimer(timestamps::add, scheduled::add);
+    }
+
+    @Test
+    void startSchedulesBatch() {
+        // Arrange
+
+        // Act
+        sut.start();
+
+        // Assert
+        assertEquals(1, scheduled.size());
+        assertTrue(timestamps.isEmpty());
+    }
+
+    @Test
+    void batchCallsHandlerWithSyntheticTimestamps() {
+        // Arrange
+        sut.start();
+
+        // Act
+        scheduled.poll().run();
+
+        // Assert
+        assertEquals(HeadlessAnimationTimer.TICKS_PER_BATCH, timestamps.size());
+        for (var i = 0; i < timestamps.size(); i++) {
+            assertEquals((i + 1) * HeadlessAnimationTimer.TICK_DURATION, timestamps.get(i));
+        }
+        assertEquals(timestamps.get(timestamps.size() - 1), sut.getTimestamp());
+    }
+
+    @Test
+    void batchSchedulesNextBatch() {
+        // Arrange
+        sut.start();
+
+        // Act
+        scheduled.poll().run();
+        scheduled.poll().run();
+
+        // Assert
+        assertEquals(2 * HeadlessAnimationTimer.TICKS_PER_BATCH, timestamps.size());
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    void stopBeforeBatchPreventsTicks() {
+        // Arrange
+        sut.start();
+
+        // Act
+        sut.stop();
+        scheduled.poll().run();
+
+        // Assert
+        assertTrue(timestamps.isEmpty());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    void stopFromHandlerEndsBatch() {
+        // Arrange
+        var timers = new ArrayList<HeadlessAnimationTimer>();
+        sut = new HeadlessAnimationTimer(timestamp -> {
+            timestamps.add(timestamp);
+            if (timestamps.size() == 3) {
+                timers.get(0).stop();
+            }
+        }, scheduled::add);
+        timers.add(sut);
+        sut.start();
+
+        // Act
+        scheduled.poll().run();
+
+        // Assert
+        assertEquals(3, timestamps.size());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    void restartDoesNotScheduleTwoBatches() {
+        // Arrange
+        sut.start();
+
+        // Act
+        sut.stop();
+        sut.start();
+        scheduled.poll().run();
+        scheduled.poll().run();
+
+        // Assert
+        assertEquals(HeadlessAnimationTimer.TICKS_PER_BATCH, timestamps.size());
+        assertEquals(1, scheduled.size());
+    }
+}
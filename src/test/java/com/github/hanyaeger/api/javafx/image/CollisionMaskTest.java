@@ -0,0 +1,130 @@
+package com.github.hanyaeger.api.javafx.image;
+
+import javafx.scene.image.PixelReader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CollisionMaskTest {
+
+    private static final int OPAQUE = 0xFF000000;
+    private static final int TRANSPARENT = 0x00FFFFFF;
+
+    @Test
+    void createMarksOpaquePixels() {
+        // Arrange
+        var reader = singlePixelReader(3, 1);
+
+        // Act
+        var sut = CollisionMask.create(reader, 0, 0, 4, 2);
+
+        // Assert
+        assertEquals(4, sut.getWidth());
+        assertEquals(2, sut.getHeight());
+        assertTrue(sut.isSet(3, 1));
+        assertFalse(sut.isSet(2, 1));
+        assertFalse(sut.isSet(3, 0));
+    }
+
+    @Test
+    void createReadsFromRegion() {
+        // Arrange
+        var reader = singlePixelReader(12, 5);
+
+        // Act
+        var sut = CollisionMask.create(reader, 10, 5, 4, 4);
+
+        // Assert
+        assertTrue(sut.isSet(2, 0));
+    }
+
+    @Test
+    void isSetOutsideMaskIsFalse() {
+        // Arrange
+        var sut = CollisionMask.create(opaqueReader(), 0, 0, 2, 2);
+
+        // Act
+        var actual = sut.isSet(2, 0);
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void intersectsRowFindsPixelBeyondFirstWord() {
+        // Arrange
+        var sut = CollisionMask.create(singlePixelReader(100, 0), 0, 0, 130, 1);
+
+        // Act & Assert
+        assertTrue(sut.intersectsRow(0, 60, 100));
+        assertTrue(sut.intersectsRow(0, 100, 100));
+        assertFalse(sut.intersectsRow(0, 0, 99));
+        assertFalse(sut.intersectsRow(0, 101, 200));
+    }
+
+    @Test
+    void intersectsRowOutsideMaskIsFalse() {
+        // Arrange
+        var sut = CollisionMask.create(opaqueReader(), 0, 0, 4, 4);
+
+        // Act & Assert
+        assertFalse(sut.intersectsRow(-1, 0, 3));
+        assertFalse(sut.intersectsRow(4, 0, 3));
+        assertFalse(sut.intersectsRow(0, 4, 10));
+    }
+
+    @Test
+    void masksWithOverlappingOpaquePixelsIntersect() {
+        // Arrange
+        var sut = CollisionMask.create(singlePixelReader(70, 3), 0, 0, 80, 8);
+        var other = CollisionMask.create(singlePixelReader(5, 1), 0, 0, 10, 10);
+
+        // Act
+        var actual = sut.intersects(other, 65, 2);
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    @Test
+    void masksWithOverlappingTransparentPixelsDoNotIntersect() {
+        // Arrange
+        var sut = CollisionMask.create(singlePixelReader(70, 3), 0, 0, 80, 8);
+        var other = CollisionMask.create(singlePixelReader(5, 1), 0, 0, 10, 10);
+
+        // Act
+        var actual = sut.intersects(other, 66, 2);
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void masksWithNegativeOffsetIntersect() {
+        // Arrange
+        var sut = CollisionMask.create(singlePixelReader(0, 0), 0, 0, 4, 4);
+        var other = CollisionMask.create(singlePixelReader(3, 2), 0, 0, 4, 4);
+
+        // Act
+        var actual = sut.intersects(other, -3, -2);
+
+        // Assert
+        assertTrue(actual);
+    }
+
+    private PixelReader opaqueReader() {
+        var reader = mock(PixelReader.class);
+        when(reader.getArgb(anyInt(), anyInt())).thenReturn(OPAQUE);
+        return reader;
+    }
+
+    private PixelReader singlePixelReader(final int x, final int y) {
+        var reader = mock(PixelReader.class);
+        when(reader.getArgb(anyInt(), anyInt())).thenAnswer(invocation ->
+                invocation.getArgument(0).equals(x) && invocation.getArgument(1).equals(y) ? OPAQUE : TRANSPARENT);
+        return reader;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.hanyaeger.api.javafx.image;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ImageRegionTest {
+
+    @Test
+    void regionOfCompleteImageHasNoViewport() {
+        // Arrange
+        var image = mock(Image.class);
+
+        // Act
+        var sut = new ImageRegion(image);
+
+        // Assert
+        assertSame(image, sut.getImage());
+        assertTrue(sut.getViewport().isEmpty());
+    }
+
+    @Test
+    void applyToSetsImageAndViewport() {
+        // Arrange
+        var image = mock(Image.class);
+        var viewport = new Rectangle2D(10, 20, 30, 40);
+        var imageView = mock(ImageView.class);
+        var sut = new ImageRegion(image, viewport);
+
+        // Act
+        sut.applyTo(imageView);
+
+        // Assert
+        verify(imageView).setImage(image);
+        verify(imageView).setViewport(viewport);
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.hanyaeger.api.javafx.image;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TextureAtlasBuilderTest {
+
+    private static final int PAGE_SIZE = 64;
+
+    private TextureAtlasBuilderImpl sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new TextureAtlasBuilderImpl(PAGE_SIZE);
+    }
+
+    @Test
+    void pageSizeOfZeroThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TextureAtlasBuilder<String>(0));
+    }
+
+    @Test
+    void imagesArePackedNextToEachOtherOnSingleAtlas() {
+        // Arrange
+        sut.add("a", createImage(10, 20));
+        sut.add("b", createImage(30, 10));
+
+        // Act
+        var regions = sut.build();
+
+        // Assert
+        assertEquals(1, sut.pages.size());
+        var atlas = sut.pages.get(0);
+        assertSame(atlas, regions.get("a").getImage());
+        assertSame(atlas, regions.get("b").getImage());
+        assertEquals(new Rectangle2D(0, 0, 10, 20), regions.get("a").getViewport().get());
+        assertEquals(new Rectangle2D(10 + TextureAtlasBuilder.PADDING, 0, 30, 10), regions.get("b").getViewport().get());
+    }
+
+    @Test
+    void pixelsOfImagesAreCopiedOntoAtlas() {
+        // Arrange
+        var image = createImage(10, 20);
+        sut.add("a", image);
+        sut.add("b", createImage(10, 20));
+
+        // Act
+        sut.build();
+
+        // Assert
+        verify(sut.pages.get(0).getPixelWriter()).setPixels(0, 0, 10, 20, image.getPixelReader(), 0, 0);
+    }
+
+    @Test
+    void imagesThatDoNotFitOnShelfStartNewShelf() {
+        // Arrange
+        sut.add("a", createImage(40, 20));
+        sut.add("b", createImage(40, 10));
+
+        // Act
+        var regions = sut.build();
+
+        // Assert
+        assertEquals(new Rectangle2D(0, 20 + TextureAtlasBuilder.PADDING, 40, 10), regions.get("b").getViewport().get());
+    }
+
+    @Test
+    void imagesThatDoNotFitOnAtlasStartNewAtlas() {
+        // Arrange
+        for (var i = 0; i < 4; i++) {
+            sut.add(String.valueOf(i), createImage(60, 30));
+        }
+
+        // Act
+        var regions = sut.build();
+
+        // Assert
+        assertEquals(2, sut.pages.size());
+        assertEquals(4, regions.size());
+        assertNotSame(regions.get("0").getImage(), regions.get("3").getImage());
+    }
+
+    @Test
+    void imagesLargerThanAtlasAreNotPacked() {
+        // Arrange
+        sut.add("a", createImage(10, 10));
+        sut.add("b", createImage(10, 10));
+        sut.add("large", createImage(PAGE_SIZE + 1, 10));
+
+        // Act
+        var regions = sut.build();
+
+        // Assert
+        assertFalse(regions.containsKey("large"));
+        assertEquals(2, regions.size());
+    }
+
+    @Test
+    void singleImageIsNotPacked() {
+        // Arrange
+        sut.add("a", createImage(10, 10));
+
+        // Act
+        var regions = sut.build();
+
+        // Assert
+        assertTrue(regions.isEmpty());
+        assertTrue(sut.pages.isEmpty());
+    }
+
+    @Test
+    void imagesWithoutPixelsAreNotPacked() {
+        // Arrange
+        var image = mock(Image.class);
+        when(image.getWidth()).thenReturn(10d);
+        when(image.getHeight()).thenReturn(10d);
+        sut.add("a", image);
+        sut.add("b", createImage(10, 10));
+        sut.add("c", createImage(10, 10));
+
+        // Act
+        var regions = sut.build();
+
+        // Assert
+        assertFalse(regions.containsKey("a"));
+    }
+
+    private Image createImage(final double width, final double height) {
+        var image = mock(Image.class);
+        when(image.getWidth()).thenReturn(width);
+        when(image.getHeight()).thenReturn(height);
+        when(image.getPixelReader()).thenReturn(mock(PixelReader.class));
+        return image;
+    }
+
+    private static class TextureAtlasBuilderImpl extends TextureAtlasBuilder<String> {
+
+        private final List<WritableImage> pages = new ArrayList<>();
+
+        TextureAtlasBuilderImpl(final int pageSize) {
+            super(pageSize);
+        }
+
+        @Override
+        WritableImage createWritableImage(final int width, final int height) {
+            var page = mock(WritableImage.class);
+            var pixelWriter = mock(PixelWriter.class);
+            when(page.getPixelWriter()).thenReturn(pixelWriter);
+            pages.add(page);
+            return page;
+        }
+    }
+}